@@ -19,6 +19,9 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String LOG_STREAMING_BUFFERED_BYTES = "log_streaming_buffered_bytes";
+  public static final String LOG_STREAMING_FLUSH_TIME = "log_streaming_flush_time";
+  public static final String LOG_STREAMING_DROPPED_LINES = "log_streaming_dropped_lines";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +31,10 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(LOG_STREAMING_BUFFERED_BYTES, create("Log bytes waiting to be uploaded to log service.", DELEGATE_NAME_LABEL));
+    put(LOG_STREAMING_FLUSH_TIME, create("Time needed to upload a batch of log lines.", DELEGATE_NAME_LABEL));
+    put(LOG_STREAMING_DROPPED_LINES,
+        create("Number of log lines dropped because log service was not keeping up.", DELEGATE_NAME_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
@@ -95,6 +95,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DelegateHeartbeatResponse;
 import io.harness.beans.DelegateHeartbeatResponseStreaming;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.beans.DelegateTaskEventsResponse;
 import io.harness.concurrent.HTimeLimiter;
 import io.harness.configuration.DeployMode;
@@ -179,6 +180,8 @@ import software.wings.misc.MemoryHelper;
 import software.wings.service.intfc.security.EncryptionService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.TimeLimiter;
@@ -267,6 +270,11 @@ import retrofit2.Response;
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateAgentServiceImpl implements DelegateAgentService {
   private static final int POLL_INTERVAL_SECONDS = 3;
+  // The manager holds a long poll for up to 25 seconds
+  private static final Duration LONG_POLL_TIMEOUT = Duration.ofSeconds(40);
+  private static final int MAX_TASK_EVENTS_PER_LONG_POLL = 100;
+  // Longer than the window of queued tasks the manager sends again with each long poll
+  private static final long LONG_POLLED_TASK_TTL_SECONDS = 30;
   private static final long UPGRADE_TIMEOUT = TimeUnit.HOURS.toMillis(2);
   private static final long HEARTBEAT_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
   private static final long FROZEN_TIMEOUT = TimeUnit.HOURS.toMillis(2);
@@ -406,6 +414,11 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   private double maxProcessRSSThresholdMB;
   private double maxPodRSSThresholdMB;
   private final AtomicBoolean rejectRequest = new AtomicBoolean(false);
+  // The sequence the next long poll for task events resumes after
+  private final AtomicLong taskEventSequence = new AtomicLong();
+  // The tasks recently got by long polling, the manager sends some of them again
+  private final Cache<String, Boolean> longPolledTaskIds =
+      CacheBuilder.newBuilder().expireAfterWrite(LONG_POLLED_TASK_TTL_SECONDS, TimeUnit.SECONDS).build();
 
   public static Optional<String> getDelegateId() {
     return Optional.ofNullable(delegateId);
@@ -1390,10 +1403,22 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   }
 
   private void startTaskPolling() {
+    if (delegateConfiguration.isLongPollForTasks()) {
+      log.info("Long polling is enabled for Delegate");
+      scheduleTaskLongPoll(0);
+      return;
+    }
     taskPollExecutor.scheduleAtFixedRate(
         new Schedulable("Failed to poll for task", () -> pollForTask()), 0, POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
   }
 
+  private void scheduleTaskLongPoll(long delaySeconds) {
+    if (!taskPollExecutor.isShutdown()) {
+      taskPollExecutor.schedule(
+          new Schedulable("Failed to long poll for task", this::longPollForTask), delaySeconds, TimeUnit.SECONDS);
+    }
+  }
+
   private void startChroniqleQueueMonitor() {
     if (chronicleEventTailer != null) {
       chronicleEventTailer.setAccountId(accountId);
@@ -1422,6 +1447,56 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     }
   }
 
+  private void longPollForTask() {
+    // Polls again right away after a response, the manager holds the poll until there are events
+    long delaySeconds = 0;
+    try {
+      if (!shouldContactManager() || rejectRequest.get()) {
+        delaySeconds = POLL_INTERVAL_SECONDS;
+        return;
+      }
+      // Asks for no more events than there are free threads to dispatch them to
+      int maxEvents = Math.max(1,
+          Math.min(MAX_TASK_EVENTS_PER_LONG_POLL, taskExecutor.getMaximumPoolSize() - taskExecutor.getActiveCount()));
+      DelegateTaskEventsLongPollResponse taskEventsResponse =
+          HTimeLimiter.callInterruptible21(delegateTaskTimeLimiter, LONG_POLL_TIMEOUT,
+              ()
+                  -> executeRestCall(delegateAgentManagerClient.longPollTaskEvents(
+                      delegateId, accountId, taskEventSequence.get(), maxEvents)));
+      if (taskEventsResponse != null) {
+        taskEventSequence.set(taskEventsResponse.getSequence());
+        List<DelegateTaskEvent> taskEvents = getNewTaskEvents(taskEventsResponse.getDelegateTaskEvents());
+        if (isNotEmpty(taskEvents)) {
+          log.info("Processing DelegateTaskEvents {}", taskEvents);
+          processDelegateTaskEventsInBlockingLoop(taskEvents);
+        }
+      }
+    } catch (UncheckedTimeoutException tex) {
+      log.warn("Timed out long polling delegate task events", tex);
+      delaySeconds = POLL_INTERVAL_SECONDS;
+    } catch (InterruptedException ie) {
+      log.warn("Delegate service is being shut down, this task is being interrupted.", ie);
+      Thread.currentThread().interrupt();
+      return;
+    } catch (Exception e) {
+      log.error("Exception while long polling delegate task events", e);
+      delaySeconds = POLL_INTERVAL_SECONDS;
+    }
+    scheduleTaskLongPoll(delaySeconds);
+  }
+
+  // Drops the events of the tasks already got, abort events are always kept
+  private List<DelegateTaskEvent> getNewTaskEvents(List<DelegateTaskEvent> taskEvents) {
+    if (isEmpty(taskEvents)) {
+      return taskEvents;
+    }
+    return taskEvents.stream()
+        .filter(taskEvent
+            -> taskEvent instanceof DelegateTaskAbortEvent
+                || longPolledTaskIds.asMap().putIfAbsent(taskEvent.getDelegateTaskId(), Boolean.TRUE) == null)
+        .collect(toList());
+  }
+
   private boolean shouldProcessDelegateTaskEvents(DelegateTaskEventsResponse taskEventsResponse) {
     return taskEventsResponse != null && isNotEmpty(taskEventsResponse.getDelegateTaskEvents());
   }
@@ -2180,6 +2255,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
             .baseLogKey(logBaseKey)
             .logService(delegateLogService)
             .taskProgressExecutor(taskProgressExecutor)
+            .metricRegistry(metricRegistry)
+            .delegateName(DELEGATE_NAME)
             .appId(appId)
             .activityId(activityId);
 
@@ -7,6 +7,10 @@
 
 package io.harness.logstreaming;
 
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_BUFFERED_BYTES;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_DROPPED_LINES;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_FLUSH_TIME;
+
 import static software.wings.beans.LogColor.Red;
 import static software.wings.beans.LogColor.Yellow;
 import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
@@ -24,6 +28,7 @@ import io.harness.delegate.beans.taskprogress.ITaskProgressClient;
 import io.harness.exception.InvalidArgumentsException;
 import io.harness.logging.LogCallback;
 import io.harness.logging.LogLevel;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.network.SafeHttpCall;
 
 import software.wings.beans.command.ExecutionLogCallback;
@@ -31,17 +36,21 @@ import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.Builder;
-import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
@@ -67,12 +76,22 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private final String baseLogKey;
   private static ScheduledExecutorService scheduledExecutorService = new ScheduledThreadPoolExecutor(10,
       new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
+  private static ExecutorService uploadExecutor = Executors.newFixedThreadPool(20,
+      new ThreadFactoryBuilder().setNameFormat("log-streaming-upload-%d").setPriority(Thread.NORM_PRIORITY).build());
+
+  // Buffered lines are uploaded every 100 ms, or as soon as a key has this many bytes waiting
+  private static final long FLUSH_THRESHOLD_BYTES = 64 * 1024;
+  private static final long MAX_BUFFERED_BYTES_PER_KEY = 8 * 1024 * 1024;
+  private static final AtomicLong TOTAL_BUFFERED_BYTES = new AtomicLong();
+
   @Deprecated private final String appId;
   @Deprecated private final String activityId;
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
+  private final HarnessMetricRegistry metricRegistry;
+  private final String delegateName;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  private final Map<String, LogBuffer> logBuffers = new ConcurrentHashMap<>();
 
   @Override
   public void openStream(String baseLogKeySuffix) {
@@ -83,35 +102,48 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.error("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    scheduledFuture =
+        scheduledExecutorService.scheduleAtFixedRate(this::scheduleUploads, 0, 100, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
-
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
+    LogBuffer buffer = logBuffers.get(logKey);
+    if (buffer != null) {
+      // Waiting for finite time allow an ongoing log upload to finish, then upload whatever is left.
+      try {
+        if (buffer.uploadLock.tryLock(5, TimeUnit.SECONDS)) {
+          try {
+            upload(logKey, buffer);
+          } finally {
+            buffer.uploadLock.unlock();
+          }
         }
+      } catch (InterruptedException e) {
+        log.warn("Log upload didn't completed successfully for {} ", logKey);
+        Thread.currentThread().interrupt();
+      }
+      logBuffers.remove(logKey, buffer);
+      long droppedBytes = 0;
+      int droppedLines = 0;
+      LogLine logLine;
+      while ((logLine = buffer.lines.poll()) != null) {
+        droppedBytes += sizeOf(logLine);
+        droppedLines++;
+      }
+      if (droppedLines > 0) {
+        buffer.bufferedBytes.addAndGet(-droppedBytes);
+        TOTAL_BUFFERED_BYTES.addAndGet(-droppedBytes);
+        log.error("log cache was not drained for {}, dropped {} lines. num of keys in map {}. This will result in "
+                + "missing logs",
+            logKey, droppedLines, logBuffers.size());
       }
-    }
-    if (logCache.containsKey(logKey)) {
-      log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
     }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
@@ -137,31 +169,119 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
+    LogBuffer buffer = logBuffers.computeIfAbsent(logKey, key -> new LogBuffer());
+    long size = sizeOf(logLine);
+    if (buffer.bufferedBytes.get() + size > MAX_BUFFERED_BYTES_PER_KEY) {
+      // The task never waits on a slow log service, the line is dropped while an upload makes room
+      submitUpload(logKey, buffer);
+      if (buffer.droppedLines.getAndIncrement() == 0) {
+        log.warn("Log service is not keeping up with {}, dropping log lines", logKey);
       }
-      logCache.get(logKey).add(logLine);
+      recordDroppedLine();
+      return;
+    }
+    buffer.lines.add(logLine);
+    buffer.bufferedBytes.addAndGet(size);
+    TOTAL_BUFFERED_BYTES.addAndGet(size);
+    if (buffer.bufferedBytes.get() >= FLUSH_THRESHOLD_BYTES) {
+      submitUpload(logKey, buffer);
     }
   }
 
+  /**
+   * Uploads everything buffered so far, waiting for the uploads which are already in flight. Unlike the periodic
+   * uploads this runs on the calling thread, so that the logs are shipped once it returns.
+   */
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.error("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
+    logBuffers.forEach((logKey, buffer) -> {
+      buffer.uploadLock.lock();
+      try {
+        upload(logKey, buffer);
+      } finally {
+        buffer.uploadLock.unlock();
+      }
+    });
+  }
+
+  private void scheduleUploads() {
+    logBuffers.forEach((logKey, buffer) -> {
+      if (!buffer.lines.isEmpty()) {
+        submitUpload(logKey, buffer);
+      }
+    });
+  }
+
+  private void submitUpload(String logKey, LogBuffer buffer) {
+    // At most one upload per key is in flight, which keeps the lines of a key in order
+    if (buffer.uploadLock.isLocked()) {
+      return;
+    }
+    try {
+      uploadExecutor.submit(() -> {
+        if (buffer.uploadLock.tryLock()) {
+          try {
+            upload(logKey, buffer);
+          } finally {
+            buffer.uploadLock.unlock();
+          }
         }
-        iterator.remove();
+      });
+    } catch (RejectedExecutionException ex) {
+      log.warn("Unable to schedule log upload for key {}", logKey, ex);
+    }
+  }
+
+  // Must be called while holding the upload lock of the buffer
+  private void upload(String logKey, LogBuffer buffer) {
+    List<LogLine> logLines = new ArrayList<>();
+    long bytes = 0;
+    LogLine logLine;
+    while ((logLine = buffer.lines.poll()) != null) {
+      logLines.add(logLine);
+      bytes += sizeOf(logLine);
+    }
+    if (logLines.isEmpty()) {
+      return;
+    }
+
+    long startTime = currentTimeMillis();
+    try {
+      SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
+    } catch (Exception ex) {
+      log.error("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
+    } finally {
+      buffer.bufferedBytes.addAndGet(-bytes);
+      long totalBufferedBytes = TOTAL_BUFFERED_BYTES.addAndGet(-bytes);
+      if (metricRegistry != null) {
+        String[] labels = {delegateName};
+        metricRegistry.recordGaugeValue(LOG_STREAMING_FLUSH_TIME, labels, currentTimeMillis() - startTime);
+        metricRegistry.recordGaugeValue(LOG_STREAMING_BUFFERED_BYTES, labels, totalBufferedBytes);
       }
-      logCache.notifyAll();
     }
   }
 
+  private void recordDroppedLine() {
+    if (metricRegistry != null) {
+      metricRegistry.recordGaugeInc(LOG_STREAMING_DROPPED_LINES, new String[] {delegateName});
+    }
+  }
+
+  private static long sizeOf(LogLine logLine) {
+    return logLine.getMessage() == null ? 0 : logLine.getMessage().length();
+  }
+
+  /**
+   * Lines of a single log key waiting to be uploaded. Writers only append to the lock free queue, the upload lock is
+   * held by whoever is shipping the lines of this key.
+   */
+  private static class LogBuffer {
+    private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong droppedLines = new AtomicLong();
+    private final ReentrantLock uploadLock = new ReentrantLock();
+  }
+
   @NotNull
   private String getLogKey(String baseLogKeySuffix) {
     return baseLogKey + (isBlank(baseLogKeySuffix) ? "" : String.format(COMMAND_UNIT_PLACEHOLDER, baseLogKeySuffix));
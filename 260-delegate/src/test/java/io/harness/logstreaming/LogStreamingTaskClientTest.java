@@ -14,11 +14,15 @@ import static io.harness.threading.Morpheus.sleep;
 import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 
 import static java.time.Duration.ofMillis;
+import static org.apache.commons.lang3.StringUtils.repeat;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
@@ -31,6 +35,8 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
@@ -141,6 +147,69 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     assertThat(logLines).containsExactly(logLine);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotBlockWritersWhileUploading() throws Exception {
+    CountDownLatch uploadStarted = new CountDownLatch(1);
+    CountDownLatch releaseUpload = new CountDownLatch(1);
+    when(logStreamingClientMock.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any()))
+        .thenAnswer(invocation -> {
+          uploadStarted.countDown();
+          releaseUpload.await(10, TimeUnit.SECONDS);
+          return null;
+        });
+    LogLine firstLine = LogLine.builder().level(LogLevel.INFO).message("first").build();
+    LogLine secondLine = LogLine.builder().level(LogLevel.INFO).message("second").build();
+
+    completeLogStreamingTaskClient.writeLogLine(firstLine, null);
+    Thread dispatcher = new Thread(completeLogStreamingTaskClient::dispatchLogs);
+    dispatcher.start();
+    assertThat(uploadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // The upload of the first line is still in flight
+    completeLogStreamingTaskClient.writeLogLine(secondLine, null);
+    releaseUpload.countDown();
+    dispatcher.join(10000);
+    completeLogStreamingTaskClient.dispatchLogs();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock, times(2))
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getAllValues().get(0)).containsExactly(firstLine);
+    assertThat(captor.getAllValues().get(1)).containsExactly(secondLine);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLinesRightAwayWhenTheBufferIsFull() throws Exception {
+    CountDownLatch uploadStarted = new CountDownLatch(1);
+    CountDownLatch releaseUpload = new CountDownLatch(1);
+    when(logStreamingClientMock.pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any()))
+        .thenAnswer(invocation -> {
+          uploadStarted.countDown();
+          releaseUpload.await(10, TimeUnit.SECONDS);
+          return null;
+        });
+    LogLine firstLine = LogLine.builder().level(LogLevel.INFO).message(repeat('a', 5 * 1024 * 1024)).build();
+    LogLine secondLine = LogLine.builder().level(LogLevel.INFO).message(repeat('b', 5 * 1024 * 1024)).build();
+
+    // The first line is over the flush threshold, its upload stays in flight and keeps the buffer full
+    completeLogStreamingTaskClient.writeLogLine(firstLine, null);
+    assertThat(uploadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    long startTime = System.currentTimeMillis();
+    completeLogStreamingTaskClient.writeLogLine(secondLine, null);
+    assertThat(System.currentTimeMillis() - startTime).isLessThan(500);
+    releaseUpload.countDown();
+    completeLogStreamingTaskClient.dispatchLogs();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock, times(1))
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).containsExactly(firstLine);
+  }
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
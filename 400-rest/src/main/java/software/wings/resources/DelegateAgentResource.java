@@ -76,6 +76,7 @@ import software.wings.delegatetasks.validation.core.DelegateConnectionResult;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
 import software.wings.ratelimit.DelegateRequestRateLimiter;
 import software.wings.security.annotations.Scope;
+import software.wings.service.impl.DelegateTaskEventsLongPoller;
 import software.wings.service.impl.ThirdPartyApiCallLog;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
@@ -93,6 +94,7 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
@@ -101,6 +103,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.MediaType;
@@ -134,6 +138,7 @@ public class DelegateAgentResource {
   private PollingResourceClient pollingResourceClient;
   private DelegatePollingHeartbeatService delegatePollingHeartbeatService;
   private DelegateCapacityManagementService delegateCapacityManagementService;
+  private DelegateTaskEventsLongPoller delegateTaskEventsLongPoller;
 
   @Inject
   public DelegateAgentResource(DelegateService delegateService, AccountService accountService, HPersistence persistence,
@@ -145,7 +150,8 @@ public class DelegateAgentResource {
       DelegateTaskServiceClassic delegateTaskServiceClassic, PollingResourceClient pollingResourceClient,
       InstanceSyncResponsePublisher instanceSyncResponsePublisher,
       DelegatePollingHeartbeatService delegatePollingHeartbeatService,
-      DelegateCapacityManagementService delegateCapacityManagementService) {
+      DelegateCapacityManagementService delegateCapacityManagementService,
+      DelegateTaskEventsLongPoller delegateTaskEventsLongPoller) {
     this.instanceHelper = instanceHelper;
     this.delegateService = delegateService;
     this.accountService = accountService;
@@ -163,6 +169,7 @@ public class DelegateAgentResource {
     this.instanceSyncResponsePublisher = instanceSyncResponsePublisher;
     this.delegatePollingHeartbeatService = delegatePollingHeartbeatService;
     this.delegateCapacityManagementService = delegateCapacityManagementService;
+    this.delegateTaskEventsLongPoller = delegateTaskEventsLongPoller;
   }
 
   @DelegateAuth
@@ -449,6 +456,20 @@ public class DelegateAgentResource {
     }
   }
 
+  @DelegateAuth
+  @GET
+  @Path("{delegateId}/task-events/long-poll")
+  @Timed
+  @ExceptionMetered
+  public void longPollDelegateTaskEvents(@PathParam("delegateId") @NotEmpty String delegateId,
+      @QueryParam("accountId") @NotEmpty String accountId, @QueryParam("afterSequence") long afterSequence,
+      @QueryParam("maxEvents") @DefaultValue("100") int maxEvents, @Suspended AsyncResponse asyncResponse) {
+    try (AutoLogContext ignore1 = new AccountLogContext(accountId, OVERRIDE_ERROR);
+         AutoLogContext ignore2 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+      delegateTaskEventsLongPoller.poll(accountId, delegateId, afterSequence, maxEvents, asyncResponse);
+    }
+  }
+
   @DelegateAuth
   @POST
   @Path("heartbeat-with-polling")
@@ -1174,7 +1174,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
           persistence.createUpdateOperations(DelegateTask.class)
               .unset(DelegateTaskKeys.delegateId)
               .unset(DelegateTaskKeys.validationStartedAt)
-              .unset(DelegateTaskKeys.lastBroadcastAt)
+              // A new event sequence, so the delegates long polling for task events get the task again
+              .set(DelegateTaskKeys.lastBroadcastAt, currentTimeMillis())
               .unset(DelegateTaskKeys.validatingDelegateIds)
               .unset(DelegateTaskKeys.validationCompleteDelegateIds)
               .set(DelegateTaskKeys.broadcastCount, 1)
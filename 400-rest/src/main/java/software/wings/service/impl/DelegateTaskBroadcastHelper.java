@@ -37,6 +37,7 @@ public class DelegateTaskBroadcastHelper {
   @Inject private HPersistence persistence;
   @Inject private ExecutorService executorService;
   @Inject private FeatureFlagService featureFlagService;
+  @Inject private DelegateTaskEventsLongPoller delegateTaskEventsLongPoller;
 
   public void broadcastNewDelegateTaskAsync(DelegateTask task) {
     executorService.submit(() -> {
@@ -74,6 +75,7 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    delegateTaskEventsLongPoller.wakeup(delegateTask.getAccountId());
   }
 
   public void rebroadcastDelegateTaskV2(DelegateTask delegateTask) {
@@ -92,5 +94,6 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    delegateTaskEventsLongPoller.wakeup(delegateTask.getAccountId());
   }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EVENTS_LONG_POLL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
+import io.harness.delegate.beans.DelegateTaskAbortEvent;
+import io.harness.metrics.intfc.DelegateMetricsService;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.container.AsyncResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the long polls of the delegates for task events until there are events for them, or until they have been held
+ * for {@link #HOLD_DURATION}. The polls of an account are checked as soon as a task of the account is broadcast by this
+ * manager, and every {@link #RECHECK_INTERVAL} for the tasks queued, rebroadcast or aborted by the other managers.
+ *
+ * <p>A check costs one projected query per account with held polls, the events are only fetched for the delegates it
+ * found to have some, and once more when a poll expires. So an idle delegate costs a request and a fetch per hold
+ * instead of per poll. The fetch on expiry sends again the queued tasks of the resend window, which a delegate may have
+ * missed when their sequence was stamped by a manager with a clock behind.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(DEL)
+public class DelegateTaskEventsLongPoller {
+  public static final Duration HOLD_DURATION = Duration.ofSeconds(25);
+  private static final Duration RECHECK_INTERVAL = Duration.ofSeconds(1);
+  // Upper bound on the hold, in case a poll is not completed by the rechecks
+  private static final Duration RESPONSE_TIMEOUT = HOLD_DURATION.plusSeconds(30);
+
+  // The delegate task service depends on the broadcast helper, which depends on this
+  @Inject private Provider<DelegateTaskServiceClassic> delegateTaskServiceClassicProvider;
+  @Inject private DelegateMetricsService delegateMetricsService;
+  @Inject private ExecutorService executorService;
+
+  private final ScheduledExecutorService recheckExecutor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("delegate-task-events-long-poll-%d").build());
+  private final AtomicBoolean started = new AtomicBoolean();
+  // The held polls by account
+  private final Map<String, Set<HeldPoll>> heldPolls = new ConcurrentHashMap<>();
+
+  @RequiredArgsConstructor
+  @Getter
+  private static class HeldPoll {
+    private final String accountId;
+    private final String delegateId;
+    private final long afterSequence;
+    private final int maxEvents;
+    private final long deadline;
+    private final AsyncResponse asyncResponse;
+    // Set while the poll is being completed, so its events are fetched once
+    private final AtomicBoolean claimed = new AtomicBoolean();
+  }
+
+  public void poll(
+      String accountId, String delegateId, long afterSequence, int maxEvents, AsyncResponse asyncResponse) {
+    start();
+    delegateMetricsService.recordDelegateTaskMetrics(accountId, DELEGATE_TASK_EVENTS_LONG_POLL);
+    asyncResponse.setTimeout(RESPONSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+    HeldPoll heldPoll = new HeldPoll(
+        accountId, delegateId, afterSequence, maxEvents, currentTimeMillis() + HOLD_DURATION.toMillis(), asyncResponse);
+    // Held before the first fetch, so a task broadcast while fetching is not missed
+    hold(heldPoll);
+    if (heldPoll.getClaimed().compareAndSet(false, true)) {
+      complete(heldPoll, false);
+    }
+  }
+
+  /**
+   * Checks the held polls of the account for events, called when a task of the account is broadcast.
+   */
+  public void wakeup(String accountId) {
+    if (!heldPolls.containsKey(accountId)) {
+      return;
+    }
+    executorService.submit(() -> {
+      try {
+        check(accountId);
+      } catch (Exception e) {
+        log.error("Failed to check the held task event polls of account {}", accountId, e);
+      }
+    });
+  }
+
+  private void start() {
+    if (started.compareAndSet(false, true)) {
+      recheckExecutor.scheduleWithFixedDelay(
+          this::checkAll, RECHECK_INTERVAL.toMillis(), RECHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void checkAll() {
+    for (String accountId : heldPolls.keySet()) {
+      try {
+        check(accountId);
+      } catch (Exception e) {
+        log.error("Failed to check the held task event polls of account {}", accountId, e);
+      }
+    }
+  }
+
+  private void check(String accountId) {
+    Set<HeldPoll> accountPolls = heldPolls.get(accountId);
+    if (isEmpty(accountPolls)) {
+      return;
+    }
+
+    Map<String, Long> afterSequences = new HashMap<>();
+    for (HeldPoll heldPoll : accountPolls) {
+      afterSequences.merge(heldPoll.getDelegateId(), heldPoll.getAfterSequence(), Math::min);
+    }
+    Set<String> delegateIds =
+        delegateTaskServiceClassicProvider.get().getDelegatesWithTaskEvents(accountId, afterSequences);
+
+    long now = currentTimeMillis();
+    for (HeldPoll heldPoll : accountPolls) {
+      boolean hasEvents = delegateIds.contains(heldPoll.getDelegateId());
+      if ((hasEvents || now >= heldPoll.getDeadline()) && heldPoll.getClaimed().compareAndSet(false, true)) {
+        release(heldPoll);
+        complete(heldPoll, !hasEvents);
+      }
+    }
+  }
+
+  // Called with the poll claimed, either responds to it or holds it again. The events sent again for the resend window
+  // do not end the hold, they go out with the next response, at the latest when the poll expires
+  private void complete(HeldPoll heldPoll, boolean expired) {
+    try {
+      DelegateTaskEventsLongPollResponse response = delegateTaskServiceClassicProvider.get().getDelegateTaskEvents(
+          heldPoll.getAccountId(), heldPoll.getDelegateId(), heldPoll.getAfterSequence(), heldPoll.getMaxEvents());
+      if (hasNewEvents(heldPoll, response) || expired || currentTimeMillis() >= heldPoll.getDeadline()) {
+        release(heldPoll);
+        heldPoll.getAsyncResponse().resume(response);
+        return;
+      }
+    } catch (Exception e) {
+      release(heldPoll);
+      heldPoll.getAsyncResponse().resume(e);
+      return;
+    }
+    hold(heldPoll);
+    heldPoll.getClaimed().set(false);
+  }
+
+  private static boolean hasNewEvents(HeldPoll heldPoll, DelegateTaskEventsLongPollResponse response) {
+    return response.getSequence() > heldPoll.getAfterSequence()
+        || response.getDelegateTaskEvents().stream().anyMatch(DelegateTaskAbortEvent.class::isInstance);
+  }
+
+  private void hold(HeldPoll heldPoll) {
+    heldPolls.compute(heldPoll.getAccountId(), (accountId, accountPolls) -> {
+      Set<HeldPoll> polls = accountPolls == null ? ConcurrentHashMap.newKeySet() : accountPolls;
+      polls.add(heldPoll);
+      return polls;
+    });
+  }
+
+  private void release(HeldPoll heldPoll) {
+    heldPolls.computeIfPresent(heldPoll.getAccountId(), (accountId, accountPolls) -> {
+      accountPolls.remove(heldPoll);
+      return accountPolls.isEmpty() ? null : accountPolls;
+    });
+  }
+}
@@ -31,9 +31,11 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_NESTS;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_ACQUIRE_FAILED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_CREATION;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EVENTS_POLL;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_EXPIRED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_ELIGIBLE_DELEGATES;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_NO_FIRST_WHITELISTED;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_PICKUP_LATENCY;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_VALIDATION;
 
 import static software.wings.app.ManagerCacheRegistrar.SECRET_CACHE;
@@ -47,6 +49,7 @@ import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.NO_EL
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -57,6 +60,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.beans.FeatureName;
 import io.harness.cache.HarnessCacheManager;
 import io.harness.delegate.DelegateGlobalAccountController;
@@ -118,6 +122,7 @@ import io.harness.metrics.intfc.DelegateMetricsService;
 import io.harness.network.SafeHttpCall;
 import io.harness.observer.RemoteObserverInformer;
 import io.harness.observer.Subject;
+import io.harness.persistence.HIterator;
 import io.harness.persistence.HPersistence;
 import io.harness.reflection.ExpressionReflectionUtils;
 import io.harness.reflection.ReflectionUtils;
@@ -194,6 +199,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -227,6 +233,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   private static final String ASYNC = "async";
   private static final String SYNC = "sync";
   private static final String STREAM_DELEGATE = "/stream/delegate/";
+  // Covers the clock skew between the managers and the time a queued task takes to become visible to the others
+  private static final Duration TASK_EVENT_RESEND_WINDOW = Duration.ofSeconds(10);
   public static final String TASK_SELECTORS = "Task Selectors";
   public static final String TASK_CATEGORY_MAP = "Task Category Map";
 
@@ -1573,6 +1581,8 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
       }
 
       delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE);
+      delegateMetricsService.recordDelegateTaskDuration(
+          delegateTask, DELEGATE_TASK_PICKUP_LATENCY, Duration.ofMillis(clock.millis() - task.getCreatedAt()));
 
       return resolvePreAssignmentExpressions(task, SecretManagerMode.APPLY);
     }
@@ -1770,6 +1780,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
 
   @Override
   public List<DelegateTaskEvent> getDelegateTaskEvents(String accountId, String delegateId, boolean syncOnly) {
+    delegateMetricsService.recordDelegateTaskMetrics(accountId, DELEGATE_TASK_EVENTS_POLL);
     List<DelegateTaskEvent> delegateTaskEvents = new ArrayList<>(getQueuedEvents(accountId, delegateId, true));
     if (!syncOnly) {
       delegateTaskEvents.addAll(getQueuedEvents(accountId, delegateId, false));
@@ -1783,38 +1794,134 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     return delegateTaskEvents;
   }
 
-  private List<DelegateTaskEvent> getQueuedEvents(String accountId, String delegateId, boolean sync) {
-    // TODO - add assignment filter here (scopes. selectors, ...)
-    Query<DelegateTask> delegateTaskQuery = persistence.createQuery(DelegateTask.class)
-                                                .filter(DelegateTaskKeys.accountId, accountId)
-                                                .filter(DelegateTaskKeys.status, QUEUED)
-                                                .field(DelegateTaskKeys.delegateId)
-                                                .doesNotExist()
-                                                .field(DelegateTaskKeys.expiry)
-                                                .greaterThan(currentTimeMillis());
-    List<DelegateTask> delegateTasks =
-        delegateTaskQuery.asList()
+  @Override
+  public DelegateTaskEventsLongPollResponse getDelegateTaskEvents(
+      String accountId, String delegateId, long afterSequence, int maxEvents) {
+    long resendAfterSequence = afterSequence - TASK_EVENT_RESEND_WINDOW.toMillis();
+    Map<Boolean, List<DelegateTask>> tasksBySequence =
+        getQueuedTasks(accountId, delegateId)
             .stream()
-            .map(this::copyTaskDataV2ToTaskData)
-            .filter(delegateTask -> !sync == delegateTask.getData().isAsync())
-            .filter(delegateTask -> delegateTask.getEligibleToExecuteDelegateIds().contains(delegateId))
+            .filter(delegateTask -> getEventSequence(delegateTask) > resendAfterSequence)
+            .sorted(Comparator.comparingLong(DelegateTaskServiceClassicImpl::getEventSequence))
+            .collect(partitioningBy(delegateTask -> getEventSequence(delegateTask) > afterSequence));
+    List<DelegateTask> queuedTasks = tasksBySequence.get(true);
+    int deliveredCount = Math.min(Math.max(maxEvents, 0), queuedTasks.size());
+    // The tasks of the resend window go out again on top of the new ones, the delegate drops the ones it already got
+    List<DelegateTask> delegateTasks = new ArrayList<>(tasksBySequence.get(false));
+    delegateTasks.addAll(queuedTasks.subList(0, deliveredCount));
+
+    long sequence = afterSequence;
+    if (deliveredCount > 0) {
+      sequence = getEventSequence(queuedTasks.get(deliveredCount - 1));
+      // A task left out with the same sequence as the last one delivered has to be delivered by the next call too
+      if (queuedTasks.size() > deliveredCount && getEventSequence(queuedTasks.get(deliveredCount)) == sequence) {
+        sequence--;
+      }
+    }
+
+    // The sync tasks first, there is a caller waiting for each of them
+    List<DelegateTaskEvent> delegateTaskEvents =
+        delegateTasks.stream()
+            .sorted(Comparator.comparing(delegateTask -> delegateTask.getData().isAsync()))
+            .map(delegateTask -> getQueuedEvent(accountId, delegateTask))
             .collect(toList());
-    return delegateTasks.stream()
-        .map(delegateTask
-            -> aDelegateTaskEvent()
-                   .withAccountId(accountId)
-                   .withDelegateTaskId(delegateTask.getUuid())
-                   .withSync(sync)
-                   .withTaskType(delegateTask.getData().getTaskType())
-                   .build())
+    delegateTaskEvents.addAll(getAbortedEvents(accountId, delegateId));
+    return DelegateTaskEventsLongPollResponse.builder()
+        .delegateTaskEvents(delegateTaskEvents)
+        .sequence(sequence)
+        .build();
+  }
+
+  @Override
+  public Set<String> getDelegatesWithTaskEvents(String accountId, Map<String, Long> afterSequences) {
+    Set<String> delegateIds = new HashSet<>();
+    if (afterSequences.isEmpty()) {
+      return delegateIds;
+    }
+
+    try (HIterator<DelegateTask> iterator =
+             new HIterator<>(getQueuedTaskQuery(accountId)
+                                 .project(DelegateTaskKeys.createdAt, true)
+                                 .project(DelegateTaskKeys.lastBroadcastAt, true)
+                                 .project(DelegateTaskKeys.eligibleToExecuteDelegateIds, true)
+                                 .fetch())) {
+      for (DelegateTask delegateTask : iterator) {
+        if (delegateTask.getEligibleToExecuteDelegateIds() == null) {
+          continue;
+        }
+        long sequence = getEventSequence(delegateTask);
+        for (String delegateId : delegateTask.getEligibleToExecuteDelegateIds()) {
+          Long afterSequence = afterSequences.get(delegateId);
+          if (afterSequence != null && sequence > afterSequence) {
+            delegateIds.add(delegateId);
+          }
+        }
+      }
+    }
+
+    getAbortedTaskQuery(accountId)
+        .field(DelegateTaskKeys.delegateId)
+        .in(afterSequences.keySet())
+        .project(DelegateTaskKeys.data_parameters, false)
+        .asList()
+        .stream()
+        .map(this::copyTaskDataV2ToTaskData)
+        .filter(delegateTask -> delegateTask.getData().isAsync())
+        .forEach(delegateTask -> delegateIds.add(delegateTask.getDelegateId()));
+    return delegateIds;
+  }
+
+  private List<DelegateTaskEvent> getQueuedEvents(String accountId, String delegateId, boolean sync) {
+    return getQueuedTasks(accountId, delegateId)
+        .stream()
+        .filter(delegateTask -> !sync == delegateTask.getData().isAsync())
+        .map(delegateTask -> getQueuedEvent(accountId, delegateTask))
+        .collect(toList());
+  }
+
+  private List<DelegateTask> getQueuedTasks(String accountId, String delegateId) {
+    // TODO - add assignment filter here (scopes. selectors, ...)
+    return getQueuedTaskQuery(accountId)
+        .asList()
+        .stream()
+        .map(this::copyTaskDataV2ToTaskData)
+        .filter(delegateTask -> delegateTask.getEligibleToExecuteDelegateIds().contains(delegateId))
         .collect(toList());
   }
 
+  private Query<DelegateTask> getQueuedTaskQuery(String accountId) {
+    return persistence.createQuery(DelegateTask.class)
+        .filter(DelegateTaskKeys.accountId, accountId)
+        .filter(DelegateTaskKeys.status, QUEUED)
+        .field(DelegateTaskKeys.delegateId)
+        .doesNotExist()
+        .field(DelegateTaskKeys.expiry)
+        .greaterThan(currentTimeMillis());
+  }
+
+  private DelegateTaskEvent getQueuedEvent(String accountId, DelegateTask delegateTask) {
+    return aDelegateTaskEvent()
+        .withAccountId(accountId)
+        .withDelegateTaskId(delegateTask.getUuid())
+        .withSync(!delegateTask.getData().isAsync())
+        .withTaskType(delegateTask.getData().getTaskType())
+        .build();
+  }
+
+  // Broadcasting a task again gives it a new sequence, so a delegate which missed it gets it with its next long poll
+  private static long getEventSequence(DelegateTask delegateTask) {
+    return Math.max(delegateTask.getCreatedAt(),
+        delegateTask.getLastBroadcastAt() == null ? 0L : delegateTask.getLastBroadcastAt());
+  }
+
+  private Query<DelegateTask> getAbortedTaskQuery(String accountId) {
+    return persistence.createQuery(DelegateTask.class)
+        .filter(DelegateTaskKeys.accountId, accountId)
+        .filter(DelegateTaskKeys.status, ABORTED);
+  }
+
   private List<DelegateTaskEvent> getAbortedEvents(String accountId, String delegateId) {
-    Query<DelegateTask> abortedQuery = persistence.createQuery(DelegateTask.class)
-                                           .filter(DelegateTaskKeys.accountId, accountId)
-                                           .filter(DelegateTaskKeys.status, ABORTED)
-                                           .filter(DelegateTaskKeys.delegateId, delegateId);
+    Query<DelegateTask> abortedQuery = getAbortedTaskQuery(accountId).filter(DelegateTaskKeys.delegateId, delegateId);
 
     UpdateOperations<DelegateTask> updateOperations =
         persistence.createUpdateOperations(DelegateTask.class).unset(DelegateTaskKeys.delegateId);
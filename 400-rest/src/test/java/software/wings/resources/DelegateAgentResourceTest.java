@@ -30,7 +30,9 @@ import static java.util.Collections.singletonList;
 import static javax.ws.rs.client.Entity.entity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -45,6 +47,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.artifact.ArtifactCollectionResponseHandler;
 import io.harness.beans.DelegateHeartbeatResponse;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.beans.DelegateTaskEventsResponse;
 import io.harness.category.element.UnitTests;
 import io.harness.delegate.beans.ConnectionMode;
@@ -88,6 +91,7 @@ import software.wings.dl.WingsPersistence;
 import software.wings.exception.WingsExceptionMapper;
 import software.wings.helpers.ext.url.SubdomainUrlHelperIntfc;
 import software.wings.ratelimit.DelegateRequestRateLimiter;
+import software.wings.service.impl.DelegateTaskEventsLongPoller;
 import software.wings.service.impl.ThirdPartyApiCallLog;
 import software.wings.service.impl.instance.InstanceHelper;
 import software.wings.service.intfc.AccountService;
@@ -101,6 +105,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -153,6 +158,8 @@ public class DelegateAgentResourceTest extends CategoryTest {
   private static final PollingResourceClient pollResourceClient = mock(PollingResourceClient.class);
   private static final DelegatePollingHeartbeatService delegatePollingHeartbeatService =
       mock(DelegatePollingHeartbeatService.class);
+  private static final DelegateTaskEventsLongPoller delegateTaskEventsLongPoller =
+      mock(DelegateTaskEventsLongPoller.class);
 
   @Parameter public String apiUrl;
 
@@ -169,7 +176,8 @@ public class DelegateAgentResourceTest extends CategoryTest {
                   subdomainUrlHelper, artifactCollectionResponseHandler, instanceSyncResponseHandler,
                   manifestCollectionResponseHandler, connectorHearbeatPublisher, kryoSerializer,
                   configurationController, featureFlagService, delegateTaskServiceClassic, pollResourceClient,
-                  instanceSyncResponsePublisher, delegatePollingHeartbeatService, delegateCapacityManagementService))
+                  instanceSyncResponsePublisher, delegatePollingHeartbeatService, delegateCapacityManagementService,
+                  delegateTaskEventsLongPoller))
           .instance(new AbstractBinder() {
             @Override
             protected void configure() {
@@ -331,6 +339,31 @@ public class DelegateAgentResourceTest extends CategoryTest {
     assertThat(restResponse).isInstanceOf(DelegateTaskEventsResponse.class).isNotNull();
   }
 
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void shouldLongPollDelegateTaskEvents() {
+    DelegateTaskEventsLongPollResponse response =
+        DelegateTaskEventsLongPollResponse.builder()
+            .delegateTaskEvents(singletonList(aDelegateTaskEvent().withDelegateTaskId("123").build()))
+            .sequence(1000L)
+            .build();
+    doAnswer(invocation -> invocation.getArgument(4, AsyncResponse.class).resume(response))
+        .when(delegateTaskEventsLongPoller)
+        .poll(eq(ACCOUNT_ID), eq(DELEGATE_ID), eq(500L), eq(10), any(AsyncResponse.class));
+
+    DelegateTaskEventsLongPollResponse restResponse =
+        RESOURCES.client()
+            .target(String.format(
+                "/agent/delegates/%s/task-events/long-poll?accountId=%s&afterSequence=500&maxEvents=10", DELEGATE_ID,
+                ACCOUNT_ID))
+            .request()
+            .get(new GenericType<DelegateTaskEventsLongPollResponse>() {});
+
+    assertThat(restResponse.getSequence()).isEqualTo(1000L);
+    assertThat(restResponse.getDelegateTaskEvents().get(0).getDelegateTaskId()).isEqualTo("123");
+  }
+
   @Test
   @Owner(developers = NIKOLA)
   @Category(UnitTests.class)
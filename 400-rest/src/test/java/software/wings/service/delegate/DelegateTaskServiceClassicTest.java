@@ -47,6 +47,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -67,6 +68,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.beans.ExecutionStatus;
 import io.harness.category.element.UnitTests;
 import io.harness.configuration.DeployMode;
@@ -1378,6 +1380,94 @@ public class DelegateTaskServiceClassicTest extends WingsBaseTest {
         .lastHeartBeat(System.currentTimeMillis());
   }
 
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testLongPollEventsResumeAfterSequence() {
+    when(assignDelegateService.getEligibleDelegatesToExecuteTask(any(DelegateTask.class)))
+        .thenReturn(new ArrayList<>(singletonList(DELEGATE_ID)));
+    when(assignDelegateService.getConnectedDelegateList(any(), any()))
+        .thenReturn(new ArrayList<>(singletonList(DELEGATE_ID)));
+    DelegateTask delegateTask = getDelegateTask();
+    delegateTaskServiceClassic.queueTask(delegateTask);
+    setEventSequence(delegateTask.getUuid(), DelegateTaskKeys.createdAt, 100_000L);
+
+    DelegateTaskEventsLongPollResponse response =
+        delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 0L, 10);
+    assertThat(response.getDelegateTaskEvents())
+        .extracting(DelegateTaskEvent::getDelegateTaskId)
+        .containsExactly(delegateTask.getUuid());
+    assertThat(response.getSequence()).isEqualTo(100_000L);
+
+    // Sent again while in the resend window, without moving the sequence
+    response = delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 100_000L, 10);
+    assertThat(response.getDelegateTaskEvents())
+        .extracting(DelegateTaskEvent::getDelegateTaskId)
+        .containsExactly(delegateTask.getUuid());
+    assertThat(response.getSequence()).isEqualTo(100_000L);
+    assertThat(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 110_000L, 10)
+                   .getDelegateTaskEvents())
+        .isEmpty();
+    assertThat(delegateTaskServiceClassic.getDelegatesWithTaskEvents(ACCOUNT_ID, singletonMap(DELEGATE_ID, 100_000L)))
+        .isEmpty();
+
+    // Broadcasting the task again delivers it again
+    setEventSequence(delegateTask.getUuid(), DelegateTaskKeys.lastBroadcastAt, 200_000L);
+    assertThat(delegateTaskServiceClassic.getDelegatesWithTaskEvents(ACCOUNT_ID, singletonMap(DELEGATE_ID, 110_000L)))
+        .containsExactly(DELEGATE_ID);
+    response = delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 110_000L, 10);
+    assertThat(response.getDelegateTaskEvents()).hasSize(1);
+    assertThat(response.getSequence()).isEqualTo(200_000L);
+    assertThat(delegateTaskServiceClassic.getDelegatesWithTaskEvents(ACCOUNT_ID, singletonMap("delegateid2", 0L)))
+        .isEmpty();
+  }
+
+  @Test
+  @Owner(developers = JENNY)
+  @Category(UnitTests.class)
+  public void testLongPollEventsLimitedToMaxEvents() {
+    when(assignDelegateService.getEligibleDelegatesToExecuteTask(any(DelegateTask.class)))
+        .thenReturn(new ArrayList<>(singletonList(DELEGATE_ID)));
+    when(assignDelegateService.getConnectedDelegateList(any(), any()))
+        .thenReturn(new ArrayList<>(singletonList(DELEGATE_ID)));
+    DelegateTask first = getDelegateTask();
+    DelegateTask second = getDelegateTask();
+    DelegateTask third = getDelegateTask();
+    delegateTaskServiceClassic.queueTask(first);
+    delegateTaskServiceClassic.queueTask(second);
+    delegateTaskServiceClassic.queueTask(third);
+    setEventSequence(first.getUuid(), DelegateTaskKeys.createdAt, 100_000L);
+    setEventSequence(second.getUuid(), DelegateTaskKeys.createdAt, 200_000L);
+    setEventSequence(third.getUuid(), DelegateTaskKeys.createdAt, 200_000L);
+
+    DelegateTaskEventsLongPollResponse response =
+        delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 0L, 1);
+    assertThat(response.getDelegateTaskEvents())
+        .extracting(DelegateTaskEvent::getDelegateTaskId)
+        .containsExactly(first.getUuid());
+    assertThat(response.getSequence()).isEqualTo(100_000L);
+
+    // The task left out shares the sequence of the one delivered, so the sequence stays before both of them. The task
+    // sent again for the resend window does not count towards the limit.
+    response = delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 100_000L, 1);
+    assertThat(response.getDelegateTaskEvents())
+        .extracting(DelegateTaskEvent::getDelegateTaskId)
+        .hasSize(2)
+        .contains(first.getUuid());
+    assertThat(response.getSequence()).isEqualTo(199_999L);
+
+    response = delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, 110_000L, 2);
+    assertThat(response.getDelegateTaskEvents())
+        .extracting(DelegateTaskEvent::getDelegateTaskId)
+        .containsExactlyInAnyOrder(second.getUuid(), third.getUuid());
+    assertThat(response.getSequence()).isEqualTo(200_000L);
+  }
+
+  private void setEventSequence(String taskId, String field, long sequence) {
+    persistence.update(persistence.createQuery(DelegateTask.class).filter(DelegateTaskKeys.uuid, taskId),
+        persistence.createUpdateOperations(DelegateTask.class).set(field, sequence));
+  }
+
   private static JreConfig getOpenjdkJreConfig() {
     return JreConfig.builder()
         .version("1.8.0_242")
@@ -10,6 +10,7 @@ package io.harness.managerclient;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DelegateHeartbeatResponse;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.beans.DelegateTaskEventsResponse;
 import io.harness.delegate.SendTaskProgressRequest;
 import io.harness.delegate.SendTaskProgressResponse;
@@ -130,6 +131,11 @@ public interface DelegateAgentManagerClient {
   Call<DelegateTaskEventsResponse> pollTaskEvents(
       @Path("delegateId") String delegateId, @Query("accountId") String accountId);
 
+  @GET("agent/delegates/{delegateId}/task-events/long-poll")
+  Call<DelegateTaskEventsLongPollResponse> longPollTaskEvents(@Path("delegateId") String delegateId,
+      @Query("accountId") String accountId, @Query("afterSequence") long afterSequence,
+      @Query("maxEvents") int maxEvents);
+
   @POST("instancesync/instance-sync/{perpetualTaskId}")
   Call<RestResponse<Boolean>> publishInstanceSyncResult(@Path("perpetualTaskId") String perpetualTaskId,
       @Query("accountId") String accountId, @Body DelegateResponseData responseData);
@@ -21,6 +21,7 @@ import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +40,9 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String DELEGATE_TASK_REBROADCAST = "delegate_task_rebroadcast";
   public static final String DELEGATE_TASK_VALIDATION = "delegate_task_validation";
   public static final String DELEGATE_TASK_NO_FIRST_WHITELISTED = "delegate_task_no_first_whitelisted";
+  public static final String DELEGATE_TASK_PICKUP_LATENCY = "delegate_task_pickup_latency";
+  public static final String DELEGATE_TASK_EVENTS_POLL = "delegate_task_events_poll";
+  public static final String DELEGATE_TASK_EVENTS_LONG_POLL = "delegate_task_events_long_poll";
   public static final String DELEGATE_REGISTRATION_FAILED = "delegate_registration_failed";
   public static final String DELEGATE_RESTARTED = "delegate_restarted";
   public static final String DELEGATE_DISCONNECTED = "delegate_disconnected";
@@ -93,6 +97,13 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordDelegateTaskDuration(DelegateTask task, String metricName, Duration duration) {
+    try (DelegateAccountMetricContext ignore = new DelegateAccountMetricContext(task.getAccountId())) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
   @Override
   public void recordDelegateTaskResponseMetrics(
       DelegateTask delegateTask, DelegateTaskResponse response, String metricName) {
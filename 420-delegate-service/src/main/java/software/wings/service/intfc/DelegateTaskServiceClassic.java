@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.DEL;
 import io.harness.annotations.dev.BreakDependencyOn;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.DelegateTask;
+import io.harness.beans.DelegateTaskEventsLongPollResponse;
 import io.harness.delegate.beans.DelegateProgressData;
 import io.harness.delegate.beans.DelegateResponseData;
 import io.harness.delegate.beans.DelegateTaskAbortEvent;
@@ -26,7 +27,9 @@ import software.wings.service.intfc.ownership.OwnedByAccount;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.validation.Valid;
 import ru.vyarus.guice.validator.group.annotation.ValidationGroups;
 
@@ -76,6 +79,23 @@ public interface DelegateTaskServiceClassic extends OwnedByAccount {
 
   List<DelegateTaskEvent> getDelegateTaskEvents(String accountId, String delegateId, boolean syncOnly);
 
+  /**
+   * Returns up to maxEvents events of the queued tasks whose sequence is after the given one, oldest first, with the
+   * abort events of the delegate. The sequence of a queued task is the time it was last broadcast, requeued or created.
+   *
+   * <p>Sequences are stamped by the clocks of several managers, so a task can become visible with a sequence before one
+   * already handed out. The queued tasks of the window before the given sequence are sent again along with the events,
+   * without counting towards maxEvents, and the delegate drops the ones it already got.
+   */
+  DelegateTaskEventsLongPollResponse getDelegateTaskEvents(
+      String accountId, String delegateId, long afterSequence, int maxEvents);
+
+  /**
+   * Returns the delegates, out of the keys of the given map, which have queued task events after the sequence mapped to
+   * them, or abort events. Only the fields needed for the check are read, so it is cheaper than getting the events.
+   */
+  Set<String> getDelegatesWithTaskEvents(String accountId, Map<String, Long> afterSequences);
+
   Optional<DelegateTask> fetchDelegateTask(String accountId, String taskId);
 
   void convertToExecutionCapability(DelegateTask task);
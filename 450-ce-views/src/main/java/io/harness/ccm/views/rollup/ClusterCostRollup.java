@@ -0,0 +1,375 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.rollup;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.ccm.views.utils.ClusterTableKeys.CLUSTER_ID;
+import static io.harness.ccm.views.utils.ClusterTableKeys.CLUSTER_NAME;
+import static io.harness.ccm.views.utils.ClusterTableKeys.INSTANCE_TYPE;
+import static io.harness.ccm.views.utils.ClusterTableKeys.NAMESPACE;
+import static io.harness.ccm.views.utils.ClusterTableKeys.WORKLOAD_NAME;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ccm.views.graphql.QLCEViewFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * Immutable columnar rollup of the daily costs of one aggregated cluster table, by cluster, namespace, workload and
+ * instance type. The rows are sorted by start time, the dimensions are dictionary encoded and every column is a
+ * primitive array, so a query is a binary search for its days and a scan of the int codes of the filtered dimensions.
+ *
+ * <p>The filters keep the semantics of the warehouse queries: a null dimension never matches IN, NOT_IN or EQUALS.
+ */
+@OwnedBy(CE)
+public class ClusterCostRollup {
+  // The dimension columns, in the order of the codes of a row
+  static final String[] DIMENSIONS = {CLUSTER_ID, CLUSTER_NAME, NAMESPACE, WORKLOAD_NAME, INSTANCE_TYPE};
+  private static final int INSTANCE_TYPE_DIMENSION = 4;
+  private static final int NULL_CODE = -1;
+
+  private final long[] startTimes;
+  // The codes of the rows by dimension, NULL_CODE for null
+  private final int[][] codes;
+  // The values of the codes by dimension
+  private final String[][] dictionaries;
+  private final double[] billingAmounts;
+  private final double[] idleCosts;
+  private final double[] unallocatedCosts;
+  private final double[] systemCosts;
+
+  @Value
+  public static class CostTotals {
+    long rowCount;
+    // 0 when no row matched, like the null MIN and MAX of the warehouse are read
+    long minStartTime;
+    long maxStartTime;
+    double billingAmount;
+    double idleCost;
+    double unallocatedCost;
+    double systemCost;
+  }
+
+  private ClusterCostRollup(long[] startTimes, int[][] codes, String[][] dictionaries, double[] billingAmounts,
+      double[] idleCosts, double[] unallocatedCosts, double[] systemCosts) {
+    this.startTimes = startTimes;
+    this.codes = codes;
+    this.dictionaries = dictionaries;
+    this.billingAmounts = billingAmounts;
+    this.idleCosts = idleCosts;
+    this.unallocatedCosts = unallocatedCosts;
+    this.systemCosts = systemCosts;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return the dimension of the cluster field, or -1 if the rollup can not be filtered on it
+   */
+  public static int getDimension(String fieldId) {
+    if (fieldId == null) {
+      return -1;
+    }
+    String column = fieldId.toLowerCase(Locale.ROOT);
+    for (int dimension = 0; dimension < INSTANCE_TYPE_DIMENSION; dimension++) {
+      if (DIMENSIONS[dimension].equals(column)) {
+        return dimension;
+      }
+    }
+    return -1;
+  }
+
+  public int size() {
+    return startTimes.length;
+  }
+
+  /**
+   * @return the start time of the first day, or Long.MAX_VALUE when the rollup is empty
+   */
+  public long getFirstStartTime() {
+    return startTimes.length == 0 ? Long.MAX_VALUE : startTimes[0];
+  }
+
+  /**
+   * Sums the rows of the days in [fromStartTime, toStartTime] which match every filter, at least one of the rules when
+   * there are some, and whose instance type is null or one of the given ones.
+   *
+   * @param rules the conditions of every rule, a rule matches when all of its conditions do
+   */
+  public CostTotals aggregate(long fromStartTime, long toStartTime, List<List<QLCEViewFilter>> rules,
+      List<QLCEViewFilter> filters, Collection<String> instanceTypes) {
+    List<Condition> filterConditions = compile(filters);
+    filterConditions.add(compileInstanceTypes(instanceTypes));
+    List<List<Condition>> ruleConditions = new ArrayList<>(rules.size());
+    for (List<QLCEViewFilter> rule : rules) {
+      ruleConditions.add(compile(rule));
+    }
+
+    long rowCount = 0;
+    long minStartTime = 0;
+    long maxStartTime = 0;
+    double billingAmount = 0;
+    double idleCost = 0;
+    double unallocatedCost = 0;
+    double systemCost = 0;
+    int to = lowerBound(toStartTime == Long.MAX_VALUE ? toStartTime : toStartTime + 1);
+    for (int row = lowerBound(fromStartTime); row < to; row++) {
+      if (!matches(filterConditions, row) || !matchesAny(ruleConditions, row)) {
+        continue;
+      }
+      if (rowCount++ == 0) {
+        minStartTime = startTimes[row];
+      }
+      maxStartTime = startTimes[row];
+      billingAmount += billingAmounts[row];
+      idleCost += idleCosts[row];
+      unallocatedCost += unallocatedCosts[row];
+      systemCost += systemCosts[row];
+    }
+    return new CostTotals(rowCount, minStartTime, maxStartTime, billingAmount, idleCost, unallocatedCost, systemCost);
+  }
+
+  /**
+   * Merges the rows read again from the warehouse for the days from the given start time, which replace the rows of
+   * those days, and drops the days before the retained start time.
+   */
+  public ClusterCostRollup replaceFrom(long fromStartTime, ClusterCostRollup recent, long retainFromStartTime) {
+    Builder builder = builder();
+    for (int row = lowerBound(retainFromStartTime); row < size() && startTimes[row] < fromStartTime; row++) {
+      builder.add(this, row);
+    }
+    for (int row = recent.lowerBound(Math.max(fromStartTime, retainFromStartTime)); row < recent.size(); row++) {
+      builder.add(recent, row);
+    }
+    return builder.build();
+  }
+
+  private boolean matchesAny(List<List<Condition>> ruleConditions, int row) {
+    if (ruleConditions.isEmpty()) {
+      return true;
+    }
+    for (List<Condition> conditions : ruleConditions) {
+      if (matches(conditions, row)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean matches(List<Condition> conditions, int row) {
+    for (Condition condition : conditions) {
+      int code = codes[condition.dimension][row];
+      if (code == NULL_CODE ? !condition.matchesNull : !condition.matchingCodes[code]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // The first row whose start time is at or after the given one
+  private int lowerBound(long startTime) {
+    int low = 0;
+    int high = startTimes.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (startTimes[middle] < startTime) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  // A filter evaluated once against the dictionary of its dimension
+  private static class Condition {
+    private final int dimension;
+    private final boolean[] matchingCodes;
+    private final boolean matchesNull;
+
+    Condition(int dimension, boolean[] matchingCodes, boolean matchesNull) {
+      this.dimension = dimension;
+      this.matchingCodes = matchingCodes;
+      this.matchesNull = matchesNull;
+    }
+  }
+
+  private List<Condition> compile(List<QLCEViewFilter> filters) {
+    List<Condition> conditions = new ArrayList<>(filters.size() + 1);
+    for (QLCEViewFilter filter : filters) {
+      conditions.add(compile(filter));
+    }
+    return conditions;
+  }
+
+  private Condition compile(QLCEViewFilter filter) {
+    int dimension = getDimension(filter.getField().getFieldId());
+    if (dimension < 0) {
+      throw new IllegalArgumentException("Field is not in the rollup: " + filter.getField().getFieldId());
+    }
+    String[] dictionary = dictionaries[dimension];
+    boolean[] matchingCodes = new boolean[dictionary.length];
+    Set<String> values =
+        filter.getValues() == null ? new HashSet<>() : new HashSet<>(Arrays.asList(filter.getValues()));
+    switch (filter.getOperator()) {
+      case IN:
+      case EQUALS:
+        for (int code = 0; code < dictionary.length; code++) {
+          matchingCodes[code] = values.contains(dictionary[code]);
+        }
+        return new Condition(dimension, matchingCodes, false);
+      case NOT_IN:
+        for (int code = 0; code < dictionary.length; code++) {
+          matchingCodes[code] = !values.contains(dictionary[code]);
+        }
+        return new Condition(dimension, matchingCodes, false);
+      case NOT_NULL:
+        Arrays.fill(matchingCodes, true);
+        return new Condition(dimension, matchingCodes, false);
+      case NULL:
+        return new Condition(dimension, matchingCodes, true);
+      default:
+        throw new IllegalArgumentException("Operator is not supported by the rollup: " + filter.getOperator());
+    }
+  }
+
+  private Condition compileInstanceTypes(Collection<String> instanceTypes) {
+    String[] dictionary = dictionaries[INSTANCE_TYPE_DIMENSION];
+    boolean[] matchingCodes = new boolean[dictionary.length];
+    for (int code = 0; code < dictionary.length; code++) {
+      matchingCodes[code] = instanceTypes.contains(dictionary[code]);
+    }
+    return new Condition(INSTANCE_TYPE_DIMENSION, matchingCodes, true);
+  }
+
+  public static class Builder {
+    private final List<Map<String, Integer>> codesByValue = new ArrayList<>();
+    private final List<List<String>> dictionaries = new ArrayList<>();
+    private long[] startTimes = new long[64];
+    private int[][] codes = new int[DIMENSIONS.length][64];
+    private double[] billingAmounts = new double[64];
+    private double[] idleCosts = new double[64];
+    private double[] unallocatedCosts = new double[64];
+    private double[] systemCosts = new double[64];
+    private int size;
+    private boolean sorted = true;
+
+    Builder() {
+      for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+        codesByValue.add(new HashMap<>());
+        dictionaries.add(new ArrayList<>());
+      }
+    }
+
+    /**
+     * @param dimensionValues the values of the {@link #DIMENSIONS} of the row, null for a null value
+     */
+    public Builder add(long startTime, String[] dimensionValues, double billingAmount, double idleCost,
+        double unallocatedCost, double systemCost) {
+      ensureCapacity();
+      for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+        codes[dimension][size] = encode(dimension, dimensionValues[dimension]);
+      }
+      append(startTime, billingAmount, idleCost, unallocatedCost, systemCost);
+      return this;
+    }
+
+    private void add(ClusterCostRollup rollup, int row) {
+      ensureCapacity();
+      for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+        int code = rollup.codes[dimension][row];
+        codes[dimension][size] =
+            code == NULL_CODE ? NULL_CODE : encode(dimension, rollup.dictionaries[dimension][code]);
+      }
+      append(rollup.startTimes[row], rollup.billingAmounts[row], rollup.idleCosts[row], rollup.unallocatedCosts[row],
+          rollup.systemCosts[row]);
+    }
+
+    private void append(long startTime, double billingAmount, double idleCost, double unallocatedCost,
+        double systemCost) {
+      sorted = sorted && (size == 0 || startTimes[size - 1] <= startTime);
+      startTimes[size] = startTime;
+      billingAmounts[size] = billingAmount;
+      idleCosts[size] = idleCost;
+      unallocatedCosts[size] = unallocatedCost;
+      systemCosts[size] = systemCost;
+      size++;
+    }
+
+    private int encode(int dimension, String value) {
+      if (value == null) {
+        return NULL_CODE;
+      }
+      List<String> dictionary = dictionaries.get(dimension);
+      return codesByValue.get(dimension).computeIfAbsent(value, v -> {
+        dictionary.add(v);
+        return dictionary.size() - 1;
+      });
+    }
+
+    private void ensureCapacity() {
+      if (size < startTimes.length) {
+        return;
+      }
+      int capacity = startTimes.length * 2;
+      startTimes = Arrays.copyOf(startTimes, capacity);
+      for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+        codes[dimension] = Arrays.copyOf(codes[dimension], capacity);
+      }
+      billingAmounts = Arrays.copyOf(billingAmounts, capacity);
+      idleCosts = Arrays.copyOf(idleCosts, capacity);
+      unallocatedCosts = Arrays.copyOf(unallocatedCosts, capacity);
+      systemCosts = Arrays.copyOf(systemCosts, capacity);
+    }
+
+    public ClusterCostRollup build() {
+      Integer[] order = new Integer[size];
+      for (int row = 0; row < size; row++) {
+        order[row] = row;
+      }
+      if (!sorted) {
+        Arrays.sort(order, (first, second) -> Long.compare(startTimes[first], startTimes[second]));
+      }
+
+      long[] sortedStartTimes = new long[size];
+      int[][] sortedCodes = new int[DIMENSIONS.length][size];
+      double[] sortedBillingAmounts = new double[size];
+      double[] sortedIdleCosts = new double[size];
+      double[] sortedUnallocatedCosts = new double[size];
+      double[] sortedSystemCosts = new double[size];
+      for (int row = 0; row < size; row++) {
+        int source = order[row];
+        sortedStartTimes[row] = startTimes[source];
+        for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+          sortedCodes[dimension][row] = codes[dimension][source];
+        }
+        sortedBillingAmounts[row] = billingAmounts[source];
+        sortedIdleCosts[row] = idleCosts[source];
+        sortedUnallocatedCosts[row] = unallocatedCosts[source];
+        sortedSystemCosts[row] = systemCosts[source];
+      }
+      String[][] builtDictionaries = new String[DIMENSIONS.length][];
+      for (int dimension = 0; dimension < DIMENSIONS.length; dimension++) {
+        builtDictionaries[dimension] = dictionaries.get(dimension).toArray(new String[0]);
+      }
+      return new ClusterCostRollup(sortedStartTimes, sortedCodes, builtDictionaries, sortedBillingAmounts,
+          sortedIdleCosts, sortedUnallocatedCosts, sortedSystemCosts);
+    }
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.rollup;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.AFTER;
+import static io.harness.ccm.views.graphql.QLCEViewTimeFilterOperator.BEFORE;
+import static io.harness.ccm.views.graphql.ViewMetaDataConstants.entityConstantClusterCost;
+import static io.harness.ccm.views.graphql.ViewMetaDataConstants.entityConstantIdleCost;
+import static io.harness.ccm.views.graphql.ViewMetaDataConstants.entityConstantSystemCost;
+import static io.harness.ccm.views.graphql.ViewMetaDataConstants.entityConstantUnallocatedCost;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.ECS_CONTAINER_INSTANCE;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.ECS_TASK_EC2;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.ECS_TASK_FARGATE;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.K8S_NODE;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.K8S_POD;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.K8S_POD_FARGATE;
+import static io.harness.ccm.views.graphql.ViewsQueryBuilder.K8S_PV;
+import static io.harness.ccm.views.utils.ClusterTableKeys.ACTUAL_IDLE_COST;
+import static io.harness.ccm.views.utils.ClusterTableKeys.BILLING_AMOUNT;
+import static io.harness.ccm.views.utils.ClusterTableKeys.CLUSTER_TABLE_AGGREGRATED;
+import static io.harness.ccm.views.utils.ClusterTableKeys.START_TIME;
+import static io.harness.ccm.views.utils.ClusterTableKeys.SYSTEM_COST;
+import static io.harness.ccm.views.utils.ClusterTableKeys.UNALLOCATED_COST;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.ccm.views.entities.CEView;
+import io.harness.ccm.views.entities.ViewCondition;
+import io.harness.ccm.views.entities.ViewFieldIdentifier;
+import io.harness.ccm.views.entities.ViewIdCondition;
+import io.harness.ccm.views.entities.ViewQueryParams;
+import io.harness.ccm.views.entities.ViewRule;
+import io.harness.ccm.views.graphql.QLCEViewAggregateOperation;
+import io.harness.ccm.views.graphql.QLCEViewAggregation;
+import io.harness.ccm.views.graphql.QLCEViewFilter;
+import io.harness.ccm.views.graphql.QLCEViewFilterWrapper;
+import io.harness.ccm.views.graphql.QLCEViewGroupBy;
+import io.harness.ccm.views.graphql.QLCEViewTimeFilter;
+import io.harness.ccm.views.graphql.ViewCostData;
+import io.harness.ccm.views.graphql.ViewCostData.ViewCostDataBuilder;
+import io.harness.ccm.views.graphql.ViewsQueryBuilder;
+import io.harness.ccm.views.graphql.ViewsQueryHelper;
+import io.harness.ccm.views.helper.ViewBillingServiceHelper;
+import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.rollup.ClusterCostRollup.CostTotals;
+import io.harness.ccm.views.service.CEViewService;
+import io.harness.ff.FeatureFlagService;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.QueryJobConfiguration;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers the cost totals of cluster perspectives from an in memory {@link ClusterCostRollup} of the aggregated cluster
+ * table of the account, instead of the warehouse. A query is only answered when the warehouse would have read the
+ * daily aggregated table with filters the rollup has the dimensions for, every other query returns null and is sent to
+ * the warehouse as before.
+ *
+ * <p>The billing jobs reload the recent days of the aggregated table, so the rollup of a table reads the last {@link
+ * #REFRESH_DAYS} days again every {@link #REFRESH_INTERVAL}, in the background. A table is loaded on its first query,
+ * which is sent to the warehouse meanwhile.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(CE)
+public class ClusterCostRollupService {
+  private static final long ONE_DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+  // The days kept in a rollup, the queries starting before them go to the warehouse
+  static final int RETENTION_DAYS = 92;
+  static final int REFRESH_DAYS = 3;
+  static final Duration REFRESH_INTERVAL = Duration.ofHours(1);
+  // A rollup whose refreshes kept failing for this long is not answered from anymore
+  private static final Duration MAXIMUM_STALENESS = REFRESH_INTERVAL.multipliedBy(3);
+  // About 60 bytes a row, the rollups of the tables queried least recently are dropped over it
+  private static final long MAXIMUM_ROWS = 2_000_000L;
+  private static final long MAXIMUM_TABLE_ROWS = 500_000L;
+
+  private static final Set<String> SUMMED_COLUMNS = ImmutableSet.of(
+      entityConstantClusterCost, entityConstantIdleCost, entityConstantUnallocatedCost, entityConstantSystemCost);
+  private static final Set<String> POD_FIELD_IDS = ImmutableSet.of("namespace", "workloadName");
+  private static final List<String> NODE_INSTANCE_TYPES =
+      ImmutableList.of(K8S_NODE, K8S_PV, K8S_POD_FARGATE, ECS_TASK_FARGATE, ECS_CONTAINER_INSTANCE);
+  private static final List<String> POD_INSTANCE_TYPES =
+      ImmutableList.of(K8S_POD, K8S_POD_FARGATE, ECS_TASK_FARGATE, ECS_TASK_EC2);
+
+  private static final String ROLLUP_QUERY = "SELECT %s, %s, SUM(%s) AS %s, SUM(%s) AS %s, SUM(%s) AS %s, "
+      + "SUM(%s) AS %s FROM `%s` WHERE %s >= %d GROUP BY %s, %s";
+
+  @Inject private FeatureFlagService featureFlagService;
+  @Inject private CEViewService viewService;
+  @Inject private ViewsQueryBuilder viewsQueryBuilder;
+  @Inject private ViewsQueryHelper viewsQueryHelper;
+  @Inject private ViewParametersHelper viewParametersHelper;
+  @Inject private ViewBillingServiceHelper viewBillingServiceHelper;
+
+  private final Cache<String, TableRollup> tableRollups =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAXIMUM_ROWS)
+          .weigher((String tableName, TableRollup tableRollup) -> tableRollup.getRollup().size())
+          .expireAfterAccess(6, TimeUnit.HOURS)
+          .build();
+  private final Set<String> refreshingTables = ConcurrentHashMap.newKeySet();
+  private final ExecutorService refreshExecutor =
+      Executors.newFixedThreadPool(2, new ThreadFactoryBuilder().setNameFormat("ce-views-rollup-refresh-%d").build());
+
+  @Value
+  private static class TableRollup {
+    ClusterCostRollup rollup;
+    // The start time of the first day the rollup has all the rows of
+    long retainedFromStartTime;
+    long refreshedAt;
+  }
+
+  /**
+   * @param groupBy the group by of the query, after the default group by of the view was resolved
+   * @return the cost data of the query, or null when it has to be answered by the warehouse
+   */
+  public ViewCostData getCostData(BigQuery bigQuery, List<QLCEViewFilterWrapper> filters, List<QLCEViewGroupBy> groupBy,
+      List<QLCEViewAggregation> aggregateFunction, String cloudProviderTableName, ViewQueryParams queryParams,
+      boolean isClusterTableQuery) {
+    if (!isClusterTableQuery || !isEmpty(groupBy) || aggregateFunction == null
+        || !featureFlagService.isEnabled(FeatureName.CCM_VIEWS_ROLLUP, queryParams.getAccountId())) {
+      return null;
+    }
+    for (QLCEViewFilterWrapper filter : filters) {
+      if (filter.getRuleFilter() != null || filter.getInExpressionFilter() != null) {
+        return null;
+      }
+    }
+
+    // The same aggregations and table as the trend stats query of the warehouse
+    List<QLCEViewAggregation> aggregations = viewParametersHelper.isClusterPerspective(filters, groupBy)
+        ? viewParametersHelper.getModifiedAggregations(aggregateFunction)
+        : aggregateFunction;
+    String tableName = viewBillingServiceHelper.getUpdatedCloudProviderTableName(
+        filters, null, aggregations, "", cloudProviderTableName, queryParams.isClusterQuery());
+    if (!tableName.endsWith("." + CLUSTER_TABLE_AGGREGRATED) || !isSupportedAggregations(aggregations)) {
+      return null;
+    }
+
+    List<QLCEViewFilter> idFilters =
+        viewParametersHelper.getModifiedIdFilters(viewParametersHelper.getIdFilters(filters), true);
+    List<List<QLCEViewFilter>> rules = getRuleFilters(filters);
+    if (rules == null || !isSupported(idFilters) || rules.stream().anyMatch(rule -> !isSupported(rule))) {
+      return null;
+    }
+
+    long fromStartTime = Long.MIN_VALUE;
+    long toStartTime = Long.MAX_VALUE;
+    for (QLCEViewTimeFilter timeFilter : viewsQueryHelper.getTimeFilters(filters)) {
+      if (timeFilter.getOperator() == AFTER) {
+        fromStartTime = Math.max(fromStartTime, timeFilter.getValue().longValue());
+      } else if (timeFilter.getOperator() == BEFORE) {
+        toStartTime = Math.min(toStartTime, timeFilter.getValue().longValue());
+      } else {
+        return null;
+      }
+    }
+
+    TableRollup tableRollup = getTableRollup(bigQuery, tableName);
+    if (tableRollup == null || fromStartTime < tableRollup.getRetainedFromStartTime()) {
+      return null;
+    }
+
+    boolean isPodQuery = idFilters.stream().anyMatch(filter -> POD_FIELD_IDS.contains(filter.getField().getFieldId()))
+        || rules.stream().flatMap(List::stream).anyMatch(
+            filter -> POD_FIELD_IDS.contains(filter.getField().getFieldId()));
+    CostTotals costTotals = tableRollup.getRollup().aggregate(
+        fromStartTime, toStartTime, rules, idFilters, isPodQuery ? POD_INSTANCE_TYPES : NODE_INSTANCE_TYPES);
+    return toViewCostData(costTotals, aggregations);
+  }
+
+  // The rules of the view as filters, or null if the rollup can not apply them
+  private List<List<QLCEViewFilter>> getRuleFilters(List<QLCEViewFilterWrapper> filters) {
+    Optional<QLCEViewFilterWrapper> viewMetadataFilter = viewParametersHelper.getViewMetadataFilter(filters);
+    if (!viewMetadataFilter.isPresent()) {
+      return Collections.emptyList();
+    }
+    CEView view = viewService.get(viewMetadataFilter.get().getViewMetadataFilter().getViewId());
+    if (view == null) {
+      return null;
+    }
+    List<List<QLCEViewFilter>> rules = new ArrayList<>();
+    for (ViewRule viewRule : view.getViewRules() == null ? Collections.<ViewRule>emptyList() : view.getViewRules()) {
+      if (isEmpty(viewRule.getViewConditions())) {
+        return null;
+      }
+      List<QLCEViewFilter> rule = new ArrayList<>();
+      for (ViewCondition condition : viewRule.getViewConditions()) {
+        if (!(condition instanceof ViewIdCondition)) {
+          return null;
+        }
+        rule.add(viewsQueryBuilder.mapConditionToFilter((ViewIdCondition) condition));
+      }
+      rules.add(rule);
+    }
+    return rules;
+  }
+
+  private boolean isSupportedAggregations(List<QLCEViewAggregation> aggregations) {
+    for (QLCEViewAggregation aggregation : aggregations) {
+      boolean isStartTime = START_TIME.equalsIgnoreCase(aggregation.getColumnName())
+          && (aggregation.getOperationType() == QLCEViewAggregateOperation.MIN
+              || aggregation.getOperationType() == QLCEViewAggregateOperation.MAX);
+      boolean isSum = SUMMED_COLUMNS.contains(aggregation.getColumnName())
+          && aggregation.getOperationType() == QLCEViewAggregateOperation.SUM;
+      if (!isStartTime && !isSum) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isSupported(List<QLCEViewFilter> filters) {
+    return filters.stream().allMatch(this::isSupported);
+  }
+
+  private boolean isSupported(QLCEViewFilter filter) {
+    if (filter.getField() == null || filter.getField().getIdentifier() != ViewFieldIdentifier.CLUSTER
+        || ClusterCostRollup.getDimension(filter.getField().getFieldId()) < 0 || filter.getOperator() == null) {
+      return false;
+    }
+    switch (filter.getOperator()) {
+      case IN:
+      case NOT_IN:
+      case EQUALS:
+        return filter.getValues() != null && filter.getValues().length > 0;
+      case NULL:
+      case NOT_NULL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  // Built like the warehouse results are read, the start times of the cluster table are in millis
+  private ViewCostData toViewCostData(CostTotals costTotals, List<QLCEViewAggregation> aggregations) {
+    ViewCostDataBuilder viewCostDataBuilder = ViewCostData.builder();
+    double totalCost = 0.0;
+    Double idleCost = null;
+    Double unallocatedCost = null;
+    for (QLCEViewAggregation aggregation : aggregations) {
+      if (START_TIME.equalsIgnoreCase(aggregation.getColumnName())) {
+        if (aggregation.getOperationType() == QLCEViewAggregateOperation.MIN) {
+          viewCostDataBuilder.minStartTime(costTotals.getMinStartTime() * 1000);
+        } else {
+          viewCostDataBuilder.maxStartTime(costTotals.getMaxStartTime() * 1000);
+        }
+        continue;
+      }
+      switch (aggregation.getColumnName()) {
+        case entityConstantClusterCost:
+          totalCost = round(costTotals.getBillingAmount());
+          break;
+        case entityConstantIdleCost:
+          idleCost = round(costTotals.getIdleCost());
+          viewCostDataBuilder.idleCost(idleCost);
+          break;
+        case entityConstantUnallocatedCost:
+          unallocatedCost = round(costTotals.getUnallocatedCost());
+          viewCostDataBuilder.unallocatedCost(unallocatedCost);
+          break;
+        default:
+          viewCostDataBuilder.systemCost(round(costTotals.getSystemCost()));
+          break;
+      }
+    }
+    totalCost = viewsQueryHelper.getRoundedDoubleValue(totalCost);
+    viewCostDataBuilder.cost(totalCost);
+    if (idleCost != null) {
+      double utilizedCost = totalCost - idleCost;
+      if (unallocatedCost != null) {
+        utilizedCost -= unallocatedCost;
+      }
+      viewCostDataBuilder.utilizedCost(viewsQueryHelper.getRoundedDoubleValue(utilizedCost));
+    }
+    return viewCostDataBuilder.build();
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100D) / 100D;
+  }
+
+  private TableRollup getTableRollup(BigQuery bigQuery, String tableName) {
+    TableRollup tableRollup = tableRollups.getIfPresent(tableName);
+    long now = System.currentTimeMillis();
+    if (tableRollup == null || now - tableRollup.getRefreshedAt() >= REFRESH_INTERVAL.toMillis()) {
+      scheduleRefresh(bigQuery, tableName);
+    }
+    if (tableRollup == null || now - tableRollup.getRefreshedAt() >= MAXIMUM_STALENESS.toMillis()) {
+      return null;
+    }
+    return tableRollup;
+  }
+
+  private void scheduleRefresh(BigQuery bigQuery, String tableName) {
+    if (!refreshingTables.add(tableName)) {
+      return;
+    }
+    try {
+      refreshExecutor.submit(() -> {
+        try {
+          refresh(bigQuery, tableName);
+        } catch (InterruptedException e) {
+          log.error("Interrupted while refreshing the rollup of {}", tableName, e);
+          Thread.currentThread().interrupt();
+        } catch (Exception e) {
+          log.error("Failed to refresh the rollup of {}", tableName, e);
+        } finally {
+          refreshingTables.remove(tableName);
+        }
+      });
+    } catch (Exception e) {
+      refreshingTables.remove(tableName);
+      log.error("Failed to schedule the refresh of the rollup of {}", tableName, e);
+    }
+  }
+
+  void refresh(BigQuery bigQuery, String tableName) throws InterruptedException {
+    long now = System.currentTimeMillis();
+    long today = now - now % ONE_DAY_MILLIS;
+    long retainFromStartTime = today - RETENTION_DAYS * ONE_DAY_MILLIS;
+    TableRollup tableRollup = tableRollups.getIfPresent(tableName);
+    // Only the days the billing jobs may have reloaded are read again, the whole retention on the first load
+    long fromStartTime = tableRollup == null ? retainFromStartTime : today - REFRESH_DAYS * ONE_DAY_MILLIS;
+
+    String query = format(ROLLUP_QUERY, START_TIME, String.join(", ", ClusterCostRollup.DIMENSIONS), BILLING_AMOUNT,
+        BILLING_AMOUNT, ACTUAL_IDLE_COST, ACTUAL_IDLE_COST, UNALLOCATED_COST, UNALLOCATED_COST, SYSTEM_COST,
+        SYSTEM_COST, tableName, START_TIME, fromStartTime, START_TIME,
+        String.join(", ", ClusterCostRollup.DIMENSIONS));
+    ClusterCostRollup.Builder builder = ClusterCostRollup.builder();
+    long rowCount = 0;
+    for (FieldValueList row : bigQuery.query(QueryJobConfiguration.newBuilder(query).build()).iterateAll()) {
+      if (++rowCount > MAXIMUM_TABLE_ROWS) {
+        log.info("Not rolling up {}, it has more than {} rows", tableName, MAXIMUM_TABLE_ROWS);
+        tableRollups.invalidate(tableName);
+        return;
+      }
+      String[] dimensionValues = new String[ClusterCostRollup.DIMENSIONS.length];
+      for (int dimension = 0; dimension < dimensionValues.length; dimension++) {
+        FieldValue value = row.get(ClusterCostRollup.DIMENSIONS[dimension]);
+        dimensionValues[dimension] = value.isNull() ? null : value.getStringValue();
+      }
+      builder.add(row.get(START_TIME).getLongValue(), dimensionValues, getDoubleValue(row, BILLING_AMOUNT),
+          getDoubleValue(row, ACTUAL_IDLE_COST), getDoubleValue(row, UNALLOCATED_COST),
+          getDoubleValue(row, SYSTEM_COST));
+    }
+
+    ClusterCostRollup recent = builder.build();
+    ClusterCostRollup rollup =
+        tableRollup == null ? recent : tableRollup.getRollup().replaceFrom(fromStartTime, recent, retainFromStartTime);
+    if (rollup.size() > MAXIMUM_TABLE_ROWS) {
+      log.info("Not rolling up {}, it has {} rows", tableName, rollup.size());
+      tableRollups.invalidate(tableName);
+      return;
+    }
+    tableRollups.put(tableName, new TableRollup(rollup, retainFromStartTime, System.currentTimeMillis()));
+    log.info("Refreshed the rollup of {} from {}, it has {} rows", tableName, fromStartTime, rollup.size());
+  }
+
+  private static double getDoubleValue(FieldValueList row, String column) {
+    FieldValue value = row.get(column);
+    return value.isNull() ? 0 : value.getDoubleValue();
+  }
+}
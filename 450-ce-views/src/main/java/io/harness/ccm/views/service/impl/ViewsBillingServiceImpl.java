@@ -82,6 +82,7 @@ import io.harness.ccm.views.helper.InstanceDetailsHelper;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.rollup.ClusterCostRollupService;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.ViewsBillingService;
 import io.harness.ccm.views.utils.ViewFieldUtils;
@@ -134,6 +135,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private ViewBillingServiceHelper viewBillingServiceHelper;
   @Inject private ViewParametersHelper viewParametersHelper;
   @Inject private ViewBusinessMappingResponseHelper viewBusinessMappingResponseHelper;
+  @Inject private ClusterCostRollupService clusterCostRollupService;
 
   private static final String IDLE_COST_LABEL = "Idle Cost";
   private static final String UNALLOCATED_COST_LABEL = "Unallocated Cost";
@@ -934,6 +936,12 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       groupBy = Collections.emptyList();
     }
 
+    ViewCostData rollupCostData = clusterCostRollupService.getCostData(
+        bigQuery, filters, groupBy, aggregateFunction, cloudProviderTableName, queryParams, isClusterTableQuery);
+    if (rollupCostData != null) {
+      return rollupCostData;
+    }
+
     String businessMappingId = viewsQueryHelper.getBusinessMappingIdFromGroupBy(groupBy);
     List<String> businessMappingIdsFromRulesAndFilters =
         viewParametersHelper.getBusinessMappingIdsFromRulesAndFilters(filters);
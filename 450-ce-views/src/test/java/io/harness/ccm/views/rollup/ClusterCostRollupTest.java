@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.rollup;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.views.entities.ViewFieldIdentifier;
+import io.harness.ccm.views.graphql.QLCEViewFieldInput;
+import io.harness.ccm.views.graphql.QLCEViewFilter;
+import io.harness.ccm.views.graphql.QLCEViewFilterOperator;
+import io.harness.ccm.views.rollup.ClusterCostRollup.CostTotals;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ClusterCostRollupTest extends CategoryTest {
+  private static final long DAY = 86_400_000L;
+  private static final List<String> NODE_INSTANCE_TYPES = Arrays.asList("K8S_NODE", "K8S_PV");
+  private static final List<String> POD_INSTANCE_TYPES = Collections.singletonList("K8S_POD");
+
+  private ClusterCostRollup rollup;
+
+  @Before
+  public void setUp() {
+    // Added out of order, the rollup sorts its rows by start time
+    rollup = ClusterCostRollup.builder()
+                 .add(2 * DAY, row("cluster1", "prod", "api", "K8S_POD"), 4, 1, 0, 0.5)
+                 .add(DAY, row("cluster1", "prod", "api", "K8S_POD"), 3, 1, 0, 0.5)
+                 .add(DAY, row("cluster1", "dev", "web", "K8S_POD"), 2, 0.5, 0, 0)
+                 .add(DAY, row("cluster1", null, null, "K8S_NODE"), 10, 2, 1, 1)
+                 .add(DAY, row("cluster2", null, null, "K8S_NODE"), 20, 4, 2, 1)
+                 .add(3 * DAY, row("cluster2", "prod", "db", "K8S_POD"), 8, 1, 0, 0)
+                 .build();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldSumTheNodeRowsOfTheTimeRange() {
+    CostTotals costTotals =
+        rollup.aggregate(DAY, 2 * DAY, Collections.emptyList(), Collections.emptyList(), NODE_INSTANCE_TYPES);
+    assertThat(costTotals.getRowCount()).isEqualTo(2);
+    assertThat(costTotals.getBillingAmount()).isEqualTo(30);
+    assertThat(costTotals.getIdleCost()).isEqualTo(6);
+    assertThat(costTotals.getUnallocatedCost()).isEqualTo(3);
+    assertThat(costTotals.getSystemCost()).isEqualTo(2);
+    assertThat(costTotals.getMinStartTime()).isEqualTo(DAY);
+    assertThat(costTotals.getMaxStartTime()).isEqualTo(DAY);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldApplyFiltersAndRulesLikeTheWarehouse() {
+    List<QLCEViewFilter> filters =
+        Collections.singletonList(filter("clusterName", QLCEViewFilterOperator.IN, "cluster1", "cluster2"));
+    List<List<QLCEViewFilter>> rules =
+        Arrays.asList(Collections.singletonList(filter("namespace", QLCEViewFilterOperator.IN, "prod")),
+            Arrays.asList(filter("namespace", QLCEViewFilterOperator.NOT_IN, "prod"),
+                filter("workloadName", QLCEViewFilterOperator.EQUALS, "web")));
+    CostTotals costTotals = rollup.aggregate(DAY, Long.MAX_VALUE, rules, filters, POD_INSTANCE_TYPES);
+    assertThat(costTotals.getRowCount()).isEqualTo(4);
+    assertThat(costTotals.getBillingAmount()).isEqualTo(17);
+    assertThat(costTotals.getMinStartTime()).isEqualTo(DAY);
+    assertThat(costTotals.getMaxStartTime()).isEqualTo(3 * DAY);
+
+    // Null values never match NOT_IN
+    costTotals = rollup.aggregate(DAY, DAY,
+        Collections.singletonList(
+            Collections.singletonList(filter("namespace", QLCEViewFilterOperator.NOT_IN, "prod"))),
+        Collections.emptyList(), NODE_INSTANCE_TYPES);
+    assertThat(costTotals.getRowCount()).isZero();
+    assertThat(costTotals.getMinStartTime()).isZero();
+
+    costTotals = rollup.aggregate(DAY, DAY, Collections.emptyList(),
+        Collections.singletonList(filter("namespace", QLCEViewFilterOperator.NULL)), NODE_INSTANCE_TYPES);
+    assertThat(costTotals.getBillingAmount()).isEqualTo(30);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldReplaceTheRecentDaysAndDropTheExpiredOnes() {
+    ClusterCostRollup recent = ClusterCostRollup.builder()
+                                   .add(2 * DAY, row("cluster1", "prod", "api", "K8S_POD"), 5, 1, 0, 0)
+                                   .add(3 * DAY, row("cluster3", "prod", "api", "K8S_POD"), 7, 1, 0, 0)
+                                   .build();
+    ClusterCostRollup merged = rollup.replaceFrom(2 * DAY, recent, DAY);
+    assertThat(merged.size()).isEqualTo(6);
+    assertThat(merged.getFirstStartTime()).isEqualTo(DAY);
+    CostTotals costTotals =
+        merged.aggregate(2 * DAY, Long.MAX_VALUE, Collections.emptyList(), Collections.emptyList(), POD_INSTANCE_TYPES);
+    assertThat(costTotals.getBillingAmount()).isEqualTo(12);
+
+    merged = merged.replaceFrom(3 * DAY, ClusterCostRollup.builder().build(), 2 * DAY);
+    assertThat(merged.size()).isEqualTo(1);
+    assertThat(merged.getFirstStartTime()).isEqualTo(2 * DAY);
+  }
+
+  private static String[] row(String clusterName, String namespace, String workloadName, String instanceType) {
+    return new String[] {clusterName + "-id", clusterName, namespace, workloadName, instanceType};
+  }
+
+  private static QLCEViewFilter filter(String fieldId, QLCEViewFilterOperator operator, String... values) {
+    return QLCEViewFilter.builder()
+        .field(QLCEViewFieldInput.builder().fieldId(fieldId).identifier(ViewFieldIdentifier.CLUSTER).build())
+        .operator(operator)
+        .values(values)
+        .build();
+  }
+}
@@ -67,6 +67,7 @@ import io.harness.ccm.views.helper.BusinessMappingDataSourceHelper;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.rollup.ClusterCostRollupService;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ff.FeatureFlagService;
 import io.harness.rule.Owner;
@@ -127,6 +128,7 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
   @Mock private TableResult resultSet;
   @Mock private FieldValueList row;
   @Mock private CEMetadataRecordDao ceMetadataRecordDao;
+  @Mock private ClusterCostRollupService clusterCostRollupService;
 
   private Schema schema;
   private List<Field> fields;
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.ccm.commons.entities.batch;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.AccountAccess;
+import io.harness.persistence.CreatedAtAware;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UpdatedAtAware;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+
+/*
+Clusters already billed by a failed run of a batch job for an interval, skipped when the interval is run again
+ */
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@StoreIn(DbAliases.CENG)
+@Entity(value = "billedClusterCheckpoint", noClassnameStored = true)
+@FieldNameConstants(innerTypeName = "BilledClusterCheckpointKeys")
+@OwnedBy(CE)
+public final class BilledClusterCheckpoint
+    implements PersistentEntity, UuidAware, CreatedAtAware, UpdatedAtAware, AccountAccess {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("unique_accountId_batchJobType_startAt_endAt")
+                 .unique(true)
+                 .field(BilledClusterCheckpointKeys.accountId)
+                 .field(BilledClusterCheckpointKeys.batchJobType)
+                 .field(BilledClusterCheckpointKeys.startAt)
+                 .field(BilledClusterCheckpointKeys.endAt)
+                 .build())
+        .build();
+  }
+
+  @Id String uuid;
+  String accountId;
+  String batchJobType;
+  Instant startAt;
+  Instant endAt;
+  Set<String> billedClusterIds;
+  long createdAt;
+  long lastUpdatedAt;
+
+  @FdTtlIndex Date validUntil;
+}
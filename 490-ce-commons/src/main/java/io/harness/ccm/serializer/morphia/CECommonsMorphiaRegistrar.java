@@ -15,6 +15,7 @@ import io.harness.ccm.commons.entities.AWSConnectorToBucketMapping;
 import io.harness.ccm.commons.entities.ClusterRecord;
 import io.harness.ccm.commons.entities.batch.BatchJobInterval;
 import io.harness.ccm.commons.entities.batch.BatchJobScheduledData;
+import io.harness.ccm.commons.entities.batch.BilledClusterCheckpoint;
 import io.harness.ccm.commons.entities.batch.CEDataCleanupRequest;
 import io.harness.ccm.commons.entities.batch.CEMetadataRecord;
 import io.harness.ccm.commons.entities.batch.DataGeneratedNotification;
@@ -51,6 +52,7 @@ public class CECommonsMorphiaRegistrar implements MorphiaRegistrar {
     // batch
     set.add(BatchJobInterval.class);
     set.add(BatchJobScheduledData.class);
+    set.add(BilledClusterCheckpoint.class);
     set.add(CEDataCleanupRequest.class);
     set.add(CEMetadataRecord.class);
     set.add(DataGeneratedNotification.class);
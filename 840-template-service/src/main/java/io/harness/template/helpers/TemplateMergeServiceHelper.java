@@ -185,7 +185,7 @@ public class TemplateMergeServiceHelper {
       if (isEmpty(yaml)) {
         throw new NGTemplateException("Template yaml to create template inputs cannot be empty");
       }
-      YamlField templateYamlField = YamlUtils.readTree(yaml).getNode().getField(TEMPLATE);
+      YamlField templateYamlField = YamlUtils.readField(yaml, TEMPLATE);
       if (templateYamlField == null) {
         log.error("Yaml provided is not a template yaml. Yaml:\n" + yaml);
         throw new NGTemplateException("Yaml provided is not a template yaml.");
@@ -35,8 +35,12 @@ import dev.morphia.query.Query;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
@@ -53,6 +57,7 @@ public class DelegateAsyncServiceImpl implements DelegateAsyncService {
   @Inject @Named("disableDeserialization") private boolean disableDeserialization;
   @Inject @Named("enablePrimaryCheck") private boolean enablePrimaryCheck;
   private static final int DELETE_THRESHOLD = 20;
+  private static final int DONE_WITH_BATCH_SIZE = 50;
   private static final long MAX_PROCESSING_DURATION_MILLIS = 60000L;
   @Inject private QueueController queueController;
 
@@ -65,87 +70,115 @@ public class DelegateAsyncServiceImpl implements DelegateAsyncService {
     if (enablePrimaryCheck && queueController != null) {
       consumeResponse = queueController.isPrimary();
     }
-    final Stopwatch globalStopwatch = Stopwatch.createStarted();
-    long loopStartTime = 0;
     while (consumeResponse) {
       try {
         final Stopwatch stopwatch = Stopwatch.createStarted();
-        Query<DelegateAsyncTaskResponse> taskResponseQuery =
-            persistence.createQuery(DelegateAsyncTaskResponse.class, excludeAuthority)
-                .field(DelegateAsyncTaskResponseKeys.processAfter)
-                .lessThan(currentTimeMillis() - MAX_PROCESSING_DURATION_MILLIS);
-
-        UpdateOperations<DelegateAsyncTaskResponse> updateOperations =
-            persistence.createUpdateOperations(DelegateAsyncTaskResponse.class)
-                .set(DelegateAsyncTaskResponseKeys.processAfter, currentTimeMillis());
-
-        long queryStartTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        DelegateAsyncTaskResponse lockedAsyncTaskResponse =
-            persistence.findAndModify(taskResponseQuery, updateOperations, HPersistence.returnNewOptions);
-        long queryEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
-
-        if (lockedAsyncTaskResponse == null) {
+        List<DelegateAsyncTaskResponse> lockedAsyncTaskResponses = lockAsyncTaskResponses();
+        long queryTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        if (lockedAsyncTaskResponses.isEmpty()) {
           break;
         }
 
-        long queryTime = queryEndTime - queryStartTime;
-        long loopProcessingTime =
-            Math.max((globalStopwatch.elapsed(TimeUnit.MILLISECONDS) - loopStartTime) - queryTime, 0l);
-
-        log.info("Process won the async task response {}, mongo queryTime {}, loop processing time {} .",
-            lockedAsyncTaskResponse.getUuid(), queryTime, loopProcessingTime);
-
-        loopStartTime = globalStopwatch.elapsed(TimeUnit.MILLISECONDS);
-        ResponseData responseData;
-        if (disableDeserialization) {
-          responseData = BinaryResponseData.builder()
-                             .data(lockedAsyncTaskResponse.getResponseData())
-                             .usingKryoWithoutReference(lockedAsyncTaskResponse.isUsingKryoWithoutReference())
-                             .build();
-        } else {
-          ResponseData data = lockedAsyncTaskResponse.isUsingKryoWithoutReference()
-              ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(lockedAsyncTaskResponse.getResponseData())
-              : (ResponseData) kryoSerializer.asInflatedObject(lockedAsyncTaskResponse.getResponseData());
-
-          responseData = data instanceof SerializedResponseData ? data : (DelegateResponseData) data;
+        log.info(
+            "Process won {} async task responses, mongo queryTime {}.", lockedAsyncTaskResponses.size(), queryTime);
+
+        Map<String, ResponseData> responses = new LinkedHashMap<>();
+        for (DelegateAsyncTaskResponse lockedAsyncTaskResponse : lockedAsyncTaskResponses) {
+          try {
+            responses.put(lockedAsyncTaskResponse.getUuid(), getResponseData(lockedAsyncTaskResponse));
+          } catch (Exception ex) {
+            log.warn(String.format("Ignoring async task response %s because of the following error: %s",
+                         lockedAsyncTaskResponse.getUuid(), ex.getMessage()),
+                ex);
+          }
         }
 
+        // Throws when the batch could not be delivered, the responses are then picked up again once their lock expires
         long doneWithStartTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        waitNotifyEngine.doneWith(lockedAsyncTaskResponse.getUuid(), responseData);
+        waitNotifyEngine.doneWithAll(responses);
         long doneWithEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
 
         if (log.isDebugEnabled()) {
-          log.debug("DB update processing time {} for doneWith operation, loop processing time {} ",
-              doneWithEndTime - doneWithStartTime,
-              Math.max(loopProcessingTime - (doneWithEndTime - doneWithStartTime), 0l));
+          log.debug("DB update processing time {} for doneWithAll operation of {} responses",
+              doneWithEndTime - doneWithStartTime, responses.size());
         }
 
-        if (lockedAsyncTaskResponse.getHoldUntil() == null
-            || lockedAsyncTaskResponse.getHoldUntil() < currentTimeMillis()) {
-          responsesToBeDeleted.add(lockedAsyncTaskResponse.getUuid());
-          if (responsesToBeDeleted.size() >= DELETE_THRESHOLD) {
-            deleteProcessedResponses(responsesToBeDeleted);
-            responsesToBeDeleted.clear();
+        for (DelegateAsyncTaskResponse lockedAsyncTaskResponse : lockedAsyncTaskResponses) {
+          if (!responses.containsKey(lockedAsyncTaskResponse.getUuid())) {
+            continue;
           }
-        } else {
-          Query<DelegateAsyncTaskResponse> uuidTaskResponseQuery =
-              persistence.createQuery(DelegateAsyncTaskResponse.class, excludeAuthority)
-                  .filter(DelegateAsyncTaskResponseKeys.uuid, lockedAsyncTaskResponse.getUuid());
-
-          UpdateOperations<DelegateAsyncTaskResponse> uuidUpdateOperations =
-              persistence.createUpdateOperations(DelegateAsyncTaskResponse.class)
-                  .set(DelegateAsyncTaskResponseKeys.processAfter, lockedAsyncTaskResponse.getHoldUntil());
+          if (lockedAsyncTaskResponse.getHoldUntil() == null
+              || lockedAsyncTaskResponse.getHoldUntil() < currentTimeMillis()) {
+            responsesToBeDeleted.add(lockedAsyncTaskResponse.getUuid());
+            if (responsesToBeDeleted.size() >= DELETE_THRESHOLD) {
+              deleteProcessedResponses(responsesToBeDeleted);
+              responsesToBeDeleted.clear();
+            }
+          } else {
+            holdAsyncTaskResponse(lockedAsyncTaskResponse);
+          }
+        }
 
-          persistence.findAndModify(uuidTaskResponseQuery, uuidUpdateOperations, HPersistence.returnNewOptions);
+        if (lockedAsyncTaskResponses.size() < DONE_WITH_BATCH_SIZE) {
+          break;
         }
       } catch (Exception ex) {
-        log.warn(String.format("Ignoring async task response because of the following error: %s", ex.getMessage()), ex);
+        log.warn(
+            String.format("Ignoring async task responses because of the following error: %s", ex.getMessage()), ex);
       }
     }
 
     deleteProcessedResponses(responsesToBeDeleted);
   }
 
+  // Locks the responses which are due one by one, so that other managers keep picking up the ones left
+  private List<DelegateAsyncTaskResponse> lockAsyncTaskResponses() {
+    List<DelegateAsyncTaskResponse> lockedAsyncTaskResponses = new ArrayList<>();
+    while (lockedAsyncTaskResponses.size() < DONE_WITH_BATCH_SIZE) {
+      Query<DelegateAsyncTaskResponse> taskResponseQuery =
+          persistence.createQuery(DelegateAsyncTaskResponse.class, excludeAuthority)
+              .field(DelegateAsyncTaskResponseKeys.processAfter)
+              .lessThan(currentTimeMillis() - MAX_PROCESSING_DURATION_MILLIS);
+
+      UpdateOperations<DelegateAsyncTaskResponse> updateOperations =
+          persistence.createUpdateOperations(DelegateAsyncTaskResponse.class)
+              .set(DelegateAsyncTaskResponseKeys.processAfter, currentTimeMillis());
+
+      DelegateAsyncTaskResponse lockedAsyncTaskResponse =
+          persistence.findAndModify(taskResponseQuery, updateOperations, HPersistence.returnNewOptions);
+      if (lockedAsyncTaskResponse == null) {
+        break;
+      }
+      lockedAsyncTaskResponses.add(lockedAsyncTaskResponse);
+    }
+    return lockedAsyncTaskResponses;
+  }
+
+  private ResponseData getResponseData(DelegateAsyncTaskResponse lockedAsyncTaskResponse) {
+    if (disableDeserialization) {
+      return BinaryResponseData.builder()
+          .data(lockedAsyncTaskResponse.getResponseData())
+          .usingKryoWithoutReference(lockedAsyncTaskResponse.isUsingKryoWithoutReference())
+          .build();
+    }
+    ResponseData data = lockedAsyncTaskResponse.isUsingKryoWithoutReference()
+        ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(lockedAsyncTaskResponse.getResponseData())
+        : (ResponseData) kryoSerializer.asInflatedObject(lockedAsyncTaskResponse.getResponseData());
+    return data instanceof SerializedResponseData ? data : (DelegateResponseData) data;
+  }
+
+  private void holdAsyncTaskResponse(DelegateAsyncTaskResponse lockedAsyncTaskResponse) {
+    Query<DelegateAsyncTaskResponse> uuidTaskResponseQuery =
+        persistence.createQuery(DelegateAsyncTaskResponse.class, excludeAuthority)
+            .filter(DelegateAsyncTaskResponseKeys.uuid, lockedAsyncTaskResponse.getUuid());
+
+    UpdateOperations<DelegateAsyncTaskResponse> uuidUpdateOperations =
+        persistence.createUpdateOperations(DelegateAsyncTaskResponse.class)
+            .set(DelegateAsyncTaskResponseKeys.processAfter, lockedAsyncTaskResponse.getHoldUntil());
+
+    persistence.findAndModify(uuidTaskResponseQuery, uuidUpdateOperations, HPersistence.returnNewOptions);
+  }
+
   private boolean deleteProcessedResponses(Set<String> responsesToBeDeleted) {
     if (isEmpty(responsesToBeDeleted)) {
       return true;
@@ -220,4 +220,33 @@ public class DelegateAsyncServiceImplTest extends DelegateServiceDriverTestBase
     StringNotifyResponseData stringNotifyResponseData = (StringNotifyResponseData) responseData;
     assertThat(stringNotifyResponseData.getData()).isEqualTo("DATA_FROM_TASK");
   }
+
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldDeliverDueResponsesInOneBatch() {
+    String taskId = generateUuid();
+    String heldTaskId = generateUuid();
+    long holdUntil = System.currentTimeMillis() + Duration.ofMinutes(120).toMillis();
+    saveDueResponse(taskId, null);
+    saveDueResponse(heldTaskId, holdUntil);
+
+    delegateAsyncService.run();
+
+    assertThat(hPersistence.get(DelegateAsyncTaskResponse.class, taskId)).isNull();
+    DelegateAsyncTaskResponse heldTaskResponse = hPersistence.get(DelegateAsyncTaskResponse.class, heldTaskId);
+    assertThat(heldTaskResponse).isNotNull();
+    assertThat(heldTaskResponse.getProcessAfter()).isEqualTo(holdUntil);
+  }
+
+  private void saveDueResponse(String taskId, Long holdUntil) {
+    hPersistence.save(DelegateAsyncTaskResponse.builder()
+                          .uuid(taskId)
+                          .processAfter(0)
+                          .holdUntil(holdUntil)
+                          .usingKryoWithoutReference(true)
+                          .responseData(referenceFalseKryoSerializer.asDeflatedBytes(
+                              StringNotifyResponseData.builder().data("DATA_FROM_TASK").build()))
+                          .build());
+  }
 }
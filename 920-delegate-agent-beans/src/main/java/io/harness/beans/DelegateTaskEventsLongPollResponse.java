@@ -0,0 +1,22 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import io.harness.delegate.beans.DelegateTaskEvent;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DelegateTaskEventsLongPollResponse {
+  List<DelegateTaskEvent> delegateTaskEvents;
+  // The sequence to resume the next long poll after, every queued task delivered so far is at or before it
+  long sequence;
+}
@@ -8,41 +8,27 @@
 package io.harness.logstreaming;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
-
-import static org.apache.commons.lang3.StringUtils.replaceEach;
 
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.logging.LogSanitizerHelper;
+import io.harness.logging.SecretMasker;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
-@Builder
 public class LogStreamingSanitizer {
-  private final Set<String> secrets;
+  private final SecretMasker secretMasker;
+
+  @Builder
   public LogStreamingSanitizer(Set<String> secrets) {
-    this.secrets = calculateSecretLines(secrets);
+    this.secretMasker = SecretMasker.compile(withQuotesRemoved(calculateSecretLines(secrets)));
   }
 
   public void sanitizeLogMessage(LogLine logLine) {
-    String sanitizedLogMessage = logLine.getMessage();
-    if (!isEmpty(secrets)) {
-      ArrayList<String> secretMasks = new ArrayList<>();
-      ArrayList<String> secretValues = new ArrayList<>();
-      for (String secret : secrets) {
-        secretMasks.add(SECRET_MASK);
-        secretValues.add(secret);
-
-        addSecretMasksWithQuotesRemoved(secret, secretMasks, secretValues);
-      }
-      sanitizedLogMessage = replaceEach(
-          logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
-    }
+    String sanitizedLogMessage = secretMasker.mask(logLine.getMessage());
 
     // JWT mask
     sanitizedLogMessage = LogSanitizerHelper.sanitizeJWT(sanitizedLogMessage);
@@ -62,17 +48,13 @@ public class LogStreamingSanitizer {
         .collect(Collectors.toSet());
   }
 
-  private void addSecretMasksWithQuotesRemoved(
-      String secret, ArrayList<String> secretMasks, ArrayList<String> secretValues) {
-    String secretWithDoubleQuoteRemoved = secret.replaceAll("\"", "");
-    if (!secretWithDoubleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithDoubleQuoteRemoved);
-    }
-    String secretWithSingleQuoteRemoved = secret.replaceAll("\'", "");
-    if (!secretWithSingleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithSingleQuoteRemoved);
+  private static Set<String> withQuotesRemoved(Set<String> secrets) {
+    Set<String> variants = new HashSet<>(secrets);
+    for (String secret : secrets) {
+      variants.add(secret.replace("\"", ""));
+      variants.add(secret.replace("\'", ""));
     }
+    variants.remove("");
+    return variants;
   }
 }
@@ -7,6 +7,15 @@
 
 package io.harness.waiter;
 
+import java.util.List;
+
 public interface NotifyQueuePublisher {
   void send(NotifyEvent payload);
+
+  /**
+   * Sends all the events, implementations backed by a queue supporting it may publish them in a single round trip.
+   */
+  default void sendAll(List<NotifyEvent> payloads) {
+    payloads.forEach(this::send);
+  }
 }
@@ -19,6 +19,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.AutoLogRemoveContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ProgressData;
@@ -36,9 +37,12 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -52,11 +56,16 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final String DONE_WITH_BATCH_SIZE_METRIC = "wait_notify_done_with_batch_size";
+  private static final String READY_WAIT_INSTANCES_METRIC = "wait_notify_ready_wait_instances";
+  private static final String DONE_WITH_LATENCY_METRIC = "wait_notify_done_with_latency";
+  private static final String NO_PUBLISHER = "none";
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject(optional = true) private MetricService metricService;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -178,6 +187,94 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Batched variant of {@link #doneWith(String, ResponseData)} for callers which receive many responses at once. The
+   * responses are inserted in bulk, the wait instances waiting on them are updated in bulk and the ready ones are
+   * published in a single batch per publisher.
+   *
+   * <p>Unlike doneWith, failures are thrown so that the caller can retry the batch. A retry is safe: responses which
+   * already exist are kept as they are, but the wait instances still waiting on them are updated and notified, which
+   * completes a call that failed after saving them.
+   *
+   * @return the correlation ids whose responses were saved by this call
+   */
+  public List<String> doneWithAll(Map<String, ? extends ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+    responses.forEach((correlationId, response) -> {
+      Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+      notifyResponses.add(NotifyResponse.builder()
+                              .uuid(correlationId)
+                              .createdAt(currentTimeMillis())
+                              .usingKryoWithoutReference(true)
+                              .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
+                              .error(response instanceof ErrorResponseData)
+                              .build());
+    });
+
+    List<String> savedIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+    if (savedIds.size() < notifyResponses.size()) {
+      log.warn("Skipped saving {} already existing responses out of {}", notifyResponses.size() - savedIds.size(),
+          notifyResponses.size());
+    }
+    // Wait instances of responses delivered before are not waiting on them anymore, unless that delivery failed
+    List<WaitInstance> readyWaitInstances =
+        persistenceWrapper.modifyAndFetchReadyWaitInstances(new ArrayList<>(responses.keySet()));
+    sendNotifications(readyWaitInstances);
+
+    if (metricService != null) {
+      recordDoneWithMetrics(readyWaitInstances, savedIds.size(), stopwatch.elapsed());
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("Processed {} responses and {} ready wait instances in {} ms", savedIds.size(),
+          readyWaitInstances.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+    return savedIds;
+  }
+
+  // Recorded once per publisher notified by the batch, the wait notify metrics are all labelled with the publisher
+  private void recordDoneWithMetrics(List<WaitInstance> readyWaitInstances, int batchSize, Duration latency) {
+    Set<String> publishers = new TreeSet<>();
+    readyWaitInstances.forEach(waitInstance -> publishers.add(waitInstance.getPublisher()));
+    if (publishers.isEmpty()) {
+      publishers.add(NO_PUBLISHER);
+    }
+    for (String publisher : publishers) {
+      try (WaitNotifyMetricContext ignore = new WaitNotifyMetricContext(publisher)) {
+        metricService.recordMetric(DONE_WITH_BATCH_SIZE_METRIC, batchSize);
+        metricService.recordDuration(DONE_WITH_LATENCY_METRIC, latency);
+      }
+    }
+  }
+
+  private void sendNotifications(List<WaitInstance> waitInstances) {
+    Map<String, List<NotifyEvent>> eventsByPublisher = new HashMap<>();
+    for (WaitInstance waitInstance : waitInstances) {
+      eventsByPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new ArrayList<>())
+          .add(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+    }
+
+    try (AutoLogRemoveContext ignore = new AutoLogRemoveContext(WaitInstanceLogContext.ID)) {
+      eventsByPublisher.forEach((publisher, events) -> {
+        final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(publisher);
+        if (notifyQueuePublisher == null) {
+          log.error("Unknown publisher {}", publisher);
+          return;
+        }
+        notifyQueuePublisher.sendAll(events);
+        if (metricService != null) {
+          try (WaitNotifyMetricContext ignore1 = new WaitNotifyMetricContext(publisher)) {
+            metricService.recordMetric(READY_WAIT_INSTANCES_METRIC, events.size());
+          }
+        }
+      });
+    }
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (AutoLogRemoveContext ignore = new AutoLogRemoveContext(WaitInstanceLogContext.ID)) {
       String publisher = waitInstance.getPublisher();
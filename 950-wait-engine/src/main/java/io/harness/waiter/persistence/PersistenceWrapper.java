@@ -7,14 +7,19 @@
 
 package io.harness.waiter.persistence;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
 import io.harness.waiter.WaitInstance;
 
+import com.mongodb.DuplicateKeyException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -28,6 +33,38 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Saves the given responses and returns the ids of the saved ones. Responses which already exist are skipped.
+   */
+  default List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    List<String> savedIds = new ArrayList<>();
+    for (NotifyResponse notifyResponse : notifyResponses) {
+      try {
+        savedIds.add(save(notifyResponse));
+      } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
+        // The response was already delivered, the wait instances waiting on it were handled back then
+      }
+    }
+    return savedIds;
+  }
+
+  /**
+   * Removes the given correlation ids from the wait instances waiting on them and returns the wait instances which
+   * are not waiting on anything else anymore.
+   */
+  default List<WaitInstance> modifyAndFetchReadyWaitInstances(List<String> correlationIds) {
+    List<WaitInstance> readyWaitInstances = new ArrayList<>();
+    for (String correlationId : correlationIds) {
+      WaitInstance waitInstance;
+      while ((waitInstance = modifyAndFetchWaitInstance(correlationId)) != null) {
+        if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+          readyWaitInstances.add(waitInstance);
+        }
+      }
+    }
+    return readyWaitInstances;
+  }
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
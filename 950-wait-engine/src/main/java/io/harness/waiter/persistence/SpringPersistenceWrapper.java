@@ -14,8 +14,10 @@ import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME
 import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -39,12 +41,15 @@ import io.harness.waiter.WaitInstance.WaitInstanceKeys;
 import io.harness.waiter.WaitInstanceTimeoutCallback;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -56,6 +61,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -213,6 +220,55 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    List<String> savedIds = new ArrayList<>();
+    for (List<NotifyResponse> batch : Lists.partition(notifyResponses, MAX_BATCH_SIZE)) {
+      Set<Integer> failedIndexes;
+      try {
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(batch).execute();
+        failedIndexes = Collections.emptySet();
+      } catch (BulkOperationException ex) {
+        if (!ex.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+          throw ex;
+        }
+        // Responses which already exist were delivered before, the wait instances waiting on them were handled then
+        failedIndexes = ex.getErrors().stream().map(BulkWriteError::getIndex).collect(toSet());
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        if (!failedIndexes.contains(i)) {
+          savedIds.add(batch.get(i).getUuid());
+        }
+      }
+    }
+    return savedIds;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchReadyWaitInstances(List<String> correlationIds) {
+    List<WaitInstance> readyWaitInstances = new ArrayList<>();
+    for (List<String> batch : Lists.partition(correlationIds, MAX_BATCH_SIZE)) {
+      // Uses - waitingOnCorrelationIds_1 idx
+      Query waitingQuery = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(batch));
+      waitingQuery.fields().include(WaitInstanceKeys.uuid);
+      List<String> waitInstanceIds =
+          mongoTemplate.find(waitingQuery, WaitInstance.class).stream().map(WaitInstance::getUuid).collect(toList());
+      if (isEmpty(waitInstanceIds)) {
+        continue;
+      }
+
+      mongoTemplate.updateMulti(query(where(WaitInstanceKeys.uuid).in(waitInstanceIds)),
+          new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, batch.toArray(new String[0])),
+          WaitInstance.class);
+      // A wait instance which also waited on a response delivered concurrently can be found ready by both callers.
+      // That is fine, as only one of the resulting notifications can claim it in fetchForProcessingWaitInstance.
+      Query readyQuery = query(where(WaitInstanceKeys.uuid).in(waitInstanceIds))
+                             .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).size(0));
+      readyWaitInstances.addAll(mongoTemplate.find(readyQuery, WaitInstance.class));
+    }
+    return readyWaitInstances;
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
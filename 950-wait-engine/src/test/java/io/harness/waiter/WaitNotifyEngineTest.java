@@ -178,6 +178,63 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyOnceForBatchOfResponses() throws IOException {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      String otherWaitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid3);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2))).containsExactlyInAnyOrder(uuid1, uuid2);
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1))).isEmpty();
+
+      NotifyResponse notifyResponse = persistence.get(NotifyResponse.class, uuid2);
+      assertThat(notifyResponse).isNotNull();
+      assertThat(notifyResponse.isUsingKryoWithoutReference()).isTrue();
+      assertThat(referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())).isEqualTo(data2);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(2).isEqualTo(of(uuid1, data1, uuid2, data2));
+      assertThat(callCount.get()).isEqualTo(1);
+      assertThat(persistence.get(WaitInstance.class, otherWaitInstanceId).getWaitingOnCorrelationIds())
+          .containsExactly(uuid3);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyForResponsesSavedByAFailedBatch() throws IOException {
+    String uuid = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      // Saved by an earlier call which failed before updating the wait instance
+      persistence.save(NotifyResponse.builder()
+                           .uuid(uuid)
+                           .createdAt(System.currentTimeMillis())
+                           .usingKryoWithoutReference(true)
+                           .responseData(referenceFalseKryoSerializer.asDeflatedBytes(data))
+                           .build());
+
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid, data))).isEmpty();
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(1).isEqualTo(of(uuid, data));
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
   /**
    * Should wait for correlation ids.
    */
@@ -17,6 +17,8 @@ import lombok.experimental.UtilityClass;
 @OwnedBy(PL)
 public final class EventsFrameworkMetadataConstants {
   public static final String ENTITY_TYPE = "entityType";
+  // Messages with the same ordering key are processed in order by key ordered consumers
+  public static final String ORDERING_KEY = "orderingKey";
 
   public static final String ACTION = "action";
   public static final String CREATE_ACTION = "create";
@@ -19,5 +19,10 @@ import java.util.List;
 public interface Consumer {
   List<Message> read(Duration maxWaitTime);
   void acknowledge(String messageId);
+
+  default void acknowledgeAll(List<String> messageIds) {
+    messageIds.forEach(this::acknowledge);
+  }
+
   void shutdown();
 }
@@ -9,7 +9,38 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends all the messages and returns their ids in the same order. Implementations are free to pipeline the
+   * writes, the default simply sends them one after the other.
+   */
+  default List<String> sendBatch(List<Message> messages) {
+    List<String> messageIds = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      messageIds.add(send(message));
+    }
+    return messageIds;
+  }
+
+  /**
+   * Sends the message without blocking the caller. Implementations may coalesce concurrent callers into a single
+   * batch, the default sends synchronously and returns a completed future.
+   */
+  default CompletableFuture<String> sendAsync(Message message) {
+    try {
+      return CompletableFuture.completedFuture(send(message));
+    } catch (Exception ex) {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      future.completeExceptionally(ex);
+      return future;
+    }
+  }
+
   void shutdown();
 }
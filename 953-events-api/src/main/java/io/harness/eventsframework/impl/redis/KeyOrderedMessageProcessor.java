@@ -0,0 +1,248 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ORDERING_KEY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes a batch read from a stream on a bounded worker pool. Messages sharing an ordering key are handled
+ * sequentially in stream order, while different keys are handled concurrently.
+ *
+ * <p>If a message fails, it and the remaining messages of its key are left unacked and the key is blocked. The consumer
+ * reads new messages before the idle pending ones are reclaimed, so the messages of a blocked key read in the meantime
+ * are left unacked as well. They all come back through the reclaim, oldest first, are processed in order, and the key
+ * is unblocked once none of them is left. Held back messages are redelivered along with the failed one, so they are
+ * dead lettered with it if it keeps failing. A key which makes no progress for maxBlockedTime, for instance because its
+ * failed message was dead lettered or claimed by another consumer, is released without keeping the order of the
+ * messages it still had pending.
+ *
+ * <p>Order is kept for the messages read by one consumer. A processor is not thread safe, it serves the batches of a
+ * single consumer thread.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class KeyOrderedMessageProcessor {
+  private static final Duration DEFAULT_MAX_BLOCKED_TIME = Duration.ofMinutes(10);
+
+  private final ExecutorService executorService;
+  private final Function<Message, String> orderingKeyFunction;
+  private final Duration maxBlockedTime;
+  private final Clock clock;
+  // Keys with messages left unacked, only accessed from the thread calling process
+  private final Map<String, BlockedKey> blockedKeys = new HashMap<>();
+
+  public KeyOrderedMessageProcessor(String name, int parallelism) {
+    this(name, parallelism, KeyOrderedMessageProcessor::getDefaultOrderingKey);
+  }
+
+  public KeyOrderedMessageProcessor(String name, int parallelism, Function<Message, String> orderingKeyFunction) {
+    this(name, parallelism, orderingKeyFunction, DEFAULT_MAX_BLOCKED_TIME, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  KeyOrderedMessageProcessor(String name, int parallelism, Function<Message, String> orderingKeyFunction,
+      Duration maxBlockedTime, Clock clock) {
+    this.executorService = Executors.newFixedThreadPool(
+        parallelism, new ThreadFactoryBuilder().setNameFormat(name + "-message-processor-%d").build());
+    this.orderingKeyFunction = orderingKeyFunction;
+    this.maxBlockedTime = maxBlockedTime;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the ids of the messages which were processed successfully, in the order they were read.
+   */
+  public List<String> process(List<Message> messages, Predicate<Message> messageHandler) {
+    if (isEmpty(messages)) {
+      return Collections.emptyList();
+    }
+    releaseStaleKeys();
+    Map<String, List<Message>> messagesByKey = new LinkedHashMap<>();
+    for (Message message : messages) {
+      messagesByKey.computeIfAbsent(orderingKeyFunction.apply(message), key -> new ArrayList<>()).add(message);
+    }
+
+    Map<String, CompletableFuture<KeyResult>> futures = new LinkedHashMap<>();
+    for (Map.Entry<String, List<Message>> keyMessages : messagesByKey.entrySet()) {
+      BlockedKey blockedKey = blockedKeys.get(keyMessages.getKey());
+      List<String> pendingMessageIds =
+          blockedKey == null ? Collections.emptyList() : new ArrayList<>(blockedKey.pendingMessageIds);
+      futures.put(keyMessages.getKey(),
+          CompletableFuture.supplyAsync(
+              () -> processInOrder(keyMessages.getValue(), pendingMessageIds, messageHandler), executorService));
+    }
+
+    Set<String> processedMessageIds = new HashSet<>();
+    for (Map.Entry<String, CompletableFuture<KeyResult>> future : futures.entrySet()) {
+      KeyResult keyResult = future.getValue().join();
+      processedMessageIds.addAll(keyResult.processedMessageIds);
+      updateBlockedKey(future.getKey(), keyResult);
+    }
+    List<String> result = new ArrayList<>(processedMessageIds.size());
+    for (Message message : messages) {
+      if (processedMessageIds.contains(message.getId())) {
+        result.add(message.getId());
+      }
+    }
+    return result;
+  }
+
+  // Only the oldest pending message of a blocked key can be processed, the others wait for it
+  private KeyResult processInOrder(
+      List<Message> orderedMessages, List<String> pendingMessageIds, Predicate<Message> messageHandler) {
+    Deque<String> pending = new ArrayDeque<>(pendingMessageIds);
+    KeyResult keyResult = new KeyResult();
+    boolean blocked = false;
+    for (Message message : orderedMessages) {
+      if (blocked || (!pending.isEmpty() && !pending.peekFirst().equals(message.getId()))) {
+        blocked = true;
+        keyResult.unackedMessageIds.add(message.getId());
+      } else if (handleSafely(message, messageHandler)) {
+        keyResult.processedMessageIds.add(message.getId());
+        pending.pollFirst();
+      } else {
+        blocked = true;
+        keyResult.unackedMessageIds.add(message.getId());
+      }
+    }
+    if (!keyResult.unackedMessageIds.isEmpty()) {
+      log.warn("Left {} messages unacked to keep the order of their key, starting with {}",
+          keyResult.unackedMessageIds.size(), keyResult.unackedMessageIds.get(0));
+    }
+    return keyResult;
+  }
+
+  private void updateBlockedKey(String key, KeyResult keyResult) {
+    BlockedKey blockedKey = blockedKeys.get(key);
+    if (blockedKey == null) {
+      if (keyResult.unackedMessageIds.isEmpty()) {
+        return;
+      }
+      blockedKey = new BlockedKey(clock.millis());
+      blockedKeys.put(key, blockedKey);
+    }
+    blockedKey.pendingMessageIds.removeAll(keyResult.processedMessageIds);
+    blockedKey.pendingMessageIds.addAll(keyResult.unackedMessageIds);
+    if (!keyResult.processedMessageIds.isEmpty()) {
+      blockedKey.lastProgressTime = clock.millis();
+    }
+    if (blockedKey.pendingMessageIds.isEmpty()) {
+      blockedKeys.remove(key);
+    }
+  }
+
+  private void releaseStaleKeys() {
+    long staleBefore = clock.millis() - maxBlockedTime.toMillis();
+    blockedKeys.entrySet().removeIf(blockedKey -> {
+      if (blockedKey.getValue().lastProgressTime >= staleBefore) {
+        return false;
+      }
+      log.warn("Releasing ordering key {} blocked for over {}, its pending messages {} did not come back",
+          blockedKey.getKey(), maxBlockedTime, blockedKey.getValue().pendingMessageIds);
+      return true;
+    });
+  }
+
+  @VisibleForTesting
+  boolean isBlocked(String key) {
+    return blockedKeys.containsKey(key);
+  }
+
+  private boolean handleSafely(Message message, Predicate<Message> messageHandler) {
+    try {
+      return messageHandler.test(message);
+    } catch (Exception ex) {
+      log.error(String.format("Error occurred in processing message with id %s", message.getId()), ex);
+      return false;
+    }
+  }
+
+  public void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * Uses the producer supplied ordering key when present, falling back to account and entity type. Messages with
+   * neither are treated as independent. The fallback is coarse, it keeps all the entities of a type of an account in a
+   * single sequence, so consumers which know the entity of a message should pass a finer key built with
+   * {@link #getEntityOrderingKey}.
+   */
+  public static String getDefaultOrderingKey(Message message) {
+    if (!message.hasMessage()) {
+      return message.getId();
+    }
+    Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+    if (metadataMap.containsKey(ORDERING_KEY)) {
+      return metadataMap.get(ORDERING_KEY);
+    }
+    String accountId = metadataMap.get(ACCOUNT_IDENTIFIER_METRICS_KEY);
+    String entityType = metadataMap.get(ENTITY_TYPE);
+    if (accountId == null && entityType == null) {
+      return message.getId();
+    }
+    return accountId + "/" + entityType;
+  }
+
+  /**
+   * Returns an ordering key for a single entity, made of the entity type of the message and the given parts which
+   * identify the entity, such as its scope and identifier.
+   */
+  public static String getEntityOrderingKey(Message message, String... entityIdentifiers) {
+    String entityType = message.hasMessage() ? message.getMessage().getMetadataMap().get(ENTITY_TYPE) : null;
+    StringJoiner orderingKey = new StringJoiner("/").add(String.valueOf(entityType));
+    for (String entityIdentifier : entityIdentifiers) {
+      orderingKey.add(String.valueOf(entityIdentifier));
+    }
+    return orderingKey.toString();
+  }
+
+  private static class BlockedKey {
+    // In stream order, the oldest one has to be processed first
+    private final Set<String> pendingMessageIds = new LinkedHashSet<>();
+    private long lastProgressTime;
+
+    BlockedKey(long lastProgressTime) {
+      this.lastProgressTime = lastProgressTime;
+    }
+  }
+
+  private static class KeyResult {
+    private final List<String> processedMessageIds = new ArrayList<>();
+    private final List<String> unackedMessageIds = new ArrayList<>();
+  }
+}
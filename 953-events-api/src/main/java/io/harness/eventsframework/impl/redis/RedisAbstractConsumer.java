@@ -13,25 +13,33 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractConsumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
 import org.redisson.api.PendingEntry;
+import org.redisson.api.RBatch;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 import org.redisson.client.RedisException;
@@ -40,6 +48,12 @@ import org.redisson.client.RedisException;
 @Slf4j
 public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
+  private static final String REDIS_CONSUMER_PENDING_ENTRIES = "redis_consumer_pending_entries";
+  private static final String REDIS_CONSUMER_RECLAIMED_MESSAGES = "redis_consumer_reclaimed_messages";
+  private static final String REDIS_CONSUMER_DEAD_LETTERED_MESSAGES = "redis_consumer_dead_lettered_messages";
+  // Pending entries can only become claimable once they are idle for maxProcessingTime, so the reclaim scan backs
+  // off up to that interval while it keeps finding nothing and drops back to the minimum as soon as it finds work
+  private static final Duration MIN_RECLAIM_INTERVAL = Duration.ofSeconds(5);
   protected RStream<String, String> stream;
   protected RStream<String, String> deadLetterQueue;
   protected RedissonClient redissonClient;
@@ -48,6 +62,11 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private Retry retry;
   @Inject RedisEventMetricPublisher redisEventMetricPublisher;
 
+  private StreamMessageId reclaimCursor = StreamMessageId.MIN;
+  private Duration reclaimInterval = MIN_RECLAIM_INTERVAL;
+  private long nextReclaimTime;
+  private Clock clock = Clock.systemUTC();
+
   public RedisAbstractConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
       Duration maxProcessingTime, int batchSize, String envNamespace) {
     super(topicName, groupName);
@@ -71,8 +90,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private void initConsumerGroup(
       String topicName, RedissonClient redissonClient, Duration maxProcessingTime, int batchSize, String envNamespace) {
     this.redissonClient = redissonClient;
-    this.stream = RedisUtils.getStream(getTopicName(), redissonClient, envNamespace);
-    this.deadLetterQueue = RedisUtils.getDeadLetterStream(getTopicName(), redissonClient, envNamespace);
+    // Byte transparent views so that both legacy and binary encoded entries can be read and dead lettered as is
+    this.stream = RedisUtils.getByteTransparentStream(getTopicName(), redissonClient, envNamespace);
+    this.deadLetterQueue = RedisUtils.getByteTransparentDeadLetterStream(getTopicName(), redissonClient, envNamespace);
     this.maxProcessingTime = maxProcessingTime;
     this.batchSize = batchSize;
     RetryConfig retryConfig =
@@ -91,17 +111,38 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     }
   }
 
-  private void moveMessageToDeadLetterQueue(
-      StreamMessageId messageId, String groupName, Map<StreamMessageId, Map<String, String>> messages) {
-    Map<String, String> messageData = messages.getOrDefault(messageId, new HashMap<>());
-    messageData.put("prevMessageId", messageId.toString());
-    deadLetterQueue.addAll(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
-    stream.ack(groupName, messageId);
-    log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageId, messageData);
+  private void moveMessagesToDeadLetterQueue(
+      List<StreamMessageId> messageIds, String groupName, Map<StreamMessageId, Map<String, String>> messages) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    // Pipeline the dead letter inserts together with a single XACK for all of them
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+    RStreamAsync<String, String> batchDeadLetterQueue =
+        batch.getStream(deadLetterQueue.getName(), deadLetterQueue.getCodec());
+    List<Map<String, String>> deadLetteredMessages = new ArrayList<>(messageIds.size());
+    for (StreamMessageId messageId : messageIds) {
+      Map<String, String> messageData = new HashMap<>(messages.getOrDefault(messageId, new HashMap<>()));
+      messageData.put("prevMessageId", messageId.toString());
+      batchDeadLetterQueue.addAllAsync(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
+      deadLetteredMessages.add(messageData);
+      // Acked together with the dead letter insert below, so it must not be handed out for processing as well
+      messages.remove(messageId);
+    }
+    RStreamAsync<String, String> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+    batchStream.ackAsync(groupName, messageIds.toArray(new StreamMessageId[0]));
+    batch.execute();
+    log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageIds,
+        deadLetteredMessages);
+    recordReclaimMetric(REDIS_CONSUMER_DEAD_LETTERED_MESSAGES, messageIds.size());
   }
 
   private List<PendingEntry> getPendingEntries() {
-    Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal();
+    return getPendingEntries(StreamMessageId.MIN);
+  }
+
+  private List<PendingEntry> getPendingEntries(StreamMessageId startId) {
+    Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal(startId);
 
     Supplier<List<PendingEntry>> retryingGetPendingEntries = Retry.decorateSupplier(retry, getPendingEntriesSupplier);
     return Try.ofSupplier(retryingGetPendingEntries)
@@ -113,9 +154,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
         .get();
   }
 
-  private List<PendingEntry> getPendingEntriesInternal() {
+  private List<PendingEntry> getPendingEntriesInternal(StreamMessageId startId) {
     try {
-      return stream.listPending(getGroupName(), StreamMessageId.MIN, StreamMessageId.MAX, batchSize);
+      return stream.listPending(getGroupName(), startId, StreamMessageId.MAX, batchSize);
     } catch (Exception ex) {
       log.warn("Exception occurred while listing pending entries", ex);
       throw ex;
@@ -142,13 +183,13 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
         return Collections.emptyList();
       } else {
         Map<StreamMessageId, Map<String, String>> messages = executeClaimCommand(pendingEntries);
-        for (PendingEntry entry : pendingEntries) {
-          StreamMessageId messageId = entry.getId();
-          // If the message has been delivered breach our redelivery threshold then move this to deadLetterQueue
-          if (entry.getLastTimeDelivered() >= RedisUtils.UNACKED_RETRY_COUNT) {
-            moveMessageToDeadLetterQueue(messageId, groupName, messages);
-          }
-        }
+        // If the message has been delivered breach our redelivery threshold then move this to deadLetterQueue
+        List<StreamMessageId> deadLetterMessageIds =
+            pendingEntries.stream()
+                .filter(entry -> entry.getLastTimeDelivered() >= RedisUtils.UNACKED_RETRY_COUNT)
+                .map(PendingEntry::getId)
+                .collect(Collectors.toList());
+        moveMessagesToDeadLetterQueue(deadLetterMessageIds, groupName, messages);
         return RedisUtils.getMessageObject(messages);
       }
     } catch (Exception ex) {
@@ -206,6 +247,16 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   protected List<Message> getMessages(boolean processUnackedMessagesBeforeNewMessages, Duration maxWaitTime) {
+    if (!processUnackedMessagesBeforeNewMessages) {
+      // Ordering is not required, so idle pending entries are reclaimed on their own schedule and a steady state
+      // poll costs a single XREADGROUP
+      List<Message> reclaimedMessages = reclaimIdleEntriesIfDue();
+      if (!reclaimedMessages.isEmpty()) {
+        return reclaimedMessages;
+      }
+      return getNewMessages(maxWaitTime);
+    }
+
     // Find all the pending entries on the consumer group
     List<PendingEntry> pendingEntries = getPendingEntries();
 
@@ -227,6 +278,77 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     }
   }
 
+  /**
+   * Scans the pending entries list from a cursor, in the spirit of XAUTOCLAIM, claiming only the entries which have
+   * been idle for longer than maxProcessingTime. Each call looks at one page and the next call continues from where
+   * this one stopped, wrapping around once the end of the list is reached.
+   */
+  private List<Message> reclaimIdleEntriesIfDue() {
+    long currentTime = clock.millis();
+    if (currentTime < nextReclaimTime) {
+      return Collections.emptyList();
+    }
+    List<PendingEntry> pendingEntries = getPendingEntries(reclaimCursor);
+    boolean reachedEndOfPendingEntries = pendingEntries.size() < batchSize;
+    if (reachedEndOfPendingEntries) {
+      reclaimCursor = StreamMessageId.MIN;
+    } else {
+      StreamMessageId lastId = pendingEntries.get(pendingEntries.size() - 1).getId();
+      reclaimCursor = new StreamMessageId(lastId.getId0(), lastId.getId1() + 1);
+    }
+
+    List<PendingEntry> idleEntries =
+        pendingEntries.stream()
+            .filter(entry -> entry.getIdleTime() >= maxProcessingTime.toMillis())
+            .collect(Collectors.toList());
+    List<Message> reclaimedMessages = claimEntries(idleEntries);
+
+    if (idleEntries.isEmpty() && reachedEndOfPendingEntries) {
+      Duration maxReclaimInterval =
+          maxProcessingTime.compareTo(MIN_RECLAIM_INTERVAL) > 0 ? maxProcessingTime : MIN_RECLAIM_INTERVAL;
+      Duration doubledInterval = reclaimInterval.multipliedBy(2);
+      reclaimInterval = doubledInterval.compareTo(maxReclaimInterval) > 0 ? maxReclaimInterval : doubledInterval;
+    } else {
+      reclaimInterval = MIN_RECLAIM_INTERVAL;
+    }
+    nextReclaimTime = currentTime + reclaimInterval.toMillis();
+
+    recordPendingEntriesMetric();
+    recordReclaimMetric(REDIS_CONSUMER_RECLAIMED_MESSAGES, reclaimedMessages.size());
+    return reclaimedMessages;
+  }
+
+  @VisibleForTesting
+  void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
+  private void recordPendingEntriesMetric() {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      long pendingEntriesCount = stream.getPendingInfo(getGroupName()).getTotal();
+      redisEventMetricPublisher.recordMetricWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), REDIS_CONSUMER_PENDING_ENTRIES,
+          pendingEntriesCount);
+    } catch (Exception ex) {
+      log.warn("Error while sending pending entries metric for redis consumer :", ex);
+    }
+  }
+
+  private void recordReclaimMetric(String metricName, int count) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.recordMetricWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), metricName, count);
+    } catch (Exception ex) {
+      log.warn("Error while sending reclaim metrics for redis consumer :", ex);
+    }
+  }
+
   @Override
   public void acknowledge(String messageId) {
     Supplier<Void> acknowledgeSupplier = () -> {
@@ -248,6 +370,31 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
   }
 
+  @Override
+  public void acknowledgeAll(List<String> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    Supplier<Void> acknowledgeSupplier = () -> {
+      acknowledgeAllInternal(messageIds);
+      return null;
+    };
+
+    Supplier<Void> retryingAckMessages = Retry.decorateSupplier(retry, acknowledgeSupplier);
+    Try.ofSupplier(retryingAckMessages)
+        .recover(throwable -> {
+          createConsumerGroupIfNotPresent(throwable);
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private void acknowledgeAllInternal(List<String> messageIds) {
+    // A single XACK carries all the ids, so the whole batch is acknowledged in one round trip
+    stream.ack(getGroupName(), messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new));
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import net.jpountz.lz4.LZ4Factory;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Encodes stream entries either in the legacy format, where the payload is base64 text, or in the binary format,
+ * where the payload bytes are stored as they are and optionally LZ4 compressed.
+ *
+ * <p>Binary entries are written and read through an ISO-8859-1 codec, which maps every byte to exactly one char, so
+ * the entry keeps its {@code Map<String, String>} shape while carrying arbitrary bytes. Metadata is stored as its
+ * UTF-8 bytes, which makes legacy entries read through the same codec decode to the very same values.
+ */
+@OwnedBy(PL)
+@UtilityClass
+public class RedisPayloadCodec {
+  public static final StringCodec BYTE_TRANSPARENT_CODEC = new StringCodec(ISO_8859_1);
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+
+  // Keeping these as small as possible to save on memory for redis instance
+  static final String PAYLOAD_ENCODING_KEY = "e";
+  static final String PAYLOAD_LENGTH_KEY = "l";
+  static final String BINARY_ENCODING = "b";
+  static final String BINARY_LZ4_ENCODING = "z";
+
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+  public void putLegacyPayload(Map<String, String> redisData, byte[] payload) {
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(payload));
+  }
+
+  /**
+   * Converts the metadata to its byte transparent form and adds the raw payload, compressing it when it is at least
+   * compressionThreshold bytes long and compression actually saves space. A negative threshold disables compression.
+   */
+  public Map<String, String> toBinaryEntry(Map<String, String> metadata, byte[] payload, int compressionThreshold) {
+    Map<String, String> redisData = new HashMap<>(metadata.size() + 3);
+    metadata.forEach((key, value) -> redisData.put(toByteTransparent(key), toByteTransparent(value)));
+    if (compressionThreshold >= 0 && payload.length >= compressionThreshold) {
+      byte[] compressed = LZ4_FACTORY.fastCompressor().compress(payload);
+      if (compressed.length < payload.length) {
+        redisData.put(PAYLOAD_ENCODING_KEY, BINARY_LZ4_ENCODING);
+        redisData.put(PAYLOAD_LENGTH_KEY, String.valueOf(payload.length));
+        redisData.put(REDIS_STREAM_INTERNAL_KEY, new String(compressed, ISO_8859_1));
+        return redisData;
+      }
+    }
+    redisData.put(PAYLOAD_ENCODING_KEY, BINARY_ENCODING);
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, new String(payload, ISO_8859_1));
+    return redisData;
+  }
+
+  /**
+   * Removes the payload and the encoding markers from an entry read through {@link #BYTE_TRANSPARENT_CODEC} and
+   * returns the payload bytes. Works for both the legacy and the binary format.
+   */
+  public byte[] extractPayload(Map<String, String> redisData) {
+    String encoding = redisData.remove(PAYLOAD_ENCODING_KEY);
+    String payloadLength = redisData.remove(PAYLOAD_LENGTH_KEY);
+    String payload = redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+    if (encoding == null) {
+      return Base64.getDecoder().decode(payload);
+    }
+    byte[] bytes = payload.getBytes(ISO_8859_1);
+    if (BINARY_LZ4_ENCODING.equals(encoding)) {
+      return LZ4_FACTORY.fastDecompressor().decompress(bytes, Integer.parseInt(payloadLength));
+    }
+    return bytes;
+  }
+
+  /**
+   * Restores metadata read through {@link #BYTE_TRANSPARENT_CODEC} to the strings the producer wrote.
+   */
+  public Map<String, String> fromByteTransparent(Map<String, String> metadata) {
+    Map<String, String> decoded = new HashMap<>(metadata.size());
+    metadata.forEach((key, value) -> decoded.put(fromByteTransparent(key), fromByteTransparent(value)));
+    return decoded;
+  }
+
+  private String toByteTransparent(String value) {
+    return value == null ? null : new String(value.getBytes(UTF_8), ISO_8859_1);
+  }
+
+  private String fromByteTransparent(String value) {
+    return value == null ? null : new String(value.getBytes(ISO_8859_1), UTF_8);
+  }
+}
@@ -8,31 +8,52 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
-import java.util.Base64;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
 import org.slf4j.MDC;
 
 @OwnedBy(PL)
@@ -40,7 +61,17 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  private static final String REDIS_PRODUCER_PUBLISH_LATENCY = "redis_producer_publish_latency";
+  private static final String REDIS_PRODUCER_BATCH_SIZE = "redis_producer_batch_size";
+  // Upper bound on the number of XADDs pipelined in one round trip, and on the time an async send waits for
+  // other concurrent senders to join its batch
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  private static final Duration DEFAULT_MAX_LINGER = Duration.ofMillis(5);
+  private static final long ENCODING_SETTINGS_REFRESH_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
   private RStream<String, String> stream;
+  private RStream<String, String> byteTransparentStream;
+  private RMap<String, String> encodingSettings;
+  private String streamName;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
@@ -51,6 +82,16 @@ public class RedisProducer extends AbstractProducer {
 
   private Retry retry;
 
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private Duration maxLinger = DEFAULT_MAX_LINGER;
+  private final BlockingQueue<PendingMessage> pendingMessages = new LinkedBlockingQueue<>();
+  private ExecutorService batchingExecutor;
+
+  // Payload format negotiated through the per topic encoding settings in redis
+  private volatile boolean binaryEncoding;
+  private volatile int compressionThreshold = RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD;
+  private volatile long nextEncodingSettingsRefresh;
+
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher) {
     super(topicName, producerName);
@@ -69,6 +110,9 @@ public class RedisProducer extends AbstractProducer {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.byteTransparentStream = RedisUtils.getByteTransparentStream(topicName, redissonClient, envNamespace);
+    this.encodingSettings = RedisUtils.getStreamEncodingSettings(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -80,14 +124,58 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  /**
+   * Pipelines the messages in chunks of maxBatchSize. When a pipeline fails only the messages it did not write are
+   * retried, but a write whose reply was lost is retried as well, so delivery is at least once.
+   */
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return Collections.emptyList();
+    }
+    boolean binary = isBinaryEncoding();
+    List<Map<String, String>> redisDataList = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      redisDataList.add(prepareRedisData(message, binary));
+    }
+    List<String> messageIds = new ArrayList<>(messages.size());
+    for (int start = 0; start < redisDataList.size(); start += maxBatchSize) {
+      List<Map<String, String>> chunk =
+          redisDataList.subList(start, Math.min(start + maxBatchSize, redisDataList.size()));
+      messageIds.addAll(handleBatch(chunk, binary));
+    }
+    return messageIds;
+  }
+
+  @Override
+  public CompletableFuture<String> sendAsync(Message message) {
+    boolean binary = isBinaryEncoding();
+    PendingMessage pendingMessage =
+        new PendingMessage(prepareRedisData(message, binary), binary, new CompletableFuture<>());
+    if (!enqueue(pendingMessage)) {
+      failPendingMessages(Collections.singletonList(pendingMessage));
+    }
+    return pendingMessage.getFuture();
+  }
+
+  /**
+   * Tunes the micro-batching used by {@link #sendBatch(List)} and {@link #sendAsync(Message)}. A linger of zero
+   * publishes whatever is queued as soon as the flusher wakes up.
+   */
+  public RedisProducer withBatching(int maxBatchSize, Duration maxLinger) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxLinger = maxLinger;
+    return this;
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      long startTime = System.currentTimeMillis();
+      boolean binary = isBinaryEncoding();
+      Map<String, String> redisData = prepareRedisData(message, binary);
 
-      StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
+      StreamMessageId messageId = (binary ? byteTransparentStream : stream).addAll(redisData, maxTopicSize, false);
+      recordPublishMetrics(message.getMetadataMap().get(ACCOUNT_IDENTIFIER_METRICS_KEY), 1, startTime);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
       log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, redisData,
           this.getTopicName());
@@ -98,6 +186,158 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  private Map<String, String> prepareRedisData(Message message, boolean binary) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    populateOtherProducerSpecificData(redisData);
+    if (binary) {
+      return RedisPayloadCodec.toBinaryEntry(redisData, message.getData().toByteArray(), compressionThreshold);
+    }
+    RedisPayloadCodec.putLegacyPayload(redisData, message.getData().toByteArray());
+    return redisData;
+  }
+
+  private boolean isBinaryEncoding() {
+    long currentTime = System.currentTimeMillis();
+    if (currentTime >= nextEncodingSettingsRefresh) {
+      nextEncodingSettingsRefresh = currentTime + ENCODING_SETTINGS_REFRESH_INTERVAL_MS;
+      refreshEncodingSettings();
+    }
+    return binaryEncoding;
+  }
+
+  private void refreshEncodingSettings() {
+    try {
+      Map<String, String> settings = encodingSettings.readAllMap();
+      boolean binary = RedisUtils.BINARY_STREAM_ENCODING_FORMAT.equals(
+          settings.get(RedisUtils.STREAM_ENCODING_FORMAT_KEY));
+      String threshold = settings.get(RedisUtils.STREAM_ENCODING_COMPRESSION_THRESHOLD_KEY);
+      compressionThreshold =
+          threshold == null ? RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD : Integer.parseInt(threshold);
+      if (binary != binaryEncoding) {
+        log.info("Switching payload encoding of topic {} to {}", getTopicName(), binary ? "binary" : "base64");
+      }
+      binaryEncoding = binary;
+    } catch (Exception ex) {
+      log.warn("Could not read the encoding settings of topic {}, keeping the current encoding", getTopicName(), ex);
+    }
+  }
+
+  // Only the messages without an id yet are sent, so a retry does not duplicate the ones a failed pipeline did write
+  private void sendBatchInternal(List<Map<String, String>> redisDataList, boolean binary, String[] messageIds) {
+    long startTime = System.currentTimeMillis();
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+    RStreamAsync<String, String> batchStream = batch.getStream(
+        streamName, binary ? RedisPayloadCodec.BYTE_TRANSPARENT_CODEC : new StringCodec("UTF-8"));
+    List<Integer> unsentIndexes = new ArrayList<>();
+    List<RFuture<StreamMessageId>> futures = new ArrayList<>();
+    for (int i = 0; i < redisDataList.size(); i++) {
+      if (messageIds[i] == null) {
+        unsentIndexes.add(i);
+        futures.add(batchStream.addAllAsync(redisDataList.get(i), maxTopicSize, false));
+      }
+    }
+    if (futures.isEmpty()) {
+      return;
+    }
+    try {
+      batch.execute();
+    } catch (Exception ex) {
+      log.warn("Exception occurred in sendBatchInternal", ex);
+      throw ex;
+    } finally {
+      for (int i = 0; i < futures.size(); i++) {
+        if (futures.get(i).isSuccess()) {
+          messageIds[unsentIndexes.get(i)] = futures.get(i).getNow().toString();
+        }
+      }
+    }
+    recordPublishMetrics(null, unsentIndexes.size(), startTime);
+    log.info("Events framework batch inserted - {} messages, messageIds: {}..{} in the topic: {}", unsentIndexes.size(),
+        messageIds[unsentIndexes.get(0)], messageIds[unsentIndexes.get(unsentIndexes.size() - 1)], this.getTopicName());
+  }
+
+  // Holds the lock taken by shutdown, so that a message is either rejected here or failed by the flusher
+  private synchronized boolean enqueue(PendingMessage pendingMessage) {
+    if (batchingExecutor == null) {
+      batchingExecutor = Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("redis-producer-batcher-" + getTopicName() + "-%d").build());
+      batchingExecutor.submit(this::drainPendingMessages);
+    } else if (batchingExecutor.isShutdown()) {
+      return false;
+    }
+    pendingMessages.add(pendingMessage);
+    return true;
+  }
+
+  private void drainPendingMessages() {
+    List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(pendingMessages.take());
+        long lingerDeadline = System.nanoTime() + maxLinger.toNanos();
+        while (batch.size() < maxBatchSize) {
+          long remaining = lingerDeadline - System.nanoTime();
+          PendingMessage next = remaining > 0 ? pendingMessages.poll(remaining, TimeUnit.NANOSECONDS) : null;
+          if (next == null) {
+            pendingMessages.drainTo(batch, maxBatchSize - batch.size());
+            break;
+          }
+          batch.add(next);
+        }
+        flushPendingMessages(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        batch.clear();
+      }
+    }
+    pendingMessages.drainTo(batch);
+    failPendingMessages(batch);
+  }
+
+  private void failPendingMessages(List<PendingMessage> batch) {
+    EventsFrameworkDownException exception =
+        new EventsFrameworkDownException("Producer for topic " + getTopicName() + " is shut down");
+    batch.forEach(pendingMessage -> pendingMessage.getFuture().completeExceptionally(exception));
+  }
+
+  private void flushPendingMessages(List<PendingMessage> batch) {
+    // Messages enqueued around an encoding switch can use different codecs, each goes out in its own pipeline
+    Map<Boolean, List<PendingMessage>> batchesByEncoding =
+        batch.stream().collect(Collectors.partitioningBy(PendingMessage::isBinary));
+    batchesByEncoding.forEach((binary, messages) -> {
+      if (messages.isEmpty()) {
+        return;
+      }
+      List<Map<String, String>> redisDataList = new ArrayList<>(messages.size());
+      messages.forEach(pendingMessage -> redisDataList.add(pendingMessage.getRedisData()));
+      try {
+        List<String> messageIds = handleBatch(redisDataList, binary);
+        for (int i = 0; i < messages.size(); i++) {
+          messages.get(i).getFuture().complete(messageIds.get(i));
+        }
+      } catch (Exception ex) {
+        messages.forEach(pendingMessage -> pendingMessage.getFuture().completeExceptionally(ex));
+      }
+    });
+  }
+
+  private void recordPublishMetrics(String accountId, int batchSize, long startTime) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      RedisEventMetricDTO metricDTO =
+          RedisEventMetricDTO.builder().accountId(accountId).streamName(getTopicName()).build();
+      redisEventMetricPublisher.recordDurationWithEventContext(
+          metricDTO, REDIS_PRODUCER_PUBLISH_LATENCY, Duration.ofMillis(System.currentTimeMillis() - startTime));
+      redisEventMetricPublisher.recordMetricWithEventContext(metricDTO, REDIS_PRODUCER_BATCH_SIZE, batchSize);
+    } catch (Exception ex) {
+      log.warn("Error while sending publish metrics for redis producer :", ex);
+    }
+  }
+
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     redisData.put(PRODUCER, this.getProducerName());
   }
@@ -115,8 +355,33 @@ public class RedisProducer extends AbstractProducer {
         .get();
   }
 
+  private List<String> handleBatch(List<Map<String, String>> redisDataList, boolean binary) {
+    String[] messageIds = new String[redisDataList.size()];
+    Supplier<List<String>> sendBatchSupplier = () -> {
+      sendBatchInternal(redisDataList, binary, messageIds);
+      return Arrays.asList(messageIds);
+    };
+
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, sendBatchSupplier);
+
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
   @Override
   public void shutdown() {
+    synchronized (this) {
+      // The flusher fails the queued messages when it stops, unless it never got to run
+      if (batchingExecutor != null && !batchingExecutor.shutdownNow().isEmpty()) {
+        List<PendingMessage> queuedMessages = new ArrayList<>();
+        pendingMessages.drainTo(queuedMessages);
+        failPendingMessages(queuedMessages);
+      }
+    }
     redissonClient.shutdown();
   }
 
@@ -134,6 +399,13 @@ public class RedisProducer extends AbstractProducer {
     }
   }
 
+  @Value
+  private static class PendingMessage {
+    Map<String, String> redisData;
+    boolean binary;
+    CompletableFuture<String> future;
+  }
+
   private void addTraceId(Map<String, String> redisData) {
     try {
       if (!Span.getInvalid().equals(Span.current())) {
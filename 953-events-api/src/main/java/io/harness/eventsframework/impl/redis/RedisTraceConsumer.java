@@ -7,9 +7,12 @@
 
 package io.harness.eventsframework.impl.redis;
 
+import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.logging.AutoLogContext;
 
+import java.util.List;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -26,5 +29,20 @@ public abstract class RedisTraceConsumer implements Runnable {
     }
   }
 
+  /**
+   * Processes the batch on the given processor, keeping messages with the same ordering key in order, and then
+   * acknowledges every successfully processed message with a single call.
+   */
+  protected void handleMessagesInParallel(
+      Consumer redisConsumer, List<Message> messages, KeyOrderedMessageProcessor messageProcessor) {
+    handleMessagesInParallel(redisConsumer, messages, messageProcessor, this::handleMessage);
+  }
+
+  protected void handleMessagesInParallel(Consumer redisConsumer, List<Message> messages,
+      KeyOrderedMessageProcessor messageProcessor, Predicate<Message> messageHandler) {
+    List<String> processedMessageIds = messageProcessor.process(messages, messageHandler);
+    redisConsumer.acknowledgeAll(processedMessageIds);
+  }
+
   protected abstract boolean processMessage(Message message);
 }
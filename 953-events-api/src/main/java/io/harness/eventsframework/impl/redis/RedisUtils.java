@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import lombok.experimental.UtilityClass;
+import org.redisson.api.RMap;
 import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
@@ -37,6 +38,11 @@ public class RedisUtils {
   public static final String REDIS_STREAM_TRACE_ID_KEY = "trace_id";
   public static final int MAX_DEAD_LETTER_QUEUE_SIZE = 50000;
   public static final int UNACKED_RETRY_COUNT = 10;
+  // Per topic hash holding the payload format producers should use, consumers read every format
+  public static final String STREAM_ENCODING_SETTINGS_SUFFIX = ":encoding";
+  public static final String STREAM_ENCODING_FORMAT_KEY = "format";
+  public static final String STREAM_ENCODING_COMPRESSION_THRESHOLD_KEY = "compressionThreshold";
+  public static final String BINARY_STREAM_ENCODING_FORMAT = "binary";
 
   public Timestamp getMessageTimestamp(String messageId) {
     return fromMillis(parseLong(messageId.split("-")[0]));
@@ -51,6 +57,26 @@ public class RedisUtils {
     return getStream(deadLetterStreamName, client, envNamespace);
   }
 
+  /**
+   * Stream view which can read entries in both the legacy and the binary payload format, see {@link
+   * RedisPayloadCodec}. Entries read through it must be converted with {@link #getMessageObject(Map)}.
+   */
+  public RStream<String, String> getByteTransparentStream(
+      String topicName, RedissonClient client, String envNamespace) {
+    return client.getStream(getStreamName(envNamespace, topicName), RedisPayloadCodec.BYTE_TRANSPARENT_CODEC);
+  }
+
+  public RStream<String, String> getByteTransparentDeadLetterStream(
+      String topicName, RedissonClient client, String envNamespace) {
+    String deadLetterStreamName = "deadletter_queue:" + topicName;
+    return getByteTransparentStream(deadLetterStreamName, client, envNamespace);
+  }
+
+  public RMap<String, String> getStreamEncodingSettings(String topicName, RedissonClient client, String envNamespace) {
+    return client.getMap(
+        getStreamName(envNamespace, topicName) + STREAM_ENCODING_SETTINGS_SUFFIX, new StringCodec("UTF-8"));
+  }
+
   public String getStreamName(String envNamespace, String topicName) {
     return (envNamespace.isEmpty() ? "" : envNamespace + ":") + "streams:" + topicName;
   }
@@ -90,11 +116,14 @@ public class RedisUtils {
   }
 
   public Message getConsumerMessageObject(StreamMessageId messageId, Map<String, String> messageMap) {
-    String messageData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
+    byte[] messageData = RedisPayloadCodec.extractPayload(messageMap);
 
     return Message.newBuilder()
         .setId(messageId.toString())
-        .setMessage(getProducedMessage(messageData, messageMap))
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .setData(ByteString.copyFrom(messageData))
+                        .putAllMetadata(RedisPayloadCodec.fromByteTransparent(messageMap))
+                        .build())
         .setTimestamp(RedisUtils.getMessageTimestamp(messageId.toString()))
         .build();
   }
@@ -14,6 +14,7 @@ import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
+import java.time.Duration;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,4 +29,17 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  public void recordMetricWithEventContext(RedisEventMetricDTO redisEventMetricDTO, String metricName, double value) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void recordDurationWithEventContext(
+      RedisEventMetricDTO redisEventMetricDTO, String metricName, Duration duration) {
+    try (RedisEventMetricContext context = new RedisEventMetricContext(redisEventMetricDTO)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
 }
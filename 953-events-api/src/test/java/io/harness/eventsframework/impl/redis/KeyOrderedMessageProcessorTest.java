@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ORDERING_KEY;
+import static io.harness.rule.OwnerRule.ANKUSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class KeyOrderedMessageProcessorTest extends CategoryTest {
+  private static final Duration MAX_BLOCKED_TIME = Duration.ofMinutes(10);
+
+  private Clock clock;
+  private KeyOrderedMessageProcessor processor;
+  private Map<String, List<String>> handledMessageIds;
+  private Set<String> failingMessageIds;
+
+  @Before
+  public void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(0L);
+    processor = new KeyOrderedMessageProcessor(
+        "test", 4, KeyOrderedMessageProcessor::getDefaultOrderingKey, MAX_BLOCKED_TIME, clock);
+    handledMessageIds = new ConcurrentHashMap<>();
+    failingMessageIds = ConcurrentHashMap.newKeySet();
+  }
+
+  @After
+  public void tearDown() {
+    processor.shutdown();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testMessagesOfAKeyAreProcessedInOrder() {
+    List<String> processed = process(message("1-0", "a"), message("2-0", "b"), message("3-0", "a"),
+        message("4-0", "b"), message("5-0", "a"));
+
+    assertThat(processed).containsExactly("1-0", "2-0", "3-0", "4-0", "5-0");
+    assertThat(handledMessageIds.get("a")).containsExactly("1-0", "3-0", "5-0");
+    assertThat(handledMessageIds.get("b")).containsExactly("2-0", "4-0");
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testFailureSkipsTheRestOfTheKeyOnly() {
+    failingMessageIds.add("1-0");
+
+    List<String> processed = process(message("1-0", "a"), message("2-0", "b"), message("3-0", "a"));
+
+    assertThat(processed).containsExactly("2-0");
+    assertThat(handledMessageIds.get("a")).isNull();
+    assertThat(processor.isBlocked("a")).isTrue();
+    assertThat(processor.isBlocked("b")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testNewerMessagesAreHeldBackUntilThePendingOnesAreRedelivered() {
+    failingMessageIds.add("1-0");
+    assertThat(process(message("1-0", "a"), message("2-0", "a"))).isEmpty();
+
+    // New messages are read before the pending ones are reclaimed
+    assertThat(process(message("3-0", "a"), message("4-0", "b"))).containsExactly("4-0");
+    assertThat(processor.isBlocked("a")).isTrue();
+
+    // A reclaim which does not start with the oldest pending message keeps the key blocked
+    failingMessageIds.clear();
+    assertThat(process(message("2-0", "a"), message("3-0", "a"))).isEmpty();
+
+    assertThat(process(message("1-0", "a"), message("2-0", "a"), message("3-0", "a")))
+        .containsExactly("1-0", "2-0", "3-0");
+    assertThat(handledMessageIds.get("a")).containsExactly("1-0", "2-0", "3-0");
+    assertThat(processor.isBlocked("a")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testKeyIsReleasedWhenItsPendingMessagesDoNotComeBack() {
+    failingMessageIds.add("1-0");
+    assertThat(process(message("1-0", "a"))).isEmpty();
+
+    when(clock.millis()).thenReturn(MAX_BLOCKED_TIME.toMillis());
+    assertThat(process(message("2-0", "a"))).isEmpty();
+
+    when(clock.millis()).thenReturn(MAX_BLOCKED_TIME.toMillis() + 1);
+    assertThat(process(message("3-0", "a"))).containsExactly("3-0");
+    assertThat(processor.isBlocked("a")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testOrderingKeys() {
+    Message orderedMessage = message("1-0", "a");
+    Message entityMessage =
+        Message.newBuilder()
+            .setId("2-0")
+            .setMessage(io.harness.eventsframework.producer.Message.newBuilder().putAllMetadata(
+                ImmutableMap.of(ACCOUNT_IDENTIFIER_METRICS_KEY, "account", ENTITY_TYPE, "USER_GROUP")))
+            .build();
+
+    assertThat(KeyOrderedMessageProcessor.getDefaultOrderingKey(orderedMessage)).isEqualTo("a");
+    assertThat(KeyOrderedMessageProcessor.getDefaultOrderingKey(entityMessage)).isEqualTo("account/USER_GROUP");
+    assertThat(KeyOrderedMessageProcessor.getDefaultOrderingKey(Message.newBuilder().setId("3-0").build()))
+        .isEqualTo("3-0");
+    assertThat(KeyOrderedMessageProcessor.getEntityOrderingKey(entityMessage, "account", "", "", "admins"))
+        .isEqualTo("USER_GROUP/account///admins");
+  }
+
+  private List<String> process(Message... messages) {
+    return processor.process(Arrays.asList(messages), message -> {
+      if (failingMessageIds.contains(message.getId())) {
+        return false;
+      }
+      handledMessageIds
+          .computeIfAbsent(message.getMessage().getMetadataMap().get(ORDERING_KEY),
+              key -> Collections.synchronizedList(new ArrayList<>()))
+          .add(message.getId());
+      return true;
+    });
+  }
+
+  private static Message message(String id, String orderingKey) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder().putMetadata(ORDERING_KEY, orderingKey))
+        .build();
+  }
+}
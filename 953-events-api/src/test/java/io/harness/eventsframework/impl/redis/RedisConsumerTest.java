@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ANKUSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+
+@OwnedBy(PL)
+public class RedisConsumerTest extends CategoryTest {
+  private static final Duration MAX_PROCESSING_TIME = Duration.ofSeconds(60);
+  private static final int BATCH_SIZE = 2;
+
+  private RStream<Object, Object> stream;
+  private RStreamAsync<Object, Object> batchStream;
+  private Clock clock;
+  private RedisConsumer consumer;
+  // The pending entries list of the group, in stream order
+  private List<PendingEntry> pendingEntries;
+  private List<StreamMessageId> listPendingStartIds;
+  private List<Long> listPendingTimes;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    batchStream = mock(RStreamAsync.class);
+    RBatch batch = mock(RBatch.class);
+    when(redissonClient.getStream(anyString(), any())).thenReturn(stream);
+    when(redissonClient.createBatch(any())).thenReturn(batch);
+    when(batch.getStream(anyString(), any())).thenReturn(batchStream);
+    when(stream.getName()).thenReturn("streams:topic");
+
+    pendingEntries = new ArrayList<>();
+    listPendingStartIds = new ArrayList<>();
+    listPendingTimes = new ArrayList<>();
+    when(stream.listPending(anyString(), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenAnswer(invocation -> {
+          StreamMessageId startId = invocation.getArgument(1);
+          listPendingStartIds.add(startId);
+          listPendingTimes.add(clock.millis());
+          return pendingEntries.stream()
+              .filter(entry -> startId == StreamMessageId.MIN || compare(entry.getId(), startId) >= 0)
+              .limit((int) invocation.getArgument(3))
+              .collect(Collectors.toList());
+        });
+    when(stream.claim(anyString(), anyString(), anyLong(), any(), any())).thenAnswer(invocation -> {
+      Map<StreamMessageId, Map<String, String>> claimed = new LinkedHashMap<>();
+      for (Object argument : invocation.getArguments()) {
+        if (argument instanceof StreamMessageId) {
+          Map<String, String> entry = new HashMap<>();
+          RedisPayloadCodec.putLegacyPayload(entry, argument.toString().getBytes());
+          claimed.put((StreamMessageId) argument, entry);
+        }
+      }
+      return claimed;
+    });
+
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(0L);
+    consumer = RedisConsumer.of("topic", "group", redissonClient, MAX_PROCESSING_TIME, BATCH_SIZE, "");
+    consumer.setClock(clock);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testReclaimContinuesFromItsCursorAndWrapsAround() {
+    addPendingEntry(1, MAX_PROCESSING_TIME.toMillis(), 1);
+    addPendingEntry(2, MAX_PROCESSING_TIME.toMillis(), 1);
+    addPendingEntry(3, MAX_PROCESSING_TIME.toMillis(), 1);
+
+    assertThat(readIds(0)).containsExactly("1-0", "2-0");
+    // Not due yet, the poll only reads new messages
+    assertThat(readIds(1000)).isEmpty();
+    assertThat(readIds(5000)).containsExactly("3-0");
+    assertThat(readIds(10000)).containsExactly("1-0", "2-0");
+
+    assertThat(listPendingStartIds)
+        .containsExactly(StreamMessageId.MIN, new StreamMessageId(2, 1), StreamMessageId.MIN);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testReclaimBacksOffWhileNothingIsIdle() {
+    addPendingEntry(1, 0, 1);
+
+    for (long second = 0; second < 260; second++) {
+      if (second == 200) {
+        pendingEntries.set(0, new PendingEntry(new StreamMessageId(1, 0), "consumer", Long.MAX_VALUE, 1));
+      }
+      readIds(second * 1000);
+    }
+
+    // The interval doubles up to maxProcessingTime, and drops back to the minimum once an idle entry shows up
+    assertThat(listPendingTimes).containsExactly(0L, 10000L, 30000L, 70000L, 130000L, 190000L, 250000L, 255000L);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testDeadLetteredMessagesAreNotReturned() {
+    addPendingEntry(1, MAX_PROCESSING_TIME.toMillis(), RedisUtils.UNACKED_RETRY_COUNT);
+    addPendingEntry(2, MAX_PROCESSING_TIME.toMillis(), 1);
+
+    assertThat(readIds(0)).containsExactly("2-0");
+
+    ArgumentCaptor<Map> deadLetterCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(batchStream).addAllAsync(deadLetterCaptor.capture(), anyInt(), anyBoolean());
+    assertThat(deadLetterCaptor.getValue()).containsEntry("prevMessageId", "1-0");
+    verify(batchStream).ackAsync(eq("group"), eq(new StreamMessageId(1, 0)));
+  }
+
+  private List<String> readIds(long currentTime) {
+    when(clock.millis()).thenReturn(currentTime);
+    return consumer.read(Duration.ofMillis(10)).stream().map(Message::getId).collect(Collectors.toList());
+  }
+
+  private void addPendingEntry(long id, long idleTime, long deliveries) {
+    pendingEntries.add(new PendingEntry(new StreamMessageId(id, 0), "consumer", idleTime, deliveries));
+  }
+
+  private static int compare(StreamMessageId first, StreamMessageId second) {
+    int result = Long.compare(first.getId0(), second.getId0());
+    return result != 0 ? result : Long.compare(first.getId1(), second.getId1());
+  }
+}
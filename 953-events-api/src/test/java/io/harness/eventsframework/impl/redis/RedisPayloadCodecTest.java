@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.rule.OwnerRule.ANKUSH;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class RedisPayloadCodecTest extends CategoryTest {
+  private static final Map<String, String> METADATA = ImmutableMap.of("accountId", "account", "entityType",
+      "USER_GROUP", "name", "Gr\u00fc\u00dfe \u65e5\u672c \ud83d\ude80");
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testLegacyEntryReadThroughTheByteTransparentCodec() {
+    byte[] payload = "payload with non ascii: \u00e9 \u65e5\u672c \ud83d\ude80".getBytes(UTF_8);
+    Map<String, String> redisData = new HashMap<>(METADATA);
+    RedisPayloadCodec.putLegacyPayload(redisData, payload);
+
+    // Legacy producers write through a UTF-8 codec, consumers read through the byte transparent one
+    Map<String, String> readData = throughRedis(redisData, UTF_8, ISO_8859_1);
+
+    assertThat(RedisPayloadCodec.extractPayload(readData)).isEqualTo(payload);
+    assertThat(RedisPayloadCodec.fromByteTransparent(readData)).isEqualTo(METADATA);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testBinaryEntryKeepsEveryByte() {
+    byte[] payload = new byte[256];
+    for (int i = 0; i < payload.length; i++) {
+      payload[i] = (byte) i;
+    }
+    Map<String, String> redisData = RedisPayloadCodec.toBinaryEntry(METADATA, payload, -1);
+    assertThat(redisData).containsEntry(RedisPayloadCodec.PAYLOAD_ENCODING_KEY, RedisPayloadCodec.BINARY_ENCODING);
+
+    Map<String, String> readData = throughRedis(redisData, ISO_8859_1, ISO_8859_1);
+
+    assertThat(RedisPayloadCodec.extractPayload(readData)).isEqualTo(payload);
+    assertThat(RedisPayloadCodec.fromByteTransparent(readData)).isEqualTo(METADATA);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testLargePayloadIsCompressed() {
+    StringBuilder text = new StringBuilder();
+    while (text.length() < 2 * RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD) {
+      text.append("Gr\u00fc\u00dfe aus dem Log, line ").append(text.length()).append('\n');
+    }
+    byte[] payload = text.toString().getBytes(UTF_8);
+    Map<String, String> redisData =
+        RedisPayloadCodec.toBinaryEntry(METADATA, payload, RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD);
+    assertThat(redisData)
+        .containsEntry(RedisPayloadCodec.PAYLOAD_ENCODING_KEY, RedisPayloadCodec.BINARY_LZ4_ENCODING)
+        .containsEntry(RedisPayloadCodec.PAYLOAD_LENGTH_KEY, String.valueOf(payload.length));
+    assertThat(redisData.get(REDIS_STREAM_INTERNAL_KEY).length()).isLessThan(payload.length);
+
+    Map<String, String> readData = throughRedis(redisData, ISO_8859_1, ISO_8859_1);
+
+    assertThat(RedisPayloadCodec.extractPayload(readData)).isEqualTo(payload);
+    assertThat(RedisPayloadCodec.fromByteTransparent(readData)).isEqualTo(METADATA);
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testPayloadIsNotCompressedWhenItDoesNotHelp() {
+    byte[] smallPayload = "small".getBytes(UTF_8);
+    assertThat(RedisPayloadCodec.toBinaryEntry(METADATA, smallPayload, RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD))
+        .containsEntry(RedisPayloadCodec.PAYLOAD_ENCODING_KEY, RedisPayloadCodec.BINARY_ENCODING);
+
+    byte[] randomPayload = new byte[2 * RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD];
+    new Random(42).nextBytes(randomPayload);
+    Map<String, String> redisData =
+        RedisPayloadCodec.toBinaryEntry(METADATA, randomPayload, RedisPayloadCodec.DEFAULT_COMPRESSION_THRESHOLD);
+    assertThat(redisData).containsEntry(RedisPayloadCodec.PAYLOAD_ENCODING_KEY, RedisPayloadCodec.BINARY_ENCODING);
+    assertThat(RedisPayloadCodec.extractPayload(throughRedis(redisData, ISO_8859_1, ISO_8859_1)))
+        .isEqualTo(randomPayload);
+  }
+
+  // Stores the entry as the bytes the writing codec produces and decodes them with the reading codec
+  private static Map<String, String> throughRedis(Map<String, String> redisData, Charset write, Charset read) {
+    Map<String, String> readData = new HashMap<>();
+    redisData.forEach(
+        (key, value) -> readData.put(new String(key.getBytes(write), read), new String(value.getBytes(write), read)));
+    return readData;
+  }
+}
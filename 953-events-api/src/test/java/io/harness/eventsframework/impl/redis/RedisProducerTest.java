@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ANKUSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+
+@OwnedBy(PL)
+public class RedisProducerTest extends CategoryTest {
+  private static final String SEQUENCE_KEY = "sequence";
+
+  private RedissonClient redissonClient;
+  private RBatch batch;
+  private RedisProducer producer;
+  private List<String> addedSequences;
+  private Set<String> failingSequences;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    batch = mock(RBatch.class);
+    RStreamAsync<Object, Object> batchStream = mock(RStreamAsync.class);
+    when(redissonClient.getStream(anyString(), any())).thenReturn(mock(RStream.class));
+    when(redissonClient.getMap(anyString(), any())).thenReturn(mock(RMap.class));
+    when(redissonClient.createBatch(any())).thenReturn(batch);
+    when(batch.getStream(anyString(), any())).thenReturn(batchStream);
+
+    addedSequences = new ArrayList<>();
+    failingSequences = ConcurrentHashMap.newKeySet();
+    AtomicLong nextId = new AtomicLong(1);
+    when(batchStream.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenAnswer(invocation -> {
+      String sequence = ((Map<String, String>) invocation.getArgument(0)).get(SEQUENCE_KEY);
+      addedSequences.add(sequence);
+      RFuture<StreamMessageId> future = mock(RFuture.class);
+      if (!failingSequences.remove(sequence)) {
+        when(future.isSuccess()).thenReturn(true);
+        when(future.getNow()).thenReturn(new StreamMessageId(nextId.getAndIncrement(), 0));
+      }
+      return future;
+    });
+    producer = RedisProducer.of("topic", redissonClient, 1000, "producer", "");
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testSendBatchPipelinesChunksAndKeepsTheOrder() {
+    producer.withBatching(2, Duration.ZERO);
+
+    List<String> messageIds = producer.sendBatch(Arrays.asList(message("a"), message("b"), message("c")));
+
+    assertThat(messageIds).containsExactly("1-0", "2-0", "3-0");
+    assertThat(addedSequences).containsExactly("a", "b", "c");
+    verify(batch, times(2)).execute();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testSendBatchRetriesOnlyTheMessagesNotWritten() {
+    failingSequences.add("b");
+    when(batch.execute()).thenThrow(new RedisException("failed")).thenReturn(null);
+
+    List<String> messageIds = producer.sendBatch(Arrays.asList(message("a"), message("b"), message("c")));
+
+    assertThat(messageIds).containsExactly("1-0", "3-0", "2-0");
+    assertThat(addedSequences).containsExactly("a", "b", "c", "b");
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testSendAsyncCoalescesConcurrentMessages() throws Exception {
+    producer.withBatching(10, Duration.ofMillis(500));
+
+    List<CompletableFuture<String>> futures =
+        Arrays.asList(producer.sendAsync(message("a")), producer.sendAsync(message("b")));
+
+    assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1-0");
+    assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("2-0");
+    verify(batch, times(1)).execute();
+    producer.shutdown();
+  }
+
+  @Test
+  @Owner(developers = ANKUSH)
+  @Category(UnitTests.class)
+  public void testSendAsyncFailsAfterShutdown() throws Exception {
+    producer.withBatching(10, Duration.ZERO);
+    assertThat(producer.sendAsync(message("a")).get(5, TimeUnit.SECONDS)).isEqualTo("1-0");
+
+    producer.shutdown();
+
+    CompletableFuture<String> future = producer.sendAsync(message("b"));
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(EventsFrameworkDownException.class);
+    assertThat(addedSequences).containsExactly("a");
+  }
+
+  private static Message message(String sequence) {
+    return Message.newBuilder()
+        .putMetadata(SEQUENCE_KEY, sequence)
+        .setData(ByteString.copyFromUtf8("payload " + sequence))
+        .build();
+  }
+}
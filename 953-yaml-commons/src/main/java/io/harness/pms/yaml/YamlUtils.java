@@ -21,7 +21,9 @@ import io.harness.serializer.AnnotationAwareJsonSubtypeResolver;
 import io.harness.utils.YamlPipelineUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -36,7 +38,11 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.serializer.jackson.NGHarnessJacksonModule;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -45,6 +51,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -54,7 +61,20 @@ public class YamlUtils {
 
   private static final List<String> ignorableStringForQualifiedName = Arrays.asList("step", "parallel");
 
+  // Rough heap sizes on a 64 bit JVM with compressed oops, used to weigh the cached trees
+  private static final long STRING_OVERHEAD = 56;
+  private static final long OBJECT_NODE_OVERHEAD = 64;
+  private static final long OBJECT_FIELD_OVERHEAD = 48;
+  private static final long ARRAY_NODE_OVERHEAD = 32;
+  private static final long ARRAY_ELEMENT_OVERHEAD = 8;
+  private static final long VALUE_NODE_OVERHEAD = 24;
+  private static final CacheStats EMPTY_CACHE_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
   private final ObjectMapper mapper;
+  // Trees parsed by the mapper above, keyed by the yaml text. They are never handed out, only copies of them are.
+  // Null unless the service enabled the cache with configureTreeCache.
+  private static volatile Cache<String, JsonNode> treeCache;
+  private static final AtomicLong parseCount = new AtomicLong();
   public static final ObjectMapper NG_DEFAULT_OBJECT_MAPPER =
       configureObjectMapperForNG(new ObjectMapper(new YAMLFactory()));
 
@@ -94,27 +114,169 @@ public class YamlUtils {
   }
 
   public YamlField readTree(String content) throws IOException {
-    return readTreeInternal(content, mapper);
+    return new YamlField(new YamlNode(readJsonTree(content)));
   }
 
   public YamlField tryReadTree(String content) {
     try {
-      return readTreeInternal(content, mapper);
+      return readTree(content);
     } catch (Exception ex) {
       throw new InvalidRequestException("Invalid yaml", ex);
     }
   }
 
   public YamlField readTreeWithDefaultObjectMapper(String content) throws IOException {
-    return readTreeInternal(content, NG_DEFAULT_OBJECT_MAPPER);
-  }
-
-  private YamlField readTreeInternal(String content, ObjectMapper objectMapper) throws IOException {
-    JsonNode rootJsonNode = objectMapper.readTree(content);
+    parseCount.incrementAndGet();
+    JsonNode rootJsonNode = NG_DEFAULT_OBJECT_MAPPER.readTree(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
 
+  /**
+   * Returns a private copy of the tree of the given yaml, which the caller is free to modify. The yaml is parsed only
+   * if its tree is not cached yet, copying a cached tree is much cheaper than parsing the text again.
+   */
+  private JsonNode readJsonTree(String content) throws IOException {
+    Cache<String, JsonNode> cache = treeCache;
+    if (cache == null) {
+      parseCount.incrementAndGet();
+      return mapper.readTree(content);
+    }
+    JsonNode tree = content == null ? null : cache.getIfPresent(content);
+    if (tree == null) {
+      parseCount.incrementAndGet();
+      tree = mapper.readTree(content);
+      if (tree == null) {
+        return null;
+      }
+      cache.put(content, tree);
+    }
+    return tree.deepCopy();
+  }
+
+  /**
+   * Reads only the field at the given path of field names, skipping over the rest of the yaml without building nodes
+   * for it. Meant for callers which need a single subtree, like the template or a stage. The returned field has no
+   * parent node, callers which need qualified names should use {@link #readTree(String)} instead. Returns null if the
+   * path does not exist or its value is null.
+   */
+  public YamlField readField(String content, String... fieldPath) throws IOException {
+    String fieldName = fieldPath.length == 0 ? null : fieldPath[fieldPath.length - 1];
+    Cache<String, JsonNode> cache = treeCache;
+    JsonNode cachedTree = cache == null ? null : cache.getIfPresent(content);
+    if (cachedTree != null) {
+      JsonNode node = cachedTree;
+      for (String pathElement : fieldPath) {
+        node = node.isObject() ? node.get(pathElement) : null;
+        if (node == null) {
+          return null;
+        }
+      }
+      return node.isNull() ? null : new YamlField(new YamlNode(fieldName, node.deepCopy()));
+    }
+
+    try (JsonParser parser = mapper.getFactory().createParser(content)) {
+      parser.nextToken();
+      for (String pathElement : fieldPath) {
+        if (!moveToFieldValue(parser, pathElement)) {
+          return null;
+        }
+      }
+      parseCount.incrementAndGet();
+      JsonNode node = mapper.readTree(parser);
+      return node == null || node.isNull() ? null : new YamlField(new YamlNode(fieldName, node));
+    }
+  }
+
+  private boolean moveToFieldValue(JsonParser parser, String fieldName) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String currentFieldName = parser.getCurrentName();
+      parser.nextToken();
+      if (fieldName.equals(currentFieldName)) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /**
+   * Number of times yaml text has been parsed into a tree since the service started, cache hits are not counted.
+   */
+  public long getParseCount() {
+    return parseCount.get();
+  }
+
+  /**
+   * Enables the process wide cache of parsed trees, for services which parse the same yaml many times. The cache is
+   * bounded by the estimated heap used by the cached yaml texts and their trees. A maximum weight of 0 or less disables
+   * it, which is the default. Replacing the cache drops the trees cached so far.
+   */
+  public void configureTreeCache(long maximumWeightInBytes) {
+    if (maximumWeightInBytes <= 0) {
+      treeCache = null;
+      return;
+    }
+    treeCache = CacheBuilder.newBuilder()
+                    .maximumWeight(maximumWeightInBytes)
+                    .weigher((String content, JsonNode tree) -> estimateTreeCacheWeight(content, tree))
+                    .recordStats()
+                    .build();
+  }
+
+  public boolean isTreeCacheEnabled() {
+    return treeCache != null;
+  }
+
+  public CacheStats getTreeCacheStats() {
+    Cache<String, JsonNode> cache = treeCache;
+    return cache == null ? EMPTY_CACHE_STATS : cache.stats();
+  }
+
+  public long getTreeCacheSize() {
+    Cache<String, JsonNode> cache = treeCache;
+    return cache == null ? 0 : cache.size();
+  }
+
+  public void invalidateTreeCache() {
+    Cache<String, JsonNode> cache = treeCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  private int estimateTreeCacheWeight(String content, JsonNode tree) {
+    long weight = STRING_OVERHEAD + 2L * content.length() + estimateNodeWeight(tree);
+    return (int) Math.min(Integer.MAX_VALUE, weight);
+  }
+
+  @VisibleForTesting
+  long estimateNodeWeight(JsonNode node) {
+    if (node.isObject()) {
+      long weight = OBJECT_NODE_OVERHEAD;
+      for (Iterator<Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+        Entry<String, JsonNode> field = fields.next();
+        weight += OBJECT_FIELD_OVERHEAD + STRING_OVERHEAD + 2L * field.getKey().length()
+            + estimateNodeWeight(field.getValue());
+      }
+      return weight;
+    }
+    if (node.isArray()) {
+      long weight = ARRAY_NODE_OVERHEAD;
+      for (JsonNode element : node) {
+        weight += ARRAY_ELEMENT_OVERHEAD + estimateNodeWeight(element);
+      }
+      return weight;
+    }
+    if (node.isTextual()) {
+      return VALUE_NODE_OVERHEAD + STRING_OVERHEAD + 2L * node.textValue().length();
+    }
+    return VALUE_NODE_OVERHEAD;
+  }
+
   public YamlField readTree(Object obj, String currentFieldName, YamlNode parentNode) {
     try {
       JsonNode currentJsonNode = mapper.valueToTree(obj);
@@ -126,7 +288,7 @@ public class YamlUtils {
   }
 
   public YamlField toByteString(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     YamlNode rootYamlNode = new YamlNode(rootJsonNode);
     return new YamlField(rootYamlNode);
   }
@@ -163,7 +325,7 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidWithLeafUuid(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
@@ -249,7 +411,7 @@ public class YamlUtils {
 
   // TODO (prashant) : Re-evaluate can we do better
   public String injectUuidWithType(String content, String name) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
@@ -266,7 +428,7 @@ public class YamlUtils {
   }
 
   public YamlField injectUuidInYamlField(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
+    JsonNode rootJsonNode = readJsonTree(content);
     if (rootJsonNode == null) {
       return null;
     }
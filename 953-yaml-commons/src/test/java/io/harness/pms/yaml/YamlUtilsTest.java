@@ -832,4 +832,76 @@ public class YamlUtilsTest extends CategoryTest {
     assertThat(YamlUtils.read("\"\"", LinkedHashMap.class)).isNull();
     assertThat(YamlUtils.read("\"\"", ArrayList.class)).isEmpty();
   }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testReadTreeParsesOnceAndReturnsPrivateCopies() throws IOException {
+    String yaml = "pipeline:\n  identifier: cachedPipeline\n  stages: []\n";
+    YamlUtils.configureTreeCache(1024 * 1024);
+    try {
+      long parseCount = YamlUtils.getParseCount();
+
+      YamlField first = YamlUtils.readTree(yaml);
+      YamlUtils.setStringValueForField("identifier", "changed", first.getNode().getField("pipeline"));
+      YamlField second = YamlUtils.readTree(yaml);
+      YamlField withUuids = YamlUtils.injectUuidInYamlField(yaml);
+
+      assertThat(YamlUtils.getParseCount() - parseCount).isEqualTo(1);
+      assertThat(second.getNode().getField("pipeline").getNode().getIdentifier()).isEqualTo("cachedPipeline");
+      assertThat(withUuids.getNode().getUuid()).isNotNull();
+      assertThat(YamlUtils.readTree(yaml).getNode().getUuid()).isNull();
+    } finally {
+      YamlUtils.configureTreeCache(0);
+    }
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testTreeCacheIsOptIn() throws IOException {
+    String yaml = "pipeline:\n  identifier: uncachedPipeline\n";
+    assertThat(YamlUtils.isTreeCacheEnabled()).isFalse();
+    long parseCount = YamlUtils.getParseCount();
+
+    YamlUtils.readTree(yaml);
+    YamlUtils.readTree(yaml);
+
+    assertThat(YamlUtils.getParseCount() - parseCount).isEqualTo(2);
+    assertThat(YamlUtils.getTreeCacheSize()).isZero();
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testTreeWeightIsEstimatedFromTheNodes() throws IOException {
+    String yaml = "pipeline:\n  identifier: weighedPipeline\n  tags:\n    - a\n    - b\n  timeout: 10\n";
+    long weight = YamlUtils.estimateNodeWeight(YamlUtils.readTree(yaml).getNode().getCurrJsonNode());
+
+    // Every node and field name costs its own objects, several times the length of the yaml text
+    assertThat(weight).isGreaterThan(4L * yaml.length());
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testReadField() throws IOException {
+    String yaml = "template:\n  name: t1\n  spec:\n    type: Http\nother:\n  - a\n";
+
+    YamlField specField = YamlUtils.readField(yaml, "template", "spec");
+    assertThat(specField.getName()).isEqualTo("spec");
+    assertThat(specField.getNode().getType()).isEqualTo("Http");
+    assertThat(specField.getNode().getParentNode()).isNull();
+    assertThat(YamlUtils.readField(yaml, "template", "missing")).isNull();
+    assertThat(YamlUtils.readField(yaml, "other", "a")).isNull();
+
+    YamlUtils.configureTreeCache(1024 * 1024);
+    try {
+      YamlUtils.readTree(yaml);
+      assertThat(YamlUtils.readField(yaml, "template", "spec").getNode().toString())
+          .isEqualTo(specField.getNode().toString());
+    } finally {
+      YamlUtils.configureTreeCache(0);
+    }
+  }
 }
@@ -13,23 +13,41 @@ import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Polls the outbox in shards, each guarded by its own lock, so that pods polling at the same time work on disjoint
+ * partitions of the outbox. Events of a shard are grouped into lanes per resource, lanes are handled concurrently and
+ * the events within a lane in order. Failed events are moved to the delayed lane of blocked events with an exponential
+ * backoff instead of being retried inline.
+ *
+ * <p>A lane stops at its first failed event, and the newer events of that resource are held back until the failed one
+ * is handled, or until it has been attempted maximumRetryAttemptsForAnEvent times. From then on it is only retried
+ * every {@link OutboxSDKConstants#DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES} minutes and no longer holds its resource.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
@@ -37,8 +55,9 @@ public class OutboxEventPollJob implements Runnable {
   private final OutboxEventHandler outboxEventHandler;
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
-  private final OutboxEventFilter outboxEventFilter;
-  private final Retry retry;
+  private final IntervalFunction retryIntervalFunction;
+  private final int numberOfShards;
+  private final ExecutorService laneExecutorService;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
   private final String outboxLockId;
 
@@ -50,12 +69,15 @@ public class OutboxEventPollJob implements Runnable {
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
-    RetryConfig retryConfig = RetryConfig.custom()
-                                  .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
-                                  .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
-                                  .build();
-    this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.retryIntervalFunction = IntervalFunction.ofExponentialBackoff(1000, 1.5);
+    this.numberOfShards = Math.max(1, outboxPollConfiguration.getNumberOfShards());
+    int maximumConcurrentLanes = Math.max(1, outboxPollConfiguration.getMaximumConcurrentLanes());
+    this.laneExecutorService = maximumConcurrentLanes > 1
+        ? Executors.newFixedThreadPool(maximumConcurrentLanes,
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-event-handler-" + outboxPollConfiguration.getLockId() + "-%d")
+                .build())
+        : null;
   }
 
   @Override
@@ -69,74 +91,139 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  public void stop() {
+    if (laneExecutorService != null) {
+      laneExecutorService.shutdownNow();
+    }
+  }
+
   private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+    // Start at a random shard so that pods polling at the same time claim different shards first
+    int firstShard = ThreadLocalRandom.current().nextInt(numberOfShards);
+    for (int i = 0; i < numberOfShards && !Thread.currentThread().isInterrupted(); i++) {
+      pollAndHandleOutboxEvents((firstShard + i) % numberOfShards);
+    }
+  }
+
+  private void pollAndHandleOutboxEvents(int shard) {
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(getLockId(shard), Duration.ofMinutes(2))) {
       if (lock == null) {
-        log.warn("Could not acquire lock for outbox poll job");
+        log.warn("Could not acquire lock for outbox poll job for shard {}", shard);
         return;
       }
       List<OutboxEvent> outboxEvents;
       try {
-        outboxEvents = outboxService.list(outboxEventFilter);
+        // Newer events of a resource whose event waits to be retried are held back in the query
+        List<OutboxEvent> retryingEvents = outboxService.listRetryingEvents(
+            getOutboxEventFilter(shard, null), outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent());
+        outboxEvents = outboxService.list(getOutboxEventFilter(shard, retryingEvents));
       } catch (InstantiationError error) {
         log.error("InstantiationError occurred while fetching entries from the outbox", error);
         return;
       }
 
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      List<String> handledOutboxEventIds = handleInLanes(outboxEvents);
+      if (!handledOutboxEventIds.isEmpty()) {
         try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
-          }
+          outboxService.deleteAll(handledOutboxEventIds);
         } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
+          log.error(
+              String.format("Error occurred while deleting handled outbox events with ids %s", handledOutboxEventIds),
               exception);
         }
       }
     }
   }
 
+  private String getLockId(int shard) {
+    return numberOfShards == 1 ? outboxLockId : outboxLockId + "_" + shard;
+  }
+
+  private OutboxEventFilter getOutboxEventFilter(int shard, List<OutboxEvent> retryingEvents) {
+    return OutboxEventFilter.builder()
+        .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+        .numberOfShards(numberOfShards)
+        .shard(shard)
+        .retryingEvents(retryingEvents)
+        .build();
+  }
+
+  private List<String> handleInLanes(List<OutboxEvent> outboxEvents) {
+    Collection<List<OutboxEvent>> lanes =
+        outboxEvents.stream()
+            .collect(Collectors.groupingBy(OutboxEventPollJob::getLaneKey, LinkedHashMap::new, Collectors.toList()))
+            .values();
+    List<String> handledOutboxEventIds = new ArrayList<>();
+    if (laneExecutorService == null || lanes.size() == 1) {
+      lanes.forEach(lane -> handledOutboxEventIds.addAll(handleLane(lane)));
+      return handledOutboxEventIds;
+    }
+
+    List<Future<List<String>>> futures = new ArrayList<>();
+    lanes.forEach(lane -> futures.add(laneExecutorService.submit(() -> handleLane(lane))));
+    for (Future<List<String>> future : futures) {
+      try {
+        handledOutboxEventIds.addAll(future.get());
+      } catch (ExecutionException exception) {
+        log.error("Unexpected error occurred while handling a lane of outbox events", exception.getCause());
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        futures.forEach(laneFuture -> laneFuture.cancel(true));
+        break;
+      }
+    }
+    return handledOutboxEventIds;
+  }
+
+  private static List<Object> getLaneKey(OutboxEvent outboxEvent) {
+    Resource resource = outboxEvent.getResource();
+    return Arrays.asList(outboxEvent.getResourceScope(), resource == null ? null : resource.getType(),
+        resource == null ? null : resource.getIdentifier());
+  }
+
+  private List<String> handleLane(List<OutboxEvent> lane) {
+    List<String> handledOutboxEventIds = new ArrayList<>();
+    for (int i = 0; i < lane.size() && !Thread.currentThread().isInterrupted(); i++) {
+      OutboxEvent outbox = lane.get(i);
+      long startTime = System.currentTimeMillis();
+      boolean success = handle(outbox);
+      log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+          System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      if (!success) {
+        // The newer events of the resource wait for this one, they are held back on the next polls
+        moveToDelayedLane(outbox);
+        break;
+      }
+      handledOutboxEventIds.add(outbox.getId());
+    }
+    return handledOutboxEventIds;
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
-    boolean success = false;
     try {
-      success = outboxEventHandler.handle(outboxEvent);
+      return outboxEventHandler.handle(outboxEvent);
     } catch (Exception exception) {
       log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
                     outboxEvent.getEventType()),
           exception);
+      return false;
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
-      log.error("Retrying this outbox event with exponential backoff now...");
-      success = handleWithExponentialBackOff(outboxEvent);
-    }
-    return success;
   }
 
-  private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
+  private void moveToDelayedLane(OutboxEvent outbox) {
+    int attempts = outbox.getAttempts() == null ? 1 : outbox.getAttempts() + 1;
+    long delayInMillis = attempts < outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent()
+        ? retryIntervalFunction.apply(attempts)
+        : Duration.ofMinutes(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES).toMillis();
     try {
-      return retry.executeSupplier(() -> {
-        if (!outboxEventHandler.handle(outboxEvent)) {
-          throw new UnexpectedException(String.format(
-              "Outbox event handling failed in another retry attempt for event with id %s", outboxEvent.getId()));
-        }
-        return true;
-      });
+      outbox.setAttempts(attempts);
+      outbox.setBlocked(true);
+      outbox.setNextUnblockAttemptAt(Instant.now().plusMillis(delayInMillis));
+      outboxService.update(outbox);
     } catch (Exception exception) {
-      log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
-                    outboxEvent.getEventType()),
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                    outbox.getId(), outbox.getEventType()),
           exception);
-      return false;
     }
   }
 }
@@ -26,5 +26,7 @@ public class OutboxPollConfiguration {
   int initialDelayInSeconds;
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
+  int numberOfShards;
+  int maximumConcurrentLanes;
   String lockId;
 }
@@ -23,9 +23,13 @@ public interface OutboxDao {
 
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
+  List<OutboxEvent> listRetryingEvents(OutboxEventFilter outboxEventFilter, int maximumAttempts);
+
   long count(OutboxMetricsFilter outboxMetricsFilter);
 
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
 }
@@ -24,5 +24,13 @@ public interface OutboxService {
 
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
+  /**
+   * Lists the blocked events of the shard which are waiting for their next attempt and have been attempted less than
+   * the given number of times, oldest first. Newer events of their resources are held back until they are handled.
+   */
+  List<OutboxEvent> listRetryingEvents(OutboxEventFilter outboxEventFilter, int maximumAttempts);
+
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
 }
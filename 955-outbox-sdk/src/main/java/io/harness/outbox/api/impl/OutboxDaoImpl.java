@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.NGCommonEntityConstants.MONGODB_ID;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_CREATED_AT_ASC_SORT_ORDER;
 import static io.harness.utils.PageUtils.getPageRequest;
 
@@ -19,6 +20,11 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.ng.beans.PageRequest;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.OrgScope;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.Resource.ResourceKeys;
+import io.harness.ng.core.ResourceScope;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.OutboxEvent.OutboxEventKeys;
 import io.harness.outbox.api.OutboxDao;
@@ -30,7 +36,9 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Sort;
@@ -44,6 +52,11 @@ import org.springframework.util.Assert;
 
 @OwnedBy(PL)
 public class OutboxDaoImpl implements OutboxDao {
+  private static final String RESOURCE_SCOPE_KEY = OutboxEventKeys.resourceScope + ".scope";
+  private static final String ACCOUNT_IDENTIFIER_KEY = OutboxEventKeys.resourceScope + ".accountIdentifier";
+  private static final String ORG_IDENTIFIER_KEY = OutboxEventKeys.resourceScope + ".orgIdentifier";
+  private static final String PROJECT_IDENTIFIER_KEY = OutboxEventKeys.resourceScope + ".projectIdentifier";
+
   private final OutboxEventRepository outboxRepository;
 
   @Inject
@@ -67,6 +80,23 @@ public class OutboxDaoImpl implements OutboxDao {
                            .build()));
   }
 
+  @Override
+  public List<OutboxEvent> listRetryingEvents(OutboxEventFilter outboxEventFilter, int maximumAttempts) {
+    Assert.notNull(outboxEventFilter, "OutboxEventFilter must not be null!");
+    Criteria criteria = Criteria.where(OutboxEventKeys.blocked)
+                            .is(Boolean.TRUE)
+                            .and(OutboxEventKeys.nextUnblockAttemptAt)
+                            .gte(Instant.now())
+                            .and(OutboxEventKeys.attempts)
+                            .lt(maximumAttempts);
+    return outboxRepository.findAll(getShardCriteria(outboxEventFilter, criteria),
+        getPageRequest(PageRequest.builder()
+                           .pageIndex(0)
+                           .pageSize(outboxEventFilter.getMaximumEventsPolled())
+                           .sortOrders(DEFAULT_CREATED_AT_ASC_SORT_ORDER)
+                           .build()));
+  }
+
   @Override
   public long count(OutboxMetricsFilter outboxMetricsFilter) {
     Criteria criteria = new Criteria();
@@ -106,6 +136,77 @@ public class OutboxDaoImpl implements OutboxDao {
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
                                        .lt(Instant.now());
     criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (isNotEmpty(outboxEventFilter.getRetryingEvents())) {
+      // Held back in the query so that they do not take up the page while they wait for the retry
+      criteria.norOperator(getRetryingResourceCriteria(outboxEventFilter.getRetryingEvents()));
+    }
+    return getShardCriteria(outboxEventFilter, criteria);
+  }
+
+  private Criteria[] getRetryingResourceCriteria(List<OutboxEvent> retryingEvents) {
+    Map<List<Object>, OutboxEvent> oldestRetryingEvents = new LinkedHashMap<>();
+    for (OutboxEvent retryingEvent : retryingEvents) {
+      oldestRetryingEvents.merge(getResourceKey(retryingEvent), retryingEvent,
+          (first, second) -> getCreatedAt(first) <= getCreatedAt(second) ? first : second);
+    }
+    return oldestRetryingEvents.values()
+        .stream()
+        .map(retryingEvent -> {
+          Criteria criteria = getResourceCriteria(retryingEvent);
+          if (retryingEvent.getCreatedAt() != null) {
+            criteria = criteria.and(OutboxEventKeys.createdAt).gte(retryingEvent.getCreatedAt());
+          }
+          return criteria;
+        })
+        .toArray(Criteria[]::new);
+  }
+
+  private Criteria getResourceCriteria(OutboxEvent outboxEvent) {
+    ResourceScope resourceScope = outboxEvent.getResourceScope();
+    Criteria criteria = Criteria.where(OutboxEventKeys.resource + "." + ResourceKeys.type)
+                            .is(outboxEvent.getResource().getType())
+                            .and(OutboxEventKeys.resource + "." + ResourceKeys.identifier)
+                            .is(outboxEvent.getResource().getIdentifier())
+                            .and(RESOURCE_SCOPE_KEY)
+                            .is(resourceScope.getScope());
+    if (resourceScope instanceof AccountScope) {
+      criteria.and(ACCOUNT_IDENTIFIER_KEY).is(((AccountScope) resourceScope).getAccountIdentifier());
+    } else if (resourceScope instanceof OrgScope) {
+      criteria.and(ACCOUNT_IDENTIFIER_KEY)
+          .is(((OrgScope) resourceScope).getAccountIdentifier())
+          .and(ORG_IDENTIFIER_KEY)
+          .is(((OrgScope) resourceScope).getOrgIdentifier());
+    } else if (resourceScope instanceof ProjectScope) {
+      criteria.and(ACCOUNT_IDENTIFIER_KEY)
+          .is(((ProjectScope) resourceScope).getAccountIdentifier())
+          .and(ORG_IDENTIFIER_KEY)
+          .is(((ProjectScope) resourceScope).getOrgIdentifier())
+          .and(PROJECT_IDENTIFIER_KEY)
+          .is(((ProjectScope) resourceScope).getProjectIdentifier());
+    }
+    return criteria;
+  }
+
+  private static List<Object> getResourceKey(OutboxEvent outboxEvent) {
+    return Arrays.asList(
+        outboxEvent.getResourceScope(), outboxEvent.getResource().getType(), outboxEvent.getResource().getIdentifier());
+  }
+
+  private static long getCreatedAt(OutboxEvent outboxEvent) {
+    return outboxEvent.getCreatedAt() == null ? Long.MIN_VALUE : outboxEvent.getCreatedAt();
+  }
+
+  private Criteria getShardCriteria(OutboxEventFilter outboxEventFilter, Criteria criteria) {
+    if (outboxEventFilter.getNumberOfShards() > 1) {
+      Criteria shardCriteria = Criteria.where(OutboxEventKeys.partition)
+                                   .mod(outboxEventFilter.getNumberOfShards(), outboxEventFilter.getShard());
+      if (outboxEventFilter.getShard() == 0) {
+        // Events saved before partitioning was introduced do not have a partition, the first shard picks them up
+        shardCriteria =
+            new Criteria().orOperator(shardCriteria, Criteria.where(OutboxEventKeys.partition).exists(false));
+      }
+      return new Criteria().andOperator(criteria, shardCriteria);
+    }
     return criteria;
   }
 
@@ -114,4 +215,12 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return 0;
+    }
+    return outboxRepository.deleteByIdIn(outboxEventIds);
+  }
 }
@@ -9,6 +9,7 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_EVENT_FILTER;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITION_COUNT;
 
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
 
@@ -16,6 +17,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
+import io.harness.ng.core.ResourceScope;
 import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
@@ -53,6 +55,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partition(getPartition(event.getResourceScope()))
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -70,9 +73,28 @@ public class OutboxServiceImpl implements OutboxService {
     return outboxDao.list(outboxEventFilter);
   }
 
+  @Override
+  public List<OutboxEvent> listRetryingEvents(OutboxEventFilter outboxEventFilter, int maximumAttempts) {
+    if (outboxEventFilter == null) {
+      outboxEventFilter = DEFAULT_OUTBOX_EVENT_FILTER;
+    }
+    return outboxDao.listRetryingEvents(outboxEventFilter, maximumAttempts);
+  }
+
   @Override
   public boolean delete(String outboxEventId) {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxDao.deleteAll(outboxEventIds);
+  }
+
+  private static int getPartition(ResourceScope resourceScope) {
+    // The hash code of a resource scope is built from its identifiers only, so every pod and every event of the same
+    // resource lands on the same partition
+    return resourceScope == null ? 0 : Math.floorMod(resourceScope.hashCode(), OUTBOX_PARTITION_COUNT);
+  }
 }
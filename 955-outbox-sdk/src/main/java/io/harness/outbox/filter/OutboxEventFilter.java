@@ -10,7 +10,9 @@ package io.harness.outbox.filter;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.outbox.OutboxEvent;
 
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +24,8 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  int numberOfShards;
+  int shard;
+  // Events of the resources of these events created at or after them are not listed, they wait for their retry
+  List<OutboxEvent> retryingEvents;
 }
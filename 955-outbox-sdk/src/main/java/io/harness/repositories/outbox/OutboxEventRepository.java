@@ -13,6 +13,7 @@ import io.harness.annotation.HarnessRepo;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.outbox.OutboxEvent;
 
+import java.util.Collection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -22,4 +23,6 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 public interface OutboxEventRepository
     extends PagingAndSortingRepository<OutboxEvent, String>, OutboxEventCustomRepository {
   Page<OutboxEvent> findByBlockedFalseOrBlockedNull(Pageable pageable);
+
+  long deleteByIdIn(Collection<String> ids);
 }
@@ -16,8 +16,10 @@ import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,10 +30,19 @@ import io.harness.category.element.UnitTests;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.Resource;
+import io.harness.ng.core.ResourceScope;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -68,9 +79,9 @@ public class OutboxPollJobTest extends CategoryTest {
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(true);
-    when(outboxService.delete(id)).thenReturn(true);
+    when(outboxService.deleteAll(singletonList(id))).thenReturn(1L);
     outboxEventPollJob.run();
-    verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(1)).deleteAll(singletonList(id));
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
   }
@@ -89,12 +100,112 @@ public class OutboxPollJobTest extends CategoryTest {
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(false);
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
-    verify(outboxService, times(0)).delete(any());
-    verify(outboxEventHandler, times(3)).handle(any());
+    verify(outboxService, times(0)).deleteAll(any());
+    verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
     assertEquals(id, updateOutboxEvent.getId());
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
+    assertEquals(1, updateOutboxEvent.getAttempts().intValue());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testShardedHandlingInLanes() {
+    outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder()
+            .maximumRetryAttemptsForAnEvent(2)
+            .numberOfShards(2)
+            .maximumConcurrentLanes(2)
+            .lockId("LOCK_ID")
+            .build());
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    ResourceScope resourceScope = new AccountScope(randomAlphabetic(10));
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      outboxEvents.add(OutboxEvent.builder()
+                           .id(randomAlphabetic(10))
+                           .eventType("emptyEvent")
+                           .resourceScope(resourceScope)
+                           .resource(Resource.builder().type("USER").identifier(String.valueOf(i % 2)).build())
+                           .build());
+    }
+    when(outboxService.list(any())).thenReturn(outboxEvents);
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+    final ArgumentCaptor<OutboxEventFilter> outboxEventFilterArgumentCaptor =
+        ArgumentCaptor.forClass(OutboxEventFilter.class);
+    final ArgumentCaptor<List<String>> deletedIdsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    outboxEventPollJob.run();
+    outboxEventPollJob.stop();
+
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any());
+    verify(outboxService, times(1)).list(outboxEventFilterArgumentCaptor.capture());
+    assertEquals(2, outboxEventFilterArgumentCaptor.getValue().getNumberOfShards());
+    assertEquals(0, outboxEventFilterArgumentCaptor.getValue().getShard());
+    verify(outboxEventHandler, times(4)).handle(any());
+    verify(outboxService, times(1)).deleteAll(deletedIdsArgumentCaptor.capture());
+    assertEquals(outboxEvents.stream().map(OutboxEvent::getId).collect(Collectors.toSet()),
+        new HashSet<>(deletedIdsArgumentCaptor.getValue()));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testLaneStopsAtFirstFailure() {
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    ResourceScope resourceScope = new AccountScope(randomAlphabetic(10));
+    OutboxEvent failedEvent = userEvent(resourceScope, "user", 1L);
+    OutboxEvent newerEvent = userEvent(resourceScope, "user", 2L);
+    when(outboxService.list(any())).thenReturn(Arrays.asList(failedEvent, newerEvent));
+    when(outboxEventHandler.handle(failedEvent)).thenReturn(false);
+    when(outboxEventHandler.handle(newerEvent)).thenReturn(true);
+    final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+    outboxEventPollJob.run();
+
+    verify(outboxEventHandler, times(1)).handle(failedEvent);
+    verify(outboxEventHandler, never()).handle(newerEvent);
+    verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
+    assertEquals(failedEvent.getId(), outboxEventArgumentCaptor.getValue().getId());
+    verify(outboxService, never()).deleteAll(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testNewerEventsAreHeldBackBehindRetryingEvent() {
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    ResourceScope resourceScope = new AccountScope(randomAlphabetic(10));
+    OutboxEvent retryingEvent = userEvent(resourceScope, "blocked", 1L);
+    OutboxEvent heldBackEvent = userEvent(resourceScope, "blocked", 2L);
+    OutboxEvent otherEvent = userEvent(resourceScope, "other", 3L);
+    when(outboxService.list(any())).thenReturn(singletonList(otherEvent));
+    when(outboxService.listRetryingEvents(any(), anyInt())).thenReturn(singletonList(retryingEvent));
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+    final ArgumentCaptor<OutboxEventFilter> outboxEventFilterArgumentCaptor =
+        ArgumentCaptor.forClass(OutboxEventFilter.class);
+    outboxEventPollJob.run();
+
+    verify(outboxService, times(1)).listRetryingEvents(any(), eq(2));
+    verify(outboxService, times(1)).list(outboxEventFilterArgumentCaptor.capture());
+    assertEquals(singletonList(retryingEvent), outboxEventFilterArgumentCaptor.getValue().getRetryingEvents());
+    verify(outboxEventHandler, never()).handle(heldBackEvent);
+    verify(outboxEventHandler, times(1)).handle(otherEvent);
+    verify(outboxService, times(1)).deleteAll(singletonList(otherEvent.getId()));
+  }
+
+  private static OutboxEvent userEvent(ResourceScope resourceScope, String identifier, long createdAt) {
+    return OutboxEvent.builder()
+        .id(randomAlphabetic(10))
+        .eventType("emptyEvent")
+        .blocked(false)
+        .resourceScope(resourceScope)
+        .resource(Resource.builder().type("USER").identifier(identifier).build())
+        .createdAt(createdAt)
+        .build();
   }
 }
@@ -12,6 +12,7 @@ import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.emptyList;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.mockito.Matchers.any;
@@ -23,12 +24,18 @@ import static org.mockito.Mockito.when;
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.Resource;
+import io.harness.ng.core.ResourceScope;
+import io.harness.outbox.OutboxEvent;
 import io.harness.outbox.OutboxEvent.OutboxEventKeys;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.repositories.outbox.OutboxEventRepository;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
+import java.util.Arrays;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,4 +89,71 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListShard() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).numberOfShards(4).shard(1).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    BasicDBList andList = (BasicDBList) criteriaObject.get("$and");
+    assertNotNull(andList);
+    assertEquals(2, andList.size());
+    assertNotNull(((Document) andList.get(0)).get("$or"));
+
+    Document partition = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partition);
+    assertEquals(Arrays.asList(4, 1), partition.get("$mod"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListHoldsBackRetryingResources() {
+    ResourceScope resourceScope = new ProjectScope("account", "org", "project");
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder()
+            .maximumEventsPolled(50)
+            .retryingEvents(Arrays.asList(userEvent(resourceScope, "user", 2L), userEvent(resourceScope, "user", 1L),
+                userEvent(new AccountScope("account"), "other", 3L)))
+            .build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    assertNotNull(criteriaObject.get("$or"));
+    BasicDBList norList = (BasicDBList) criteriaObject.get("$nor");
+    assertNotNull(norList);
+    assertEquals(2, norList.size());
+
+    Document projectResource = (Document) norList.get(0);
+    assertEquals("USER", projectResource.get(OutboxEventKeys.resource + ".type"));
+    assertEquals("user", projectResource.get(OutboxEventKeys.resource + ".identifier"));
+    assertEquals("project", projectResource.get(OutboxEventKeys.resourceScope + ".scope"));
+    assertEquals("account", projectResource.get(OutboxEventKeys.resourceScope + ".accountIdentifier"));
+    assertEquals("org", projectResource.get(OutboxEventKeys.resourceScope + ".orgIdentifier"));
+    assertEquals("project", projectResource.get(OutboxEventKeys.resourceScope + ".projectIdentifier"));
+    assertEquals(1L, ((Document) projectResource.get(OutboxEventKeys.createdAt)).get("$gte"));
+
+    Document accountResource = (Document) norList.get(1);
+    assertEquals("account", accountResource.get(OutboxEventKeys.resourceScope + ".scope"));
+    assertFalse(accountResource.containsKey(OutboxEventKeys.resourceScope + ".orgIdentifier"));
+    assertEquals(3L, ((Document) accountResource.get(OutboxEventKeys.createdAt)).get("$gte"));
+  }
+
+  private static OutboxEvent userEvent(ResourceScope resourceScope, String identifier, long createdAt) {
+    return OutboxEvent.builder()
+        .id(identifier + createdAt)
+        .eventType("emptyEvent")
+        .blocked(true)
+        .resourceScope(resourceScope)
+        .resource(Resource.builder().type("USER").identifier(identifier).build())
+        .createdAt(createdAt)
+        .build();
+  }
 }
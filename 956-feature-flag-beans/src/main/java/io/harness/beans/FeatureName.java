@@ -592,7 +592,8 @@ public enum FeatureName {
       "Enables users to pass commit id as sweeping output and use later in subsequent steps. PM Rohan",
       HarnessTeam.CDP),
   SPG_SIDENAV_COLLAPSE("FF for enabling collapse and expand of side nav", HarnessTeam.SPG),
-  PL_REMOVE_USER_VIEWER_ROLE_ASSIGNMENTS("Enable removal of user level viewer role assignments", HarnessTeam.PL);
+  PL_REMOVE_USER_VIEWER_ROLE_ASSIGNMENTS("Enable removal of user level viewer role assignments", HarnessTeam.PL),
+  CCM_VIEWS_ROLLUP("Answer the cost totals of cluster perspectives from an in memory rollup", HarnessTeam.CE);
 
   @Deprecated
   FeatureName() {
@@ -62,8 +62,12 @@ public class SpringMongoStore implements DistributedStore {
     return get(Long.valueOf(contextHash), algorithmId, structureHash, key, params);
   }
 
-  public <T extends Distributable> void upsert(T entity, Duration ttl, long entityUpdatedAt) {
-    upsertInternal(entity, ttl, false, entityUpdatedAt);
+  /**
+   * Same as {@link #upsert(Distributable, Duration)} with the given entityUpdatedAt, returns the size of the serialized
+   * entity written or 0 if the write failed.
+   */
+  public <T extends Distributable> int upsert(T entity, Duration ttl, long entityUpdatedAt) {
+    return upsertInternal(entity, ttl, false, entityUpdatedAt);
   }
 
   @Override
@@ -148,7 +152,7 @@ public class SpringMongoStore implements DistributedStore {
     Failsafe.with(retryPolicy).get(() -> mongoTemplate.remove(query, SpringCacheEntity.class));
   }
 
-  private <T extends Distributable> void upsertInternal(
+  private <T extends Distributable> int upsertInternal(
       T entity, Duration ttl, boolean downgrade, long entityLastUpdatedAt) {
     final String canonicalKey =
         canonicalKey(entity.algorithmId(), entity.structureHash(), entity.key(), entity.parameters());
@@ -161,14 +165,16 @@ public class SpringMongoStore implements DistributedStore {
         query.addCriteria(where(SpringCacheEntityKeys.contextValue).lt(contextValue));
       }
 
+      byte[] entityBytes = kryoSerializer.asDeflatedBytes(entity);
       Update update = new Update()
                           .setOnInsert(SpringCacheEntityKeys.canonicalKey, canonicalKey)
                           .set(SpringCacheEntityKeys.contextValue, contextValue)
-                          .set(SpringCacheEntityKeys.entity, kryoSerializer.asDeflatedBytes(entity))
+                          .set(SpringCacheEntityKeys.entity, entityBytes)
                           .set(SpringCacheEntityKeys.validUntil, Date.from(OffsetDateTime.now().plus(ttl).toInstant()))
                           .set(SpringCacheEntityKeys.entityUpdatedAt, entityLastUpdatedAt);
 
       mongoTemplate.findAndModify(query, update, HMongoTemplate.upsertReturnNewOptions, SpringCacheEntity.class);
+      return entityBytes.length;
     } catch (MongoCommandException e) {
       if (ErrorCategory.fromErrorCode(e.getErrorCode()) != DUPLICATE_KEY) {
         log.error("Failed to update cache for key {}, hash {}", canonicalKey, contextValue, e);
@@ -180,5 +186,6 @@ public class SpringMongoStore implements DistributedStore {
     } catch (RuntimeException e) {
       log.error("Failed to update cache for key {}, hash {}", canonicalKey, contextValue, e);
     }
+    return 0;
   }
 }
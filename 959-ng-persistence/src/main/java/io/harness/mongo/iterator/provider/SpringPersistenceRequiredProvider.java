@@ -16,6 +16,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
+import io.harness.mongo.iterator.UuidRangePartition;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
 import com.mongodb.BasicDBObject;
@@ -123,6 +124,28 @@ public class SpringPersistenceRequiredProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander,
+      int limit, UuidRangePartition partition) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander, false);
+    if (partition.getFromId() != null || partition.getToId() != null) {
+      Criteria criteria = Criteria.where("_id");
+      if (partition.getFromId() != null) {
+        criteria.gte(partition.getFromId());
+      }
+      if (partition.getToId() != null) {
+        criteria.lt(partition.getToId());
+      }
+      query.addCriteria(criteria);
+    }
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -14,13 +14,17 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 
 import static java.lang.String.format;
+import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.iterator.IteratorExecutionHandler;
 import io.harness.iterator.IteratorLoopModeHandler;
 import io.harness.iterator.PersistenceIteratorFactory;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
@@ -44,12 +48,16 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(CDC)
 @Singleton
@@ -57,12 +65,26 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance> {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
   private static final Integer MAX_BATCH_SIZE = 500;
+  private static final String TIMEOUT_FIRING_LATENCY = "timeout_firing_latency";
+  private static final String TIMEOUT_WHEEL_LAG = "timeout_wheel_lag";
+
+  // 3 levels of 64 slots of 100ms hold the timeouts expiring in the next 7 hours
+  private static final long WHEEL_TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 64;
+  private static final int WHEEL_LEVELS = 3;
+  // The iterator fires the timeouts held in the wheel of a process only this late, if that process went away
+  private static final Duration WHEEL_FAILOVER_DELAY = Duration.ofMinutes(1);
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MongoTemplate mongoTemplate;
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
+  @Inject private PersistenceMetricsServiceImpl metricsService;
+
+  private TimeoutWheel wheel;
+  private ScheduledExecutorService wheelExecutor;
+  private ExecutorService handlerExecutorService;
 
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
@@ -80,15 +102,44 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   TimeoutInstance registerTimeout(@NotNull TimeoutTracker timeoutTracker, @NotNull TimeoutCallback timeoutCallback) {
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
-    timeoutInstance.resetNextIteration();
+    boolean inWheel = resetNextIteration(timeoutInstance);
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
+    scheduleOrWakeup(timeoutInstance, inWheel);
+    return savedTimeoutInstance;
+  }
+
+  /**
+   * Resets the nextIteration of the instance from its tracker. The near term timeouts are fired from the wheel of this
+   * process, their nextIteration is pushed back so the iterator only picks them if this process goes away first.
+   *
+   * @return true if the instance has to be scheduled in the wheel once saved
+   */
+  private boolean resetNextIteration(TimeoutInstance timeoutInstance) {
+    timeoutInstance.resetNextIteration();
+    long expiryTime = timeoutInstance.getNextIteration();
+    if (wheel == null || expiryTime - System.currentTimeMillis() > wheel.getHorizonMillis()) {
+      return false;
+    }
+    timeoutInstance.setNextIteration(expiryTime + WHEEL_FAILOVER_DELAY.toMillis());
+    return true;
+  }
+
+  // Scheduling only after the instance is saved, a wheel that fires sooner would not find it
+  private void scheduleOrWakeup(TimeoutInstance timeoutInstance, boolean inWheel) {
+    if (inWheel) {
+      long nextIteration = timeoutInstance.getNextIteration();
+      if (wheel.schedule(
+              timeoutInstance.getUuid(), nextIteration - WHEEL_FAILOVER_DELAY.toMillis(), nextIteration)) {
+        return;
+      }
+      log.warn("TimeoutInstance {} is beyond the wheel horizon, the iterator will pick it", timeoutInstance.getUuid());
+    }
     if (iterator != null) {
       iterator.wakeup();
     }
-    return savedTimeoutInstance;
   }
 
   public void deleteTimeouts(List<String> timeoutInstanceIds) {
@@ -96,6 +147,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       Set<String> batchTimeInstanceIds = new HashSet<>();
       for (String timeoutInstanceId : timeoutInstanceIds) {
         batchTimeInstanceIds.add(timeoutInstanceId);
+        cancelInWheel(timeoutInstanceId);
         if (batchTimeInstanceIds.size() >= MAX_BATCH_SIZE) {
           timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
           batchTimeInstanceIds.clear();
@@ -110,6 +162,13 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
+    cancelInWheel(timeoutInstanceId);
+  }
+
+  private void cancelInWheel(String timeoutInstanceId) {
+    if (wheel != null) {
+      wheel.cancel(timeoutInstanceId);
+    }
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
@@ -119,11 +178,10 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
 
     for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
       if (timeoutInstance.tracker.onEvent(event)) {
-        timeoutInstance.resetNextIteration();
+        cancelInWheel(timeoutInstance.getUuid());
+        boolean inWheel = resetNextIteration(timeoutInstance);
         timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        scheduleOrWakeup(timeoutInstance, inWheel);
       }
     }
   }
@@ -135,6 +193,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("timeout-engine-iterator").build());
     ExecutorService executorService = ThreadPool.create(executorOptions.getPoolSize(), executorOptions.getPoolSize(),
         30, TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutEngineHandler-%d").build());
+    handlerExecutorService = executorService;
     iterator =
         (MongoPersistenceIterator<TimeoutInstance, SpringFilterExpander>) persistenceIteratorFactory.createIterator(
             TimeoutEngine.class,
@@ -152,6 +211,64 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                 .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate))
                 .schedulingType(REGULAR));
     executor.submit(() -> iterator.process());
+
+    wheel = new TimeoutWheel(WHEEL_TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    wheelExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("timeout-engine-wheel").build());
+    wheelExecutor.scheduleAtFixedRate(this::advanceWheel, WHEEL_TICK_MILLIS, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @VisibleForTesting
+  void advanceWheel() {
+    try {
+      long now = System.currentTimeMillis();
+      for (TimeoutWheel.Entry entry : wheel.advanceTo(now)) {
+        metricsService.recordIteratorMetricsWithDuration(
+            iteratorName, ofMillis(now - entry.getDeadline()), TIMEOUT_WHEEL_LAG);
+        handlerExecutorService.submit(() -> handleFromWheel(entry));
+      }
+    } catch (RejectedExecutionException e) {
+      log.info("The timeout engine handler executor has been shutdown", e);
+    } catch (Exception e) {
+      // An exception would cancel the periodic task
+      log.error("Failed to advance the timeout wheel", e);
+    }
+  }
+
+  /**
+   * Fires a timeout expired in the wheel. The instance is claimed by pushing its nextIteration out by the failover
+   * delay, only if it is still the one it was scheduled with, and deleted once the callback ran. If this process goes
+   * away in between, the iterator picks the instance after the failover delay. If it was deleted, or updated by an
+   * event in another process, that process or the iterator owns it now.
+   */
+  private void handleFromWheel(TimeoutWheel.Entry entry) {
+    try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(entry.getId(), OVERRIDE_ERROR)) {
+      TimeoutInstance timeoutInstance;
+      try {
+        timeoutInstance = mongoTemplate.findAndModify(query(where(TimeoutInstanceKeys.uuid)
+                                                                 .is(entry.getId())
+                                                                 .and(TimeoutInstanceKeys.nextIteration)
+                                                                 .is(entry.getNextIteration())),
+            new Update().set(
+                TimeoutInstanceKeys.nextIteration, System.currentTimeMillis() + WHEEL_FAILOVER_DELAY.toMillis()),
+            FindAndModifyOptions.options().returnNew(true), TimeoutInstance.class);
+      } catch (Exception ex) {
+        // The instance stays persisted, the iterator picks it after the failover delay
+        log.error("TimeoutInstance claim failed", ex);
+        return;
+      }
+      if (timeoutInstance == null) {
+        log.info("TimeoutInstance was deleted or rescheduled before it expired in the wheel");
+        return;
+      }
+      invokeCallback(timeoutInstance, entry.getDeadline());
+
+      try {
+        timeoutInstanceRepository.deleteById(timeoutInstance.getUuid());
+      } catch (Exception ex) {
+        log.error("TimeoutInstance delete failed", ex);
+      }
+    }
   }
 
   @Override
@@ -168,15 +285,8 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       final long now = System.currentTimeMillis();
       log.info("TimeoutInstance handle started");
 
-      TimeoutCallback callback = timeoutInstance.getCallback();
-      injector.injectMembers(callback);
-      try {
-        callback.onTimeout(timeoutInstance);
-        log.info("TimeoutInstance callback finished");
-      } catch (Exception ex) {
-        // TODO(gpahal): What to do in case callback throws an exception. Should we retry?
-        log.error("TimeoutInstance callback failed", ex);
-      }
+      Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+      invokeCallback(timeoutInstance, expiryTime == null ? now : expiryTime);
 
       try {
         timeoutInstanceRepository.deleteById(timeoutInstance.getUuid());
@@ -192,4 +302,19 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       }
     }
   }
+
+  private void invokeCallback(TimeoutInstance timeoutInstance, long expiryTime) {
+    metricsService.recordIteratorMetricsWithDuration(
+        iteratorName, ofMillis(Math.max(System.currentTimeMillis() - expiryTime, 0)), TIMEOUT_FIRING_LATENCY);
+
+    TimeoutCallback callback = timeoutInstance.getCallback();
+    injector.injectMembers(callback);
+    try {
+      callback.onTimeout(timeoutInstance);
+      log.info("TimeoutInstance callback finished");
+    } catch (Exception ex) {
+      // TODO(gpahal): What to do in case callback throws an exception. Should we retry?
+      log.error("TimeoutInstance callback failed", ex);
+    }
+  }
 }
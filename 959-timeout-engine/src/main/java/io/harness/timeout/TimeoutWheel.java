@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Hierarchical timing wheel holding the near term timeouts of this process in memory. Level 0 has one slot per tick,
+ * every next level has slots as long as a whole rotation of the level below it. Scheduling and cancelling are constant
+ * time, and the entries of a higher level slot are moved down a level when the wheel reaches that slot.
+ *
+ * <p>An entry never expires before its deadline, and expires within one tick after it if the wheel is advanced every
+ * tick. Scheduling an id again replaces its previous entry.
+ */
+@OwnedBy(CDC)
+class TimeoutWheel {
+  private final long tickMillis;
+  private final int wheelSize;
+  private final int levels;
+  // The slots of all the levels, the slots of level l are at [l * wheelSize, (l + 1) * wheelSize)
+  private final List<ArrayDeque<Entry>> slots;
+  // The live entries by id, the entries left in the slots after being cancelled or replaced are skipped
+  private final Map<String, Entry> entries = new HashMap<>();
+  private long currentTick;
+
+  @Value
+  static class Entry {
+    String id;
+    long deadline;
+    // The nextIteration persisted with the instance when it was scheduled
+    long nextIteration;
+    long tick;
+  }
+
+  TimeoutWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.levels = levels;
+    this.slots = new ArrayList<>(wheelSize * levels);
+    for (int i = 0; i < wheelSize * levels; i++) {
+      slots.add(new ArrayDeque<>());
+    }
+    this.currentTick = nowMillis / tickMillis;
+  }
+
+  /**
+   * The longest time from now an entry can be scheduled in, less the rounding of the deadline to a tick.
+   */
+  long getHorizonMillis() {
+    return (span(levels) - 2) * tickMillis;
+  }
+
+  /**
+   * @return false if the deadline is beyond the horizon of the wheel, nothing is scheduled then
+   */
+  synchronized boolean schedule(String id, long deadline, long nextIteration) {
+    long tick = Math.max(Math.floorDiv(deadline + tickMillis - 1, tickMillis), currentTick + 1);
+    Entry entry = new Entry(id, deadline, nextIteration, tick);
+    if (!place(entry)) {
+      return false;
+    }
+    entries.put(id, entry);
+    return true;
+  }
+
+  synchronized boolean cancel(String id) {
+    return entries.remove(id) != null;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Advances the wheel tick by tick up to the given time.
+   * @return the entries whose deadline has passed
+   */
+  synchronized List<Entry> advanceTo(long nowMillis) {
+    long targetTick = nowMillis / tickMillis;
+    List<Entry> expired = new ArrayList<>();
+    while (currentTick < targetTick) {
+      currentTick++;
+      // Higher levels first, so their entries can land in the lower level slots reached at the same tick
+      for (int level = levels - 1; level > 0; level--) {
+        if (currentTick % span(level) == 0) {
+          ArrayDeque<Entry> slot = slot(level, currentTick / span(level));
+          List<Entry> cascaded = new ArrayList<>(slot);
+          slot.clear();
+          for (Entry entry : cascaded) {
+            if (isLive(entry)) {
+              place(entry);
+            }
+          }
+        }
+      }
+
+      ArrayDeque<Entry> slot = slot(0, currentTick);
+      for (Entry entry : slot) {
+        if (isLive(entry)) {
+          entries.remove(entry.getId());
+          expired.add(entry);
+        }
+      }
+      slot.clear();
+    }
+    return expired;
+  }
+
+  private boolean place(Entry entry) {
+    long delta = entry.getTick() - currentTick;
+    for (int level = 0; level < levels; level++) {
+      if (delta < span(level + 1)) {
+        slot(level, entry.getTick() / span(level)).add(entry);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isLive(Entry entry) {
+    return entries.get(entry.getId()) == entry;
+  }
+
+  private ArrayDeque<Entry> slot(int level, long index) {
+    return slots.get(level * wheelSize + (int) (index % wheelSize));
+  }
+
+  // The number of ticks covered by one slot of the level
+  private long span(int level) {
+    long span = 1;
+    for (int i = 0; i < level; i++) {
+      span *= wheelSize;
+    }
+    return span;
+  }
+}
@@ -12,6 +12,7 @@ import io.harness.factory.ClosingFactory;
 import io.harness.factory.ClosingFactoryModule;
 import io.harness.govern.ProviderModule;
 import io.harness.govern.ServersModule;
+import io.harness.metrics.modules.MetricsModule;
 import io.harness.mongo.MongoConfig;
 import io.harness.mongo.MongoPersistence;
 import io.harness.morphia.MorphiaRegistrar;
@@ -110,6 +111,7 @@ public class TimeoutEngineRule implements MethodRule, InjectorRuleMixin, MongoRu
     modules.add(TestMongoModule.getInstance());
     modules.add(new SpringPersistenceTestModule());
     modules.add(new TimeoutEngineModule());
+    modules.add(new MetricsModule());
     return modules;
   }
 
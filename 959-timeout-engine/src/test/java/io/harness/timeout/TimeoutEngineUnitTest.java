@@ -27,10 +27,13 @@ import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.Mock;
@@ -86,6 +89,81 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testWheelFiresNearTermTimeouts() throws InterruptedException {
+    on(timeoutEngine).set("wheel", new TimeoutWheel(10, 64, 3, System.currentTimeMillis()));
+    on(timeoutEngine).set("handlerExecutorService", MoreExecutors.newDirectExecutorService());
+    try {
+      CountingTimeoutCallback.COUNT.set(0);
+      TimeoutInstance fired =
+          timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(50), new CountingTimeoutCallback());
+      TimeoutInstance cancelled =
+          timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(50), new CountingTimeoutCallback());
+      // Only the iterator of a process which went away would pick the instances, after the failover delay
+      assertThat(fired.getNextIteration() - fired.getTracker().getExpiryTime())
+          .isEqualTo(Duration.ofMinutes(1).toMillis());
+      timeoutEngine.deleteTimeout(cancelled.getUuid());
+
+      Thread.sleep(100);
+      timeoutEngine.advanceWheel();
+
+      assertThat(CountingTimeoutCallback.COUNT.get()).isEqualTo(1);
+      assertThat(hPersistence.get(TimeoutInstance.class, fired.getUuid())).isNull();
+    } finally {
+      on(timeoutEngine).set("wheel", null);
+      on(timeoutEngine).set("handlerExecutorService", null);
+    }
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testWheelKeepsTheInstanceClaimedUntilTheCallbackRan() throws InterruptedException {
+    on(timeoutEngine).set("wheel", new TimeoutWheel(10, 64, 3, System.currentTimeMillis()));
+    on(timeoutEngine).set("handlerExecutorService", MoreExecutors.newDirectExecutorService());
+    try {
+      PersistedTimeoutCallback.INSTANCE.set(null);
+      TimeoutInstance fired =
+          timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(50), new PersistedTimeoutCallback());
+
+      Thread.sleep(100);
+      long claimTime = System.currentTimeMillis();
+      timeoutEngine.advanceWheel();
+
+      // A crash in the callback leaves the instance for the iterator, after the failover delay
+      TimeoutInstance claimed = PersistedTimeoutCallback.INSTANCE.get();
+      assertThat(claimed).isNotNull();
+      assertThat(claimed.getNextIteration()).isGreaterThanOrEqualTo(claimTime + Duration.ofMinutes(1).toMillis());
+      assertThat(claimed.getNextIteration()).isNotEqualTo(fired.getNextIteration());
+      assertThat(hPersistence.get(TimeoutInstance.class, fired.getUuid())).isNull();
+    } finally {
+      on(timeoutEngine).set("wheel", null);
+      on(timeoutEngine).set("handlerExecutorService", null);
+    }
+  }
+
+  public static class PersistedTimeoutCallback implements TimeoutCallback {
+    static final AtomicReference<TimeoutInstance> INSTANCE = new AtomicReference<>();
+
+    @Inject private transient HPersistence hPersistence;
+
+    @Override
+    public void onTimeout(TimeoutInstance timeoutInstance) {
+      INSTANCE.set(hPersistence.get(TimeoutInstance.class, timeoutInstance.getUuid()));
+    }
+  }
+
+  public static class CountingTimeoutCallback implements TimeoutCallback {
+    static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public void onTimeout(TimeoutInstance timeoutInstance) {
+      COUNT.incrementAndGet();
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class TimeoutWheelTest extends CategoryTest {
+  // 3 levels of 4 slots of 10ms, a horizon of 620ms
+  private static final long START = 1000;
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testEntriesExpireAtTheirDeadlineAcrossLevels() {
+    TimeoutWheel wheel = new TimeoutWheel(10, 4, 3, START);
+    for (long delay = 5; delay <= wheel.getHorizonMillis(); delay += 7) {
+      assertThat(wheel.schedule(String.valueOf(delay), START + delay, 0)).isTrue();
+    }
+
+    List<TimeoutWheel.Entry> expired = new ArrayList<>();
+    for (long now = START + 1; now <= START + wheel.getHorizonMillis() + 10; now++) {
+      for (TimeoutWheel.Entry entry : wheel.advanceTo(now)) {
+        // Never before the deadline, at most one tick after it
+        assertThat(now).isBetween(entry.getDeadline(), entry.getDeadline() + 10);
+        expired.add(entry);
+      }
+    }
+    assertThat(expired).hasSize(88);
+    assertThat(wheel.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCancelAndReschedule() {
+    TimeoutWheel wheel = new TimeoutWheel(10, 4, 3, START);
+    wheel.schedule("cancelled", START + 100, 0);
+    wheel.schedule("rescheduled", START + 100, 0);
+    wheel.schedule("rescheduled", START + 300, 1);
+    wheel.schedule("fired", START + 100, 0);
+    assertThat(wheel.cancel("cancelled")).isTrue();
+
+    assertThat(wheel.advanceTo(START + 200).stream().map(TimeoutWheel.Entry::getId).collect(Collectors.toList()))
+        .containsExactly("fired");
+    List<TimeoutWheel.Entry> expired = wheel.advanceTo(START + 300);
+    assertThat(expired).hasSize(1);
+    assertThat(expired.get(0).getNextIteration()).isEqualTo(1);
+    assertThat(wheel.cancel("fired")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testScheduleBeyondHorizonAndInThePast() {
+    TimeoutWheel wheel = new TimeoutWheel(10, 4, 3, START);
+    assertThat(wheel.schedule("far", START + 1000, 0)).isFalse();
+    assertThat(wheel.schedule("past", START - 100, 0)).isTrue();
+    assertThat(wheel.size()).isEqualTo(1);
+    assertThat(wheel.advanceTo(START + 10)).hasSize(1);
+  }
+}
@@ -35,6 +35,8 @@ public class DelegateConfiguration {
   private boolean doUpgrade;
   private Integer maxCachedArtifacts;
   private boolean pollForTasks;
+  // With pollForTasks, holds each poll on the manager until there are task events instead of polling every few seconds
+  private boolean longPollForTasks;
   private String description;
 
   private String managerTarget;
@@ -27,6 +27,8 @@ public interface IteratorExecutionHandler {
     int targetIntervalInSeconds;
     int throttleIntervalInSeconds;
     String iteratorMode;
+    // Number of lease owned partitions the entities are split into in REDIS_BATCH mode, 0 to use one lock for all
+    int partitionCount;
   }
 
   /**
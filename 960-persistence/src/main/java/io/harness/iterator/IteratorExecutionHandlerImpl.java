@@ -229,6 +229,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
                                               .name(config.getName())
                                               .poolSize(config.getThreadPoolSize())
                                               .interval(getIntervalDuration(config.getTargetIntervalInSeconds()))
+                                              .partitionCount(config.getPartitionCount())
                                               .build(),
             getNextIterationInterval(config));
   }
@@ -20,6 +20,7 @@ import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
+import io.harness.mongo.iterator.UuidRangePartition;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import com.codahale.metrics.InstrumentedExecutorService;
@@ -63,6 +64,7 @@ public final class PersistenceIteratorFactory {
     private String name;
     private int poolSize;
     private Duration interval;
+    private int partitionCount;
   }
 
   private String getWorkerDisabledLog(String className) {
@@ -141,6 +143,11 @@ public final class PersistenceIteratorFactory {
       return null;
     }
 
+    if (options.partitionCount < 0 || options.partitionCount > UuidRangePartition.MAXIMUM_PARTITION_COUNT) {
+      throw new IllegalArgumentException(String.format("Invalid partition count %d for iterator %s, the maximum is %d",
+          options.partitionCount, options.name, UuidRangePartition.MAXIMUM_PARTITION_COUNT));
+    }
+
     String iteratorName = "Iterator-" + options.name;
     ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
         options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
@@ -152,11 +159,14 @@ public final class PersistenceIteratorFactory {
             .semaphore(new Semaphore(options.poolSize))
             .iteratorName(options.name)
             .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
+            .partitionCount(options.partitionCount)
             .build();
     injector.injectMembers(iterator);
     long millis = options.interval.toMillis();
-    executor.scheduleAtFixedRate(
-        iterator::redisBatchProcess, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
+    // With partitions every process fetches from the partitions it holds the lease of, otherwise from all entities
+    // while holding the single lock of the iterator
+    Runnable process = options.partitionCount > 0 ? iterator::partitionedProcess : iterator::redisBatchProcess;
+    executor.scheduleAtFixedRate(process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
 
     return iterator;
   }
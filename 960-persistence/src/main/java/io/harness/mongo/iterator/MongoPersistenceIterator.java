@@ -11,8 +11,10 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_BATCH_SIZE;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PARTITIONS_OWNED;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
@@ -52,6 +54,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +74,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
       5; // The lockWaitTimeout is the duration to wait to acquire a lock
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_BATCH_PAUSE_DURATION = 5; // The duration by which to pause if worker JobQ is full
+  private static final Duration PARTITION_LEASE_DURATION = ofSeconds(30); // The duration a partition lease is held
+  private static final int MAXIMUM_PARTITION_BATCH_SIZE = 500; // The upper bound of an adaptive batch
 
   @Inject private final QueueController queueController;
   @Inject private PersistenceMetricsServiceImpl iteratorMetricsService;
@@ -96,6 +102,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private String iteratorName;
   private boolean unsorted;
   private PersistentLocker persistentLocker;
+  private int partitionCount;
+
+  // Moving averages of the time to handle an entity and the time to fetch a batch, for the adaptive batch size
+  private final AtomicLong handleTimeAverage = new AtomicLong();
+  private final AtomicLong fetchTimeAverage = new AtomicLong();
 
   public interface Handler<T> {
     void handle(T entity);
@@ -276,6 +287,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
+        updateMovingAverage(handleTimeAverage, processTime);
 
         // Update the iterator metric for ITERATOR_PROCESSING_TIME
         updateIteratorMetricProcessingTime(processTime);
@@ -390,6 +402,121 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Partitioned Iterator Mode - process used instead of redisBatchProcess when the iterator has a partitionCount.
+   * The entities are split into partitions by ranges of their ids, see {@link UuidRangePartition}, and every partition
+   * has its own Redis lease, so the pods fetch from different partitions in parallel instead of taking turns on one
+   * lock for the whole iterator.
+   *  1. Visit the partitions starting from a random one, so the pods do not all contend for the same partition.
+   *  2. Skip the partitions whose lease is held by another pod.
+   *  3. While holding the lease of a partition, fetch batches of its due docs, submit them to the worker jobQ and
+   *     update their nextIteration fields in bulk, until the partition is drained or half of the lease has passed.
+   *  4. Release the lease and move on to the next partition.
+   */
+  public void partitionedProcess() {
+    List<UuidRangePartition> partitions = UuidRangePartition.split(partitionCount);
+    int offset = ThreadLocalRandom.current().nextInt(partitions.size());
+    int partitionsOwned = 0;
+
+    for (int i = 0; i < partitions.size(); i++) {
+      // Check if iterators should run or not.
+      if (!shouldProcess()) {
+        break;
+      }
+
+      UuidRangePartition partition = partitions.get((offset + i) % partitions.size());
+      try (AcquiredLock acquiredLock = persistentLocker.tryToAcquireLock(MongoPersistenceIterator.class,
+               iteratorName + "-partition-" + partition.getIndex(), PARTITION_LEASE_DURATION)) {
+        if (acquiredLock == null) {
+          // Another process owns this partition
+          continue;
+        }
+        partitionsOwned++;
+        if (!processPartition(partition)) {
+          break;
+        }
+      }
+    }
+
+    iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, partitionsOwned, ITERATOR_PARTITIONS_OWNED);
+  }
+
+  /**
+   * Method to drain the due docs of a partition while its lease is held.
+   * @return false if the processing was interrupted
+   */
+  private boolean processPartition(UuidRangePartition partition) {
+    // The main thread is fetching documents so worker thread count is N-1.
+    int workers = Math.max(threadPoolExecutor.getCorePoolSize() - 1, 1);
+    long leaseDeadline = currentTimeMillis() + PARTITION_LEASE_DURATION.toMillis() / 2;
+    boolean docsAvailable = true;
+
+    while (docsAvailable && currentTimeMillis() < leaseDeadline) {
+      if (!shouldProcess()) {
+        return true;
+      }
+
+      int queued = threadPoolExecutor.getQueue().size();
+      int limit = adaptiveBatchSize(workers) - queued;
+      if (limit <= 0) {
+        // The Queue is full, so wait for about the time the workers need to drain it
+        sleep(queueDrainDuration(queued, workers));
+        continue;
+      }
+
+      try {
+        semaphore.acquire();
+      } catch (InterruptedException e) {
+        log.error(SEMAPHORE_ACQUIRE_ERROR, e);
+        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+        Thread.currentThread().interrupt();
+        return false;
+      }
+
+      try {
+        long base = currentTimeMillis();
+        Iterator<T> docItr =
+            persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit, partition);
+
+        List<String> docIds = new ArrayList<>();
+        while (docItr.hasNext()) {
+          T entity = docItr.next();
+          submitEntityForProcessingWithoutWait(entity);
+          docIds.add(entity.getUuid());
+        }
+        updateDocumentNextIteration(docIds, base);
+        updateMovingAverage(fetchTimeAverage, currentTimeMillis() - base);
+        iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, docIds.size(), ITERATOR_BATCH_SIZE);
+
+        // A short batch means there are no more due documents in this partition
+        docsAvailable = docIds.size() >= limit;
+      } finally {
+        semaphore.release();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The batch size that keeps the workers busy while the next batch is being fetched. Slow handlers get small batches,
+   * which leaves the rest of the due docs to the other processes, fast handlers get larger batches, which saves
+   * round trips. Without samples yet this is the same batch size as the Redis Batch mode.
+   */
+  private int adaptiveBatchSize(int workers) {
+    long handleTime = Math.max(handleTimeAverage.get(), 1);
+    long docsPerWorker = Math.max(BATCH_SIZE_MULTIPLY_FACTOR, fetchTimeAverage.get() / handleTime);
+    return (int) Math.min(MAXIMUM_PARTITION_BATCH_SIZE, workers * docsPerWorker);
+  }
+
+  private Duration queueDrainDuration(int queued, int workers) {
+    long drainTime = queued * handleTimeAverage.get() / workers;
+    return ofMillis(Math.max(QUERY_TIME.toMillis(), Math.min(drainTime, REDIS_BATCH_PAUSE_DURATION * 1000L)));
+  }
+
+  private void updateMovingAverage(AtomicLong average, long sample) {
+    average.updateAndGet(current -> current == 0 ? sample : movingAvg(current, sample));
+  }
+
   /**
    * Method to submit an entity to the Worker JobQ.
    * @param entity - Mongo document that worker thread should process
@@ -453,6 +580,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         long processTime = currentTimeMillis() - startTime;
         log.debug("Done with entity");
+        updateMovingAverage(handleTimeAverage, processTime);
 
         // Update the iterator metric for ITERATOR_PROCESSING_TIME
         updateIteratorMetricProcessingTime(processTime);
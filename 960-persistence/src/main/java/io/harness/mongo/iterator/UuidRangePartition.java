@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * A range of the {@code _id} keyspace of the entities an iterator works on. The ids generated by {@link
+ * io.harness.data.structure.UUIDGenerator#generateUuid()} are url safe base64 strings of random bytes, so their first
+ * character is spread evenly over the 64 characters of the alphabet. Splitting the alphabet into runs of the same
+ * length splits the entities into partitions of about the same size, without a dedicated hash field and with the
+ * {@code _id} index serving the range.
+ *
+ * <p>The first and the last partition are open ended, so every string id falls in exactly one partition. Ids of other
+ * types, like the ObjectIds assigned by Mongo, fall in none.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Value
+public class UuidRangePartition {
+  // The url safe base64 alphabet, in the order Mongo compares strings
+  private static final String ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  public static final int MAXIMUM_PARTITION_COUNT = ALPHABET.length();
+
+  int index;
+  String fromId; // Inclusive, null for the first partition
+  String toId; // Exclusive, null for the last partition
+
+  public static List<UuidRangePartition> split(int partitionCount) {
+    if (partitionCount < 1 || partitionCount > MAXIMUM_PARTITION_COUNT) {
+      throw new IllegalArgumentException(String.format(
+          "The partition count should be between 1 and %d, found %d", MAXIMUM_PARTITION_COUNT, partitionCount));
+    }
+    List<UuidRangePartition> partitions = new ArrayList<>(partitionCount);
+    for (int index = 0; index < partitionCount; index++) {
+      String fromId = index == 0 ? null : boundary(index, partitionCount);
+      String toId = index == partitionCount - 1 ? null : boundary(index + 1, partitionCount);
+      partitions.add(new UuidRangePartition(index, fromId, toId));
+    }
+    return partitions;
+  }
+
+  public boolean contains(String id) {
+    return (fromId == null || id.compareTo(fromId) >= 0) && (toId == null || id.compareTo(toId) < 0);
+  }
+
+  private static String boundary(int index, int partitionCount) {
+    return String.valueOf(ALPHABET.charAt(index * ALPHABET.length() / partitionCount));
+  }
+}
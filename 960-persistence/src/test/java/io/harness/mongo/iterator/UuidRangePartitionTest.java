@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class UuidRangePartitionTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSplitIsContiguous() {
+    List<UuidRangePartition> partitions = UuidRangePartition.split(5);
+
+    assertThat(partitions).hasSize(5);
+    assertThat(partitions.get(0).getFromId()).isNull();
+    assertThat(partitions.get(4).getToId()).isNull();
+    for (int i = 1; i < partitions.size(); i++) {
+      assertThat(partitions.get(i).getIndex()).isEqualTo(i);
+      assertThat(partitions.get(i).getFromId()).isEqualTo(partitions.get(i - 1).getToId());
+    }
+    assertThat(UuidRangePartition.split(1)).containsExactly(new UuidRangePartition(0, null, null));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEveryUuidFallsInOnePartition() {
+    List<UuidRangePartition> partitions = UuidRangePartition.split(UuidRangePartition.MAXIMUM_PARTITION_COUNT);
+    int[] counts = new int[partitions.size()];
+    for (int i = 0; i < 64000; i++) {
+      String uuid = generateUuid();
+      List<UuidRangePartition> matching =
+          partitions.stream().filter(partition -> partition.contains(uuid)).collect(Collectors.toList());
+      assertThat(matching).hasSize(1);
+      counts[matching.get(0).getIndex()]++;
+    }
+    // 1000 uuids are expected in each partition
+    for (int count : counts) {
+      assertThat(count).isBetween(800, 1200);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSplitRejectsInvalidCounts() {
+    assertThatThrownBy(() -> UuidRangePartition.split(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> UuidRangePartition.split(65)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -7,6 +7,7 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.GEORGE;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,16 +16,23 @@ import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.iterator.TestIterableEntity;
 import io.harness.iterator.TestIterableEntity.TestIterableEntityKeys;
+import io.harness.mongo.iterator.UuidRangePartition;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
+import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
 import com.google.inject.Inject;
 import dev.morphia.query.Query;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 public class MorphiaPersistenceProviderTest extends PersistenceTestBase {
   @Inject private MorphiaPersistenceProvider<TestIterableEntity> persistenceProvider;
+  @Inject private HPersistence persistence;
 
   @SuppressWarnings("checkstyle:RepetitiveName")
   @Test
@@ -84,4 +92,28 @@ public class MorphiaPersistenceProviderTest extends PersistenceTestBase {
         .isEqualTo(
             "{{\"$and\":[{\"name\":{\"$exists\":true}},{\"name\":\"foo\"}],\"$or\":[{\"nextIterations\":{\"$lt\":{\"$numberLong\":\"5\"}}},{\"nextIterations\":{\"$exists\":false}}]}}");
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstancesOfPartitions() {
+    Set<String> uuids = new HashSet<>();
+    for (int i = 0; i < 50; i++) {
+      String uuid = generateUuid();
+      uuids.add(uuid);
+      persistence.save(TestIterableEntity.builder().uuid(uuid).name("foo").build());
+    }
+
+    List<String> obtained = new ArrayList<>();
+    for (UuidRangePartition partition : UuidRangePartition.split(4)) {
+      persistenceProvider
+          .obtainNextInstances(
+              TestIterableEntity.class, TestIterableEntityKeys.nextIterations, null, uuids.size(), partition)
+          .forEachRemaining(entity -> {
+            assertThat(partition.contains(entity.getUuid())).isTrue();
+            obtained.add(entity.getUuid());
+          });
+    }
+    assertThat(obtained).containsExactlyInAnyOrderElementsOf(uuids);
+  }
 }
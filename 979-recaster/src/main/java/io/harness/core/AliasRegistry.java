@@ -13,23 +13,18 @@ import io.harness.exceptions.DuplicateAliasException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class AliasRegistry {
-  private static AliasRegistry SINGLETON;
+  private static final AliasRegistry SINGLETON = new AliasRegistry();
   private static final Map<String, Class<?>> aliasesMap = new ConcurrentHashMap<>();
 
-  private static final Set<String> packages = new HashSet<>();
+  private static final Set<String> packages = ConcurrentHashMap.newKeySet();
 
   public static AliasRegistry getInstance() {
-    if (SINGLETON == null) {
-      SINGLETON = new AliasRegistry();
-    }
-
     return SINGLETON;
   }
 
@@ -41,12 +36,11 @@ public class AliasRegistry {
       return;
     }
 
-    if (aliasesMap.containsKey(recastAliasValue)) {
+    Class<?> registeredClass = aliasesMap.putIfAbsent(recastAliasValue, clazz);
+    if (registeredClass != null) {
       throw new DuplicateAliasException(String.format("%s alias for %s class was already used by %s class",
-          recastAliasValue, clazz.getName(), aliasesMap.get(recastAliasValue).getName()));
+          recastAliasValue, clazz.getName(), registeredClass.getName()));
     }
-
-    aliasesMap.put(recastAliasValue, clazz);
   }
 
   public Class<?> obtain(String alias) {
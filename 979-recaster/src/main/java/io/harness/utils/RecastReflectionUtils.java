@@ -32,13 +32,25 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 @Slf4j
 public class RecastReflectionUtils {
+  // Annotation lookup and class loading by name are done once per class rather than once per recasted object
+  private static final ClassValue<Optional<String>> RECASTER_ALIASES = new ClassValue<Optional<String>>() {
+    @Override
+    protected Optional<String> computeValue(Class<?> type) {
+      RecasterAlias recasterAlias = type.getAnnotation(RecasterAlias.class);
+      return recasterAlias == null ? Optional.empty() : Optional.of(recasterAlias.value());
+    }
+  };
+  private static final Map<String, Class<?>> CLASSES_BY_NAME = new ConcurrentHashMap<>();
+
   public static Field[] getDeclaredAndInheritedFields(final Class<?> type, final boolean returnFinalFields) {
     final List<Field> allFields = new ArrayList<>(getValidFields(type.getDeclaredFields(), returnFinalFields));
     Class<?> parent = type.getSuperclass();
@@ -139,8 +151,13 @@ public class RecastReflectionUtils {
         return (Class<T>) aliasClazz;
       }
 
+      c = CLASSES_BY_NAME.get(documentIdentifier);
+      if (c != null) {
+        return (Class<T>) c;
+      }
       try {
         c = Class.forName(documentIdentifier, true, Thread.currentThread().getContextClassLoader());
+        CLASSES_BY_NAME.put(documentIdentifier, c);
       } catch (ClassNotFoundException e) {
         log.warn("Class not found defined in dbObj: ", e);
         String recastFilePath = String.valueOf(recasterMap.getOrDefault(RecasterMap.RECAST_CLASS_KEY, ""));
@@ -273,12 +290,7 @@ public class RecastReflectionUtils {
   }
 
   public static <T> String obtainRecasterAliasValueOrNull(Class<T> clazz) {
-    RecasterAlias recasterAlias = clazz.getAnnotation(RecasterAlias.class);
-    if (recasterAlias == null) {
-      return null;
-    }
-
-    return recasterAlias.value();
+    return RECASTER_ALIASES.get(clazz).orElse(null);
   }
 
   @Nullable
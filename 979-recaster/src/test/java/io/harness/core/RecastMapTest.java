@@ -15,10 +15,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.harness.RecasterTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedField;
 import io.harness.category.element.UnitTests;
 import io.harness.exceptions.RecasterException;
 import io.harness.rule.Owner;
+import io.harness.transformers.RecastTransformer;
+import io.harness.transformers.simplevalue.CustomValueTransformer;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.time.Instant;
@@ -85,6 +89,44 @@ public class RecastMapTest extends RecasterTestBase {
     assertThat(recastedDummyLong.longPrimitive).isEqualTo(longPrimitive);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldUseCustomTransformerAddedAfterClassWasRecasted() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyCustom.class));
+    DummyCustom dummyCustom = DummyCustom.builder().value("value").build();
+    assertThat(recast.toMap(dummyCustom)).containsEntry("value", "value");
+
+    recast.addTransformer(new DummyCustomTransformer());
+    Map<String, Object> document = recast.toMap(dummyCustom);
+    assertThat(document).containsEntry(Recaster.ENCODED_VALUE, "encoded-value");
+    assertThat(recast.fromMap(document, DummyCustom.class).value).isEqualTo("value");
+  }
+
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyCustom {
+    private String value;
+  }
+
+  private static class DummyCustomTransformer extends RecastTransformer implements CustomValueTransformer {
+    DummyCustomTransformer() {
+      super(ImmutableList.of(DummyCustom.class));
+    }
+
+    @Override
+    public Object decode(Class<?> targetClass, Object fromObject, CastedField castedField) {
+      String encoded = (String) ((Map<String, Object>) fromObject).get(Recaster.ENCODED_VALUE);
+      return DummyCustom.builder().value(encoded.substring("encoded-".length())).build();
+    }
+
+    @Override
+    public Object encode(Object value, CastedField castedField) {
+      return "encoded-" + ((DummyCustom) value).value;
+    }
+  }
+
   @Builder
   @NoArgsConstructor
   @AllArgsConstructor
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.expression.common.ExpressionConstants;
+import io.harness.text.resolver.TrackingExpressionResolver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide JEXL engine shared by all {@link EngineExpressionEvaluator} instances, along with bounded caches of the
+ * compiled expressions and scripts and of the expressions found in strings. Compiled JEXL expressions and scripts are
+ * immutable and can be evaluated concurrently against different contexts.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class EngineExpressionCache {
+  public static final String EXPRESSIONS = "expressions";
+  public static final String SCRIPTS = "scripts";
+  public static final String FOUND_EXPRESSIONS = "foundExpressions";
+
+  private static final int MAXIMUM_COMPILED_ENTRIES = 10000;
+  // Weighed by the length of the source strings, which can be whole yaml fields
+  private static final long MAXIMUM_FOUND_EXPRESSIONS_WEIGHT = 8L * 1024 * 1024;
+
+  private static final JexlEngine ENGINE = new JexlBuilder().logger(new NoOpLog()).create();
+
+  private static final Cache<String, JexlExpression> expressionCache =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_COMPILED_ENTRIES).recordStats().build();
+  private static final Cache<String, JexlScript> scriptCache =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_COMPILED_ENTRIES).recordStats().build();
+  private static final Cache<String, List<String>> foundExpressionsCache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAXIMUM_FOUND_EXPRESSIONS_WEIGHT)
+          .weigher((String source, List<String> expressions) -> source.length())
+          .recordStats()
+          .build();
+
+  public static JexlEngine getEngine() {
+    return ENGINE;
+  }
+
+  public static JexlExpression createExpression(String expression) {
+    String key = normalize(expression);
+    if (isUncacheable(key)) {
+      return ENGINE.createExpression(key);
+    }
+    JexlExpression jexlExpression = expressionCache.getIfPresent(key);
+    if (jexlExpression == null) {
+      // Parsing outside of the cache loader keeps JexlException unwrapped for the callers
+      jexlExpression = ENGINE.createExpression(key);
+      expressionCache.put(key, jexlExpression);
+    }
+    return jexlExpression;
+  }
+
+  public static JexlScript createScript(String script) {
+    String key = normalize(script);
+    if (isUncacheable(key)) {
+      return ENGINE.createScript(key);
+    }
+    JexlScript jexlScript = scriptCache.getIfPresent(key);
+    if (jexlScript == null) {
+      jexlScript = ENGINE.createScript(key);
+      scriptCache.put(key, jexlScript);
+    }
+    return jexlScript;
+  }
+
+  /**
+   * Same as {@link EngineExpressionEvaluator#findExpressions(String)}, served from a cache for strings which contain
+   * the expression prefix. Returns a new list on every call, callers are free to modify it.
+   */
+  public static List<String> findExpressions(String source) {
+    if (EmptyPredicate.isEmpty(source) || !source.contains(ExpressionConstants.EXPR_START)) {
+      return new ArrayList<>();
+    }
+    if (isUncacheable(source)) {
+      return TrackingExpressionResolver.findExpressions(
+          ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, false, source);
+    }
+    List<String> expressions = foundExpressionsCache.getIfPresent(source);
+    if (expressions == null) {
+      expressions = ImmutableList.copyOf(TrackingExpressionResolver.findExpressions(
+          ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, false, source));
+      foundExpressionsCache.put(source, expressions);
+    }
+    return new ArrayList<>(expressions);
+  }
+
+  public static Map<String, CacheStats> getStats() {
+    return ImmutableMap.of(EXPRESSIONS, expressionCache.stats(), SCRIPTS, scriptCache.stats(), FOUND_EXPRESSIONS,
+        foundExpressionsCache.stats());
+  }
+
+  public static Map<String, Long> getSizes() {
+    return ImmutableMap.of(EXPRESSIONS, expressionCache.size(), SCRIPTS, scriptCache.size(), FOUND_EXPRESSIONS,
+        foundExpressionsCache.size());
+  }
+
+  public static void invalidateAll() {
+    expressionCache.invalidateAll();
+    scriptCache.invalidateAll();
+    foundExpressionsCache.invalidateAll();
+  }
+
+  private static String normalize(String expression) {
+    return expression.trim();
+  }
+
+  // Internal variables get a random name on every evaluation, so their text never repeats and would only evict the
+  // entries which do
+  private static boolean isUncacheable(String text) {
+    return text.contains(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX);
+  }
+}
@@ -21,6 +21,11 @@ public class LogSanitizerHelper {
   public static final String JWT_REGEX = "[\\w-]*\\.[\\w-]*\\.[\\w-]*";
   public static final Pattern pattern = Pattern.compile(JWT_REGEX);
   public static String sanitizeJWT(String message) {
+    // A JWT has at least two dots, most log lines have none
+    int firstDot = message == null ? -1 : message.indexOf('.');
+    if (firstDot < 0 || message.indexOf('.', firstDot + 1) < 0) {
+      return message;
+    }
     String finalMessage = message;
     List<String> regexMatches = pattern.matcher(message)
                                     .results()
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Masks every occurrence of a fixed set of secrets in a single pass over the message, using an Aho-Corasick automaton
+ * compiled once for the set. The cost of masking a message depends on its length only, not on the number of secrets.
+ *
+ * <p>Occurrences which overlap each other are masked together, so no part of a secret is left visible. An instance is
+ * immutable and can be shared between threads.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public final class SecretMasker {
+  private static final SecretMasker EMPTY = new SecretMasker(new String[0]);
+  private static final long NO_KEY = -1L;
+
+  // Goto function, an open addressing map from (node, char) to the child node
+  private final long[] transitionKeys;
+  private final int[] transitionTargets;
+  private final int transitionMask;
+  private final int[] failure;
+  // Length of the longest secret which is a suffix of the text matched by the node, 0 if there is none
+  private final int[] longestMatch;
+
+  public static SecretMasker compile(Collection<String> secrets) {
+    if (secrets == null || secrets.isEmpty()) {
+      return EMPTY;
+    }
+    return new SecretMasker(
+        secrets.stream().filter(secret -> secret != null && !secret.isEmpty()).toArray(String[] ::new));
+  }
+
+  private SecretMasker(String[] secrets) {
+    int maxNodes = 1;
+    for (String secret : secrets) {
+      maxNodes += secret.length();
+    }
+
+    int capacity = Integer.highestOneBit(Math.max(2, maxNodes) * 2 - 1) * 2;
+    transitionKeys = new long[capacity];
+    Arrays.fill(transitionKeys, NO_KEY);
+    transitionTargets = new int[capacity];
+    transitionMask = capacity - 1;
+
+    int[] depth = new int[maxNodes];
+    int[] firstChild = new int[maxNodes];
+    int[] nextSibling = new int[maxNodes];
+    char[] edge = new char[maxNodes];
+    boolean[] terminal = new boolean[maxNodes];
+    Arrays.fill(firstChild, -1);
+
+    int nodes = 1;
+    for (String secret : secrets) {
+      int node = 0;
+      for (int i = 0; i < secret.length(); i++) {
+        char c = secret.charAt(i);
+        int child = transition(node, c);
+        if (child < 0) {
+          child = nodes++;
+          depth[child] = depth[node] + 1;
+          edge[child] = c;
+          nextSibling[child] = firstChild[node];
+          firstChild[node] = child;
+          putTransition(node, c, child);
+        }
+        node = child;
+      }
+      terminal[node] = true;
+    }
+
+    failure = new int[nodes];
+    longestMatch = new int[nodes];
+    // Breadth first, so the failure link of a node always points to an already processed, shallower node
+    int[] queue = new int[nodes];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = 0;
+    while (head < tail) {
+      int node = queue[head++];
+      for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+        int fallback = 0;
+        if (node != 0) {
+          int state = failure[node];
+          while (state != 0 && transition(state, edge[child]) < 0) {
+            state = failure[state];
+          }
+          fallback = Math.max(transition(state, edge[child]), 0);
+        }
+        failure[child] = fallback;
+        longestMatch[child] = terminal[child] ? depth[child] : longestMatch[fallback];
+        queue[tail++] = child;
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return failure.length == 1;
+  }
+
+  /**
+   * Returns the message with every occurrence of the secrets replaced by {@link
+   * io.harness.expression.SecretString#SECRET_MASK}, or the very same string if it contains none.
+   */
+  public String mask(String message) {
+    if (message == null || isEmpty()) {
+      return message;
+    }
+
+    // Masked ranges as [start, end) pairs, merged while scanning
+    int[] ranges = null;
+    int rangeCount = 0;
+    int state = 0;
+    for (int i = 0; i < message.length(); i++) {
+      char c = message.charAt(i);
+      int next;
+      while ((next = transition(state, c)) < 0 && state != 0) {
+        state = failure[state];
+      }
+      state = Math.max(next, 0);
+
+      int length = longestMatch[state];
+      if (length == 0) {
+        continue;
+      }
+      int start = i + 1 - length;
+      while (rangeCount > 0 && start < ranges[2 * rangeCount - 1]) {
+        start = Math.min(start, ranges[2 * rangeCount - 2]);
+        rangeCount--;
+      }
+      if (ranges == null) {
+        ranges = new int[8];
+      } else if (2 * rangeCount + 2 > ranges.length) {
+        ranges = Arrays.copyOf(ranges, ranges.length * 2);
+      }
+      ranges[2 * rangeCount] = start;
+      ranges[2 * rangeCount + 1] = i + 1;
+      rangeCount++;
+    }
+
+    if (rangeCount == 0) {
+      return message;
+    }
+    StringBuilder builder = new StringBuilder(message.length() + rangeCount * SECRET_MASK.length());
+    int position = 0;
+    for (int range = 0; range < rangeCount; range++) {
+      builder.append(message, position, ranges[2 * range]).append(SECRET_MASK);
+      position = ranges[2 * range + 1];
+    }
+    return builder.append(message, position, message.length()).toString();
+  }
+
+  private int transition(int node, char c) {
+    long key = key(node, c);
+    for (int slot = slot(key);; slot = (slot + 1) & transitionMask) {
+      long candidate = transitionKeys[slot];
+      if (candidate == key) {
+        return transitionTargets[slot];
+      }
+      if (candidate == NO_KEY) {
+        return -1;
+      }
+    }
+  }
+
+  private void putTransition(int node, char c, int target) {
+    long key = key(node, c);
+    int slot = slot(key);
+    while (transitionKeys[slot] != NO_KEY) {
+      slot = (slot + 1) & transitionMask;
+    }
+    transitionKeys[slot] = key;
+    transitionTargets[slot] = target;
+  }
+
+  private int slot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & transitionMask;
+  }
+
+  private static long key(int node, char c) {
+    return ((long) node << Character.SIZE) | c;
+  }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+/**
+ * Codecs for {@link KryoSerializer#asCompressedBytes(Object, KryoCompression)}. The codec is not recorded in the
+ * output, so the reader has to use the same one as the writer.
+ */
+public enum KryoCompression {
+  /** zlib stream, the format of {@link KryoSerializer#asDeflatedBytes(Object)}. */
+  DEFLATE,
+  /** Length prefixed LZ4 block, several times faster than deflate for a somewhat larger output. */
+  LZ4
+}
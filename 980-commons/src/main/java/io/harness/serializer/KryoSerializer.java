@@ -20,15 +20,29 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
 
 @Singleton
 @Slf4j
@@ -51,6 +65,19 @@ public class KryoSerializer {
     }
   }
 
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  @VisibleForTesting static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+  private static final int COMPRESSION_BUFFER_SIZE = 8 * 1024;
+  private static final int LZ4_LENGTH_PREFIX = Integer.BYTES;
+  private static final int POOL_CAPACITY = 2 * Runtime.getRuntime().availableProcessors();
+
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+  // Shared by all serializers, the buffers and codecs hold no state between calls. The pools are bounded so that
+  // short lived threads do not leave their buffers and native zlib memory behind.
+  private static final BlockingQueue<Output> OUTPUTS = new ArrayBlockingQueue<>(POOL_CAPACITY);
+  private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_CAPACITY);
+  private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_CAPACITY);
+
   private final KryoPool pool;
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
@@ -104,37 +131,90 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
+    Output output = borrowOutput();
+    try {
+      writeTo(obj, output);
+      return output.toBytes();
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      releaseOutput(output);
     }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
+    return asCompressedBytes(obj, KryoCompression.DEFLATE);
+  }
+
+  /**
+   * Serializes the object into a pooled buffer and compresses it with the given codec. The output of
+   * {@link KryoCompression#DEFLATE} is the same zlib stream as before, so it can be read by older versions.
+   */
+  public byte[] asCompressedBytes(Object obj, KryoCompression compression) {
+    Output output = borrowOutput();
+    try {
+      writeTo(obj, output);
+      return compression == KryoCompression.LZ4 ? lz4Compress(output) : deflate(output);
+    } finally {
+      releaseOutput(output);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
+  /**
+   * Streams the deflated form of the object to the given stream, for callers which write straight into a payload
+   * such as a grpc ByteString output. The stream is not closed.
+   */
+  public void writeDeflated(Object obj, OutputStream outputStream) {
+    Output output = borrowOutput();
+    Deflater deflater = borrowDeflater();
+    try {
+      writeTo(obj, output);
+      DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater, COMPRESSION_BUFFER_SIZE);
+      deflaterStream.write(output.getBuffer(), 0, output.position());
+      deflaterStream.finish();
+      deflaterStream.flush();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } finally {
+      releaseDeflater(deflater);
+      releaseOutput(output);
     }
   }
 
+  private byte[] deflate(Output output) {
+    Deflater deflater = borrowDeflater();
+    try {
+      deflater.setInput(output.getBuffer(), 0, output.position());
+      deflater.finish();
+      // Serialized graphs usually compress well, a quarter of the input is a good first guess
+      ByteArrayOutputStream byteStream = new ByteArrayOutputStream(Math.max(64, output.position() / 4));
+      byte[] chunk = new byte[COMPRESSION_BUFFER_SIZE];
+      while (!deflater.finished()) {
+        byteStream.write(chunk, 0, deflater.deflate(chunk));
+      }
+      return byteStream.toByteArray();
+    } finally {
+      releaseDeflater(deflater);
+    }
+  }
+
+  private byte[] lz4Compress(Output output) {
+    int length = output.position();
+    LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+    byte[] compressed = new byte[LZ4_LENGTH_PREFIX + compressor.maxCompressedLength(length)];
+    ByteBuffer.wrap(compressed).putInt(length);
+    int compressedLength = compressor.compress(
+        output.getBuffer(), 0, length, compressed, LZ4_LENGTH_PREFIX, compressed.length - LZ4_LENGTH_PREFIX);
+    return Arrays.copyOf(compressed, LZ4_LENGTH_PREFIX + compressedLength);
+  }
+
+  private void writeTo(Object obj, Output output) {
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
@@ -146,10 +226,32 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
+    return asDecompressedObject(bytes, KryoCompression.DEFLATE);
+  }
+
+  public Object asDecompressedObject(byte[] bytes, KryoCompression compression) {
+    if (compression == KryoCompression.LZ4) {
+      int length = ByteBuffer.wrap(bytes).getInt();
+      byte[] decompressed = new byte[length];
+      LZ4_FACTORY.fastDecompressor().decompress(bytes, LZ4_LENGTH_PREFIX, decompressed, 0, length);
+      return asObject(decompressed);
+    }
+    return asInflatedObject(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Reads an object written by {@link #asDeflatedBytes(Object)} or {@link #writeDeflated(Object, OutputStream)}
+   * straight from a stream, without copying the compressed payload into an array first. The stream is not closed.
+   */
+  public Object asInflatedObject(InputStream inputStream) {
+    Inflater inflater = borrowInflater();
+    try {
+      Input input = new Input(new InflaterInputStream(inputStream, inflater, COMPRESSION_BUFFER_SIZE));
       return pool.run(kryo -> kryo.readClassAndObject(input));
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      releaseInflater(inflater);
     }
   }
 
@@ -160,4 +262,54 @@ public class KryoSerializer {
   public boolean isRegistered(Class cls) {
     return pool.run(kryo -> kryo.getClassResolver().getRegistration(cls) != null);
   }
+
+  // The pooled objects are taken out of the pool while in use, so that a nested call, for example from a custom
+  // serializer, gets another instance instead of clobbering the one of the outer call.
+
+  private static Output borrowOutput() {
+    Output output = OUTPUTS.poll();
+    if (output == null) {
+      return new Output(INITIAL_BUFFER_SIZE, -1);
+    }
+    output.clear();
+    return output;
+  }
+
+  private static void releaseOutput(Output output) {
+    // Do not pin the memory of an occasional huge object while the buffer waits in the pool
+    if (output.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+      output.setBuffer(new byte[INITIAL_BUFFER_SIZE], -1);
+    }
+    OUTPUTS.offer(output);
+  }
+
+  private static Deflater borrowDeflater() {
+    Deflater deflater = DEFLATERS.poll();
+    return deflater == null ? new Deflater() : deflater;
+  }
+
+  private static void releaseDeflater(Deflater deflater) {
+    deflater.reset();
+    if (!DEFLATERS.offer(deflater)) {
+      // Frees the native memory now instead of when the deflater is finalized
+      deflater.end();
+    }
+  }
+
+  private static Inflater borrowInflater() {
+    Inflater inflater = INFLATERS.poll();
+    return inflater == null ? new Inflater() : inflater;
+  }
+
+  private static void releaseInflater(Inflater inflater) {
+    inflater.reset();
+    if (!INFLATERS.offer(inflater)) {
+      inflater.end();
+    }
+  }
+
+  @VisibleForTesting
+  static List<Output> getPooledOutputs() {
+    return new ArrayList<>(OUTPUTS);
+  }
 }
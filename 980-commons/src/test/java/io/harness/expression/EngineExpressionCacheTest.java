@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.cache.CacheStats;
+import java.util.List;
+import org.apache.commons.jexl3.JexlException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class EngineExpressionCacheTest extends CategoryTest {
+  @Before
+  public void setUp() {
+    EngineExpressionCache.invalidateAll();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCreateExpressionIsCachedByNormalizedText() {
+    CacheStats before = EngineExpressionCache.getStats().get(EngineExpressionCache.EXPRESSIONS);
+    assertThat(EngineExpressionCache.createExpression("a.b + 1"))
+        .isSameAs(EngineExpressionCache.createExpression("  a.b + 1 "));
+    CacheStats stats = EngineExpressionCache.getStats().get(EngineExpressionCache.EXPRESSIONS).minus(before);
+    assertThat(stats.hitCount()).isEqualTo(1);
+    assertThat(stats.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCreateScriptIsCachedAndParseErrorsAreNotWrapped() {
+    assertThat(EngineExpressionCache.createScript("var x = 1; x + 1"))
+        .isSameAs(EngineExpressionCache.createScript("var x = 1; x + 1"));
+    assertThatThrownBy(() -> EngineExpressionCache.createScript("a.b +")).isInstanceOf(JexlException.class);
+    assertThat(EngineExpressionCache.getSizes().get(EngineExpressionCache.SCRIPTS)).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFindExpressionsReturnsModifiableCopies() {
+    String source = "<+pipeline.name> - <+stage.name>";
+    List<String> expressions = EngineExpressionCache.findExpressions(source);
+    expressions.clear();
+
+    assertThat(EngineExpressionCache.findExpressions(source)).containsExactly("<+pipeline.name>", "<+stage.name>");
+    assertThat(EngineExpressionCache.findExpressions("plain text")).isEmpty();
+    assertThat(EngineExpressionCache.getSizes().get(EngineExpressionCache.FOUND_EXPRESSIONS)).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testInternalVariablesAreNotCached() {
+    String variable = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "abcdefghijkl";
+
+    assertThat(EngineExpressionCache.createExpression(variable + " + 1")).isNotNull();
+    assertThat(EngineExpressionCache.createScript("var x = " + variable + "; x + 1")).isNotNull();
+    assertThat(EngineExpressionCache.findExpressions("<+" + variable + "> - <+stage.name>"))
+        .containsExactly("<+" + variable + ">", "<+stage.name>");
+
+    assertThat(EngineExpressionCache.getSizes()).containsOnly(entry(EngineExpressionCache.EXPRESSIONS, 0L),
+        entry(EngineExpressionCache.SCRIPTS, 0L), entry(EngineExpressionCache.FOUND_EXPRESSIONS, 0L));
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testMaskEveryOccurrence() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("secret1", "secret2", "cret"));
+
+    assertThat(secretMasker.mask("secret1 and secret2, secret1secret2"))
+        .isEqualTo(SECRET_MASK + " and " + SECRET_MASK + ", " + SECRET_MASK + SECRET_MASK);
+    // A shorter secret inside a longer one does not leave the rest of the longer one visible
+    assertThat(secretMasker.mask("my secret3")).isEqualTo("my se" + SECRET_MASK + "3");
+    assertThat(secretMasker.mask("nothing to hide")).isEqualTo("nothing to hide");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testOverlappingSecretsAreMaskedTogether() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("abcd", "cdef", "bc"));
+
+    assertThat(secretMasker.mask("xabcdefx")).isEqualTo("x" + SECRET_MASK + "x");
+    assertThat(secretMasker.mask("xabcx")).isEqualTo("xa" + SECRET_MASK + "x");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testManySecrets() {
+    List<String> secrets = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      secrets.add("password-" + i + "-value");
+    }
+    SecretMasker secretMasker = SecretMasker.compile(secrets);
+
+    assertThat(secretMasker.mask("login password-999-value password-1000-value"))
+        .isEqualTo("login " + SECRET_MASK + " password-1000-value");
+    assertThat(SecretMasker.compile(null).isEmpty()).isTrue();
+    assertThat(SecretMasker.compile(null).mask("password-1-value")).isEqualTo("password-1-value");
+  }
+}
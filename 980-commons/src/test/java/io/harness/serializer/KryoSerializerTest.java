@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.io.Input;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.zip.InflaterInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private static final String VALUE = StringUtils.repeat("response data ", 1000);
+
+  private final KryoSerializer kryoSerializer = new KryoSerializer(Collections.emptySet(), true);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDeflatedBytesKeepTheZlibFormat() {
+    byte[] deflated = kryoSerializer.asDeflatedBytes(VALUE);
+    assertThat(deflated.length).isLessThan(VALUE.length());
+    assertThat(kryoSerializer.asInflatedObject(deflated)).isEqualTo(VALUE);
+
+    // Payloads written before the buffers were pooled are plain zlib streams of the kryo bytes
+    try (Input input = new Input(new InflaterInputStream(new ByteArrayInputStream(deflated)))) {
+      assertThat(input.readBytes(kryoSerializer.asBytes(VALUE).length)).isEqualTo(kryoSerializer.asBytes(VALUE));
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPooledBuffersAreResetBetweenCalls() {
+    byte[] large = kryoSerializer.asDeflatedBytes(VALUE);
+    byte[] small = kryoSerializer.asDeflatedBytes("small");
+    assertThat(kryoSerializer.asInflatedObject(small)).isEqualTo("small");
+    assertThat(kryoSerializer.asInflatedObject(large)).isEqualTo(VALUE);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes("small"))).isEqualTo("small");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLargeBuffersAreShrunkBeforeTheyArePooled() {
+    String huge = StringUtils.repeat("x", 2 * KryoSerializer.MAX_POOLED_BUFFER_SIZE);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(huge))).isEqualTo(huge);
+
+    assertThat(KryoSerializer.getPooledOutputs())
+        .isNotEmpty()
+        .allMatch(output -> output.getBuffer().length <= KryoSerializer.MAX_POOLED_BUFFER_SIZE);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(VALUE))).isEqualTo(VALUE);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStreamsAndLz4RoundTrip() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeDeflated(VALUE, outputStream);
+    assertThat(outputStream.toByteArray()).isEqualTo(kryoSerializer.asDeflatedBytes(VALUE));
+    assertThat(kryoSerializer.asInflatedObject(new ByteArrayInputStream(outputStream.toByteArray()))).isEqualTo(VALUE);
+
+    byte[] lz4 = kryoSerializer.asCompressedBytes(VALUE, KryoCompression.LZ4);
+    assertThat(lz4.length).isLessThan(VALUE.length());
+    assertThat(kryoSerializer.asDecompressedObject(lz4, KryoCompression.LZ4)).isEqualTo(VALUE);
+  }
+}
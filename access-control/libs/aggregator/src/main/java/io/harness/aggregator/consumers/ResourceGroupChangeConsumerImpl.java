@@ -16,6 +16,7 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
@@ -51,15 +52,17 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @Slf4j
 public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceGroupDBO> {
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final ResourceGroupRepository resourceGroupRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
 
-  public ResourceGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      ResourceGroupRepository resourceGroupRepository, String executorServiceSuffix,
-      ChangeConsumerService changeConsumerService) {
+  public ResourceGroupChangeConsumerImpl(ACLRepository aclRepository, ACLCache aclCache,
+      RoleAssignmentRepository roleAssignmentRepository, ResourceGroupRepository resourceGroupRepository,
+      String executorServiceSuffix, ChangeConsumerService changeConsumerService) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.resourceGroupRepository = resourceGroupRepository;
     this.changeConsumerService = changeConsumerService;
@@ -94,7 +97,7 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnResourceGroupUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, resourceGroup.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, resourceGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -134,14 +137,16 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
 
   private static class ReProcessRoleAssignmentOnResourceGroupUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final ResourceGroupDBO updatedResourceGroup;
     private final ChangeConsumerService changeConsumerService;
 
-    private ReProcessRoleAssignmentOnResourceGroupUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnResourceGroupUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment,
         ResourceGroupDBO updatedResourceGroup) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedResourceGroup = updatedResourceGroup;
@@ -204,7 +209,10 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
           List<ACL> implicitAclsToCreate = changeConsumerService.getImplicitACLsForRoleAssignment(
               roleAssignmentDBO, new HashSet<>(), new HashSet<>());
           numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(implicitAclsToCreate);
+          aclCache.invalidateForACLs(implicitAclsToCreate);
         }
+        aclCache.invalidate(existingPrincipals);
+        aclCache.invalidateForACLs(aclsToCreate);
       }
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
@@ -18,6 +19,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.DelayLogContext;
 
 import com.google.inject.Singleton;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -29,14 +31,16 @@ import org.apache.commons.lang3.StringUtils;
 @Slf4j
 public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssignmentDBO> {
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final ChangeConsumerService changeConsumerService;
   private final RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
 
-  public RoleAssignmentChangeConsumerImpl(ACLRepository aclRepository,
+  public RoleAssignmentChangeConsumerImpl(ACLRepository aclRepository, ACLCache aclCache,
       RoleAssignmentRepository roleAssignmentRepository, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.changeConsumerService = changeConsumerService;
     this.roleAssignmentCRUDEventHandler = roleAssignmentCRUDEventHandler;
@@ -70,14 +74,20 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   }
 
   private long deleteACLs(String id) {
-    return aclRepository.deleteByRoleAssignmentId(id);
+    List<String> principals = aclCache.isEnabled() ? aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id)
+                                                   : Collections.emptyList();
+    long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentId(id);
+    aclCache.invalidate(principals);
+    return numberOfACLsDeleted;
   }
 
   private long createACLs(RoleAssignmentDBO roleAssignment) {
     List<ACL> aclsToCreate = changeConsumerService.getAClsForRoleAssignment(roleAssignment);
     aclsToCreate.addAll(
         changeConsumerService.getImplicitACLsForRoleAssignment(roleAssignment, new HashSet<>(), new HashSet<>()));
-    return aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    long numberOfACLsCreated = aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    aclCache.invalidateForACLs(aclsToCreate);
+    return numberOfACLsCreated;
   }
 
   @Override
@@ -15,6 +15,7 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
@@ -52,14 +53,17 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @Singleton
 public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final RoleRepository roleRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
 
-  public RoleChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      RoleRepository roleRepository, String executorServiceSuffix, ChangeConsumerService changeConsumerService) {
+  public RoleChangeConsumerImpl(ACLRepository aclRepository, ACLCache aclCache,
+      RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository, String executorServiceSuffix,
+      ChangeConsumerService changeConsumerService) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.roleRepository = roleRepository;
     String changeConsumerThreadFactory = String.format("%s-role-change-consumer", executorServiceSuffix) + "-%d";
@@ -91,7 +95,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnRoleUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, role.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, role.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -130,13 +134,15 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
 
   private static class ReProcessRoleAssignmentOnRoleUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final RoleDBO updatedRole;
     private final ChangeConsumerService changeConsumerService;
 
-    private ReProcessRoleAssignmentOnRoleUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnRoleUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment, RoleDBO updatedRole) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedRole = updatedRole;
@@ -152,13 +158,15 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
       Set<String> permissionsRemovedFromRole = Sets.difference(existingPermissions,
           updatedRole.getPermissions() == null ? Collections.emptySet() : updatedRole.getPermissions());
 
+      // Principals only drop out of the role assignment when all of its ACLs are deleted, in which case there are no
+      // existing resource selectors left either, so reading them before the deletion is safe
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       long numberOfACLsDeleted =
           aclRepository.deleteByRoleAssignmentIdAndPermissions(roleAssignmentDBO.getId(), permissionsRemovedFromRole);
 
       Set<ResourceSelector> existingResourceSelectors =
           aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentDBO.getId());
-      Set<String> existingPrincipals =
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       PrincipalType principalType =
           USER_GROUP.equals(roleAssignmentDBO.getPrincipalType()) ? USER : roleAssignmentDBO.getPrincipalType();
 
@@ -175,9 +183,12 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
                         roleAssignmentDBO, resourceSelector, false)))));
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
-      numberOfACLsCreated +=
-          aclRepository.insertAllIgnoringDuplicates(changeConsumerService.getImplicitACLsForRoleAssignment(
-              roleAssignmentDBO, new HashSet<>(), permissionsAddedToRole));
+      List<ACL> implicitACLsToCreate = changeConsumerService.getImplicitACLsForRoleAssignment(
+          roleAssignmentDBO, new HashSet<>(), permissionsAddedToRole);
+      numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(implicitACLsToCreate);
+      aclCache.invalidate(existingPrincipals);
+      aclCache.invalidateForACLs(aclsToCreate);
+      aclCache.invalidateForACLs(implicitACLsToCreate);
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
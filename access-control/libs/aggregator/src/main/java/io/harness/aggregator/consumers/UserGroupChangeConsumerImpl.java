@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -47,6 +48,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @Slf4j
 public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO> {
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final UserGroupRepository userGroupRepository;
   private final ExecutorService executorService;
@@ -54,11 +56,12 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private final ScopeService scopeService;
   private final UserGroupCRUDEventHandler userGroupCRUDEventHandler;
 
-  public UserGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      UserGroupRepository userGroupRepository, String executorServiceSuffix,
-      ChangeConsumerService changeConsumerService, ScopeService scopeService,
+  public UserGroupChangeConsumerImpl(ACLRepository aclRepository, ACLCache aclCache,
+      RoleAssignmentRepository roleAssignmentRepository, UserGroupRepository userGroupRepository,
+      String executorServiceSuffix, ChangeConsumerService changeConsumerService, ScopeService scopeService,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.userGroupRepository = userGroupRepository;
     this.scopeService = scopeService;
@@ -99,7 +102,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnUserGroupUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, userGroup.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, userGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -141,13 +144,15 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
 
   private static class ReProcessRoleAssignmentOnUserGroupUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final ChangeConsumerService changeConsumerService;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final UserGroupDBO updatedUserGroup;
 
-    private ReProcessRoleAssignmentOnUserGroupUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnUserGroupUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment, UserGroupDBO updatedUserGroup) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedUserGroup = updatedUserGroup;
@@ -174,6 +179,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
       numberOfACLsCreated +=
           aclRepository.insertAllIgnoringDuplicates(changeConsumerService.getImplicitACLsForRoleAssignment(
               roleAssignmentDBO, principalsAddedToUserGroup, new HashSet<>()));
+      aclCache.invalidate(Sets.union(existingPrincipals, principalsAddedToUserGroup));
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -108,21 +109,21 @@ public abstract class AggregatorBaseSyncController implements Runnable {
     SECONDARY;
   }
 
-  public AggregatorBaseSyncController(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      RoleRepository roleRepository, ResourceGroupRepository resourceGroupRepository,
-      UserGroupRepository userGroupRepository, AggregatorConfiguration aggregatorConfiguration,
-      PersistentLocker persistentLocker, ChangeEventFailureHandler changeEventFailureHandler,
-      AggregatorJobType aggregatorJobType, ChangeConsumerService changeConsumerService,
-      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
+  public AggregatorBaseSyncController(ACLRepository aclRepository, ACLCache aclCache,
+      RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository,
+      ResourceGroupRepository resourceGroupRepository, UserGroupRepository userGroupRepository,
+      AggregatorConfiguration aggregatorConfiguration, PersistentLocker persistentLocker,
+      ChangeEventFailureHandler changeEventFailureHandler, AggregatorJobType aggregatorJobType,
+      ChangeConsumerService changeConsumerService, RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
     ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
-    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, roleRepository, aggregatorJobType.name(), changeConsumerService);
+        aclRepository, aclCache, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, aclCache,
+        roleAssignmentRepository, roleRepository, aggregatorJobType.name(), changeConsumerService);
     ChangeConsumer<ResourceGroupDBO> resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository,
-        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), changeConsumerService);
+        aclCache, roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), changeConsumerService);
     ChangeConsumer<UserGroupDBO> userGroupChangeConsumer =
-        new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
+        new UserGroupChangeConsumerImpl(aclRepository, aclCache, roleAssignmentRepository, userGroupRepository,
             aggregatorJobType.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
     collectionToConsumerMap = new HashMap<>();
     collectionToConsumerMap.put(ROLE_ASSIGNMENTS, roleAssignmentChangeConsumer);
@@ -13,6 +13,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.PRIMARY_COL
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
 import io.harness.aggregator.repositories.AggregatorSecondarySyncStateRepository;
@@ -43,6 +44,7 @@ public class AggregatorController implements Runnable {
 
   private final AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository;
   private final ACLRepository secondaryACLRepository;
+  private final ACLCache aclCache;
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
 
@@ -50,12 +52,13 @@ public class AggregatorController implements Runnable {
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
       AggregatorPrimarySyncController primarySyncJobController,
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
-      @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
+      @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository, ACLCache aclCache,
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.secondaryACLRepository = secondaryACLRepository;
+    this.aclCache = aclCache;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
   }
@@ -123,6 +126,7 @@ public class AggregatorController implements Runnable {
       if (primaryControllerLock != null && secondaryControllerLock != null) {
         log.info("Both child controller locks have been acquired. Switching primary");
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
+        aclCache.invalidateAll();
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
       } else {
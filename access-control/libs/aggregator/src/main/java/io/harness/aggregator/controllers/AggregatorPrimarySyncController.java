@@ -10,6 +10,7 @@ package io.harness.aggregator.controllers;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
 import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupRepository;
@@ -44,15 +45,16 @@ import org.redisson.api.RLock;
 public class AggregatorPrimarySyncController extends AggregatorBaseSyncController implements Runnable {
   @Inject
   public AggregatorPrimarySyncController(@Named(ACL.PRIMARY_COLLECTION) ACLRepository primaryAclRepository,
-      RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository,
+      ACLCache aclCache, RoleAssignmentRepository roleAssignmentRepository, RoleRepository roleRepository,
       ResourceGroupRepository resourceGroupRepository, UserGroupRepository userGroupRepository,
       AggregatorConfiguration aggregatorConfiguration, PersistentLocker persistentLocker,
       ChangeEventFailureHandler changeEventFailureHandler, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
-    super(primaryAclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
-        aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.PRIMARY,
-        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService);
+    super(primaryAclRepository, aclCache, roleAssignmentRepository, roleRepository, resourceGroupRepository,
+        userGroupRepository, aggregatorConfiguration, persistentLocker, changeEventFailureHandler,
+        AggregatorJobType.PRIMARY, changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler,
+        scopeService);
   }
 
   @Override
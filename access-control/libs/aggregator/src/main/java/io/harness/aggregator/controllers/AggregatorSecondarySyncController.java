@@ -12,6 +12,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_C
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.aggregator.api.SecondarySyncStatus;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -62,9 +63,11 @@ public class AggregatorSecondarySyncController extends AggregatorBaseSyncControl
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository,
       ChangeConsumerService changeConsumerService, RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
-    super(aclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
-        aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.SECONDARY,
-        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService);
+    // The secondary collection is not served until it is switched to primary, which drops the whole cache
+    super(aclRepository, new NoOpACLCache(), roleAssignmentRepository, roleRepository, resourceGroupRepository,
+        userGroupRepository, aggregatorConfiguration, persistentLocker, changeEventFailureHandler,
+        AggregatorJobType.SECONDARY, changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler,
+        scopeService);
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.aclRepository = aclRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
@@ -16,6 +16,9 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static org.mockito.Mockito.mock;
 
 import io.harness.accesscontrol.AccessControlCoreModule;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -144,6 +147,18 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
         return MongoConfig.builder().build();
       }
 
+      @Provides
+      @Singleton
+      ACLCacheConfig aclCacheConfig() {
+        return ACLCacheConfig.builder().build();
+      }
+
+      @Provides
+      @Singleton
+      ACLCacheInvalidationBroadcaster aclCacheInvalidationBroadcaster() {
+        return new NoOpACLCacheInvalidationBroadcaster();
+      }
+
       @Provides
       @Singleton
       Set<Class<? extends TypeConverter>> morphiaConverters() {
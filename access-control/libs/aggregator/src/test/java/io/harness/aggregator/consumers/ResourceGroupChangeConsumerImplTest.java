@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.PrincipalType;
@@ -59,6 +60,7 @@ import org.junit.experimental.categories.Category;
 @OwnedBy(PL)
 public class ResourceGroupChangeConsumerImplTest extends AggregatorTestBase {
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  private ACLCache aclCache;
   private RoleAssignmentRepository roleAssignmentRepository;
   private ResourceGroupRepository resourceGroupRepository;
   private RoleService roleService;
@@ -71,6 +73,7 @@ public class ResourceGroupChangeConsumerImplTest extends AggregatorTestBase {
 
   @Before
   public void setup() {
+    aclCache = mock(ACLCache.class);
     ScopeService scopeService = mock(ScopeService.class);
     roleService = mock(RoleService.class);
     resourceGroupService = mock(ResourceGroupService.class);
@@ -79,8 +82,8 @@ public class ResourceGroupChangeConsumerImplTest extends AggregatorTestBase {
     resourceGroupRepository = mock(ResourceGroupRepository.class);
     ChangeConsumerService changeConsumerService = new ChangeConsumerServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>());
-    resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository,
-        resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService);
+    resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository, aclCache,
+        roleAssignmentRepository, resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService);
     aclRepository.cleanCollection();
     randomCount = ThreadLocalRandom.current().nextInt(1, 10);
     id = randomAlphabetic(10);
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -63,6 +64,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
   private ScopeService scopeService;
   private RoleAssignmentRepository roleAssignmentRepository;
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  private ACLCache aclCache;
   private RoleAssignmentChangeConsumerImpl roleAssignmentChangeConsumer;
   private RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
 
@@ -74,6 +76,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
 
   @Before
   public void setup() {
+    aclCache = mock(ACLCache.class);
     roleAssignmentCRUDEventHandler = mock(RoleAssignmentCRUDEventHandler.class);
     roleService = mock(RoleService.class);
     resourceGroupService = mock(ResourceGroupService.class);
@@ -83,7 +86,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService = new ChangeConsumerServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>());
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, aclCache, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
     scopeIdentifier =
         Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId(getRandomString(10)).build().toString();
     role = RoleTestUtils.buildRole(scopeIdentifier);
@@ -179,6 +182,18 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     verify(roleAssignmentCRUDEventHandler, times(1)).handleRoleAssignmentDelete(roleAssignmentDBO.getId());
   }
 
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentDeletion_InvalidatesACLCache() {
+    when(aclCache.isEnabled()).thenReturn(true);
+    RoleAssignmentDBO roleAssignmentDBO =
+        createACLsForRoleAssignment(Principal.builder().principalIdentifier(user).principalType(USER).build());
+    roleAssignmentChangeConsumer.consumeDeleteEvent(roleAssignmentDBO.getId());
+    verifyNoACLs(roleAssignmentDBO);
+    verify(aclCache, times(1)).invalidate(Collections.singletonList(user));
+  }
+
   private void verifyACLs(RoleAssignmentDBO assignment) {
     assertThat(new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(assignment.getId())))
         .isEqualTo(role.getPermissions());
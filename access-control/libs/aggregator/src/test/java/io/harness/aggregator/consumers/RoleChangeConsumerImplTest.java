@@ -19,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -58,6 +59,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @OwnedBy(PL)
 public class RoleChangeConsumerImplTest extends AggregatorTestBase {
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  private ACLCache aclCache;
   private RoleAssignmentRepository roleAssignmentRepository;
   private RoleRepository roleRepository;
   private RoleService roleService;
@@ -70,6 +72,7 @@ public class RoleChangeConsumerImplTest extends AggregatorTestBase {
 
   @Before
   public void setup() {
+    aclCache = mock(ACLCache.class);
     roleService = mock(RoleService.class);
     roleAssignmentRepository = mock(RoleAssignmentRepository.class);
     roleRepository = mock(RoleRepository.class);
@@ -79,14 +82,14 @@ public class RoleChangeConsumerImplTest extends AggregatorTestBase {
     scopeService = mock(ScopeService.class);
     ChangeConsumerService changeConsumerService = new ChangeConsumerServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>());
-    roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository, roleRepository,
+    roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, aclCache, roleAssignmentRepository, roleRepository,
         AggregatorJobType.PRIMARY.name(), changeConsumerService);
     aclRepository.cleanCollection();
     scopeIdentifier = getRandomString(20);
     role = buildRoleRBO(scopeIdentifier, ThreadLocalRandom.current().nextInt(1, 4));
     resourceGroup = buildResourceGroup(scopeIdentifier);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, aclCache, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
 
     mockRoleServices(role);
     when(resourceGroupService.get(
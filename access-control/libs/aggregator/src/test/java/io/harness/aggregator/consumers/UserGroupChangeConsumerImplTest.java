@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -63,6 +64,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 @OwnedBy(PL)
 public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
   @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  private ACLCache aclCache;
   private RoleAssignmentRepository roleAssignmentRepository;
   private UserGroupRepository userGroupRepository;
   private UserGroupService userGroupService;
@@ -76,6 +78,7 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
 
   @Before
   public void setup() {
+    aclCache = mock(ACLCache.class);
     userGroupService = mock(UserGroupService.class);
     roleAssignmentRepository = mock(RoleAssignmentRepository.class);
     userGroupRepository = mock(UserGroupRepository.class);
@@ -87,10 +90,10 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService = new ChangeConsumerServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>());
     userGroupChangeConsumer =
-        new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
+        new UserGroupChangeConsumerImpl(aclRepository, aclCache, roleAssignmentRepository, userGroupRepository,
             AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, aclCache, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
     aclRepository.cleanCollection();
     testScopeIdentifier = getRandomString(20);
     scopeIdentifier = "/ACCOUNT/" + testScopeIdentifier;
@@ -38,6 +38,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -99,10 +100,9 @@ public class ACLServiceImpl implements ACLService {
     return resourceSelectors;
   }
 
-  private List<String> getACLsForPrincipal(
-      Principal principal, Criteria principalCriteria, List<PermissionCheck> permissionChecks) {
-    List<String> permissions =
-        permissionChecks.stream().map(PermissionCheck::getPermission).collect(Collectors.toList());
+  private PrincipalPermissionIndex getPermissionIndexForPrincipal(
+      Criteria principalCriteria, List<PermissionCheck> permissionChecks) {
+    Set<String> permissions = permissionChecks.stream().map(PermissionCheck::getPermission).collect(Collectors.toSet());
     principalCriteria.and(RoleAssignmentDBOKeys.disabled).is(false);
     MatchOperation match = Aggregation.match(principalCriteria);
     Criteria permissionCriteria = Criteria.where("roleInfo.permissions").in(permissions);
@@ -118,29 +118,25 @@ public class ACLServiceImpl implements ACLService {
     AggregationResults<RoleAssignmentAggregateDBO> results =
         mongoTemplate.aggregate(aggregation, RoleAssignmentDBO.class, RoleAssignmentAggregateDBO.class);
 
-    List<String> acls = new ArrayList<>();
+    PrincipalPermissionIndex permissionIndex = new PrincipalPermissionIndex();
     for (RoleAssignmentAggregateDBO result : results) {
       for (ResourceSelector resourceSelector : getResourceSelectorsFromRoleAssignment(result.getResourceGroupInfo())) {
-        String scopeIdentifier, selector;
-        if (resourceSelector.getSelector().contains("$")) {
-          scopeIdentifier = resourceSelector.getSelector().split("\\$")[0];
-          selector = resourceSelector.getSelector().split("\\$")[1];
+        String[] scopeAndSelector = resourceSelector.getSelector().split("\\$");
+        if (scopeAndSelector.length > 1) {
+          permissionIndex.add(result.getPermission(), scopeAndSelector[0], scopeAndSelector[1]);
         } else {
-          scopeIdentifier = result.getScopeIdentifier();
-          selector = resourceSelector.getSelector();
+          permissionIndex.add(result.getPermission(), result.getScopeIdentifier(), resourceSelector.getSelector());
         }
-        acls.add(ACL.getAclQueryString(scopeIdentifier, selector, principal.getPrincipalType().name(),
-            principal.getPrincipalIdentifier(), result.getPermission()));
       }
     }
-    return acls;
+    return permissionIndex;
   }
 
   @Override
   public List<PermissionCheckResult> checkAccessUsingRoleAssignments(String accountIdentifier, Principal principal,
       List<PermissionCheck> permissionChecks, ResourceAttributeProvider resourceAttributeProvider) {
     Criteria principalCriteria = new Criteria();
-    List<String> acls = new ArrayList<>();
+    PrincipalPermissionIndex permissionIndex = new PrincipalPermissionIndex();
     String accountScope = "/ACCOUNT/" + accountIdentifier;
     if (PrincipalType.USER.equals(principal.getPrincipalType())) {
       List<Criteria> principals = new ArrayList<>();
@@ -166,9 +162,9 @@ public class ACLServiceImpl implements ACLService {
                                 .and(RoleAssignmentDBOKeys.scopeIdentifier)
                                 .regex(userGroup.getScopeIdentifier())));
       principalCriteria.orOperator(principals.toArray(new Criteria[0]));
-      acls = getACLsForPrincipal(principal, principalCriteria, permissionChecks);
+      permissionIndex = getPermissionIndexForPrincipal(principalCriteria, permissionChecks);
     } else if (PrincipalType.SERVICE_ACCOUNT.equals(principal.getPrincipalType())) {
-      acls = getACLsForPrincipal(principal,
+      permissionIndex = getPermissionIndexForPrincipal(
           Criteria.where(RoleAssignmentDBOKeys.principalIdentifier)
               .is(principal.getPrincipalIdentifier())
               .and(RoleAssignmentDBOKeys.principalType)
@@ -185,8 +181,12 @@ public class ACLServiceImpl implements ACLService {
       if (disabledPermissions.contains(permissionCheck.getPermission())) {
         permissionCheckResults.add(getPermissionCheckResult(permissionCheck, true));
       } else {
-        Set<String> queryStrings = aclDAO.getQueryStrings(permissionCheck, principal);
-        boolean permitted = queryStrings.stream().anyMatch(acls::contains);
+        Map<String, Set<String>> resourceSelectorsByScope =
+            permissionIndex.getResourceSelectorsByScope(permissionCheck.getPermission());
+        boolean permitted = !resourceSelectorsByScope.isEmpty()
+            && aclDAO.anyScopeAndResourceSelectorMatches(permissionCheck,
+                (scope, resourceSelector)
+                    -> resourceSelectorsByScope.getOrDefault(scope, Collections.emptySet()).contains(resourceSelector));
         permissionCheckResults.add(getPermissionCheckResult(permissionCheck, permitted));
       }
     }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The grants of a single principal, indexed by permission, then scope identifier, then resource selector. It answers
+ * the same question as looking up acl query strings of the principal, with hash lookups instead of building and
+ * scanning those strings. Repeated permissions and scopes are stored once, as the map keys.
+ */
+@OwnedBy(PL)
+class PrincipalPermissionIndex {
+  private final Map<String, Map<String, Set<String>>> resourceSelectorsByScopeByPermission = new HashMap<>();
+
+  void add(String permission, String scopeIdentifier, String resourceSelector) {
+    resourceSelectorsByScopeByPermission.computeIfAbsent(permission, key -> new HashMap<>())
+        .computeIfAbsent(scopeIdentifier, key -> new HashSet<>())
+        .add(resourceSelector);
+  }
+
+  Map<String, Set<String>> getResourceSelectorsByScope(String permission) {
+    return resourceSelectorsByScopeByPermission.getOrDefault(permission, Collections.emptyMap());
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@OwnedBy(PL)
+public interface ACLCache {
+  /**
+   * Returns the enabled ACLs for each of the given acl query strings, an empty list meaning no ACL matches. Query
+   * strings which are not cached for the principal are fetched together through the loader.
+   */
+  Map<String, List<ACL>> getMatchingACLs(
+      String principalIdentifier, Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader);
+
+  void invalidate(Collection<String> principalIdentifiers);
+
+  default void invalidateForACLs(Collection<ACL> acls) {
+    invalidate(acls.stream().map(ACL::getPrincipalIdentifier).collect(Collectors.toSet()));
+  }
+
+  void invalidateAll();
+
+  boolean isEnabled();
+
+  long getHitCount();
+
+  long getMissCount();
+
+  long size();
+}
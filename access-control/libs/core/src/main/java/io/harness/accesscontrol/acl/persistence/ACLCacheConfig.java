@@ -0,0 +1,27 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class ACLCacheConfig {
+  boolean enabled;
+  // Upper bound on how long a pod may serve an ACL after it changed. Invalidation is only precise on the pod running
+  // the aggregator, every other pod relies on this bound.
+  long maxStalenessInSeconds;
+  long maximumPrincipals;
+  int maximumEntriesPerPrincipal;
+}
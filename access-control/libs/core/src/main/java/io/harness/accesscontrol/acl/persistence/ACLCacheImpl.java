@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the result of acl query string lookups per principal identifier. The query strings embed the scope,
+ * principal type and permission, so a single entry per principal identifier covers all of its scopes and can be
+ * dropped as a whole whenever the aggregator touches ACLs of that principal. The aggregator runs on a single pod, so
+ * its invalidations are broadcast to the caches of all the pods.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLCacheImpl implements ACLCache {
+  private static final long DEFAULT_MAX_STALENESS_IN_SECONDS = 10;
+  private static final long DEFAULT_MAXIMUM_PRINCIPALS = 10000;
+  private static final int DEFAULT_MAXIMUM_ENTRIES_PER_PRINCIPAL = 1000;
+
+  private final boolean enabled;
+  private final String instanceId = generateUuid();
+  private final ACLCacheInvalidationBroadcaster invalidationBroadcaster;
+  private final int maximumEntriesPerPrincipal;
+  private final Cache<String, Map<String, List<ACL>>> aclsByPrincipal;
+  // Bumped on every invalidation, lookups which raced with one do not populate the cache
+  private final AtomicLong invalidationVersion = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Inject
+  public ACLCacheImpl(ACLCacheConfig aclCacheConfig, ACLCacheInvalidationBroadcaster invalidationBroadcaster) {
+    this.enabled = aclCacheConfig.isEnabled();
+    this.invalidationBroadcaster = invalidationBroadcaster;
+    long maxStalenessInSeconds =
+        getOrDefault(aclCacheConfig.getMaxStalenessInSeconds(), DEFAULT_MAX_STALENESS_IN_SECONDS);
+    long maximumPrincipals = getOrDefault(aclCacheConfig.getMaximumPrincipals(), DEFAULT_MAXIMUM_PRINCIPALS);
+    this.maximumEntriesPerPrincipal =
+        (int) getOrDefault(aclCacheConfig.getMaximumEntriesPerPrincipal(), DEFAULT_MAXIMUM_ENTRIES_PER_PRINCIPAL);
+    this.aclsByPrincipal = CacheBuilder.newBuilder()
+                               .maximumSize(maximumPrincipals)
+                               .expireAfterWrite(maxStalenessInSeconds, TimeUnit.SECONDS)
+                               .build();
+    if (enabled) {
+      log.info("ACL cache enabled with max staleness of {} seconds for up to {} principals", maxStalenessInSeconds,
+          maximumPrincipals);
+      invalidationBroadcaster.subscribe(this::onInvalidation);
+    }
+  }
+
+  private static long getOrDefault(long value, long defaultValue) {
+    return value > 0 ? value : defaultValue;
+  }
+
+  @Override
+  public Map<String, List<ACL>> getMatchingACLs(
+      String principalIdentifier, Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader) {
+    if (!enabled) {
+      return groupByQueryString(aclQueryStrings, loader.apply(aclQueryStrings));
+    }
+    Map<String, List<ACL>> cachedACLs = aclsByPrincipal.getIfPresent(principalIdentifier);
+    Map<String, List<ACL>> matchingACLs = new HashMap<>();
+    Set<String> missingQueryStrings = new HashSet<>();
+    for (String aclQueryString : aclQueryStrings) {
+      List<ACL> acls = cachedACLs == null ? null : cachedACLs.get(aclQueryString);
+      if (acls == null) {
+        missingQueryStrings.add(aclQueryString);
+      } else {
+        matchingACLs.put(aclQueryString, acls);
+      }
+    }
+    hits.add(matchingACLs.size());
+    misses.add(missingQueryStrings.size());
+    if (missingQueryStrings.isEmpty()) {
+      return matchingACLs;
+    }
+
+    long version = invalidationVersion.get();
+    Map<String, List<ACL>> loadedACLs = groupByQueryString(missingQueryStrings, loader.apply(missingQueryStrings));
+    matchingACLs.putAll(loadedACLs);
+    if (version == invalidationVersion.get()) {
+      Map<String, List<ACL>> principalACLs =
+          aclsByPrincipal.asMap().computeIfAbsent(principalIdentifier, key -> new ConcurrentHashMap<>());
+      if (principalACLs.size() + loadedACLs.size() > maximumEntriesPerPrincipal) {
+        principalACLs.clear();
+      }
+      principalACLs.putAll(loadedACLs);
+      if (version != invalidationVersion.get()) {
+        aclsByPrincipal.invalidate(principalIdentifier);
+      }
+    }
+    return matchingACLs;
+  }
+
+  static Map<String, List<ACL>> groupByQueryString(Set<String> aclQueryStrings, List<ACL> acls) {
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    aclQueryStrings.forEach(aclQueryString -> aclsByQueryString.put(aclQueryString, new ArrayList<>()));
+    for (ACL acl : acls) {
+      List<ACL> aclsForQueryString = aclsByQueryString.get(acl.getAclQueryString());
+      if (aclsForQueryString != null) {
+        aclsForQueryString.add(acl);
+      }
+    }
+    return aclsByQueryString;
+  }
+
+  @Override
+  public void invalidate(Collection<String> principalIdentifiers) {
+    if (!enabled || principalIdentifiers.isEmpty()) {
+      return;
+    }
+    invalidateLocally(principalIdentifiers);
+    broadcast(ACLCacheInvalidation.builder()
+                  .sourceId(instanceId)
+                  .principalIdentifiers(new ArrayList<>(principalIdentifiers))
+                  .build());
+  }
+
+  @Override
+  public void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    invalidateAllLocally();
+    broadcast(ACLCacheInvalidation.builder().sourceId(instanceId).all(true).build());
+  }
+
+  @VisibleForTesting
+  void onInvalidation(ACLCacheInvalidation invalidation) {
+    if (instanceId.equals(invalidation.getSourceId())) {
+      return;
+    }
+    if (invalidation.isAll()) {
+      invalidateAllLocally();
+    } else if (invalidation.getPrincipalIdentifiers() != null) {
+      invalidateLocally(invalidation.getPrincipalIdentifiers());
+    }
+  }
+
+  private void invalidateLocally(Collection<String> principalIdentifiers) {
+    invalidationVersion.incrementAndGet();
+    aclsByPrincipal.invalidateAll(principalIdentifiers);
+  }
+
+  private void invalidateAllLocally() {
+    invalidationVersion.incrementAndGet();
+    aclsByPrincipal.invalidateAll();
+  }
+
+  private void broadcast(ACLCacheInvalidation invalidation) {
+    try {
+      invalidationBroadcaster.publish(invalidation);
+    } catch (Exception e) {
+      // The entries of the other pods still expire after the max staleness
+      log.error("Failed to broadcast the ACL cache invalidation", e);
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public long size() {
+    return aclsByPrincipal.size();
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the invalidations of the ACL cache of one pod to the ACL caches of all the pods. ACLs are only written by
+ * the aggregator, which runs on a single pod, while they are read and cached on every pod.
+ */
+@OwnedBy(PL)
+public interface ACLCacheInvalidationBroadcaster {
+  void publish(ACLCacheInvalidation invalidation);
+
+  void subscribe(Consumer<ACLCacheInvalidation> listener);
+}
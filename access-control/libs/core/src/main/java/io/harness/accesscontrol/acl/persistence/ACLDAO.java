@@ -15,10 +15,17 @@ import io.harness.annotations.dev.OwnedBy;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
 
 @OwnedBy(PL)
 public interface ACLDAO {
   Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal);
 
+  /**
+   * Tests the (scope identifier, resource selector) pairs which grant the permission check, the same ones the acl query
+   * strings are built from, against the matcher and stops at the first match.
+   */
+  boolean anyScopeAndResourceSelectorMatches(PermissionCheck permissionCheck, BiPredicate<String, String> matcher);
+
   List<List<ACL>> getMatchingACLs(Principal principal, List<PermissionCheck> permissionChecks);
 }
@@ -24,8 +24,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -38,11 +40,14 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLCache aclCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -77,38 +82,52 @@ public class ACLDAOImpl implements ACLDAO {
 
   @Override
   public Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal) {
+    Set<String> queryStrings = new HashSet<>();
+    anyScopeAndResourceSelectorMatches(permissionCheck, (scope, resourceSelector) -> {
+      queryStrings.add(getAclQueryString(scope, resourceSelector, principal.getPrincipalType().name(),
+          principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      return false;
+    });
+    return queryStrings;
+  }
+
+  @Override
+  public boolean anyScopeAndResourceSelectorMatches(
+      PermissionCheck permissionCheck, BiPredicate<String, String> matcher) {
     String scope =
         Optional.ofNullable(permissionCheck.getResourceScope()).flatMap(rs -> Optional.of(rs.toString())).orElse("");
-    Set<String> queryStrings = new HashSet<>();
     String resourceType = permissionCheck.getResourceType();
     String resourceIdentifier = permissionCheck.getResourceIdentifier();
 
     // query for resource=/RESOURCE_TYPE/{resourceIdentifier} in given scope
-    if (!StringUtils.isEmpty(resourceIdentifier)) {
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+    if (!StringUtils.isEmpty(resourceIdentifier)
+        && matcher.test(scope, getResourceSelector(resourceType, resourceIdentifier))) {
+      return true;
     }
 
     if (isValidPermissionCheckForSameScopeLevel(permissionCheck)) {
       // query for resource=/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER))) {
+        return true;
+      }
 
       // query for resource=/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER))) {
+        return true;
+      }
     }
 
     Scope currentScope = permissionCheck.getResourceScope();
     while (currentScope != null) {
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType))) {
+        return true;
+      }
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(),
-          getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER), principal.getPrincipalType().name(),
-          principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(currentScope.toString(), getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER))) {
+        return true;
+      }
 
       currentScope = currentScope.getParentScope();
     }
@@ -120,28 +139,30 @@ public class ACLDAOImpl implements ACLDAO {
       }
 
       // and resource = /RESOURCE_TYPE/{resourceIdentifier}
-      if (!StringUtils.isEmpty(resourceIdentifier)) {
-        queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-            principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (!StringUtils.isEmpty(resourceIdentifier)
+          && matcher.test(scope, getResourceSelector(resourceType, resourceIdentifier))) {
+        return true;
       }
 
       // and resource = /RESOURCE_TYPE/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER))) {
+        return true;
+      }
 
       // and resource = /*/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER))) {
+        return true;
+      }
 
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      if (matcher.test(scope, getIncludeChildScopesResourceSelector(resourceType))) {
+        return true;
+      }
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      return matcher.test(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER));
     }
-    return queryStrings;
+    return false;
   }
 
   @Override
@@ -154,11 +175,14 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    Map<String, List<ACL>> aclsByQueryString = aclCache.getMatchingACLs(principal.getPrincipalIdentifier(),
+        aclQueryStrings, queryStrings -> aclRepository.getByAclQueryStringInAndEnabled(queryStrings, true));
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
+            -> queryStringsForPermission.stream()
+                   .map(aclsByQueryString::get)
+                   .filter(Objects::nonNull)
+                   .flatMap(List::stream)
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
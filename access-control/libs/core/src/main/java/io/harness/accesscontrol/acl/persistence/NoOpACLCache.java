@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Used by writers of ACL collections which are not served, like the secondary collection during reconciliation.
+ */
+@OwnedBy(PL)
+public class NoOpACLCache implements ACLCache {
+  @Override
+  public Map<String, List<ACL>> getMatchingACLs(
+      String principalIdentifier, Set<String> aclQueryStrings, Function<Set<String>, List<ACL>> loader) {
+    return ACLCacheImpl.groupByQueryString(aclQueryStrings, loader.apply(aclQueryStrings));
+  }
+
+  @Override
+  public void invalidate(Collection<String> principalIdentifiers) {
+    // nothing is cached
+  }
+
+  @Override
+  public void invalidateAll() {
+    // nothing is cached
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public long getHitCount() {
+    return 0;
+  }
+
+  @Override
+  public long getMissCount() {
+    return 0;
+  }
+
+  @Override
+  public long size() {
+    return 0;
+  }
+}
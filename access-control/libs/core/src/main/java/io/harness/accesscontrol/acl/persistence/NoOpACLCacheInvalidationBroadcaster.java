@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * Used when there is no other pod to notify, like with a single pod or when the events framework is disabled.
+ */
+@OwnedBy(PL)
+public class NoOpACLCacheInvalidationBroadcaster implements ACLCacheInvalidationBroadcaster {
+  @Override
+  public void publish(ACLCacheInvalidation invalidation) {
+    // no other pod to notify
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLCacheInvalidation> listener) {
+    // no other pod publishes
+  }
+}
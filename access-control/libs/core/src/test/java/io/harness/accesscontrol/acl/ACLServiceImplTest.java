@@ -14,8 +14,11 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -28,17 +31,26 @@ import io.harness.accesscontrol.permissions.Permission;
 import io.harness.accesscontrol.permissions.PermissionFilter;
 import io.harness.accesscontrol.permissions.PermissionService;
 import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentAggregateDBO;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiPredicate;
+import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 
 @OwnedBy(PL)
 public class ACLServiceImplTest extends AccessControlCoreTestBase {
@@ -83,4 +95,41 @@ public class ACLServiceImplTest extends AccessControlCoreTestBase {
     assertEquals(10, response.size());
     response.forEach(check -> assertTrue(check.isPermitted()));
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckAccessUsingRoleAssignments() {
+    String accountIdentifier = randomAlphabetic(10);
+    String accountScope = "/ACCOUNT/" + accountIdentifier;
+    String permission = randomAlphabetic(10);
+    ResourceGroupDBO resourceGroup = ResourceGroupDBO.builder()
+                                         .resourceSelectors(Sets.newHashSet("/PIPELINE/*"))
+                                         .resourceSelectorsV2(Collections.emptySet())
+                                         .build();
+    List<RoleAssignmentAggregateDBO> roleAssignments = Collections.singletonList(
+        new RoleAssignmentAggregateDBO(accountScope, permission, resourceGroup));
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(RoleAssignmentDBO.class),
+             eq(RoleAssignmentAggregateDBO.class)))
+        .thenReturn(new AggregationResults<>(roleAssignments, new Document()));
+    when(permissionService.list(any())).thenReturn(Collections.emptyList());
+    when(aclDAO.anyScopeAndResourceSelectorMatches(any(), any())).thenAnswer(invocation -> {
+      PermissionCheck permissionCheck = invocation.getArgument(0);
+      BiPredicate<String, String> matcher = invocation.getArgument(1);
+      return matcher.test(accountScope, "/" + permissionCheck.getResourceType() + "/*");
+    });
+
+    Principal principal = Principal.of(PrincipalType.SERVICE_ACCOUNT, randomAlphabetic(10));
+    List<PermissionCheck> permissionChecks =
+        Arrays.asList(PermissionCheck.builder().permission(permission).resourceType("PIPELINE").build(),
+            PermissionCheck.builder().permission(permission).resourceType("CONNECTOR").build(),
+            PermissionCheck.builder().permission(randomAlphabetic(11)).resourceType("PIPELINE").build());
+    List<PermissionCheckResult> response =
+        aclService.checkAccessUsingRoleAssignments(accountIdentifier, principal, permissionChecks, null);
+
+    assertEquals(3, response.size());
+    assertTrue(response.get(0).isPermitted());
+    assertFalse(response.get(1).isPermitted());
+    assertFalse(response.get(2).isPermitted());
+  }
 }
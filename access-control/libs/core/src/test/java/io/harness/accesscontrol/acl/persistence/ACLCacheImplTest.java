@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLCacheImplTest extends AccessControlCoreTestBase {
+  private InMemoryBroadcaster broadcaster;
+  private ACLCacheImpl aclCache;
+  private String principalIdentifier;
+  private String grantedQueryString;
+  private String deniedQueryString;
+  private AtomicInteger loads;
+  private Function<Set<String>, List<ACL>> loader;
+
+  @Before
+  public void setup() {
+    broadcaster = new InMemoryBroadcaster();
+    aclCache = newEnabledCache();
+    principalIdentifier = randomAlphabetic(10);
+    grantedQueryString = randomAlphabetic(10);
+    deniedQueryString = randomAlphabetic(10);
+    loads = new AtomicInteger();
+    ACL acl = ACL.builder().principalIdentifier(principalIdentifier).aclQueryString(grantedQueryString).build();
+    loader = queryStrings -> {
+      loads.incrementAndGet();
+      return queryStrings.contains(grantedQueryString) ? Collections.singletonList(acl) : Collections.emptyList();
+    };
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsServesPositiveAndNegativeResultsFromCache() {
+    Set<String> queryStrings = Sets.newHashSet(grantedQueryString, deniedQueryString);
+    Map<String, List<ACL>> firstResult = aclCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    Map<String, List<ACL>> secondResult = aclCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+
+    assertEquals(1, loads.get());
+    assertEquals(firstResult, secondResult);
+    assertEquals(1, secondResult.get(grantedQueryString).size());
+    assertTrue(secondResult.get(deniedQueryString).isEmpty());
+    assertEquals(2, aclCache.getHitCount());
+    assertEquals(2, aclCache.getMissCount());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidateDropsOnlyGivenPrincipals() {
+    String otherPrincipalIdentifier = randomAlphabetic(11);
+    Set<String> queryStrings = Collections.singleton(grantedQueryString);
+    aclCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    aclCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+
+    aclCache.invalidate(Collections.singleton(principalIdentifier));
+    aclCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    aclCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(3, loads.get());
+
+    aclCache.invalidateAll();
+    aclCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDisabledCacheAlwaysLoads() {
+    ACLCacheImpl disabledCache = new ACLCacheImpl(ACLCacheConfig.builder().build(), broadcaster);
+    Set<String> queryStrings = Collections.singleton(grantedQueryString);
+    disabledCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    disabledCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+
+    assertEquals(2, loads.get());
+    assertEquals(0, disabledCache.size());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidationIsBroadcastToOtherPods() {
+    ACLCacheImpl otherPodCache = newEnabledCache();
+    String otherPrincipalIdentifier = randomAlphabetic(11);
+    Set<String> queryStrings = Collections.singleton(grantedQueryString);
+    otherPodCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    otherPodCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(2, otherPodCache.size());
+
+    // The aggregator pod invalidates, the entry has to go on the pod serving the reads as well
+    aclCache.invalidate(Collections.singleton(principalIdentifier));
+    assertEquals(1, otherPodCache.size());
+    otherPodCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    otherPodCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(3, loads.get());
+
+    aclCache.invalidateAll();
+    assertEquals(0, otherPodCache.size());
+    assertEquals(2, broadcaster.published.size());
+  }
+
+  private ACLCacheImpl newEnabledCache() {
+    return new ACLCacheImpl(ACLCacheConfig.builder().enabled(true).maxStalenessInSeconds(60).build(), broadcaster);
+  }
+
+  private static class InMemoryBroadcaster implements ACLCacheInvalidationBroadcaster {
+    private final List<Consumer<ACLCacheInvalidation>> listeners = new ArrayList<>();
+    private final List<ACLCacheInvalidation> published = new ArrayList<>();
+
+    @Override
+    public void publish(ACLCacheInvalidation invalidation) {
+      published.add(invalidation);
+      listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<ACLCacheInvalidation> listener) {
+      listeners.add(listener);
+    }
+  }
+}
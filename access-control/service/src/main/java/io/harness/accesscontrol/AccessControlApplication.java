@@ -27,6 +27,7 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
 import io.harness.accesscontrol.commons.events.UserMembershipEventListenerService;
@@ -84,6 +85,7 @@ import io.harness.telemetry.filter.APIAuthTelemetryResponseFilter;
 import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.token.remote.TokenClient;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
@@ -222,12 +224,22 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     }
 
     if (appConfig.getAggregatorConfiguration().isExportMetricsToStackDriver()) {
+      registerACLCacheMetrics(injector);
       initializeMonitoring(injector);
     }
 
     MaintenanceController.forceMaintenance(false);
   }
 
+  private void registerACLCacheMetrics(Injector injector) {
+    ACLCache aclCache = injector.getInstance(ACLCache.class);
+    if (aclCache.isEnabled()) {
+      metricRegistry.register("acl.cache.hits", (Gauge<Long>) aclCache::getHitCount);
+      metricRegistry.register("acl.cache.misses", (Gauge<Long>) aclCache::getMissCount);
+      metricRegistry.register("acl.cache.size", (Gauge<Long>) aclCache::size);
+    }
+  }
+
   private void initializeMonitoring(Injector injector) {
     injector.getInstance(MetricService.class).initializeMetrics();
     injector.getInstance(RecordMetricsJob.class).scheduleMetricsTasks();
@@ -31,10 +31,15 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
 import io.harness.accesscontrol.aggregator.api.AggregatorResourceImpl;
 import io.harness.accesscontrol.aggregator.consumers.AccessControlChangeEventFailureHandler;
 import io.harness.accesscontrol.commons.events.EventConsumer;
+import io.harness.accesscontrol.commons.events.RedisACLCacheInvalidationBroadcaster;
+import io.harness.accesscontrol.commons.events.EventsConfig;
 import io.harness.accesscontrol.commons.iterators.AccessControlIteratorsConfig;
 import io.harness.accesscontrol.commons.notifications.NotificationConfig;
 import io.harness.accesscontrol.commons.outbox.AccessControlOutboxEventHandler;
@@ -240,6 +245,28 @@ public class AccessControlModule extends AbstractModule {
     return config.getIteratorsConfig();
   }
 
+  @Provides
+  public EventsConfig getEventsConfig() {
+    return config.getEventsConfig();
+  }
+
+  @Provides
+  @Singleton
+  public ACLCacheConfig getACLCacheConfig() {
+    return config.getAclCacheConfig() == null ? ACLCacheConfig.builder().build() : config.getAclCacheConfig();
+  }
+
+  @Provides
+  @Singleton
+  public ACLCacheInvalidationBroadcaster getACLCacheInvalidationBroadcaster(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (!config.getEventsConfig().isEnabled()) {
+      return new NoOpACLCacheInvalidationBroadcaster();
+    }
+    return new RedisACLCacheInvalidationBroadcaster(
+        redissonClient, config.getEventsConfig().getRedisConfig().getEnvNamespace());
+  }
+
   @Override
   protected void configure() {
     install(VersionModule.getInstance());
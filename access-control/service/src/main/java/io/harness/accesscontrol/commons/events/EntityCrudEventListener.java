@@ -22,9 +22,9 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PL)
 public class EntityCrudEventListener extends EventListener {
   @Inject
-  public EntityCrudEventListener(
-      @Named(ENTITY_CRUD) Consumer redisConsumer, @Named(ENTITY_CRUD) Set<EventConsumer> eventConsumers) {
-    super(redisConsumer, eventConsumers);
+  public EntityCrudEventListener(@Named(ENTITY_CRUD) Consumer redisConsumer,
+      @Named(ENTITY_CRUD) Set<EventConsumer> eventConsumers, EventsConfig eventsConfig) {
+    super(redisConsumer, eventConsumers, eventsConfig.getProcessingParallelism());
   }
 
   @Override
@@ -14,4 +14,12 @@ import io.harness.eventsframework.consumer.Message;
 @OwnedBy(HarnessTeam.PL)
 public interface EventHandler {
   boolean handle(Message message);
+
+  /**
+   * Returns the key of the entity a message changes, so that changes to the same entity are handled in order when
+   * messages are processed in parallel. Null falls back to the default ordering key of the message.
+   */
+  default String getOrderingKey(Message message) {
+    return null;
+  }
 }
@@ -14,6 +14,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.KeyOrderedMessageProcessor;
 import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
@@ -32,11 +33,17 @@ public abstract class EventListener extends RedisTraceConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
   private final Consumer redisConsumer;
   private final Set<EventConsumer> eventConsumers;
+  private final int processingParallelism;
 
   @Inject
   public EventListener(Consumer redisConsumer, Set<EventConsumer> eventConsumers) {
+    this(redisConsumer, eventConsumers, 1);
+  }
+
+  public EventListener(Consumer redisConsumer, Set<EventConsumer> eventConsumers, int processingParallelism) {
     this.redisConsumer = redisConsumer;
     this.eventConsumers = eventConsumers;
+    this.processingParallelism = processingParallelism;
   }
 
   public abstract String getListenerName();
@@ -44,10 +51,13 @@ public abstract class EventListener extends RedisTraceConsumer {
   @Override
   public void run() {
     log.info("Started the consumer: " + getListenerName());
+    KeyOrderedMessageProcessor messageProcessor = processingParallelism > 1
+        ? new KeyOrderedMessageProcessor(getListenerName(), processingParallelism, this::getOrderingKey)
+        : null;
     try {
       SecurityContextBuilder.setContext(new ServicePrincipal(ACCESS_CONTROL_SERVICE.getServiceId()));
       while (!Thread.currentThread().isInterrupted()) {
-        readEventsFrameworkMessages();
+        readEventsFrameworkMessages(messageProcessor);
       }
     } catch (InterruptedException ex) {
       SecurityContextBuilder.unsetCompleteContext();
@@ -56,23 +66,30 @@ public abstract class EventListener extends RedisTraceConsumer {
       log.error(getListenerName() + " unexpectedly stopped", ex);
     } finally {
       SecurityContextBuilder.unsetCompleteContext();
+      if (messageProcessor != null) {
+        messageProcessor.shutdown();
+      }
     }
   }
 
-  private void readEventsFrameworkMessages() throws InterruptedException {
+  private void readEventsFrameworkMessages(KeyOrderedMessageProcessor messageProcessor) throws InterruptedException {
     try {
-      pollAndProcessMessages();
+      pollAndProcessMessages(messageProcessor);
     } catch (EventsFrameworkDownException e) {
       log.error("Events framework is down for " + getListenerName() + " consumer. Retrying again...", e);
       TimeUnit.SECONDS.sleep(WAIT_TIME_IN_SECONDS);
     }
   }
 
-  private void pollAndProcessMessages() {
+  private void pollAndProcessMessages(KeyOrderedMessageProcessor messageProcessor) {
     List<Message> messages;
     String messageId;
     boolean messageProcessed;
     messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    if (messageProcessor != null) {
+      handleMessagesInParallel(redisConsumer, messages, messageProcessor, this::handleMessageAsService);
+      return;
+    }
     for (Message message : messages) {
       messageId = message.getId();
       messageProcessed = handleMessage(message);
@@ -82,6 +99,32 @@ public abstract class EventListener extends RedisTraceConsumer {
     }
   }
 
+  private boolean handleMessageAsService(Message message) {
+    // Worker threads do not inherit the security context of the listener thread
+    SecurityContextBuilder.setContext(new ServicePrincipal(ACCESS_CONTROL_SERVICE.getServiceId()));
+    try {
+      return handleMessage(message);
+    } finally {
+      SecurityContextBuilder.unsetCompleteContext();
+    }
+  }
+
+  private String getOrderingKey(Message message) {
+    for (EventConsumer eventConsumer : eventConsumers) {
+      try {
+        if (eventConsumer.getEventFilter().filter(message)) {
+          String orderingKey = eventConsumer.getEventHandler().getOrderingKey(message);
+          if (orderingKey != null) {
+            return orderingKey;
+          }
+        }
+      } catch (Exception e) {
+        log.error("Could not get the ordering key of the message {} due to exception", message.getId(), e);
+      }
+    }
+    return KeyOrderedMessageProcessor.getDefaultOrderingKey(message);
+  }
+
   @Override
   protected boolean processMessage(Message message) {
     if (message.getMessage() == null) {
@@ -21,4 +21,7 @@ import lombok.Value;
 public class EventsConfig {
   @JsonProperty("redis") RedisConfig redisConfig;
   boolean enabled;
+  // Number of worker threads a listener uses to process a read batch, messages with the same ordering key stay in
+  // order. Anything below 2 keeps the listener fully sequential.
+  int processingParallelism;
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.commons.events;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidation;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.serializer.JsonUtils;
+
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Publishes the ACL cache invalidations on a Redis topic of the events framework Redis. Every pod subscribes to it,
+ * unlike the streams whose messages go to a single consumer of a group. A pod which misses an invalidation, for
+ * example while reconnecting, drops the entries once they reach the max staleness of the cache.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisACLCacheInvalidationBroadcaster implements ACLCacheInvalidationBroadcaster {
+  static final String ACL_CACHE_INVALIDATION_TOPIC = "acl_cache_invalidation";
+
+  private final RTopic topic;
+
+  public RedisACLCacheInvalidationBroadcaster(RedissonClient redissonClient, String envNamespace) {
+    this.topic = redissonClient.getTopic(
+        (isEmpty(envNamespace) ? "" : envNamespace + ":") + ACL_CACHE_INVALIDATION_TOPIC, StringCodec.INSTANCE);
+  }
+
+  @Override
+  public void publish(ACLCacheInvalidation invalidation) {
+    topic.publish(JsonUtils.asJson(invalidation));
+  }
+
+  @Override
+  public void subscribe(Consumer<ACLCacheInvalidation> listener) {
+    topic.addListener(String.class, (channel, message) -> {
+      try {
+        listener.accept(JsonUtils.asObject(message, ACLCacheInvalidation.class));
+      } catch (Exception e) {
+        log.error("Failed to apply the ACL cache invalidation {}", message, e);
+      }
+    });
+  }
+}
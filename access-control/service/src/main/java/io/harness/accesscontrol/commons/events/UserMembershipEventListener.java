@@ -20,9 +20,9 @@ import java.util.Set;
 @OwnedBy(HarnessTeam.PL)
 public class UserMembershipEventListener extends EventListener {
   @Inject
-  public UserMembershipEventListener(
-      @Named(USERMEMBERSHIP) Consumer redisConsumer, @Named(USERMEMBERSHIP) Set<EventConsumer> eventConsumers) {
-    super(redisConsumer, eventConsumers);
+  public UserMembershipEventListener(@Named(USERMEMBERSHIP) Consumer redisConsumer,
+      @Named(USERMEMBERSHIP) Set<EventConsumer> eventConsumers, EventsConfig eventsConfig) {
+    super(redisConsumer, eventConsumers, eventsConfig.getProcessingParallelism());
   }
 
   @Override
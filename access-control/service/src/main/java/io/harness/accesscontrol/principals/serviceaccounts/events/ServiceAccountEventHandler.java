@@ -18,6 +18,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.eventsframework.entity_crud.EntityChangeDTO;
+import io.harness.eventsframework.impl.redis.KeyOrderedMessageProcessor;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -61,4 +62,16 @@ public class ServiceAccountEventHandler implements EventHandler {
     }
     return true;
   }
+
+  @Override
+  public String getOrderingKey(Message message) {
+    try {
+      EntityChangeDTO entityChangeDTO = EntityChangeDTO.parseFrom(message.getMessage().getData());
+      return KeyOrderedMessageProcessor.getEntityOrderingKey(message, entityChangeDTO.getAccountIdentifier().getValue(),
+          entityChangeDTO.getOrgIdentifier().getValue(), entityChangeDTO.getProjectIdentifier().getValue(),
+          entityChangeDTO.getIdentifier().getValue());
+    } catch (InvalidProtocolBufferException e) {
+      return null;
+    }
+  }
 }
@@ -21,6 +21,7 @@ import io.harness.accesscontrol.scopes.harness.ScopeMapper;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.eventsframework.entity_crud.EntityChangeDTO;
+import io.harness.eventsframework.impl.redis.KeyOrderedMessageProcessor;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -70,6 +71,18 @@ public class UserGroupEventHandler implements EventHandler {
     return true;
   }
 
+  @Override
+  public String getOrderingKey(Message message) {
+    try {
+      EntityChangeDTO entityChangeDTO = EntityChangeDTO.parseFrom(message.getMessage().getData());
+      return KeyOrderedMessageProcessor.getEntityOrderingKey(message, entityChangeDTO.getAccountIdentifier().getValue(),
+          entityChangeDTO.getOrgIdentifier().getValue(), entityChangeDTO.getProjectIdentifier().getValue(),
+          entityChangeDTO.getIdentifier().getValue());
+    } catch (InvalidProtocolBufferException e) {
+      return null;
+    }
+  }
+
   private String getEventType(Message message) {
     Map<String, String> metadataMap = message.getMessage().getMetadataMap();
     return metadataMap.get(ACTION);
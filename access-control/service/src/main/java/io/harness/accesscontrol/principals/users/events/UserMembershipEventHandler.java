@@ -20,6 +20,7 @@ import io.harness.accesscontrol.scopes.harness.ScopeMapper;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.KeyOrderedMessageProcessor;
 import io.harness.eventsframework.schemas.usermembership.UserMembershipDTO;
 
 import com.google.inject.Inject;
@@ -69,4 +70,16 @@ public class UserMembershipEventHandler implements EventHandler {
     }
     return true;
   }
+
+  @Override
+  public String getOrderingKey(Message message) {
+    try {
+      UserMembershipDTO userMembershipDTO = UserMembershipDTO.parseFrom(message.getMessage().getData());
+      io.harness.eventsframework.schemas.usermembership.Scope eventsScope = userMembershipDTO.getScope();
+      return KeyOrderedMessageProcessor.getEntityOrderingKey(message, eventsScope.getAccountIdentifier(),
+          eventsScope.getOrgIdentifier(), eventsScope.getProjectIdentifier(), userMembershipDTO.getUserId());
+    } catch (InvalidProtocolBufferException e) {
+      return null;
+    }
+  }
 }
@@ -22,6 +22,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.eventsframework.entity_crud.resourcegroup.ResourceGroupEntityChangeDTO;
+import io.harness.eventsframework.impl.redis.KeyOrderedMessageProcessor;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -76,6 +77,19 @@ public class ResourceGroupEventHandler implements EventHandler {
     return true;
   }
 
+  @Override
+  public String getOrderingKey(Message message) {
+    try {
+      ResourceGroupEntityChangeDTO resourceGroupEntityChangeDTO =
+          ResourceGroupEntityChangeDTO.parseFrom(message.getMessage().getData());
+      return KeyOrderedMessageProcessor.getEntityOrderingKey(message,
+          resourceGroupEntityChangeDTO.getAccountIdentifier(), resourceGroupEntityChangeDTO.getOrgIdentifier(),
+          resourceGroupEntityChangeDTO.getProjectIdentifier(), resourceGroupEntityChangeDTO.getIdentifier());
+    } catch (InvalidProtocolBufferException e) {
+      return null;
+    }
+  }
+
   private String getEventType(Message message) {
     Map<String, String> metadataMap = message.getMessage().getMetadataMap();
     return metadataMap.get(ACTION);
@@ -18,6 +18,9 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.accesscontrol.acl.persistence.NoOpACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.principals.serviceaccounts.ServiceAccountValidator;
@@ -155,6 +158,18 @@ public class AccessControlApplicationRule implements MethodRule, InjectorRuleMix
         return MongoConfig.builder().build();
       }
 
+      @Provides
+      @Singleton
+      ACLCacheConfig aclCacheConfig() {
+        return ACLCacheConfig.builder().build();
+      }
+
+      @Provides
+      @Singleton
+      ACLCacheInvalidationBroadcaster aclCacheInvalidationBroadcaster() {
+        return new NoOpACLCacheInvalidationBroadcaster();
+      }
+
       @Provides
       @Singleton
       Set<Class<? extends TypeConverter>> morphiaConverters() {
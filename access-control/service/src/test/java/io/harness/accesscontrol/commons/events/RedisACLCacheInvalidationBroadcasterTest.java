@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.commons.events;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfig;
+import io.harness.accesscontrol.acl.persistence.ACLCacheImpl;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisACLCacheInvalidationBroadcasterTest extends CategoryTest {
+  private RedissonClient redissonClient;
+  private AtomicInteger loads;
+  private Function<Set<String>, List<ACL>> loader;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    // Every subscriber of the topic receives every message published on it, like with Redis pub/sub
+    List<MessageListener<String>> listeners = new ArrayList<>();
+    RTopic topic = mock(RTopic.class);
+    when(topic.addListener(eq(String.class), any())).thenAnswer(invocation -> {
+      listeners.add(invocation.getArgument(1));
+      return listeners.size();
+    });
+    when(topic.publish(any())).thenAnswer(invocation -> {
+      listeners.forEach(listener -> listener.onMessage("acl_cache_invalidation", invocation.getArgument(0)));
+      return (long) listeners.size();
+    });
+    redissonClient = mock(RedissonClient.class);
+    when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+
+    loads = new AtomicInteger();
+    loader = queryStrings -> {
+      loads.incrementAndGet();
+      return Collections.emptyList();
+    };
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRemotePodDropsInvalidatedEntries() {
+    ACLCacheImpl aggregatorPodCache = newPodCache();
+    ACLCacheImpl remotePodCache = newPodCache();
+    String principalIdentifier = randomAlphabetic(10);
+    String otherPrincipalIdentifier = randomAlphabetic(11);
+    Set<String> queryStrings = Collections.singleton(randomAlphabetic(10));
+    remotePodCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    remotePodCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(2, remotePodCache.size());
+
+    aggregatorPodCache.invalidate(Collections.singleton(principalIdentifier));
+
+    assertEquals(1, remotePodCache.size());
+    remotePodCache.getMatchingACLs(principalIdentifier, queryStrings, loader);
+    remotePodCache.getMatchingACLs(otherPrincipalIdentifier, queryStrings, loader);
+    assertEquals(3, loads.get());
+
+    aggregatorPodCache.invalidateAll();
+    assertEquals(0, remotePodCache.size());
+  }
+
+  private ACLCacheImpl newPodCache() {
+    return new ACLCacheImpl(ACLCacheConfig.builder().enabled(true).maxStalenessInSeconds(60).build(),
+        new RedisACLCacheInvalidationBroadcaster(redissonClient, ""));
+  }
+}
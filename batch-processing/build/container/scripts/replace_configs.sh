@@ -80,6 +80,18 @@ if [[ "" != "$SYNC_JOB_DISABLED" ]]; then
   export SYNC_JOB_DISABLED; yq -i '.batchQueryConfig.syncJobDisabled=env(SYNC_JOB_DISABLED)' $CONFIG_FILE
 fi
 
+if [[ "" != "$TIMESCALE_BULK_WRITER_ENABLED" ]]; then
+  export TIMESCALE_BULK_WRITER_ENABLED; yq -i '.timescaleBulkWriterConfig.enabled=env(TIMESCALE_BULK_WRITER_ENABLED)' $CONFIG_FILE
+fi
+
+if [[ "" != "$TIMESCALE_BULK_WRITER_FLUSH_SIZE" ]]; then
+  export TIMESCALE_BULK_WRITER_FLUSH_SIZE; yq -i '.timescaleBulkWriterConfig.flushSize=env(TIMESCALE_BULK_WRITER_FLUSH_SIZE)' $CONFIG_FILE
+fi
+
+if [[ "" != "$TIMESCALE_BULK_WRITER_THREADS" ]]; then
+  export TIMESCALE_BULK_WRITER_THREADS; yq -i '.timescaleBulkWriterConfig.writerThreads=env(TIMESCALE_BULK_WRITER_THREADS)' $CONFIG_FILE
+fi
+
 if [[ "" != "$S3_SYNC_CONFIG_ACCESSKEY" ]]; then
   export S3_SYNC_CONFIG_ACCESSKEY; yq -i '.awsS3SyncConfig.awsAccessKey=env(S3_SYNC_CONFIG_ACCESSKEY)' $CONFIG_FILE
 fi
@@ -17,6 +17,7 @@ import io.harness.batch.processing.billing.timeseries.service.support.BillingDat
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.entities.ClusterDataDetails;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
@@ -50,6 +51,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class BillingDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private TimescaleBulkWriter timescaleBulkWriter;
   @Autowired private TimeUtils utils;
 
   private static final int BATCH_SIZE = 500;
@@ -110,18 +112,11 @@ public class BillingDataServiceImpl {
       String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
-          int index = 0;
-          for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
-            updateInsertStatement(statement, instanceBillingData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
-              log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
-              statement.executeBatch();
-            }
+        try {
+          if (timescaleBulkWriter.isEnabled()) {
+            timescaleBulkWriter.write(insertStatement, instanceBillingDataList, this::updateInsertStatement);
+          } else {
+            insertBatches(insertStatement, instanceBillingDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -136,6 +131,24 @@ public class BillingDataServiceImpl {
     return successfulInsert;
   }
 
+  private void insertBatches(String insertStatement, List<InstanceBillingData> instanceBillingDataList)
+      throws SQLException {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
+      int index = 0;
+      for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
+        updateInsertStatement(statement, instanceBillingData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
+          log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   public boolean update(ActualIdleCostWriterData actualIdleCostWriterData, BatchJobType batchJobType) {
     boolean successfulUpdate = false;
     if (timeScaleDBService.isValid()) {
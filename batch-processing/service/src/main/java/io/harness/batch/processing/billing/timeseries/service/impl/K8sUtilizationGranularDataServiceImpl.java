@@ -17,6 +17,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.K8sGranularUtilizationData;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.ccm.commons.utils.TimescaleUtils;
@@ -50,6 +51,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class K8sUtilizationGranularDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private TimescaleBulkWriter timescaleBulkWriter;
   @Autowired private TimeUtils utils;
   @Autowired private DSLContext dslContext;
 
@@ -76,17 +78,11 @@ public class K8sUtilizationGranularDataServiceImpl {
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (K8sGranularUtilizationData k8sGranularUtilizationData : k8sGranularUtilizationDataList) {
-            updateInsertStatement(statement, k8sGranularUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == k8sGranularUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
+        try {
+          if (timescaleBulkWriter.isEnabled()) {
+            timescaleBulkWriter.write(INSERT_STATEMENT, k8sGranularUtilizationDataList, this::updateInsertStatement);
+          } else {
+            insertBatches(k8sGranularUtilizationDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -101,6 +97,22 @@ public class K8sUtilizationGranularDataServiceImpl {
     return successfulInsert;
   }
 
+  private void insertBatches(List<K8sGranularUtilizationData> k8sGranularUtilizationDataList) throws SQLException {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
+      int index = 0;
+      for (K8sGranularUtilizationData k8sGranularUtilizationData : k8sGranularUtilizationDataList) {
+        updateInsertStatement(statement, k8sGranularUtilizationData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == k8sGranularUtilizationDataList.size()) {
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   public int purgeOldKubernetesUtilData() {
     return TimescaleUtils.execute(dslContext.query(PURGE_DATA_QUERY));
   }
@@ -14,6 +14,7 @@ import io.harness.batch.processing.billing.timeseries.data.PodCountData;
 import io.harness.batch.processing.billing.timeseries.data.UsageTimeInfo;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
 import io.harness.batch.processing.shard.AccountShardService;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
@@ -43,6 +44,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PodCountComputationServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private TimescaleBulkWriter timescaleBulkWriter;
   @Autowired private CloudToHarnessMappingServiceImpl cloudToHarnessMappingService;
   @Autowired private AccountShardService accountShardService;
   @Autowired private InstanceDataService instanceDataService;
@@ -130,30 +132,27 @@ public class PodCountComputationServiceImpl {
       String clusterId, String accountId, String nodeId, long startTime, Map<Long, Long> podCount) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid()) {
+      List<PodCountData> podCountDataList = new ArrayList<>();
+      long time = startTime;
+      for (int index = 0; index < podCount.size(); index++) {
+        podCountDataList.add(PodCountData.builder()
+                                 .accountId(accountId)
+                                 .clusterId(clusterId)
+                                 .nodeId(nodeId)
+                                 .startTime(time)
+                                 .endTime(time + FIVE_MINUTES_IN_MILLIS - 1)
+                                 .count(podCount.get(time))
+                                 .build());
+        time += FIVE_MINUTES_IN_MILLIS;
+      }
+
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          int totalEntries = podCount.size();
-          long time = startTime;
-          while (index < totalEntries) {
-            updateInsertStatement(statement,
-                PodCountData.builder()
-                    .accountId(accountId)
-                    .clusterId(clusterId)
-                    .nodeId(nodeId)
-                    .startTime(time)
-                    .endTime(time + FIVE_MINUTES_IN_MILLIS - 1)
-                    .count(podCount.get(time))
-                    .build());
-            statement.addBatch();
-            index++;
-            time += FIVE_MINUTES_IN_MILLIS;
-
-            if (index % BATCH_SIZE == 0 || index == totalEntries) {
-              statement.executeBatch();
-            }
+        try {
+          if (timescaleBulkWriter.isEnabled()) {
+            timescaleBulkWriter.write(INSERT_STATEMENT, podCountDataList, this::updateInsertStatement);
+          } else {
+            insertBatches(podCountDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -167,6 +166,22 @@ public class PodCountComputationServiceImpl {
     return successfulInsert;
   }
 
+  private void insertBatches(List<PodCountData> podCountDataList) throws SQLException {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
+      int index = 0;
+      for (PodCountData podCountData : podCountDataList) {
+        updateInsertStatement(statement, podCountData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == podCountDataList.size()) {
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   public List<NodePodId> getNodes(String accountId, Instant startTime, Instant endTime) {
     List<NodePodId> nodePodIdList = new ArrayList<>();
     if (timeScaleDBService.isValid()) {
@@ -13,6 +13,7 @@ import io.harness.batch.processing.billing.service.UtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ClusterIdAndServiceArn;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ECSUtilizationData;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
@@ -43,6 +44,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UtilizationDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private TimescaleBulkWriter timescaleBulkWriter;
   @Autowired private TimeUtils utils;
 
   private static final int MAX_RETRY_COUNT = 2;
@@ -64,17 +66,11 @@ public class UtilizationDataServiceImpl {
       log.info("Util data size {}", instanceUtilizationDataList.size());
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
-            updateInsertStatement(statement, instanceUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
+        try {
+          if (timescaleBulkWriter.isEnabled()) {
+            timescaleBulkWriter.write(INSERT_STATEMENT, instanceUtilizationDataList, this::updateInsertStatement);
+          } else {
+            insertBatches(instanceUtilizationDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -89,6 +85,22 @@ public class UtilizationDataServiceImpl {
     return successfulInsert;
   }
 
+  private void insertBatches(List<InstanceUtilizationData> instanceUtilizationDataList) throws SQLException {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
+      int index = 0;
+      for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
+        updateInsertStatement(statement, instanceUtilizationData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   private void updateInsertStatement(PreparedStatement statement, InstanceUtilizationData instanceUtilizationData)
       throws SQLException {
     statement.setTimestamp(1, new Timestamp(instanceUtilizationData.getStartTimestamp()), utils.getDefaultCalendar());
@@ -22,6 +22,7 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.batch.processing.BatchProcessingException;
 import io.harness.batch.processing.billing.reader.InstanceDataReader;
 import io.harness.batch.processing.billing.service.BillingCalculationService;
 import io.harness.batch.processing.billing.service.BillingData;
@@ -33,12 +34,16 @@ import io.harness.batch.processing.billing.writer.support.BillingDataGenerationV
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.ccm.CCMJobConstants;
 import io.harness.batch.processing.config.BatchMainConfig;
+import io.harness.batch.processing.dao.intfc.BilledClusterCheckpointDao;
 import io.harness.batch.processing.dao.intfc.InstanceDataDao;
 import io.harness.batch.processing.pricing.service.intfc.AwsCustomBillingService;
 import io.harness.batch.processing.pricing.service.intfc.AzureCustomBillingService;
 import io.harness.batch.processing.pricing.service.intfc.GcpCustomBillingService;
+import io.harness.batch.processing.pricing.vmpricing.VMPricingService;
 import io.harness.batch.processing.service.intfc.CustomBillingMetaDataService;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
+import io.harness.batch.processing.svcmetrics.BatchJobContext;
+import io.harness.batch.processing.svcmetrics.BatchProcessingMetricName;
 import io.harness.batch.processing.tasklet.util.InstanceMetaDataUtils;
 import io.harness.batch.processing.writer.constants.K8sCCMConstants;
 import io.harness.beans.FeatureName;
@@ -54,6 +59,8 @@ import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
 import io.harness.ccm.commons.service.intf.ClusterRecordService;
 import io.harness.ff.FeatureFlagService;
+import io.harness.manage.ManagedExecutorService;
+import io.harness.metrics.service.api.MetricService;
 
 import software.wings.service.intfc.instance.CloudToHarnessMappingService;
 
@@ -72,6 +79,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -100,9 +112,19 @@ public class InstanceBillingDataTasklet implements Tasklet {
   @Autowired private CloudToHarnessMappingService cloudToHarnessMappingService;
   @Autowired private ClusterRecordService eventsClusterRecordService;
   @Autowired private FeatureFlagService featureFlagService;
+  @Autowired private MetricService metricService;
+  @Autowired private VMPricingService vmPricingService;
+  @Autowired private BilledClusterCheckpointDao billedClusterCheckpointDao;
 
   private static final String CLAIM_REF_SEPARATOR = "/";
-  private int batchSize;
+  // The instances priced from the public prices of their region when there is no CUR data for them
+  private static final Set<InstanceType> VM_PRICED_INSTANCE_TYPES = ImmutableSet.of(K8S_NODE, ECS_CONTAINER_INSTANCE);
+  private static final Set<String> VM_PRICED_CLOUD_PROVIDERS =
+      ImmutableSet.of(CloudProvider.AWS.name(), CloudProvider.AZURE.name(), CloudProvider.GCP.name());
+
+  // Shared by the executions of all the accounts, so the clusters billed at a time are bounded by the cores
+  private final ExecutorService clusterBillingExecutor =
+      new ManagedExecutorService(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()));
 
   @Override
   public RepeatStatus execute(StepContribution stepContribution, ChunkContext chunkContext) {
@@ -110,42 +132,97 @@ public class InstanceBillingDataTasklet implements Tasklet {
     String accountId = jobConstants.getAccountId();
     Instant startTime = Instant.ofEpochMilli(jobConstants.getJobStartTime());
     Instant endTime = Instant.ofEpochMilli(jobConstants.getJobEndTime());
-    batchSize = config.getBatchQueryConfig().getInstanceDataBatchSize();
-
-    Set<String> clusterIds = new HashSet<>();
-    boolean isClusterQueryEnabled = isClusterIdFilterQueryEnabled(accountId);
-    if (isClusterQueryEnabled) {
-      clusterIds = getClusterIdsFromClusterRecords(accountId, startTime);
-    }
+    int batchSize = config.getBatchQueryConfig().getInstanceDataBatchSize();
 
     BatchJobType batchJobType = CCMJobConstants.getBatchJobTypeFromJobParams(
         chunkContext.getStepContext().getStepExecution().getJobParameters());
+    if (isClusterIdFilterQueryEnabled(accountId)) {
+      Set<String> clusterIds = getClusterIdsFromClusterRecords(accountId, startTime);
+      billClusters(accountId, startTime, endTime, batchJobType, batchSize, clusterIds);
+    } else {
+      billCluster(accountId, startTime, endTime, batchJobType, batchSize, null);
+    }
+    return null;
+  }
+
+  /**
+   * Bills each cluster as a partition of its own on the cluster billing executor. The PVs and PVC claims of a pod are
+   * in its own cluster, so every partition only needs the lookups of its cluster. The clusters billed are checkpointed
+   * per account, job type and interval, so the next run of a failed interval, which is launched as a new job instance,
+   * only bills the clusters which were not. The checkpoint is dropped once every cluster is billed.
+   */
+  private void billClusters(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
+      int batchSize, Set<String> clusterIds) {
+    Set<String> billedClusterIds =
+        billedClusterCheckpointDao.fetchBilledClusterIds(accountId, batchJobType.name(), startTime, endTime);
+    List<String> pendingClusterIds =
+        clusterIds.stream().filter(clusterId -> !billedClusterIds.contains(clusterId)).collect(Collectors.toList());
+    if (pendingClusterIds.size() < clusterIds.size()) {
+      log.info("Skipping {} clusters billed by a failed run for accountId: {}",
+          clusterIds.size() - pendingClusterIds.size(), accountId);
+    }
+
+    CompletionService<String> completionService = new ExecutorCompletionService<>(clusterBillingExecutor);
+    for (String clusterId : pendingClusterIds) {
+      completionService.submit(() -> {
+        billCluster(accountId, startTime, endTime, batchJobType, batchSize, clusterId);
+        return clusterId;
+      });
+    }
+
+    // Waits for all the partitions even after a failure, so every cluster billed is checkpointed
+    Exception failure = null;
+    for (int i = 0; i < pendingClusterIds.size(); i++) {
+      try {
+        String billedClusterId = completionService.take().get();
+        billedClusterCheckpointDao.addBilledClusterId(
+            accountId, batchJobType.name(), startTime, endTime, billedClusterId);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new BatchProcessingException("Interrupted while billing clusters", e);
+      } catch (ExecutionException e) {
+        log.error("Exception in billing step", e.getCause());
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw new BatchProcessingException("Failed to bill clusters", failure.getCause());
+    }
+    billedClusterCheckpointDao.delete(accountId, batchJobType.name(), startTime, endTime);
+  }
+
+  private void billCluster(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
+      int batchSize, String clusterId) {
+    long startMillis = System.currentTimeMillis();
     // bill PV first
     List<InstanceBillingData> pvInstanceBillingDataList =
-        billPVInstances(batchJobType, accountId, startTime, endTime, clusterIds, isClusterQueryEnabled);
+        getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, batchSize, clusterId);
 
     Map<String, InstanceBillingData> claimRefToPVInstanceBillingData =
         pvInstanceBillingDataList.stream().collect(Collectors.toMap(e
             -> e.getNamespace() + CLAIM_REF_SEPARATOR + e.getWorkloadName(),
             e -> e, (e1, e2) -> e1.getStartTimestamp() > e2.getStartTimestamp() ? e1 : e2));
 
-    Map<String, MutableInt> pvcClaimCount =
-        getPvcClaimCount(accountId, startTime, endTime, clusterIds, isClusterQueryEnabled);
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        billAllInstances(
-            accountId, startTime, endTime, batchJobType, claimRefToPVInstanceBillingData, pvcClaimCount, clusterId);
-      }
-    } else {
-      billAllInstances(
-          accountId, startTime, endTime, batchJobType, claimRefToPVInstanceBillingData, pvcClaimCount, null);
+    Map<String, MutableInt> pvcClaimCount = fetchPvcClaimCount(accountId, startTime, endTime, batchSize, clusterId);
+    int instanceCount = pvInstanceBillingDataList.size()
+        + billAllInstances(accountId, startTime, endTime, batchJobType, batchSize, claimRefToPVInstanceBillingData,
+            pvcClaimCount, clusterId);
+
+    long durationMillis = System.currentTimeMillis() - startMillis;
+    log.info("Billed {} instances of clusterId: {} accountId: {} in {} ms", instanceCount, clusterId, accountId,
+        durationMillis);
+    try (BatchJobContext x = new BatchJobContext(accountId, batchJobType.name())) {
+      metricService.recordMetric(BatchProcessingMetricName.INSTANCE_BILLING_CLUSTER_TIME_IN_SEC, durationMillis / 1000);
+      metricService.recordMetric(BatchProcessingMetricName.INSTANCE_BILLING_CLUSTER_INSTANCES, instanceCount);
     }
-    return null;
   }
 
-  private void billAllInstances(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
-      Map<String, InstanceBillingData> claimRefToPVInstanceBillingData, Map<String, MutableInt> pvcClaimCount,
-      String clusterId) {
+  private int billAllInstances(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
+      int batchSize, Map<String, InstanceBillingData> claimRefToPVInstanceBillingData,
+      Map<String, MutableInt> pvcClaimCount, String clusterId) {
+    int instanceCount = 0;
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(instanceDataDao, accountId, clusterId,
         ImmutableList.of(
@@ -154,13 +231,15 @@ public class InstanceBillingDataTasklet implements Tasklet {
     do {
       instanceDataLists = instanceDataReader.getNext();
       try {
-        createBillingData(accountId, startTime, endTime, batchJobType, instanceDataLists,
-            claimRefToPVInstanceBillingData, pvcClaimCount);
+        instanceCount += createBillingData(accountId, startTime, endTime, batchJobType, instanceDataLists,
+            claimRefToPVInstanceBillingData, pvcClaimCount)
+                             .size();
       } catch (Exception ex) {
         log.error("Exception in billing step", ex);
         throw ex;
       }
     } while (instanceDataLists.size() == batchSize);
+    return instanceCount;
   }
 
   private boolean isClusterIdFilterQueryEnabled(String accountId) {
@@ -190,27 +269,13 @@ public class InstanceBillingDataTasklet implements Tasklet {
     return clusterIds;
   }
 
-  private Map<String, MutableInt> getPvcClaimCount(
-      String accountId, Instant startTime, Instant endTime, Set<String> clusterIds, boolean isClusterQueryEnabled) {
+  private Map<String, MutableInt> fetchPvcClaimCount(
+      String accountId, Instant startTime, Instant endTime, int batchSize, String clusterId) {
     Map<String, MutableInt> result = new HashMap<>();
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        fetchPvcClaimCount(accountId, startTime, endTime, result, clusterId);
-      }
-    } else {
-      fetchPvcClaimCount(accountId, startTime, endTime, result, null);
-    }
-
-    return result;
-  }
-
-  private void fetchPvcClaimCount(
-      String accountId, Instant startTime, Instant endTime, Map<String, MutableInt> result, String clusterId) {
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(
         instanceDataDao, accountId, clusterId, ImmutableList.of(K8S_POD), startTime, endTime, batchSize);
     do {
-      // TODO change here
       instanceDataLists = instanceDataReader.getNext();
       for (InstanceData instanceData : instanceDataLists) {
         List<String> pvcClaimNames = firstNonNull(instanceData.getPvcClaimNames(), Collections.emptyList());
@@ -222,23 +287,12 @@ public class InstanceBillingDataTasklet implements Tasklet {
         }
       }
     } while (instanceDataLists.size() == batchSize);
+    return result;
   }
 
-  private List<InstanceBillingData> billPVInstances(BatchJobType batchJobType, String accountId, Instant startTime,
-      Instant endTime, Set<String> clusterIds, boolean isClusterQueryEnabled) {
+  private List<InstanceBillingData> getPvInstanceBillingData(BatchJobType batchJobType, String accountId,
+      Instant startTime, Instant endTime, int batchSize, String clusterId) {
     List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, instanceBillingDataList, clusterId);
-      }
-    } else {
-      getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, instanceBillingDataList, null);
-    }
-    return instanceBillingDataList;
-  }
-
-  private void getPvInstanceBillingData(BatchJobType batchJobType, String accountId, Instant startTime, Instant endTime,
-      List<InstanceBillingData> instanceBillingDataList, String clusterId) {
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(
         instanceDataDao, accountId, clusterId, ImmutableList.of(K8S_PV), startTime, endTime, batchSize);
@@ -252,6 +306,7 @@ public class InstanceBillingDataTasklet implements Tasklet {
         throw ex;
       }
     } while (instanceDataLists.size() == batchSize);
+    return instanceBillingDataList;
   }
 
   List<InstanceBillingData> createBillingData(String accountId, Instant startTime, Instant endTime,
@@ -354,6 +409,8 @@ public class InstanceBillingDataTasklet implements Tasklet {
       }
     }
 
+    prefetchVMPricing(instanceDataLists);
+
     List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
     instanceDataGroupedCluster.forEach((clusterRecordId, instanceDataList) -> {
       InstanceData firstInstanceData = instanceDataList.get(0);
@@ -386,6 +443,24 @@ public class InstanceBillingDataTasklet implements Tasklet {
     return instanceBillingDataList;
   }
 
+  // Fetches the prices of the regions of the page once, so the instances are not billed at the latency of cloudinfo
+  private void prefetchVMPricing(List<InstanceData> instanceDataLists) {
+    Map<String, Set<String>> regionsByCloudProvider = new HashMap<>();
+    instanceDataLists.forEach(instanceData -> {
+      String region = getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.REGION, instanceData);
+      String cloudProvider = getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.CLOUD_PROVIDER, instanceData);
+      if (VM_PRICED_INSTANCE_TYPES.contains(instanceData.getInstanceType()) && null != region
+          && VM_PRICED_CLOUD_PROVIDERS.contains(cloudProvider)) {
+        regionsByCloudProvider.computeIfAbsent(cloudProvider, k -> new HashSet<>()).add(region);
+      }
+    });
+    regionsByCloudProvider.forEach((cloudProvider, regions) -> {
+      for (String region : regions) {
+        vmPricingService.prefetchComputeVMPricingInfo(region, CloudProvider.valueOf(cloudProvider));
+      }
+    });
+  }
+
   private void addParentInstanceId(InstanceData instanceData, Set<String> parentInstanceIds) {
     if (ImmutableSet.of(InstanceType.K8S_POD).contains(instanceData.getInstanceType())) {
       parentInstanceIds.add(getParentInstanceId(instanceData));
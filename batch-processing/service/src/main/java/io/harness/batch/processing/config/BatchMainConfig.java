@@ -35,6 +35,7 @@ public class BatchMainConfig {
   @JsonProperty("harness-mongo") private MongoConfig harnessMongo;
   @JsonProperty("events-mongo") private MongoConfig eventsMongo;
   @JsonProperty("batchQueryConfig") private BatchQueryConfig batchQueryConfig;
+  @JsonProperty("timescaleBulkWriterConfig") private TimescaleBulkWriterConfig timescaleBulkWriterConfig;
   @JsonProperty("awsRegionIdToName") private Map<String, String> awsRegionIdToName;
   @JsonProperty("awsS3SyncConfig") private AwsS3SyncConfig awsS3SyncConfig;
   @JsonProperty("azureStorageSyncConfig") private AzureStorageSyncConfig azureStorageSyncConfig;
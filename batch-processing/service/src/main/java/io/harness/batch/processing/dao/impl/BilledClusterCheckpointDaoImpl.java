@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.dao.impl;
+
+import io.harness.batch.processing.dao.intfc.BilledClusterCheckpointDao;
+import io.harness.ccm.commons.entities.batch.BilledClusterCheckpoint;
+import io.harness.ccm.commons.entities.batch.BilledClusterCheckpoint.BilledClusterCheckpointKeys;
+import io.harness.persistence.HPersistence;
+
+import com.google.inject.Inject;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateOperations;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Slf4j
+public class BilledClusterCheckpointDaoImpl implements BilledClusterCheckpointDao {
+  @Autowired @Inject private HPersistence hPersistence;
+
+  @Override
+  public Set<String> fetchBilledClusterIds(String accountId, String batchJobType, Instant startAt, Instant endAt) {
+    BilledClusterCheckpoint billedClusterCheckpoint = query(accountId, batchJobType, startAt, endAt).get();
+    if (billedClusterCheckpoint == null || billedClusterCheckpoint.getBilledClusterIds() == null) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(billedClusterCheckpoint.getBilledClusterIds());
+  }
+
+  @Override
+  public void addBilledClusterId(
+      String accountId, String batchJobType, Instant startAt, Instant endAt, String clusterId) {
+    UpdateOperations<BilledClusterCheckpoint> updateOperations =
+        hPersistence.createUpdateOperations(BilledClusterCheckpoint.class)
+            .addToSet(BilledClusterCheckpointKeys.billedClusterIds, clusterId)
+            .setOnInsert(BilledClusterCheckpointKeys.validUntil,
+                Date.from(OffsetDateTime.now().plusDays(7).toInstant()));
+    hPersistence.upsert(query(accountId, batchJobType, startAt, endAt), updateOperations);
+  }
+
+  @Override
+  public boolean delete(String accountId, String batchJobType, Instant startAt, Instant endAt) {
+    return hPersistence.delete(query(accountId, batchJobType, startAt, endAt));
+  }
+
+  private Query<BilledClusterCheckpoint> query(String accountId, String batchJobType, Instant startAt, Instant endAt) {
+    return hPersistence.createQuery(BilledClusterCheckpoint.class)
+        .filter(BilledClusterCheckpointKeys.accountId, accountId)
+        .filter(BilledClusterCheckpointKeys.batchJobType, batchJobType)
+        .filter(BilledClusterCheckpointKeys.startAt, startAt)
+        .filter(BilledClusterCheckpointKeys.endAt, endAt);
+  }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.dao.intfc;
+
+import java.time.Instant;
+import java.util.Set;
+
+public interface BilledClusterCheckpointDao {
+  Set<String> fetchBilledClusterIds(String accountId, String batchJobType, Instant startAt, Instant endAt);
+  void addBilledClusterId(String accountId, String batchJobType, Instant startAt, Instant endAt, String clusterId);
+  boolean delete(String accountId, String batchJobType, Instant startAt, Instant endAt);
+}
@@ -9,6 +9,7 @@ package io.harness.batch.processing.events.timeseries.service.impl;
 
 import io.harness.batch.processing.events.timeseries.data.CostEventData;
 import io.harness.batch.processing.events.timeseries.service.intfc.CostEventService;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.timescaledb.TimeScaleDBService;
 
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class CostEventServiceImpl implements CostEventService {
   @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private TimescaleBulkWriter timescaleBulkWriter;
   @Autowired private TimeUtils utils;
 
   private static final int BATCH_SIZE = 500;
@@ -60,18 +62,11 @@ public class CostEventServiceImpl implements CostEventService {
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (CostEventData costEventData : costEventDataList) {
-            updateInsertStatement(statement, costEventData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == costEventDataList.size()) {
-              log.debug("statement is {}", statement);
-              statement.executeBatch();
-            }
+        try {
+          if (timescaleBulkWriter.isEnabled()) {
+            timescaleBulkWriter.write(INSERT_STATEMENT, costEventDataList, this::updateInsertStatement);
+          } else {
+            insertBatches(costEventDataList);
           }
           successfulInsert = true;
         } catch (SQLException e) {
@@ -85,6 +80,23 @@ public class CostEventServiceImpl implements CostEventService {
     return successfulInsert;
   }
 
+  private void insertBatches(List<CostEventData> costEventDataList) throws SQLException {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
+      int index = 0;
+      for (CostEventData costEventData : costEventDataList) {
+        updateInsertStatement(statement, costEventData);
+        statement.addBatch();
+        index++;
+
+        if (index % BATCH_SIZE == 0 || index == costEventDataList.size()) {
+          log.debug("statement is {}", statement);
+          statement.executeBatch();
+        }
+      }
+    }
+  }
+
   @Override
   public boolean purgeCostEventData() {
     log.info("Purging old {} data !!", COST_EVENT_DATA_PURGE_QUERY);
@@ -10,8 +10,12 @@ package io.harness.batch.processing.pricing.pricingprofile;
 import io.harness.ccm.cluster.entities.PricingProfile;
 import io.harness.ccm.commons.beans.billing.InstanceCategory;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 public interface PricingProfileService {
   PricingProfile fetchPricingProfile(String accountId, InstanceCategory instanceCategory);
 
   void create(PricingProfile pricingProfile);
+
+  CacheStats getCacheStats();
 }
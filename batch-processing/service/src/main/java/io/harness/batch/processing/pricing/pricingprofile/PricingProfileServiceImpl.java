@@ -10,7 +10,12 @@ package io.harness.batch.processing.pricing.pricingprofile;
 import io.harness.ccm.cluster.entities.PricingProfile;
 import io.harness.ccm.commons.beans.billing.InstanceCategory;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.inject.Inject;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -26,9 +31,17 @@ public class PricingProfileServiceImpl implements PricingProfileService {
     this.pricingProfileDao = pricingProfileDao;
   }
 
+  // Most accounts have no profile, so its absence is cached too
+  private final LoadingCache<String, Optional<PricingProfile>> pricingProfileCache =
+      Caffeine.newBuilder()
+          .expireAfterWrite(30, TimeUnit.MINUTES)
+          .maximumSize(10_000)
+          .recordStats()
+          .build(this::loadPricingProfile);
+
   @Override
   public PricingProfile fetchPricingProfile(String accountId, InstanceCategory instanceCategory) {
-    PricingProfile returnProfile = pricingProfileDao.fetchPricingProfile(accountId);
+    PricingProfile returnProfile = pricingProfileCache.get(accountId).orElse(null);
     if (returnProfile == null) {
       double cpuPricePerHr = 0.0016;
       double memoryPricePerHr = 0.008;
@@ -44,8 +57,19 @@ public class PricingProfileServiceImpl implements PricingProfileService {
     }
     return returnProfile;
   }
+
   @Override
   public void create(PricingProfile pricingProfile) {
     pricingProfileDao.create(pricingProfile);
+    pricingProfileCache.invalidate(pricingProfile.getAccountId());
+  }
+
+  @Override
+  public CacheStats getCacheStats() {
+    return pricingProfileCache.stats();
+  }
+
+  private Optional<PricingProfile> loadPricingProfile(String accountId) {
+    return Optional.ofNullable(pricingProfileDao.fetchPricingProfile(accountId));
   }
 }
@@ -10,6 +10,7 @@ package io.harness.batch.processing.pricing.vmpricing;
 import io.harness.ccm.commons.constants.CloudProvider;
 import io.harness.pricing.dto.cloudinfo.ProductDetails;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.ImmutableSet;
 
 public interface VMPricingService {
@@ -25,5 +26,12 @@ public interface VMPricingService {
 
   ProductDetails getComputeVMPricingInfo(String instanceType, String region, CloudProvider cloudProvider);
 
+  /**
+   * Fetches the prices of all the instance types of the region, unless they were fetched within the refresh interval.
+   */
+  void prefetchComputeVMPricingInfo(String region, CloudProvider cloudProvider);
+
+  CacheStats getCacheStats();
+
   EcsFargatePricingInfo getFargatePricingInfo(String instanceCategory, String region);
 }
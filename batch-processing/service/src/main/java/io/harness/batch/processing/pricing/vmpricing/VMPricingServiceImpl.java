@@ -19,9 +19,11 @@ import io.harness.pricing.dto.cloudinfo.ProductDetailsResponse;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,21 +37,29 @@ public class VMPricingServiceImpl implements VMPricingService {
   private final CloudInfoPricingClient banzaiPricingClient;
 
   private static final String COMPUTE_SERVICE = "compute";
+  private static final long REGION_REFRESH_INTERVAL_HOURS = 12;
+  private static final long MAXIMUM_CACHED_PRODUCTS = 100_000;
 
   @Autowired
   public VMPricingServiceImpl(CloudInfoPricingClient banzaiPricingClient) {
     this.banzaiPricingClient = banzaiPricingClient;
   }
 
-  private final Cache<String, ProductDetails> vmPricingInfoCache = Caffeine.newBuilder().build();
+  // The products outlive the refresh of their region, so they are not missed while the region is still fresh
+  private final Cache<String, ProductDetails> vmPricingInfoCache =
+      Caffeine.newBuilder()
+          .expireAfterWrite(REGION_REFRESH_INTERVAL_HOURS + 1, TimeUnit.HOURS)
+          .maximumSize(MAXIMUM_CACHED_PRODUCTS)
+          .recordStats()
+          .build();
+
+  // The regions fetched from cloudinfo, an instance type missing from a fresh region is not fetched again
+  private final Cache<String, Boolean> refreshedRegionCache =
+      Caffeine.newBuilder().expireAfterWrite(REGION_REFRESH_INTERVAL_HOURS, TimeUnit.HOURS).build();
 
   @Override
   public ProductDetails getComputeVMPricingInfo(String instanceType, String region, CloudProvider cloudProvider) {
-    String supportedRegion = region;
-    if (cloudProvider == CloudProvider.AZURE) {
-      supportedRegion = VMPricingService.getSimilarRegionIfNotSupportedByBanzai(region);
-    }
-
+    String supportedRegion = getSupportedRegion(region, cloudProvider);
     ProductDetails vmComputePricingInfo =
         getVMPricingInfoFromCacheIfPresent(instanceType, supportedRegion, cloudProvider);
 
@@ -60,13 +70,23 @@ public class VMPricingServiceImpl implements VMPricingService {
     }
 
     if (null == vmComputePricingInfo) {
-      refreshCache(supportedRegion, COMPUTE_SERVICE, cloudProvider);
+      refreshCacheIfStale(supportedRegion, cloudProvider);
       vmComputePricingInfo = getVMPricingInfoFromCacheIfPresent(instanceType, supportedRegion, cloudProvider);
     }
 
     return vmComputePricingInfo;
   }
 
+  @Override
+  public void prefetchComputeVMPricingInfo(String region, CloudProvider cloudProvider) {
+    refreshCacheIfStale(getSupportedRegion(region, cloudProvider), cloudProvider);
+  }
+
+  @Override
+  public CacheStats getCacheStats() {
+    return vmPricingInfoCache.stats();
+  }
+
   @Override
   public EcsFargatePricingInfo getFargatePricingInfo(String instanceCategory, String region) {
     if (InstanceCategory.SPOT.name().equals(instanceCategory)) {
@@ -81,7 +101,20 @@ public class VMPricingServiceImpl implements VMPricingService {
     return vmPricingInfoCache.getIfPresent(vmCacheKey);
   }
 
-  private void refreshCache(String region, String serviceName, CloudProvider cloudProvider) {
+  private static String getSupportedRegion(String region, CloudProvider cloudProvider) {
+    if (cloudProvider == CloudProvider.AZURE) {
+      return VMPricingService.getSimilarRegionIfNotSupportedByBanzai(region);
+    }
+    return region;
+  }
+
+  private void refreshCacheIfStale(String region, CloudProvider cloudProvider) {
+    // Concurrent lookups of a stale region wait for a single fetch, a failed fetch is retried by the next lookup
+    refreshedRegionCache.get(
+        getRegionCacheKey(region, cloudProvider), key -> refreshCache(region, COMPUTE_SERVICE, cloudProvider));
+  }
+
+  private Boolean refreshCache(String region, String serviceName, CloudProvider cloudProvider) {
     try {
       Call<ProductDetailsResponse> pricingInfoCall =
           banzaiPricingClient.getPricingInfo(cloudProvider.getCloudProviderName(), serviceName, region);
@@ -92,12 +125,14 @@ public class VMPricingServiceImpl implements VMPricingService {
             product -> vmPricingInfoCache.put(getVMCacheKey(product.getType(), region, cloudProvider), product));
         log.info("Cache size {}", vmPricingInfoCache.asMap().size());
         log.debug("Pricing response {} {}", pricingInfo.toString(), pricingInfo.body().getProducts());
+        return Boolean.TRUE;
       } else {
         log.error("Null response from cloudinfo service for params {} {} {}", region, serviceName, cloudProvider);
       }
     } catch (IOException e) {
       log.error("Exception in pricing service ", e);
     }
+    return null;
   }
 
   String getVMCacheKey(@NotNull String instanceType, @NotNull String region, @NotNull CloudProvider cloudProvider) {
@@ -105,4 +140,8 @@ public class VMPricingServiceImpl implements VMPricingService {
         + md5Hex(
             ("i_" + instanceType.toLowerCase() + "r_" + region.toLowerCase() + "c_" + cloudProvider).getBytes(UTF_8));
   }
+
+  private static String getRegionCacheKey(String region, CloudProvider cloudProvider) {
+    return region.toLowerCase() + "_" + cloudProvider;
+  }
 }
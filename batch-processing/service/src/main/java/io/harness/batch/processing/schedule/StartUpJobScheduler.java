@@ -9,6 +9,7 @@ package io.harness.batch.processing.schedule;
 
 import static io.harness.batch.processing.ApplicationReadyListener.createLivenessMarker;
 
+import io.harness.batch.processing.svcmetrics.PricingCacheMetricsRecorder;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 import io.harness.timescaledb.metrics.QueryStatsPrinter;
@@ -27,6 +28,7 @@ public class StartUpJobScheduler {
 
   @Autowired private MetricsPublisher metricsPublisher;
   @Autowired private MetricService metricService;
+  @Autowired private PricingCacheMetricsRecorder pricingCacheMetricsRecorder;
 
   /**
    * Created this job because while running functional test
@@ -56,5 +58,6 @@ public class StartUpJobScheduler {
   @Scheduled(fixedRate = 60L * 1000, initialDelay = 60L * 1000)
   public void recordMetrics() {
     metricsPublisher.recordMetrics();
+    pricingCacheMetricsRecorder.recordMetrics();
   }
 }
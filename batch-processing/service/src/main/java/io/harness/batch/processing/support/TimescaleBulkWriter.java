@@ -0,0 +1,299 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.support;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.batch.processing.config.BatchMainConfig;
+import io.harness.batch.processing.config.TimescaleBulkWriterConfig;
+import io.harness.batch.processing.svcmetrics.BatchProcessingMetricName;
+import io.harness.batch.processing.svcmetrics.TimescaleBulkWriteContext;
+import io.harness.manage.ManagedExecutorService;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Singleton;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes rows to a timescale table with COPY instead of batches of inserts. The rows of a write are split in flushes of
+ * {@link TimescaleBulkWriterConfig#getFlushSize()} rows, each flush is copied into a temporary staging table and merged
+ * into the table with a single {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING}, in its own transaction.
+ *
+ * <p>The writes take the insert statement and the binder of the batch writes they replace, and the values bound are
+ * copied in the text form Postgres parses back to the same values. The flushes are copied in parallel, but merged in
+ * the order of the rows, so the row kept out of duplicates is the one the batch writes would have kept.
+ */
+@Slf4j
+@Service
+@Singleton
+@OwnedBy(HarnessTeam.CE)
+public class TimescaleBulkWriter {
+  private static final Pattern INSERT_PATTERN = Pattern.compile(
+      "^\\s*INSERT INTO (\\w+) \\(([^)]+)\\)\\s*VALUES\\s*\\(([?,\\s]+)\\)\\s*ON CONFLICT DO NOTHING\\s*$",
+      Pattern.CASE_INSENSITIVE);
+  private static final String STAGING_TABLE = "BULK_WRITE_STAGING";
+  private static final String ORDINAL_COLUMN = "BULK_WRITE_ORDINAL";
+  private static final String CREATE_STAGING_TABLE =
+      "CREATE TEMP TABLE %s ON COMMIT DROP AS SELECT %s FROM %s WITH NO DATA";
+  private static final String ADD_ORDINAL_COLUMN = "ALTER TABLE %s ADD COLUMN %s BIGSERIAL";
+  private static final String COPY_STATEMENT = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)";
+  private static final String MERGE_STATEMENT =
+      "INSERT INTO %s (%s) SELECT %s FROM %s ORDER BY %s ON CONFLICT DO NOTHING";
+
+  @Autowired private TimeScaleDBService timeScaleDBService;
+  @Autowired private BatchMainConfig config;
+  @Autowired private MetricService metricService;
+
+  private final Map<String, BulkInsert> bulkInserts = new ConcurrentHashMap<>();
+  // Created on the first write, the config is not injected yet when the fields are initialized
+  private final Supplier<ExecutorService> writerExecutor = Suppliers.memoize(this::createWriterExecutor);
+
+  @FunctionalInterface
+  public interface RowBinder<T> {
+    void bind(PreparedStatement statement, T row) throws SQLException;
+  }
+
+  public boolean isEnabled() {
+    TimescaleBulkWriterConfig bulkWriterConfig = config.getTimescaleBulkWriterConfig();
+    return bulkWriterConfig != null && bulkWriterConfig.isEnabled();
+  }
+
+  /**
+   * Writes the rows as the insert statement would, the statement should insert every column from a parameter and do
+   * nothing on conflict. The flushes merged before a failure stay written, as the batches executed before a failure do.
+   */
+  public <T> void write(String insertStatement, List<T> rows, RowBinder<T> rowBinder) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    BulkInsert bulkInsert = bulkInserts.computeIfAbsent(insertStatement, BulkInsert::parse);
+    List<Future<Void>> flushes = new ArrayList<>();
+    CompletableFuture<Void> previousMerge = CompletableFuture.completedFuture(null);
+    for (List<T> flushRows : Lists.partition(rows, getConfig().getFlushSize())) {
+      CompletableFuture<Void> merge = new CompletableFuture<>();
+      CompletableFuture<Void> mergeBefore = previousMerge;
+      flushes.add(writerExecutor.get().submit(() -> flush(bulkInsert, flushRows, rowBinder, mergeBefore, merge)));
+      previousMerge = merge;
+    }
+
+    // Waits for all the flushes, so none is left running when the write is retried
+    Exception failure = null;
+    for (Future<Void> flush : flushes) {
+      try {
+        flush.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while writing into " + bulkInsert.getTable(), e);
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      Throwable cause = failure.getCause();
+      throw cause instanceof SQLException ? (SQLException) cause
+                                          : new SQLException("Failed to write into " + bulkInsert.getTable(), cause);
+    }
+  }
+
+  private <T> Void flush(BulkInsert bulkInsert, List<T> rows, RowBinder<T> rowBinder,
+      CompletableFuture<Void> mergeBefore, CompletableFuture<Void> merge) throws Exception {
+    try {
+      byte[] csv = encode(bulkInsert, rows, rowBinder);
+      long startTime = System.currentTimeMillis();
+      try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+        dbConnection.setAutoCommit(false);
+        try (Statement statement = dbConnection.createStatement()) {
+          statement.execute(bulkInsert.getCreateStagingTable());
+          statement.execute(bulkInsert.getAddOrdinalColumn());
+          dbConnection.unwrap(PGConnection.class)
+              .getCopyAPI()
+              .copyIn(bulkInsert.getCopyStatement(), new ByteArrayInputStream(csv));
+          // Fails this flush as well when the flush before it failed
+          mergeBefore.get();
+          statement.executeUpdate(bulkInsert.getMergeStatement());
+          dbConnection.commit();
+        } catch (Exception e) {
+          dbConnection.rollback();
+          throw e;
+        }
+      }
+      merge.complete(null);
+
+      long durationMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+      log.debug("Bulk wrote {} rows, {} bytes into {} in {} ms", rows.size(), csv.length, bulkInsert.getTable(),
+          durationMillis);
+      try (TimescaleBulkWriteContext x = new TimescaleBulkWriteContext(bulkInsert.getTable())) {
+        metricService.recordMetric(
+            BatchProcessingMetricName.TIMESCALE_BULK_WRITE_ROWS_PER_SEC, rows.size() * 1000.0 / durationMillis);
+        metricService.recordMetric(BatchProcessingMetricName.TIMESCALE_BULK_WRITE_BYTES, csv.length);
+      }
+      return null;
+    } catch (Exception e) {
+      merge.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  static <T> byte[] encode(BulkInsert bulkInsert, List<T> rows, RowBinder<T> rowBinder) throws SQLException {
+    StringBuilder csv = new StringBuilder();
+    for (T row : rows) {
+      CsvRow csvRow = new CsvRow(bulkInsert.getColumns().size());
+      rowBinder.bind((PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                         new Class<?>[] {PreparedStatement.class}, csvRow),
+          row);
+      csvRow.appendTo(csv);
+    }
+    return csv.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private ExecutorService createWriterExecutor() {
+    return new ManagedExecutorService(Executors.newFixedThreadPool(getConfig().getWriterThreads(),
+        new ThreadFactoryBuilder().setNameFormat("timescale-bulk-writer-%d").build()));
+  }
+
+  private TimescaleBulkWriterConfig getConfig() {
+    return config.getTimescaleBulkWriterConfig();
+  }
+
+  @Value
+  static class BulkInsert {
+    String table;
+    List<String> columns;
+    String createStagingTable;
+    String addOrdinalColumn;
+    String copyStatement;
+    String mergeStatement;
+
+    static BulkInsert parse(String insertStatement) {
+      Matcher matcher = INSERT_PATTERN.matcher(insertStatement);
+      if (!matcher.matches()) {
+        throw new IllegalArgumentException("Not an insert of parameters doing nothing on conflict: " + insertStatement);
+      }
+      String table = matcher.group(1);
+      List<String> columns = Arrays.stream(matcher.group(2).split(",")).map(String::trim).collect(Collectors.toList());
+      long parameterCount = matcher.group(3).chars().filter(c -> c == '?').count();
+      if (parameterCount != columns.size()) {
+        throw new IllegalArgumentException(String.format(
+            "Found %d parameters for %d columns in: %s", parameterCount, columns.size(), insertStatement));
+      }
+      String columnList = String.join(", ", columns);
+      return new BulkInsert(table, columns, String.format(CREATE_STAGING_TABLE, STAGING_TABLE, columnList, table),
+          String.format(ADD_ORDINAL_COLUMN, STAGING_TABLE, ORDINAL_COLUMN),
+          String.format(COPY_STATEMENT, STAGING_TABLE, columnList),
+          String.format(MERGE_STATEMENT, table, columnList, columnList, STAGING_TABLE, ORDINAL_COLUMN));
+    }
+  }
+
+  /**
+   * The parameters bound to a statement as the fields of a csv row. Null is an unquoted empty field and every other
+   * value is quoted, so an empty string stays an empty string.
+   */
+  static class CsvRow implements InvocationHandler {
+    private final String[] fields;
+    private final boolean[] bound;
+
+    CsvRow(int columnCount) {
+      this.fields = new String[columnCount];
+      this.bound = new boolean[columnCount];
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      switch (method.getName()) {
+        case "setNull":
+          set(args, null);
+          break;
+        case "setString":
+          set(args, (String) args[1]);
+          break;
+        case "setBigDecimal":
+          set(args, args[1] == null ? null : ((BigDecimal) args[1]).toString());
+          break;
+        case "setDouble":
+        case "setFloat":
+        case "setLong":
+        case "setInt":
+        case "setBoolean":
+          set(args, String.valueOf(args[1]));
+          break;
+        case "setTimestamp":
+          Calendar calendar = args.length > 2 ? (Calendar) args[2] : null;
+          set(args, args[1] == null ? null : formatTimestamp((Timestamp) args[1], calendar));
+          break;
+        default:
+          throw new UnsupportedOperationException("Not supported by the bulk writer: " + method.getName());
+      }
+      return null;
+    }
+
+    // The time in the zone of the calendar, with its offset, like the driver sends it
+    private static String formatTimestamp(Timestamp timestamp, Calendar calendar) {
+      ZoneId zoneId = calendar == null ? ZoneId.systemDefault() : calendar.getTimeZone().toZoneId();
+      return OffsetDateTime.ofInstant(timestamp.toInstant(), zoneId).toString();
+    }
+
+    private void set(Object[] args, String value) {
+      int index = (Integer) args[0] - 1;
+      fields[index] = value;
+      bound[index] = true;
+    }
+
+    void appendTo(StringBuilder csv) throws SQLException {
+      for (int i = 0; i < fields.length; i++) {
+        if (!bound[i]) {
+          throw new SQLException("No value specified for parameter " + (i + 1));
+        }
+        if (i > 0) {
+          csv.append(',');
+        }
+        if (fields[i] != null) {
+          csv.append('"').append(fields[i].replace("\"", "\"\"")).append('"');
+        }
+      }
+      csv.append('\n');
+    }
+  }
+}
@@ -9,4 +9,9 @@ package io.harness.batch.processing.svcmetrics;
 
 public class BatchProcessingMetricName {
   static final String JOB_EXECUTION_TIME_IN_SEC = "batchproc_jobExecutionTimeInSec";
+  public static final String INSTANCE_BILLING_CLUSTER_TIME_IN_SEC = "batchproc_instanceBillingClusterTimeInSec";
+  public static final String INSTANCE_BILLING_CLUSTER_INSTANCES = "batchproc_instanceBillingClusterInstances";
+  public static final String TIMESCALE_BULK_WRITE_ROWS_PER_SEC = "batchproc_timescaleBulkWriteRowsPerSec";
+  public static final String TIMESCALE_BULK_WRITE_BYTES = "batchproc_timescaleBulkWriteBytes";
+  public static final String PRICING_CACHE_HIT_RATIO = "batchproc_pricingCacheHitRatio";
 }
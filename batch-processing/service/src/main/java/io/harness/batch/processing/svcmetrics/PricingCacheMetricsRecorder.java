@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.svcmetrics;
+
+import static io.harness.batch.processing.svcmetrics.BatchProcessingMetricName.PRICING_CACHE_HIT_RATIO;
+
+import io.harness.batch.processing.pricing.pricingprofile.PricingProfileService;
+import io.harness.batch.processing.pricing.vmpricing.VMPricingService;
+import io.harness.metrics.service.api.MetricService;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the hit ratio of the pricing caches for the lookups made since the previous recording.
+ */
+@Slf4j
+@Component
+public class PricingCacheMetricsRecorder {
+  @Autowired private VMPricingService vmPricingService;
+  @Autowired private PricingProfileService pricingProfileService;
+  @Autowired private MetricService metricService;
+
+  private final Map<String, CacheStats> previousStats = new HashMap<>();
+
+  public synchronized void recordMetrics() {
+    record("vmPricing", vmPricingService.getCacheStats());
+    record("pricingProfile", pricingProfileService.getCacheStats());
+  }
+
+  private void record(String cache, CacheStats stats) {
+    CacheStats intervalStats = stats.minus(previousStats.getOrDefault(cache, CacheStats.empty()));
+    previousStats.put(cache, stats);
+    if (intervalStats.requestCount() == 0) {
+      return;
+    }
+    log.debug("Pricing cache {} stats {}", cache, intervalStats);
+    try (PricingCacheContext x = new PricingCacheContext(cache)) {
+      metricService.recordMetric(PRICING_CACHE_HIT_RATIO, intervalStats.hitRate());
+    }
+  }
+}
@@ -15,7 +15,10 @@ import static io.harness.rule.OwnerRule.UTSAV;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -23,6 +26,7 @@ import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.support.BillingDataTableNameProvider;
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
@@ -55,6 +59,7 @@ import org.mockito.stubbing.Answer;
 public class BillingDataServiceImplTest extends CategoryTest {
   @InjectMocks private BillingDataServiceImpl billingDataService;
   @Mock private TimeScaleDBService timeScaleDBService;
+  @Mock private TimescaleBulkWriter timescaleBulkWriter;
   @Mock private PreparedStatement statement;
   @Mock private TimeUtils utils;
   @Mock private ResultSet resultSet;
@@ -105,6 +110,21 @@ public class BillingDataServiceImplTest extends CategoryTest {
     assertThat(insert).isTrue();
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCreateBillingDataWithBulkWriter() throws SQLException {
+    when(timescaleBulkWriter.isEnabled()).thenReturn(true);
+    List<InstanceBillingData> instanceBillingDataList = ImmutableList.of(instanceBillingData());
+    boolean insert = billingDataService.create(instanceBillingDataList, BatchJobType.INSTANCE_BILLING);
+    assertThat(insert).isTrue();
+    verify(timescaleBulkWriter)
+        .write(eq(BillingDataTableNameProvider.replaceTableName(
+                   billingDataService.INSERT_STATEMENT, BatchJobType.INSTANCE_BILLING)),
+            eq(instanceBillingDataList), any());
+    verify(statement, never()).executeBatch();
+  }
+
   @Test
   @Owner(developers = SHUBHANSHU)
   @Category(UnitTests.class)
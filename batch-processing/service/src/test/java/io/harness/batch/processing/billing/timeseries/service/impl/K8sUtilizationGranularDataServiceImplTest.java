@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 import io.harness.CategoryTest;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.K8sGranularUtilizationData;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
@@ -55,6 +56,7 @@ import org.mockito.stubbing.Answer;
 public class K8sUtilizationGranularDataServiceImplTest extends CategoryTest {
   @Inject @InjectMocks private K8sUtilizationGranularDataServiceImpl k8sUtilizationGranularDataService;
   @Mock private TimeScaleDBService timeScaleDBService;
+  @Mock private TimescaleBulkWriter timescaleBulkWriter;
   @Mock private PreparedStatement statement;
   @Mock(answer = RETURNS_DEEP_STUBS) private DSLContext dslContext;
   @Mock private TimeUtils utils;
@@ -18,6 +18,7 @@ import io.harness.CategoryTest;
 import io.harness.batch.processing.billing.timeseries.data.InstanceLifecycleInfo;
 import io.harness.batch.processing.billing.timeseries.data.NodePodId;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.rule.Owner;
@@ -50,6 +51,7 @@ import org.mockito.stubbing.Answer;
 public class PodCountComputationServiceImplTest extends CategoryTest {
   @Spy @InjectMocks private PodCountComputationServiceImpl podCountComputationService;
   @Mock private TimeScaleDBService timeScaleDBService;
+  @Mock private TimescaleBulkWriter timescaleBulkWriter;
   @Mock private PreparedStatement statement;
   @Mock private InstanceDataService instanceDataService;
   @Mock private TimeUtils utils;
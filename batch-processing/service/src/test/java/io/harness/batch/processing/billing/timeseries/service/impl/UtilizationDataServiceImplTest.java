@@ -23,6 +23,7 @@ import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationDa
 import io.harness.batch.processing.ccm.UtilizationInstanceType;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ClusterIdAndServiceArn;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ECSUtilizationData;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.HarnessServiceInfo;
 import io.harness.ccm.commons.beans.InstanceType;
@@ -60,6 +61,7 @@ import org.mockito.stubbing.Answer;
 public class UtilizationDataServiceImplTest extends CategoryTest {
   @InjectMocks private UtilizationDataServiceImpl utilizationDataService;
   @Mock private TimeScaleDBService timeScaleDBService;
+  @Mock private TimescaleBulkWriter timescaleBulkWriter;
   @Mock private PreparedStatement statement;
   @Mock private TimeUtils utils;
   @Mock ResultSet resultSet;
@@ -14,13 +14,20 @@ import static io.harness.rule.OwnerRule.HITESH;
 import static io.harness.rule.OwnerRule.ROHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
+import io.harness.batch.processing.BatchProcessingException;
 import io.harness.batch.processing.billing.service.BillingAmountBreakup;
 import io.harness.batch.processing.billing.service.BillingCalculationService;
 import io.harness.batch.processing.billing.service.BillingData;
@@ -34,19 +41,24 @@ import io.harness.batch.processing.billing.writer.support.BillingDataGenerationV
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.ccm.CCMJobConstants;
 import io.harness.batch.processing.config.BatchMainConfig;
+import io.harness.batch.processing.dao.intfc.BilledClusterCheckpointDao;
 import io.harness.batch.processing.dao.intfc.InstanceDataDao;
 import io.harness.batch.processing.pricing.PricingSource;
+import io.harness.batch.processing.pricing.vmpricing.VMPricingService;
 import io.harness.batch.processing.service.intfc.CustomBillingMetaDataService;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.HarnessServiceInfo;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.beans.Resource;
 import io.harness.ccm.commons.constants.CloudProvider;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
+import io.harness.ccm.commons.entities.ClusterRecord;
 import io.harness.ccm.commons.entities.batch.InstanceData;
 import io.harness.ccm.commons.service.intf.ClusterRecordService;
 import io.harness.ff.FeatureFlagService;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.rule.Owner;
 
 import software.wings.security.authentication.BatchQueryConfig;
@@ -58,9 +70,12 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -70,7 +85,9 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.scope.context.StepContext;
@@ -124,6 +141,12 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
 
   @Mock private FeatureFlagService featureFlagService;
 
+  @Mock private MetricService metricService;
+
+  @Mock private VMPricingService vmPricingService;
+
+  @Mock private BilledClusterCheckpointDao billedClusterCheckpointDao;
+
   @Captor private ArgumentCaptor<List<InstanceBillingData>> instanceBillingDataArgumentCaptor;
 
   @Before
@@ -343,6 +366,62 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
     assertThat(repeatStatus).isNull();
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testRelaunchOfFailedIntervalBillsOnlyTheRemainingClusters() {
+    Instant startTime = Instant.ofEpochMilli(START_TIME_MILLIS);
+    Instant endTime = Instant.ofEpochMilli(END_TIME_MILLIS);
+    String batchJobType = BatchJobType.INSTANCE_BILLING.name();
+    Set<String> checkpoint = new HashSet<>();
+    when(billedClusterCheckpointDao.fetchBilledClusterIds(ACCOUNT_ID, batchJobType, startTime, endTime))
+        .thenAnswer(invocation -> new HashSet<>(checkpoint));
+    doAnswer(invocation -> checkpoint.add(invocation.getArgument(4)))
+        .when(billedClusterCheckpointDao)
+        .addBilledClusterId(eq(ACCOUNT_ID), eq(batchJobType), eq(startTime), eq(endTime), anyString());
+    when(billedClusterCheckpointDao.delete(ACCOUNT_ID, batchJobType, startTime, endTime)).thenAnswer(invocation -> {
+      checkpoint.clear();
+      return true;
+    });
+
+    String failingClusterId = "failing_cluster_id";
+    when(featureFlagService.isEnabled(FeatureName.CCM_INSTANCE_DATA_CLUSTERID_FILTER, ACCOUNT_ID)).thenReturn(true);
+    when(eventsClusterRecordService.getByAccountId(ACCOUNT_ID))
+        .thenReturn(Arrays.asList(
+            ClusterRecord.builder().uuid(CLUSTER_ID).build(), ClusterRecord.builder().uuid(failingClusterId).build()));
+    when(instanceDataDao.getInstanceDataListsOfTypesAndClusterId(any(), anyInt(), any(), any(), any(), eq(CLUSTER_ID)))
+        .thenReturn(Collections.emptyList());
+    when(instanceDataDao.getInstanceDataListsOfTypesAndClusterId(
+             any(), anyInt(), any(), any(), any(), eq(failingClusterId)))
+        .thenThrow(new IllegalStateException("Failed to read instances"))
+        .thenReturn(Collections.emptyList());
+
+    // The runner launches every run of an interval as a new job instance, with a new job id and execution context
+    assertThatThrownBy(() -> instanceBillingDataTasklet.execute(null, chunkContext(1L)))
+        .isInstanceOf(BatchProcessingException.class);
+    assertThat(checkpoint).containsExactly(CLUSTER_ID);
+
+    assertThat(instanceBillingDataTasklet.execute(null, chunkContext(2L))).isNull();
+    verify(instanceDataDao, times(3))
+        .getInstanceDataListsOfTypesAndClusterId(any(), anyInt(), any(), any(), any(), eq(CLUSTER_ID));
+    verify(instanceDataDao, times(4))
+        .getInstanceDataListsOfTypesAndClusterId(any(), anyInt(), any(), any(), any(), eq(failingClusterId));
+    assertThat(checkpoint).isEmpty();
+  }
+
+  private ChunkContext chunkContext(long jobId) {
+    JobParameters parameters =
+        new JobParametersBuilder()
+            .addString(CCMJobConstants.JOB_ID, String.valueOf(jobId))
+            .addString(CCMJobConstants.ACCOUNT_ID, ACCOUNT_ID)
+            .addString(CCMJobConstants.JOB_START_DATE, String.valueOf(START_TIME_MILLIS))
+            .addString(CCMJobConstants.JOB_END_DATE, String.valueOf(END_TIME_MILLIS))
+            .addString(CCMJobConstants.BATCH_JOB_TYPE, BatchJobType.INSTANCE_BILLING.name())
+            .toJobParameters();
+    return new ChunkContext(
+        new StepContext(new StepExecution("instanceBillingStep", new JobExecution(jobId, parameters))));
+  }
+
   @Test
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
@@ -411,6 +490,40 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
     assertThat(instanceBillingData.getAvgMemoryUtilization()).isEqualTo(MEMORY_UTILIZATION);
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCreateBillingDataPrefetchesVMPricingOfRegions() {
+    List<InstanceData> instanceDataList =
+        Arrays.asList(getInstanceData(InstanceType.K8S_NODE, CloudProvider.AWS, "us-east-1"),
+            getInstanceData(InstanceType.K8S_NODE, CloudProvider.AWS, "us-east-1"),
+            getInstanceData(InstanceType.ECS_CONTAINER_INSTANCE, CloudProvider.AWS, "us-east-2"),
+            getInstanceData(InstanceType.K8S_NODE, CloudProvider.ON_PREM, "on-prem"),
+            getInstanceData(InstanceType.K8S_POD, CloudProvider.AWS, "us-west-2"));
+
+    instanceBillingDataTasklet.createBillingData(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
+        Instant.ofEpochMilli(END_TIME_MILLIS), BatchJobType.INSTANCE_BILLING, instanceDataList, ImmutableMap.of(),
+        ImmutableMap.of());
+
+    verify(vmPricingService, times(1)).prefetchComputeVMPricingInfo("us-east-1", CloudProvider.AWS);
+    verify(vmPricingService, times(1)).prefetchComputeVMPricingInfo("us-east-2", CloudProvider.AWS);
+    verify(vmPricingService, never()).prefetchComputeVMPricingInfo(eq("on-prem"), any());
+    verify(vmPricingService, never()).prefetchComputeVMPricingInfo(eq("us-west-2"), any());
+  }
+
+  private InstanceData getInstanceData(InstanceType instanceType, CloudProvider cloudProvider, String region) {
+    Map<String, String> metaDataMap = new HashMap<>();
+    metaDataMap.put(InstanceMetaDataConstants.CLOUD_PROVIDER, cloudProvider.name());
+    metaDataMap.put(InstanceMetaDataConstants.REGION, region);
+    return InstanceData.builder()
+        .instanceType(instanceType)
+        .metaData(metaDataMap)
+        .accountId(ACCOUNT_ID)
+        .instanceId(INSTANCE_ID)
+        .clusterId(CLUSTER_ID)
+        .build();
+  }
+
   private HarnessServiceInfo getHarnessServiceInfo() {
     return new HarnessServiceInfo(
         SERVICE_ID, APP_ID, CLOUD_PROVIDER_ID, ENV_ID, INFRA_MAPPING_ID, DEPLOYMENT_SUMMARY_ID);
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.dao.impl;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.batch.processing.BatchProcessingTestBase;
+import io.harness.batch.processing.ccm.BatchJobType;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class BilledClusterCheckpointDaoImplTest extends BatchProcessingTestBase {
+  @Inject private BilledClusterCheckpointDaoImpl billedClusterCheckpointDao;
+
+  private final String ACCOUNT_ID = "ACCOUNT_ID_" + this.getClass().getSimpleName();
+  private final String BATCH_JOB_TYPE = BatchJobType.INSTANCE_BILLING.name();
+  private final Instant START_AT = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(1, ChronoUnit.HOURS);
+  private final Instant END_AT = START_AT.plus(1, ChronoUnit.HOURS);
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testBilledClusterIdsAreKeptPerInterval() {
+    assertThat(billedClusterCheckpointDao.fetchBilledClusterIds(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT))
+        .isEmpty();
+
+    billedClusterCheckpointDao.addBilledClusterId(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT, "cluster1");
+    billedClusterCheckpointDao.addBilledClusterId(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT, "cluster2");
+    billedClusterCheckpointDao.addBilledClusterId(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT, "cluster1");
+    billedClusterCheckpointDao.addBilledClusterId(ACCOUNT_ID, BATCH_JOB_TYPE, END_AT, END_AT.plusSeconds(3600), "c3");
+
+    assertThat(billedClusterCheckpointDao.fetchBilledClusterIds(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT))
+        .containsExactlyInAnyOrder("cluster1", "cluster2");
+    assertThat(billedClusterCheckpointDao.fetchBilledClusterIds(
+                   ACCOUNT_ID, BatchJobType.INSTANCE_BILLING_HOURLY.name(), START_AT, END_AT))
+        .isEmpty();
+
+    assertThat(billedClusterCheckpointDao.delete(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT)).isTrue();
+    assertThat(billedClusterCheckpointDao.fetchBilledClusterIds(ACCOUNT_ID, BATCH_JOB_TYPE, START_AT, END_AT))
+        .isEmpty();
+    assertThat(billedClusterCheckpointDao.fetchBilledClusterIds(
+                   ACCOUNT_ID, BATCH_JOB_TYPE, END_AT, END_AT.plusSeconds(3600)))
+        .containsExactly("c3");
+  }
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.batch.processing.events.timeseries.data.CostEventData;
+import io.harness.batch.processing.support.TimescaleBulkWriter;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.utils.TimeUtils;
@@ -39,6 +40,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class CostEventServiceImplTest extends CategoryTest {
   @InjectMocks private CostEventServiceImpl costEventService;
   @Mock private TimeScaleDBService timeScaleDBService;
+  @Mock private TimescaleBulkWriter timescaleBulkWriter;
   @Mock private PreparedStatement statement;
   @Mock private TimeUtils utils;
 
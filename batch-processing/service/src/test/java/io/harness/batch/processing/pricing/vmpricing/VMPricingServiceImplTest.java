@@ -14,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -122,6 +124,28 @@ public class VMPricingServiceImplTest extends CategoryTest {
     assertThat(computeVMPricingInfo.getType()).isEqualTo("e2-custom-12-32768");
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testShouldFetchRegionOnceForPrefetchAndMissingInstanceTypes() throws IOException {
+    Call<ProductDetailsResponse> pricingInfoCall = mock(Call.class);
+    when(pricingInfoCall.execute()).thenReturn(createPricingResponse());
+    when(banzaiPricingClient.getPricingInfo(CloudProvider.AWS.getCloudProviderName(), COMPUTE_SERVICE, REGION))
+        .thenReturn(pricingInfoCall);
+
+    vmPricingService.prefetchComputeVMPricingInfo(REGION, CloudProvider.AWS);
+    vmPricingService.prefetchComputeVMPricingInfo(REGION, CloudProvider.AWS);
+    ProductDetails computeVMPricingInfo =
+        vmPricingService.getComputeVMPricingInfo(DEFAULT_INSTANCE_FAMILY, REGION, CloudProvider.AWS);
+    ProductDetails missingVMPricingInfo =
+        vmPricingService.getComputeVMPricingInfo("m5.large", REGION, CloudProvider.AWS);
+
+    assertThat(computeVMPricingInfo).isNotNull();
+    assertThat(missingVMPricingInfo).isNull();
+    verify(pricingInfoCall, times(1)).execute();
+    assertThat(vmPricingService.getCacheStats().hitCount()).isEqualTo(1);
+  }
+
   @Test
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.support;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.batch.processing.support.TimescaleBulkWriter.BulkInsert;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.TimeZone;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TimescaleBulkWriterTest extends CategoryTest {
+  private static final String INSERT_STATEMENT =
+      "INSERT INTO ACTIVE_POD_COUNT (STARTTIME, ACCOUNTID,  CLUSTERID, INSTANCEID, PODCOUNT, COST) "
+      + "VALUES (?,?,?,?,?, ?) ON CONFLICT DO NOTHING ";
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldBuildStatementsFromInsertStatement() {
+    BulkInsert bulkInsert = BulkInsert.parse(INSERT_STATEMENT);
+    assertThat(bulkInsert.getTable()).isEqualTo("ACTIVE_POD_COUNT");
+    assertThat(bulkInsert.getColumns())
+        .containsExactly("STARTTIME", "ACCOUNTID", "CLUSTERID", "INSTANCEID", "PODCOUNT", "COST");
+    assertThat(bulkInsert.getCopyStatement())
+        .isEqualTo("COPY BULK_WRITE_STAGING (STARTTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT, COST) "
+            + "FROM STDIN WITH (FORMAT csv)");
+    assertThat(bulkInsert.getMergeStatement())
+        .isEqualTo("INSERT INTO ACTIVE_POD_COUNT (STARTTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT, COST) "
+            + "SELECT STARTTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT, COST FROM BULK_WRITE_STAGING "
+            + "ORDER BY BULK_WRITE_ORDINAL ON CONFLICT DO NOTHING");
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldRejectInsertStatementsWhichCannotBeMerged() {
+    assertThatThrownBy(
+        () -> BulkInsert.parse("INSERT INTO ACTIVE_POD_COUNT (STARTTIME, ACCOUNTID) VALUES (?,?)"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+        () -> BulkInsert.parse("INSERT INTO ACTIVE_POD_COUNT (STARTTIME, ACCOUNTID) VALUES (?) ON CONFLICT DO NOTHING"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldEncodeBoundValuesAsCsv() throws SQLException {
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    BulkInsert bulkInsert = BulkInsert.parse(INSERT_STATEMENT);
+    byte[] csv = TimescaleBulkWriter.encode(bulkInsert, Arrays.asList("first", "second"), (statement, row) -> {
+      statement.setTimestamp(1, Timestamp.from(Instant.parse("2023-01-01T10:15:30.250Z")), calendar);
+      statement.setString(2, "account \"" + row + "\"");
+      statement.setString(3, row.equals("first") ? "" : null);
+      statement.setNull(4, Types.VARCHAR);
+      statement.setLong(5, 7L);
+      statement.setBigDecimal(6, new BigDecimal("0.10"));
+    });
+    assertThat(new String(csv, StandardCharsets.UTF_8))
+        .isEqualTo("\"2023-01-01T10:15:30.250Z\",\"account \"\"first\"\"\",\"\",,\"7\",\"0.10\"\n"
+            + "\"2023-01-01T10:15:30.250Z\",\"account \"\"second\"\"\",,,\"7\",\"0.10\"\n");
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldFailWhenParameterIsNotBound() {
+    assertThatThrownBy(()
+                           -> TimescaleBulkWriter.encode(BulkInsert.parse(INSERT_STATEMENT), Arrays.asList("row"),
+                               (statement, row) -> statement.setString(2, row)))
+        .isInstanceOf(SQLException.class);
+  }
+}
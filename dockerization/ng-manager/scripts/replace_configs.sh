@@ -510,6 +510,10 @@ replace_key_value outboxPollConfig.pollingIntervalInSeconds "$OUTBOX_POLL_INTERV
 
 replace_key_value outboxPollConfig.maximumRetryAttemptsForAnEvent "$OUTBOX_MAX_RETRY_ATTEMPTS"
 
+replace_key_value outboxPollConfig.numberOfShards "$OUTBOX_POLL_NUMBER_OF_SHARDS"
+
+replace_key_value outboxPollConfig.maximumConcurrentLanes "$OUTBOX_POLL_MAX_CONCURRENT_LANES"
+
 replace_key_value notificationClient.httpClient.baseUrl "$NOTIFICATION_BASE_URL"
 
 replace_key_value notificationClient.secrets.notificationClientSecret "$NEXT_GEN_MANAGER_SECRET"
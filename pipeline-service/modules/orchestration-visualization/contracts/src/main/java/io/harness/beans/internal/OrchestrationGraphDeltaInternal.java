@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans.internal;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.pms.contracts.execution.Status;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The part of an {@link OrchestrationGraph} changed by one batch of orchestration events: the vertices and edge lists
+ * which were added or updated, the ids of the removed ones and the graph level fields.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphDeltaInternal {
+  Status status;
+  Long endTs;
+  List<String> rootNodeIds;
+
+  Map<String, GraphVertex> graphVertexMap;
+  Map<String, EdgeListInternal> adjacencyMap;
+  List<String> removedIds;
+
+  public OrchestrationGraph applyTo(OrchestrationGraph orchestrationGraph) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    for (String removedId : removedIds) {
+      adjacencyList.getGraphVertexMap().remove(removedId);
+      adjacencyList.getAdjacencyMap().remove(removedId);
+    }
+    adjacencyList.getGraphVertexMap().putAll(graphVertexMap);
+    adjacencyList.getAdjacencyMap().putAll(adjacencyMap);
+
+    orchestrationGraph.getRootNodeIds().clear();
+    orchestrationGraph.getRootNodeIds().addAll(rootNodeIds);
+    return orchestrationGraph.withStatus(status).withEndTs(endTs);
+  }
+}
@@ -15,6 +15,7 @@ import io.harness.beans.OrchestrationGraph;
 import io.harness.beans.RepresentationStrategy;
 import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.beans.internal.OrchestrationGraphDeltaInternal;
 import io.harness.dto.GraphDelegateSelectionLogParams;
 import io.harness.serializer.KryoRegistrar;
 
@@ -31,6 +32,7 @@ public class OrchestrationVisualizationKryoRegistrar implements KryoRegistrar {
     kryo.register(EdgeListInternal.class, 3306);
     kryo.register(Document.class, 3307);
     kryo.register(GraphDelegateSelectionLogParams.class, 3308);
+    kryo.register(OrchestrationGraphDeltaInternal.class, 3309);
 
     kryo.register(RepresentationStrategy.class, 35012);
   }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.repositories.orchestrationGraphDelta;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotation.HarnessRepo;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.OrchestrationGraphDelta;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.repository.CrudRepository;
+
+@HarnessRepo
+@OwnedBy(PIPELINE)
+public interface OrchestrationGraphDeltaRepository extends CrudRepository<OrchestrationGraphDelta, String> {
+  List<OrchestrationGraphDelta> findByPlanExecutionIdAndLastUpdatedAtGreaterThanOrderByLastUpdatedAtAsc(
+      String planExecutionId, long lastUpdatedAt);
+
+  long countByPlanExecutionId(String planExecutionId);
+
+  void deleteByPlanExecutionIdAndLastUpdatedAtLessThanEqual(String planExecutionId, long lastUpdatedAt);
+
+  void deleteByPlanExecutionIdIn(Set<String> planExecutionIds);
+}
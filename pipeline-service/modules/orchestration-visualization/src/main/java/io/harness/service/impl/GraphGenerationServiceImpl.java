@@ -15,10 +15,14 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.beans.internal.OrchestrationGraphDeltaInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
+import io.harness.data.structure.CollectionUtils;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.dto.converter.OrchestrationGraphDTOConverter;
@@ -36,18 +40,23 @@ import io.harness.execution.PlanExecution;
 import io.harness.generator.OrchestrationAdjacencyListGenerator;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.steps.StepCategory;
+import io.harness.pms.events.base.PmsMetricContextGuard;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.service.PmsExecutionSummaryService;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
+import io.harness.repositories.orchestrationGraphDelta.OrchestrationGraphDeltaRepository;
+import io.harness.serializer.KryoSerializer;
 import io.harness.service.GraphGenerationService;
 import io.harness.skip.service.VertexSkipperService;
 import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -55,6 +64,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -69,9 +79,17 @@ import org.springframework.data.util.CloseableIterator;
 @Slf4j
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   public static final int THRESHOLD_LOG = 1000;
+  // Number of deltas after which the next update rewrites the whole cached graph and drops them
+  public static final int COMPACTION_THRESHOLD = 50;
 
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
 
+  private static final String GRAPH_LOCK_WAIT_TIME = "graph_lock_wait_time";
+  private static final String GRAPH_UPDATE_WRITTEN_BYTES = "graph_update_written_bytes";
+  private static final String GRAPH_UPDATE_WRITE_AMPLIFICATION = "graph_update_write_amplification";
+  private static final String LOCK_TYPE = "lockType";
+  private static final String WRITE_MODE = "writeMode";
+
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private SpringMongoStore mongoStore;
@@ -85,11 +103,16 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private PersistentLocker persistentLocker;
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
+  @Inject private KryoSerializer kryoSerializer;
+  @Inject(optional = true) private MetricService metricService;
 
   @Override
   public boolean updateGraph(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
+    long lockStartTs = System.currentTimeMillis();
     try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockName, Duration.ofSeconds(10))) {
+      recordLockWaitTime("try", lockStartTs);
       if (lock == null) {
         log.debug(String.format(
             "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
@@ -109,8 +132,10 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Override
   public boolean updateGraphWithWaitLock(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
+    long lockStartTs = System.currentTimeMillis();
     try (AcquiredLock<?> lock =
              persistentLocker.waitToAcquireLock(lockName, Duration.ofSeconds(10), Duration.ofSeconds(30))) {
+      recordLockWaitTime("wait", lockStartTs);
       if (lock == null) {
         log.debug(String.format(
             "[PMS_GRAPH_LOCK_TEST] Not able to take lock on graph generation for lockName - %s, returning early.",
@@ -163,6 +188,9 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     boolean updateRequired = false;
     Update executionSummaryUpdate = new Update();
     Set<String> nodeExecutionIds = new HashSet<>();
+    // Vertices and edge lists which the events may have added, changed or removed
+    Set<String> changedIds = new LinkedHashSet<>();
+    OrchestrationAdjacencyListInternal initialAdjacencyList = orchestrationGraph.getAdjacencyList();
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
@@ -173,11 +201,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changedIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changedIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         default:
@@ -195,11 +225,15 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
               || updateRequired;
           orchestrationGraph =
               graphStatusUpdateHelper.handleEventV2(planExecutionId, nodeExecution, orchestrationGraph);
+          addChangedIds(changedIds, orchestrationGraph, nodeExecution);
       }
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
 
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    // A graph regenerated from the node executions has been cached as a whole already, it must not be patched
+    boolean regenerated = orchestrationGraph.getAdjacencyList() != initialAdjacencyList;
+    cacheOrchestrationGraphChanges(
+        orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), changedIds, regenerated, lastUpdatedAt);
     if (updateRequired) {
       pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     }
@@ -208,18 +242,127 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     return shouldAck;
   }
 
+  private void addChangedIds(
+      Set<String> changedIds, OrchestrationGraph orchestrationGraph, NodeExecution nodeExecution) {
+    // Adding or removing a vertex also changes the edge list of its previous or parent vertex, or of the last vertex
+    // of the chain it is appended to, which ends up as its previous id
+    changedIds.add(nodeExecution.getUuid());
+    addIfPresent(changedIds, nodeExecution.getPreviousId());
+    addIfPresent(changedIds, nodeExecution.getParentId());
+    EdgeListInternal edgeList = orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(nodeExecution.getUuid());
+    if (edgeList != null) {
+      changedIds.addAll(CollectionUtils.emptyIfNull(edgeList.getPrevIds()));
+      addIfPresent(changedIds, edgeList.getParentId());
+    }
+  }
+
+  private void addIfPresent(Set<String> ids, String id) {
+    if (EmptyPredicate.isNotEmpty(id)) {
+      ids.add(id);
+    }
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    List<OrchestrationGraphDelta> graphDeltas =
+        orchestrationGraphDeltaRepository.findByPlanExecutionIdAndLastUpdatedAtGreaterThanOrderByLastUpdatedAtAsc(
+            planExecutionId, orchestrationGraph.getLastUpdatedAt());
+    for (OrchestrationGraphDelta graphDelta : graphDeltas) {
+      OrchestrationGraphDeltaInternal delta =
+          (OrchestrationGraphDeltaInternal) kryoSerializer.asInflatedObject(graphDelta.getDelta());
+      orchestrationGraph = delta.applyTo(orchestrationGraph).withLastUpdatedAt(graphDelta.getLastUpdatedAt());
+    }
+    return orchestrationGraph;
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    orchestrationGraphDeltaRepository.deleteByPlanExecutionIdAndLastUpdatedAtLessThanEqual(
+        orchestrationGraph.getCacheKey(), orchestrationGraph.getLastUpdatedAt());
+  }
+
+  /**
+   * Appends the changes made by one batch of events to the delta log of the graph, so the cost of an update depends on
+   * the number of vertices it touched rather than on the size of the graph. Every {@link #COMPACTION_THRESHOLD}
+   * deltas, when the execution has finished or when the graph was regenerated, the whole graph is written instead and
+   * the deltas it contains are dropped.
+   */
+  private void cacheOrchestrationGraphChanges(
+      OrchestrationGraph orchestrationGraph, Set<String> changedIds, boolean regenerated, long entityUpdatedAt) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    byte[] delta = kryoSerializer.asDeflatedBytes(buildGraphDelta(orchestrationGraph, changedIds));
+    if (regenerated || StatusUtils.isFinalStatus(orchestrationGraph.getStatus())
+        || orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId) >= COMPACTION_THRESHOLD - 1) {
+      int writtenBytes = mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+      if (writtenBytes > 0) {
+        orchestrationGraphDeltaRepository.deleteByPlanExecutionIdAndLastUpdatedAtLessThanEqual(
+            planExecutionId, entityUpdatedAt);
+      }
+      recordWriteMetrics("full", writtenBytes, delta.length);
+      return;
+    }
+
+    orchestrationGraphDeltaRepository.save(OrchestrationGraphDelta.builder()
+                                               .planExecutionId(planExecutionId)
+                                               .lastUpdatedAt(entityUpdatedAt)
+                                               .delta(delta)
+                                               .build());
+    recordWriteMetrics("delta", delta.length, delta.length);
+  }
+
+  private OrchestrationGraphDeltaInternal buildGraphDelta(
+      OrchestrationGraph orchestrationGraph, Set<String> changedIds) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    List<String> removedIds = new ArrayList<>();
+    for (String id : changedIds) {
+      GraphVertex graphVertex = adjacencyList.getGraphVertexMap().get(id);
+      EdgeListInternal edgeList = adjacencyList.getAdjacencyMap().get(id);
+      if (graphVertex == null && edgeList == null) {
+        removedIds.add(id);
+        continue;
+      }
+      if (graphVertex != null) {
+        graphVertexMap.put(id, graphVertex);
+      }
+      if (edgeList != null) {
+        adjacencyMap.put(id, edgeList);
+      }
+    }
+    return OrchestrationGraphDeltaInternal.builder()
+        .status(orchestrationGraph.getStatus())
+        .endTs(orchestrationGraph.getEndTs())
+        .rootNodeIds(new ArrayList<>(orchestrationGraph.getRootNodeIds()))
+        .graphVertexMap(graphVertexMap)
+        .adjacencyMap(adjacencyMap)
+        .removedIds(removedIds)
+        .build();
   }
 
-  private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+  private void recordLockWaitTime(String lockType, long startTs) {
+    if (metricService == null) {
+      return;
+    }
+    try (PmsMetricContextGuard metricContextGuard = new PmsMetricContextGuard(ImmutableMap.of(LOCK_TYPE, lockType))) {
+      metricService.recordMetric(GRAPH_LOCK_WAIT_TIME, System.currentTimeMillis() - startTs);
+    }
+  }
+
+  private void recordWriteMetrics(String writeMode, int writtenBytes, int changedBytes) {
+    if (metricService == null || changedBytes == 0) {
+      return;
+    }
+    try (PmsMetricContextGuard metricContextGuard = new PmsMetricContextGuard(ImmutableMap.of(WRITE_MODE, writeMode))) {
+      metricService.recordMetric(GRAPH_UPDATE_WRITTEN_BYTES, writtenBytes);
+      metricService.recordMetric(GRAPH_UPDATE_WRITE_AMPLIFICATION, (double) writtenBytes / changedBytes);
+    }
   }
 
   @Override
@@ -272,6 +415,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       cacheEntities.add(graph);
     }
     mongoStore.delete(cacheEntities);
+    orchestrationGraphDeltaRepository.deleteByPlanExecutionIdIn(planExecutionIds);
   }
 
   private void sendUpdateEventIfAny(OrchestrationGraph orchestrationGraph) {
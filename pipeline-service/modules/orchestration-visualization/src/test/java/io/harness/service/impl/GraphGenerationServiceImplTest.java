@@ -23,6 +23,7 @@ import io.harness.OrchestrationVisualizationTestBase;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
 import io.harness.beans.converter.GraphVertexConverter;
 import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
@@ -47,6 +48,7 @@ import io.harness.pms.contracts.steps.SkipType;
 import io.harness.pms.contracts.steps.StepCategory;
 import io.harness.pms.contracts.steps.StepType;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
+import io.harness.repositories.orchestrationGraphDelta.OrchestrationGraphDeltaRepository;
 import io.harness.rule.Owner;
 import io.harness.service.GraphGenerationService;
 
@@ -76,6 +78,7 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Inject @InjectMocks private NodeExecutionService nodeExecutionService;
   @Inject @InjectMocks private SpringMongoStore mongoStore;
   @Mock private OrchestrationEventLogRepository orchestrationEventLogRepository;
+  @Inject private OrchestrationGraphDeltaRepository orchestrationGraphDeltaRepository;
   @Inject private GraphVertexConverter graphVertexConverter;
   @InjectMocks @Inject private GraphGenerationService graphGenerationService;
   @Mock private OrchestrationEventEmitter eventEmitter;
@@ -312,4 +315,107 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
                                                                                .build())
                                                             .build()));
   }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockAppendsDeltaToCachedGraph() {
+    String planExecutionId = generateUuid();
+    String nodeExecutionId = generateUuid();
+    cacheGraphWithNodeExecutionStarted(planExecutionId, nodeExecutionId, Status.RUNNING);
+
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isEqualTo(1);
+    OrchestrationGraph storedGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(storedGraph.getAdjacencyList().getGraphVertexMap()).isEmpty();
+
+    OrchestrationGraph graph = graphGenerationService.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(graph.getLastUpdatedAt()).isEqualTo(1550L);
+    assertThat(graph.getRootNodeIds()).containsExactly(nodeExecutionId);
+    assertThat(graph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(nodeExecutionId);
+    assertThat(graph.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys(nodeExecutionId);
+
+    graphGenerationService.cacheOrchestrationGraph(graph);
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isZero();
+    graph = graphGenerationService.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(graph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(nodeExecutionId);
+  }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockCompactsDeltasAtThreshold() {
+    String planExecutionId = generateUuid();
+    String nodeExecutionId = generateUuid();
+    cacheGraphWithNodeExecutionStarted(planExecutionId, nodeExecutionId, Status.RUNNING);
+    for (int i = 0; i < GraphGenerationServiceImpl.COMPACTION_THRESHOLD - 1; i++) {
+      orchestrationGraphDeltaRepository.save(OrchestrationGraphDelta.builder()
+                                                 .planExecutionId(planExecutionId)
+                                                 .lastUpdatedAt(1000L + i)
+                                                 .delta(new byte[0])
+                                                 .build());
+    }
+
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+
+    assertFullGraphWritten(planExecutionId, nodeExecutionId);
+  }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockWritesFullGraphOnFinalStatus() {
+    String planExecutionId = generateUuid();
+    String nodeExecutionId = generateUuid();
+    cacheGraphWithNodeExecutionStarted(planExecutionId, nodeExecutionId, Status.SUCCEEDED);
+
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+
+    assertFullGraphWritten(planExecutionId, nodeExecutionId);
+  }
+
+  private void cacheGraphWithNodeExecutionStarted(String planExecutionId, String nodeExecutionId, Status status) {
+    OrchestrationGraph cachedGraph = OrchestrationGraph.builder()
+                                         .cacheKey(planExecutionId)
+                                         .cacheParams(null)
+                                         .planExecutionId(planExecutionId)
+                                         .status(status)
+                                         .rootNodeIds(new ArrayList<>())
+                                         .lastUpdatedAt(1222L)
+                                         .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                                                            .adjacencyMap(new HashMap<>())
+                                                            .graphVertexMap(new HashMap<>())
+                                                            .build())
+                                         .build();
+    mongoStore.upsert(cachedGraph, SpringCacheEntity.TTL);
+    doReturn(Collections.singletonList(OrchestrationEventLog.builder()
+                                           .nodeExecutionId(nodeExecutionId)
+                                           .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_START)
+                                           .createdAt(1550L)
+                                           .build()))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    nodeExecutionService.save(
+        NodeExecution.builder()
+            .uuid(nodeExecutionId)
+            .stepType(StepType.newBuilder().setStepCategory(StepCategory.STEP).build())
+            .status(Status.RUNNING)
+            .ambiance(Ambiance.newBuilder()
+                          .addLevels(Level.newBuilder().setNodeType(NodeType.PLAN_NODE.toString()).build())
+                          .build())
+            .module("cd")
+            .resolvedStepParameters(new HashMap<>())
+            .build());
+  }
+
+  private void assertFullGraphWritten(String planExecutionId, String nodeExecutionId) {
+    assertThat(orchestrationGraphDeltaRepository.countByPlanExecutionId(planExecutionId)).isZero();
+    OrchestrationGraph storedGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(storedGraph.getLastUpdatedAt()).isEqualTo(1550L);
+    assertThat(storedGraph.getRootNodeIds()).containsExactly(nodeExecutionId);
+    assertThat(storedGraph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(nodeExecutionId);
+  }
 }
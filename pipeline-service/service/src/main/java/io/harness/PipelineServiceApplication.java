@@ -144,6 +144,7 @@ import io.harness.pms.tags.OrchestrationEndTagsResolveHandler;
 import io.harness.pms.triggers.scheduled.ScheduledTriggerHandler;
 import io.harness.pms.triggers.webhook.service.TriggerWebhookExecutionService;
 import io.harness.pms.yaml.YAMLFieldNameConstants;
+import io.harness.pms.yaml.YamlUtils;
 import io.harness.queue.QueueListenerController;
 import io.harness.registrars.PipelineServiceFacilitatorRegistrar;
 import io.harness.registrars.PipelineServiceStepRegistrar;
@@ -290,6 +291,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
   public void run(PipelineServiceConfiguration appConfig, Environment environment) {
     log.info("Starting Pipeline Service Application ...");
     MaintenanceController.forceMaintenance(true);
+    YamlUtils.configureTreeCache(appConfig.getYamlTreeCacheSizeInMb() * 1024 * 1024);
 
     ExecutorModule.getInstance().setExecutorService(ThreadPool.create(appConfig.getCommonPoolConfig().getCorePoolSize(),
         appConfig.getCommonPoolConfig().getMaxPoolSize(), appConfig.getCommonPoolConfig().getIdleTime(),
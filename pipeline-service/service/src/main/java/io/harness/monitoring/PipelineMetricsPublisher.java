@@ -11,17 +11,50 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.executions.node.NodeExecutionMonitorService;
 import io.harness.engine.executions.plan.PlanExecutionMonitorService;
+import io.harness.expression.EngineExpressionCache;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.pms.events.base.PmsMetricContextGuard;
+import io.harness.pms.yaml.YamlUtils;
 
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
+import java.util.Map;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PipelineMetricsPublisher implements MetricsPublisher {
   @Inject PlanExecutionMonitorService planExecutionMonitorService;
   @Inject NodeExecutionMonitorService nodeExecutionMonitorService;
+  @Inject MetricService metricService;
   @Override
   public void recordMetrics() {
     planExecutionMonitorService.registerActiveExecutionMetrics();
     nodeExecutionMonitorService.registerActiveExecutionMetrics();
+    recordExpressionCacheMetrics();
+    recordYamlTreeCacheMetrics();
+  }
+
+  private void recordExpressionCacheMetrics() {
+    Map<String, Long> sizes = EngineExpressionCache.getSizes();
+    for (Map.Entry<String, CacheStats> entry : EngineExpressionCache.getStats().entrySet()) {
+      CacheStats stats = entry.getValue();
+      try (PmsMetricContextGuard pmsMetricContextGuard =
+               new PmsMetricContextGuard(ImmutableMap.of("cacheName", entry.getKey()))) {
+        metricService.recordMetric("expression_cache_hit_rate", stats.hitRate());
+        metricService.recordMetric("expression_cache_hit_count", stats.hitCount());
+        metricService.recordMetric("expression_cache_miss_count", stats.missCount());
+        metricService.recordMetric("expression_cache_size", sizes.get(entry.getKey()));
+      }
+    }
+  }
+
+  private void recordYamlTreeCacheMetrics() {
+    try (PmsMetricContextGuard pmsMetricContextGuard =
+             new PmsMetricContextGuard(ImmutableMap.of("cacheName", "yamlTrees"))) {
+      metricService.recordMetric("yaml_tree_cache_hit_rate", YamlUtils.getTreeCacheStats().hitRate());
+      metricService.recordMetric("yaml_tree_cache_size", YamlUtils.getTreeCacheSize());
+      metricService.recordMetric("yaml_parse_count", YamlUtils.getParseCount());
+    }
   }
 }
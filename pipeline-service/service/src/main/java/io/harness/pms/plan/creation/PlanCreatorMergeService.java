@@ -22,6 +22,7 @@ import io.harness.exception.UnexpectedException;
 import io.harness.exception.YamlException;
 import io.harness.execution.PlanExecutionMetadata;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.pms.async.plan.PartialPlanResponseCallback;
 import io.harness.pms.contracts.plan.CreatePartialPlanEvent;
 import io.harness.pms.contracts.plan.Dependencies;
@@ -34,6 +35,7 @@ import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
 import io.harness.pms.contracts.plan.PlanCreationResponse;
 import io.harness.pms.events.base.PmsEventCategory;
+import io.harness.pms.events.base.PmsMetricContextGuard;
 import io.harness.pms.exception.PmsExceptionUtils;
 import io.harness.pms.plan.creation.validator.PlanCreationValidator;
 import io.harness.pms.sdk.PmsSdkHelper;
@@ -47,6 +49,7 @@ import io.harness.utils.PmsFeatureFlagService;
 import io.harness.waiter.WaitNotifyEngine;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -55,10 +58,14 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -68,6 +75,8 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  private static final String PLAN_CREATION_SERVICE_TIME = "plan_creation_service_time";
+  private static final String SERVICE_NAME = "serviceName";
 
   private final Executor executor;
 
@@ -78,6 +87,7 @@ public class PlanCreatorMergeService {
   private final Integer planCreatorMergeServiceDependencyBatch;
   private final PmsFeatureFlagService pmsFeatureFlagService;
   private final KryoSerializer kryoSerializer;
+  @Inject(optional = true) private MetricService metricService;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
@@ -198,6 +208,12 @@ public class PlanCreatorMergeService {
     return planCreationContextMap;
   }
 
+  /**
+   * Resolves the dependencies as a DAG rather than in rounds. The dependencies returned by one set of sdk calls are
+   * sent out as soon as that set has returned, without waiting for the other sets started at the same depth, so a slow
+   * branch of the pipeline does not hold back the planning of the others. All merging happens on the calling thread,
+   * in the order in which the sets complete.
+   */
   private PlanCreationBlobResponse createPlanForDependenciesRecursive(String accountId, String orgIdentifier,
       String projectIdentifier, Map<String, PlanCreatorServiceInfo> services, Dependencies initialDependencies,
       ExecutionMetadata metadata, PlanExecutionMetadata planExecutionMetadata) {
@@ -210,67 +226,114 @@ public class PlanCreatorMergeService {
     finalResponseBuilder.putAllContext(
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, planExecutionMetadata));
 
+    String version = metadata.getHarnessVersion();
+    BlockingQueue<DependencyWave> completedWaves = new LinkedBlockingQueue<>();
+    Set<String> dispatchedDependencyIds = new HashSet<>();
+    YamlTree yamlTree = new YamlTree();
     try {
-      for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
-           i++) {
-        String version = metadata.getHarnessVersion();
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
-        PlanCreationBlobResponse currIterationResponse =
-            createPlanForDependencies(services, finalResponseBuilder, fullYamlField, version);
-        PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
-        PlanCreationBlobResponseUtils.mergeStartingNodeId(
-            finalResponseBuilder, currIterationResponse.getStartingNodeId());
-        PlanCreationBlobResponseUtils.mergeLayoutNodeInfo(finalResponseBuilder, currIterationResponse);
-        if (EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap())) {
-          throw new InvalidRequestException(
-              PmsExceptionUtils.getUnresolvedDependencyPathsErrorMessage(finalResponseBuilder.getDeps()));
+      dispatchedDependencyIds.addAll(finalResponseBuilder.getDeps().getDependenciesMap().keySet());
+      dispatchWave(services, finalResponseBuilder, yamlTree, finalResponseBuilder.getDeps().getDependenciesMap(), 0,
+          version, completedWaves);
+      int pendingWaves = 1;
+
+      while (pendingWaves > 0) {
+        DependencyWave wave = completedWaves.poll(5, TimeUnit.MINUTES);
+        if (wave == null) {
+          throw new UnexpectedException("Timed out fetching plan creation response from service");
+        }
+        pendingWaves--;
+
+        PlanCreationBlobResponse waveResponse = collectWaveResponse(wave, finalResponseBuilder);
+        PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, waveResponse.getNodesMap());
+        PlanCreationBlobResponseUtils.mergeStartingNodeId(finalResponseBuilder, waveResponse.getStartingNodeId());
+        PlanCreationBlobResponseUtils.mergeLayoutNodeInfo(finalResponseBuilder, waveResponse);
+        PlanCreationBlobResponseUtils.mergeContext(finalResponseBuilder, waveResponse.getContextMap());
+        PlanCreationBlobResponseUtils.addDependenciesV2(finalResponseBuilder, waveResponse);
+
+        if (wave.depth + 1 >= MAX_DEPTH) {
+          continue;
+        }
+        Map<String, String> newDependencies = new HashMap<>();
+        for (Map.Entry<String, String> dependency : waveResponse.getDeps().getDependenciesMap().entrySet()) {
+          if (finalResponseBuilder.getDeps().containsDependencies(dependency.getKey())
+              && dispatchedDependencyIds.add(dependency.getKey())) {
+            newDependencies.put(dependency.getKey(), dependency.getValue());
+          }
+        }
+        if (!newDependencies.isEmpty()) {
+          dispatchWave(services, finalResponseBuilder, yamlTree, newDependencies, wave.depth + 1, version,
+              completedWaves);
+          pendingWaves++;
         }
-        PlanCreationBlobResponseUtils.mergeContext(finalResponseBuilder, currIterationResponse.getContextMap());
-        PlanCreationBlobResponseUtils.addDependenciesV2(finalResponseBuilder, currIterationResponse);
       }
     } catch (IOException e) {
       throw new UnexpectedException(e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnexpectedException("Interrupted while fetching plan creation response from service", e);
     }
 
+    // Dependencies sent to the services have to be resolved by then, the ones beyond MAX_DEPTH are left as they are
+    Dependencies unresolvedDependencies =
+        Dependencies.newBuilder()
+            .putAllDependencies(finalResponseBuilder.getDeps()
+                                    .getDependenciesMap()
+                                    .entrySet()
+                                    .stream()
+                                    .filter(dependency -> dispatchedDependencyIds.contains(dependency.getKey()))
+                                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+            .build();
+    if (EmptyPredicate.isNotEmpty(unresolvedDependencies.getDependenciesMap())) {
+      throw new InvalidRequestException(
+          PmsExceptionUtils.getUnresolvedDependencyPathsErrorMessage(unresolvedDependencies));
+    }
     return finalResponseBuilder.build();
   }
 
-  private PlanCreationBlobResponse createPlanForDependencies(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField, String harnessVersion) {
-    PlanCreationBlobResponse.Builder currIterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
+  // Sends the given dependencies to the services supporting them, the wave is queued once all the calls have returned
+  private void dispatchWave(Map<String, PlanCreatorServiceInfo> services,
+      PlanCreationBlobResponse.Builder responseBuilder, YamlTree yamlTree, Map<String, String> dependencies, int depth,
+      String harnessVersion, BlockingQueue<DependencyWave> completedWaves) throws IOException {
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
-    PlanCreationContextValue metadata = responseBuilder.getContextMap().get("metadata");
+    Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap =
+        new HashMap<>();
+    getServiceToDependenciesMap(services, dependencies, yamlTree.get(responseBuilder.getDeps().getYaml()),
+        serviceToDependencyMap, harnessVersion);
+
+    // Sending batch dependency requests for a single service in a async fashion.
+    executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap);
 
+    DependencyWave wave = new DependencyWave(depth, dependencies.size());
+    completableFutures.allOf().whenComplete((responses, throwable) -> {
+      wave.responses = responses;
+      wave.failure = throwable;
+      completedWaves.add(wave);
+    });
+  }
+
+  private PlanCreationBlobResponse collectWaveResponse(
+      DependencyWave wave, PlanCreationBlobResponse.Builder responseBuilder) {
+    PlanCreationContextValue metadata = responseBuilder.getContextMap().get("metadata");
     try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(metadata.getMetadata(),
              metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
-      long start = System.currentTimeMillis();
-      Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap =
-          new HashMap<>();
-      getServiceToDependenciesMap(services, responseBuilder, fullYamlField, serviceToDependencyMap, harnessVersion);
-
-      // Sending batch dependency requests for a single service in a async fashion.
-      executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap);
-
-      // Collecting results for all completable futures at one go, thus it will wait till all dependencies are resolved.
-      List<ErrorResponse> errorResponses;
-      try {
-        List<PlanCreationResponse> planCreationResponses = completableFutures.allOf().get(5, TimeUnit.MINUTES);
-        errorResponses = planCreationResponses.stream()
-                             .filter(resp -> resp.getResponseCase() == PlanCreationResponse.ResponseCase.ERRORRESPONSE)
-                             .map(PlanCreationResponse::getErrorResponse)
-                             .collect(Collectors.toList());
-        if (EmptyPredicate.isEmpty(errorResponses)) {
-          planCreationResponses.forEach(
-              resp -> PlanCreationBlobResponseUtils.merge(currIterationResponseBuilder, resp.getBlobResponse()));
-        }
-      } catch (Exception ex) {
-        throw new UnexpectedException("Error fetching plan creation response from service", ex);
-      } finally {
-        log.info("[PMS_PlanCreatorMergeService_Time] Sdk plan creators done took {}ms for initial dependencies size {}",
-            System.currentTimeMillis() - start, responseBuilder.getDeps().getDependenciesMap().size());
+      log.info(
+          "[PMS_PlanCreatorMergeService_Time] Sdk plan creators done took {}ms for dependencies size {} at depth {}",
+          System.currentTimeMillis() - wave.startTs, wave.dependenciesSize, wave.depth);
+      if (wave.failure != null) {
+        throw new UnexpectedException("Error fetching plan creation response from service", wave.failure);
       }
+
+      List<ErrorResponse> errorResponses =
+          wave.responses.stream()
+              .filter(resp -> resp.getResponseCase() == PlanCreationResponse.ResponseCase.ERRORRESPONSE)
+              .map(PlanCreationResponse::getErrorResponse)
+              .collect(Collectors.toList());
       PmsExceptionUtils.checkAndThrowPlanCreatorException(errorResponses);
-      return currIterationResponseBuilder.build();
+
+      PlanCreationBlobResponse.Builder waveResponseBuilder = PlanCreationBlobResponse.newBuilder();
+      wave.responses.forEach(
+          resp -> PlanCreationBlobResponseUtils.merge(waveResponseBuilder, resp.getBlobResponse()));
+      return waveResponseBuilder.build();
     }
   }
 
@@ -278,6 +341,8 @@ public class PlanCreatorMergeService {
   private void executeCreatePlanInBatchDependency(PlanCreationBlobResponse.Builder responseBuilder,
       CompletableFutures<PlanCreationResponse> completableFutures,
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap) {
+    // The builder keeps being merged into on the calling thread while the calls run, so they get a snapshot of it
+    Map<String, PlanCreationContextValue> contextMap = ImmutableMap.copyOf(responseBuilder.getContextMap());
     for (Map.Entry<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceDependencyEntry :
         serviceToDependencyMap.entrySet()) {
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo = serviceDependencyEntry.getKey();
@@ -287,7 +352,7 @@ public class PlanCreatorMergeService {
         dependencyBatch.put(dependency.getKey(), dependency.getValue());
         if (dependencyBatch.size() >= planCreatorMergeServiceDependencyBatch) {
           Dependencies batchDependency = pmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
-          executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap());
+          executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, contextMap);
           dependencyBatch = new HashMap<>();
         }
       }
@@ -295,14 +360,14 @@ public class PlanCreatorMergeService {
       // call completable future for leftover batch
       if (dependencyBatch.size() > 0) {
         Dependencies batchDependency = pmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
-        executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap());
+        executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, contextMap);
       }
     }
   }
 
   // Collecting which dependencies are supported with which service as a map.
   private void getServiceToDependenciesMap(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField,
+      Map<String, String> dependencies, YamlField fullYamlField,
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
       String harnessVersion) {
     // Initializing the responseMap
@@ -310,7 +375,7 @@ public class PlanCreatorMergeService {
       serviceToDependencyMap.put(serviceEntry, new LinkedList<>());
     }
 
-    for (Map.Entry<String, String> dependencyEntry : responseBuilder.getDeps().getDependenciesMap().entrySet()) {
+    for (Map.Entry<String, String> dependencyEntry : dependencies.entrySet()) {
       // Always first check for pipeline-service dependencies
       Map.Entry<String, PlanCreatorServiceInfo> pmsPlanCreatorService =
           services.entrySet()
@@ -345,6 +410,7 @@ public class PlanCreatorMergeService {
     completableFutures.supplyAsync(() -> {
       try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(metadata.getMetadata(),
                metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
+        long startTs = System.currentTimeMillis();
         try {
           return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
               PlanCreationBlobRequest.newBuilder().setDeps(batchDependency).putAllContext(contextMap).build());
@@ -357,12 +423,52 @@ public class PlanCreatorMergeService {
                       .addMessages(String.format("Error connecting with service: [%s]", serviceInfo.getKey()))
                       .build())
               .build();
+        } finally {
+          recordServiceTime(serviceInfo.getKey(), startTs);
         }
       }
     });
   }
 
+  private void recordServiceTime(String serviceName, long startTs) {
+    if (metricService == null) {
+      return;
+    }
+    try (PmsMetricContextGuard metricContextGuard =
+             new PmsMetricContextGuard(ImmutableMap.of(SERVICE_NAME, serviceName))) {
+      metricService.recordMetric(PLAN_CREATION_SERVICE_TIME, System.currentTimeMillis() - startTs);
+    }
+  }
+
   private boolean isPipelineService(Map.Entry<String, PlanCreatorServiceInfo> serviceInfo) {
     return serviceInfo.getKey().equals(ModuleType.PMS.name().toLowerCase());
   }
+
+  // The dependencies resolved by one set of sdk calls, along with their responses once all of them have returned
+  private static class DependencyWave {
+    private final int depth;
+    private final int dependenciesSize;
+    private final long startTs = System.currentTimeMillis();
+    private volatile List<PlanCreationResponse> responses;
+    private volatile Throwable failure;
+
+    DependencyWave(int depth, int dependenciesSize) {
+      this.depth = depth;
+      this.dependenciesSize = dependenciesSize;
+    }
+  }
+
+  // Parsed pipeline yaml, parsed again only when the yaml updates of a response have changed it
+  private static class YamlTree {
+    private String yaml;
+    private YamlField yamlField;
+
+    YamlField get(String currentYaml) throws IOException {
+      if (yamlField == null || !currentYaml.equals(yaml)) {
+        yamlField = YamlUtils.readTree(currentYaml);
+        yaml = currentYaml;
+      }
+      return yamlField;
+    }
+  }
 }
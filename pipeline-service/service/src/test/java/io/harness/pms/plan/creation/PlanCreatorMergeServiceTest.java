@@ -13,19 +13,32 @@ import static io.harness.rule.OwnerRule.RAGHAV_GUPTA;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
+import io.harness.ModuleType;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.exception.InvalidRequestException;
 import io.harness.execution.PlanExecutionMetadata;
+import io.harness.pms.contracts.plan.Dependencies;
 import io.harness.pms.contracts.plan.Dependency;
 import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
+import io.harness.pms.contracts.plan.PlanCreationResponse;
+import io.harness.pms.contracts.plan.PlanCreationServiceGrpc.PlanCreationServiceBlockingStub;
+import io.harness.pms.contracts.plan.PlanNodeProto;
 import io.harness.pms.contracts.triggers.ParsedPayload;
 import io.harness.pms.contracts.triggers.SourceType;
 import io.harness.pms.contracts.triggers.TriggerPayload;
+import io.harness.pms.plan.creation.validator.PlanCreationValidator;
+import io.harness.pms.sdk.PmsSdkHelper;
 import io.harness.pms.yaml.PipelineVersion;
 import io.harness.pms.yaml.YAMLFieldNameConstants;
 import io.harness.rule.Owner;
@@ -39,21 +52,29 @@ import io.harness.yaml.repository.Reference;
 import io.harness.yaml.repository.ReferenceType;
 import io.harness.yaml.repository.Repository;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 @OwnedBy(PIPELINE)
 public class PlanCreatorMergeServiceTest extends CategoryTest {
+  private static final String PIPELINE_UUID = "pipelineUuid";
+  private static final String PIPELINE_YAML = "pipeline:\n  __uuid: pipelineUuid\n  identifier: pipelineId\n";
+
   private KryoSerializer kryoSerializer;
   private final PmsFeatureFlagService pmsFeatureFlagService = new NoOpPmsFeatureFlagService();
   private final String accountId = "acc";
@@ -230,6 +251,94 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
     assertThat(reference.getType()).isEqualTo(ReferenceType.BRANCH);
   }
 
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testDependenciesAreSentOnceTheirParentIsMerged() throws IOException {
+    Map<String, List<String>> children = ImmutableMap.of(
+        PIPELINE_UUID, Arrays.asList("stage1", "stage2"), "stage1", Collections.singletonList("step1"));
+    List<String> sentDependencies = Collections.synchronizedList(new ArrayList<>());
+    Map<String, PlanCreationBlobRequest> requests = new ConcurrentHashMap<>();
+    PlanCreationBlobResponse response =
+        createPlan(id -> children.getOrDefault(id, Collections.emptyList()), sentDependencies, requests);
+
+    assertThat(response.getNodesMap()).containsOnlyKeys(PIPELINE_UUID, "stage1", "stage2", "step1");
+    assertThat(response.getDeps().getDependenciesMap()).isEmpty();
+    assertThat(sentDependencies).hasSize(4);
+    assertThat(sentDependencies.get(0)).isEqualTo(PIPELINE_UUID);
+    assertThat(sentDependencies.indexOf("step1")).isGreaterThan(sentDependencies.indexOf("stage1"));
+    // Each call carries the context merged from the responses of its ancestors
+    assertThat(requests.get("step1").getContextMap()).containsKeys("metadata", PIPELINE_UUID, "stage1");
+    assertThat(requests.get("stage2").getContextMap()).containsKey(PIPELINE_UUID).doesNotContainKey("stage1");
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testDependenciesBeyondMaxDepthAreNotSent() throws IOException {
+    List<String> sentDependencies = Collections.synchronizedList(new ArrayList<>());
+    PlanCreationBlobResponse response = createPlan(id
+        -> Collections.singletonList(
+            id.equals(PIPELINE_UUID) ? "node1" : "node" + (Integer.parseInt(id.substring(4)) + 1)),
+        sentDependencies, new ConcurrentHashMap<>());
+
+    assertThat(sentDependencies).hasSize(10);
+    assertThat(sentDependencies).doesNotContain("node10");
+    assertThat(response.getNodesMap()).hasSize(10);
+    assertThat(response.getDeps().getDependenciesMap()).containsOnlyKeys("node10");
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testUnresolvedDependenciesFailPlanCreation() {
+    List<String> sentDependencies = Collections.synchronizedList(new ArrayList<>());
+    assertThatThrownBy(()
+                           -> createPlan(id
+                               -> id.equals(PIPELINE_UUID) ? Collections.singletonList("stage1") : null,
+                               sentDependencies, new ConcurrentHashMap<>()))
+        .isInstanceOf(InvalidRequestException.class);
+    assertThat(sentDependencies).containsExactly(PIPELINE_UUID, "stage1");
+  }
+
+  /**
+   * Plans the pipeline against a single pipeline service. The service answers each dependency with a node of the same
+   * id, along with its children as new dependencies and a context entry of the same id. It resolves nothing for the
+   * dependencies whose children are null.
+   */
+  private PlanCreationBlobResponse createPlan(Function<String, List<String>> children, List<String> sentDependencies,
+      Map<String, PlanCreationBlobRequest> requests) throws IOException {
+    PlanCreationServiceBlockingStub planCreationClient = mock(PlanCreationServiceBlockingStub.class);
+    when(planCreationClient.createPlan(any())).thenAnswer(invocation -> {
+      PlanCreationBlobRequest request = invocation.getArgument(0);
+      PlanCreationBlobResponse.Builder blobResponse = PlanCreationBlobResponse.newBuilder();
+      Dependencies.Builder dependencies = Dependencies.newBuilder();
+      for (String id : request.getDeps().getDependenciesMap().keySet()) {
+        sentDependencies.add(id);
+        requests.put(id, request);
+        List<String> childIds = children.apply(id);
+        if (childIds == null) {
+          continue;
+        }
+        blobResponse.putNodes(id, PlanNodeProto.newBuilder().setUuid(id).build());
+        blobResponse.putContext(id, PlanCreationContextValue.newBuilder().build());
+        childIds.forEach(childId -> dependencies.putDependencies(childId, "pipeline/" + childId));
+      }
+      return PlanCreationResponse.newBuilder().setBlobResponse(blobResponse.setDeps(dependencies)).build();
+    });
+    PmsSdkHelper pmsSdkHelper = mock(PmsSdkHelper.class);
+    when(pmsSdkHelper.getServices())
+        .thenReturn(ImmutableMap.of(ModuleType.PMS.name().toLowerCase(),
+            new PlanCreatorServiceInfo(Collections.emptyMap(), planCreationClient)));
+    when(pmsSdkHelper.containsSupportedSingleDependencyByYamlPath(any(), any(), any(), any())).thenReturn(true);
+    when(pmsSdkHelper.createBatchDependency(any(), any())).thenCallRealMethod();
+
+    PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(pmsSdkHelper, null, null,
+        mock(PlanCreationValidator.class), Executors.newFixedThreadPool(2), 20, pmsFeatureFlagService, null);
+    return planCreatorMergeService.createPlanVersioned(accountId, orgId, projId, PipelineVersion.V0,
+        executionMetadata, PlanExecutionMetadata.builder().processedYaml(PIPELINE_YAML).build());
+  }
+
   private class NoOpPmsFeatureFlagService implements PmsFeatureFlagService {
     @Override
     public boolean isEnabled(String accountId, FeatureName featureName) {
@@ -267,6 +267,10 @@ if [[ "" != "$ENABLE_DASHBOARD_TIMESCALE" ]]; then
   export ENABLE_DASHBOARD_TIMESCALE; yq -i 'enableDashboardTimescale=env(ENABLE_DASHBOARD_TIMESCALE)' $CONFIG_FILE
 fi
 
+if [[ "" != "$ENABLE_SLI_RECORD_BUCKET_READS" ]]; then
+  export ENABLE_SLI_RECORD_BUCKET_READS; yq -i 'enableSLIRecordBucketReads=env(ENABLE_SLI_RECORD_BUCKET_READS)' $CONFIG_FILE
+fi
+
 replace_key_value cacheConfig.cacheNamespace $CACHE_NAMESPACE
 replace_key_value cacheConfig.cacheBackend $CACHE_BACKEND
 replace_key_value cacheConfig.enterpriseCacheEnabled $ENTERPRISE_CACHE_ENABLED
@@ -110,6 +110,7 @@ public class VerificationConfiguration extends Configuration {
   @JsonProperty(value = "enableOpentelemetry") private Boolean enableOpentelemetry;
   public static final String RESOURCE_PACKAGE = "io.harness.cvng";
   @JsonProperty("enableDashboardTimescale") private Boolean enableDashboardTimescale;
+  @JsonProperty("enableSLIRecordBucketReads") private Boolean enableSLIRecordBucketReads;
   @JsonProperty("timescaledb") private TimeScaleDBConfig timeScaleDBConfig;
 
   private String portalUrl;
@@ -7,6 +7,7 @@
 
 package io.harness.cvng.core.services.impl;
 
+import static io.harness.cvng.CVConstants.BULK_OPERATION_THRESHOLD;
 import static io.harness.cvng.analysis.CVAnalysisConstants.TIMESERIES_SERVICE_GUARD_WINDOW_SIZE_NEW;
 import static io.harness.cvng.core.services.CVNextGenConstants.CV_ANALYSIS_WINDOW_MINUTES;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
@@ -48,6 +49,9 @@ import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.services.api.demo.CVNGDemoDataIndexService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.metrics.CVNGMetricsUtils;
+import io.harness.metrics.beans.AccountMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.JsonUtils;
 
@@ -57,10 +61,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
-import dev.morphia.UpdateOptions;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.ErrorCategory;
 import dev.morphia.query.Query;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.UpdateOpsImpl;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -80,6 +90,7 @@ import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.reflections.Reflections;
 import org.reflections.scanners.ResourcesScanner;
 
@@ -94,6 +105,7 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
   @Inject private CVNGDemoDataIndexService cvngDemoDataIndexService;
+  @Inject private MetricService metricService;
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
@@ -101,21 +113,19 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
     if (CollectionUtils.isEmpty(validDataRecords)) {
       return true;
     }
+    Instant startTime = Instant.now();
     log.info("Saving {} data records", validDataRecords.size());
-    log.info("Records being saved: {}", StringUtils.join(validDataRecords, ","));
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(validDataRecords);
+    if (log.isDebugEnabled()) {
+      log.debug("Records being saved: {}", StringUtils.join(validDataRecords, ","));
+    }
+    // All the records of a callback belong to the same verification task, see saveHosts
+    Map<String, TimeSeriesMetricType> metricTypeMap =
+        getMetricTypeMap(validDataRecords.get(0).getVerificationTaskId());
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(validDataRecords, metricTypeMap);
+    List<Pair<DBObject, DBObject>> upserts = new ArrayList<>(timeSeriesRecordMap.size());
     timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
-      TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+      TimeSeriesMetricType metricType = metricTypeMap.get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -140,12 +150,53 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
+      upserts.add(Pair.of(query.getQueryObject(), ((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps()));
     });
+    Lists.partition(upserts, BULK_OPERATION_THRESHOLD).forEach(this::bulkUpsert);
     saveHosts(validDataRecords);
+    recordIngestMetrics(validDataRecords.get(0).getAccountId(), validDataRecords.size(), startTime);
     return true;
   }
 
+  private Map<String, TimeSeriesMetricType> getMetricTypeMap(String verificationTaskId) {
+    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+    timeSeriesAnalysisService.getMetricTemplate(verificationTaskId)
+        .forEach(timeSeriesMetricDefinition
+            -> metricTypeMap.put(
+                timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+    return metricTypeMap;
+  }
+
+  private void bulkUpsert(List<Pair<DBObject, DBObject>> upserts) {
+    DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+    upserts.forEach(upsert -> bulkWriteOperation.find(upsert.getKey()).upsert().updateOne(upsert.getValue()));
+    try {
+      bulkWriteOperation.execute();
+    } catch (BulkWriteException exception) {
+      // Two callbacks racing to insert the same bucket, the loser has to update the record inserted by the winner
+      if (!exception.getWriteErrors().stream().allMatch(
+              writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) == ErrorCategory.DUPLICATE_KEY)) {
+        throw exception;
+      }
+      BulkWriteOperation retryOperation = collection.initializeUnorderedBulkOperation();
+      exception.getWriteErrors().forEach(writeError -> {
+        Pair<DBObject, DBObject> upsert = upserts.get(writeError.getIndex());
+        retryOperation.find(upsert.getKey()).upsert().updateOne(upsert.getValue());
+      });
+      retryOperation.execute();
+    }
+  }
+
+  private void recordIngestMetrics(String accountId, int numberOfRecords, Instant startTime) {
+    Duration ingestTime = Duration.between(startTime, Instant.now());
+    try (AccountMetricContext ignore = new AccountMetricContext(accountId)) {
+      metricService.recordDuration(CVNGMetricsUtils.TIME_SERIES_RECORD_INGEST_TIME, ingestTime);
+      metricService.recordMetric(CVNGMetricsUtils.TIME_SERIES_RECORD_INGEST_RATE,
+          numberOfRecords * 1000.0 / Math.max(ingestTime.toMillis(), 1));
+    }
+  }
+
   private List<TimeSeriesDataCollectionRecord> filterValidDataRecords(
       List<TimeSeriesDataCollectionRecord> dataRecords) {
     return CollectionUtils.emptyIfNull(dataRecords)
@@ -212,12 +263,7 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords, Map<String, TimeSeriesMetricType> metricTypeMap) {
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
@@ -30,6 +30,8 @@ public interface CVNGMetricsUtils {
   String SLO_DATA_ANALYSIS_METRIC = "slo_data_analysis_metric";
   String RECALCULATION_FAILURE = "recalculation_failure";
   String CALCULATION_FAILURE = "calculation_failure";
+  String TIME_SERIES_RECORD_INGEST_TIME = "time_series_record_ingest_time";
+  String TIME_SERIES_RECORD_INGEST_RATE = "time_series_record_ingest_rate";
 
   static String getApiCallLogResponseCodeMetricName(String responseCode) {
     return String.format("api_call_response_code_%sxx", responseCode.charAt(0));
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.migration.list;
+
+import static io.harness.persistence.HQuery.excludeAuthority;
+
+import io.harness.cvng.migration.CVNGMigration;
+import io.harness.cvng.migration.beans.ChecklistItem;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
+import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
+import io.harness.persistence.HIterator;
+import io.harness.persistence.HPersistence;
+
+import com.google.inject.Inject;
+import dev.morphia.query.Sort;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Packs the existing minute SLIRecords of every SLI into SLIRecordBuckets. New records are written to both
+ * collections, so the buckets are complete once this has run and reads can be switched to them. An SLI whose buckets
+ * are written concurrently is backfilled again, and the migration fails if any SLI could not be backfilled, so that it
+ * is run again on the next start instead of leaving partial buckets behind.
+ */
+@Slf4j
+public class BackfillSLIRecordBuckets implements CVNGMigration {
+  private static final int BATCH_SIZE = 24;
+  private static final int RETRY_COUNT = 3;
+  @Inject private HPersistence hPersistence;
+
+  @Override
+  public void migrate() {
+    log.info("Begin migration for backfilling SLIRecordBuckets from SLIRecords");
+    List<String> failedSLIIds = new ArrayList<>();
+    try (HIterator<ServiceLevelIndicator> iterator =
+             new HIterator<>(hPersistence.createQuery(ServiceLevelIndicator.class, excludeAuthority).fetch())) {
+      while (iterator.hasNext()) {
+        String sliId = iterator.next().getUuid();
+        if (!backfillWithRetry(sliId)) {
+          failedSLIIds.add(sliId);
+        }
+      }
+    }
+    if (!failedSLIIds.isEmpty()) {
+      throw new IllegalStateException(
+          String.format("Failed to backfill SLIRecordBuckets for %d SLIs: %s", failedSLIIds.size(), failedSLIIds));
+    }
+    log.info("Finished migration for backfilling SLIRecordBuckets from SLIRecords");
+  }
+
+  private boolean backfillWithRetry(String sliId) {
+    for (int retry = 0;; retry++) {
+      try {
+        backfill(sliId);
+        return true;
+      } catch (ConcurrentModificationException e) {
+        // A bucket was written by the service in between, backfilling again reads its latest version
+        if (retry + 1 >= RETRY_COUNT) {
+          log.error("Failed to backfill SLIRecordBuckets for SLI {} after {} attempts", sliId, RETRY_COUNT, e);
+          return false;
+        }
+        log.warn("Concurrent update while backfilling SLIRecordBuckets for SLI {}, retrying", sliId);
+      } catch (Exception e) {
+        log.error("Failed to backfill SLIRecordBuckets for SLI {}", sliId, e);
+        return false;
+      }
+    }
+  }
+
+  private void backfill(String sliId) {
+    List<SLIRecordBucket> sliRecordBuckets = new ArrayList<>();
+    SLIRecordBucket sliRecordBucket = null;
+    long count = 0;
+    try (HIterator<SLIRecord> iterator = new HIterator<>(hPersistence.createQuery(SLIRecord.class, excludeAuthority)
+                                                             .filter(SLIRecordKeys.sliId, sliId)
+                                                             .order(Sort.ascending(SLIRecordKeys.timestamp))
+                                                             .fetch())) {
+      while (iterator.hasNext()) {
+        SLIRecord sliRecord = iterator.next();
+        if (sliRecordBucket == null
+            || !sliRecordBucket.getBucketStartTime().equals(
+                SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp()))) {
+          if (sliRecordBuckets.size() >= BATCH_SIZE) {
+            hPersistence.save(sliRecordBuckets);
+            sliRecordBuckets.clear();
+          }
+          sliRecordBucket = getOrCreateBucket(sliRecord);
+          sliRecordBuckets.add(sliRecordBucket);
+        }
+        sliRecordBucket.setRecord(sliRecord);
+        count++;
+      }
+    }
+    hPersistence.save(sliRecordBuckets);
+    log.info("Backfilled {} SLIRecords of SLI {}", count, sliId);
+  }
+
+  private SLIRecordBucket getOrCreateBucket(SLIRecord sliRecord) {
+    SLIRecordBucket sliRecordBucket =
+        hPersistence.createQuery(SLIRecordBucket.class, excludeAuthority)
+            .filter(SLIRecordBucketKeys.sliId, sliRecord.getSliId())
+            .filter(SLIRecordBucketKeys.bucketStartTime, SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp()))
+            .get();
+    if (sliRecordBucket == null) {
+      sliRecordBucket = SLIRecordBucket.newBucket(sliRecord.getSliId(), sliRecord.getVerificationTaskId(),
+          SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp()));
+    }
+    return sliRecordBucket;
+  }
+
+  @Override
+  public ChecklistItem whatHappensOnRollback() {
+    return ChecklistItem.NA;
+  }
+
+  @Override
+  public ChecklistItem whatHappensIfOldVersionIteratorPicksMigratedEntity() {
+    return ChecklistItem.NA;
+  }
+}
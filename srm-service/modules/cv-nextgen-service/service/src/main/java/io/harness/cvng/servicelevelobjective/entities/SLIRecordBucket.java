@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.analysis.entities.VerificationTaskBase;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * The {@link SLIRecord}s of one SLI for one hour, stored as per minute arrays in a single document. Range reads over
+ * days or weeks load one document per hour instead of one per minute. Each array has an entry for every minute of the
+ * hour, null for the minutes which have no record. The running counts are the same prefix sums the minute records
+ * carry, so the counts between any two minutes are a subtraction of two entries.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordBucketKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@StoreIn(DbAliases.CVNG)
+@Entity(value = "sliRecordBuckets", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+public class SLIRecordBucket extends VerificationTaskBase implements PersistentEntity, UuidAware {
+  public static final Duration BUCKET_DURATION = Duration.ofHours(1);
+  private static final int MINUTES_PER_BUCKET = Math.toIntExact(BUCKET_DURATION.toMinutes());
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("unique_sli_bucketStartTime")
+                 .unique(true)
+                 .field(SLIRecordBucketKeys.sliId)
+                 .field(SLIRecordBucketKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Version long version;
+  @Id private String uuid;
+  @FdIndex private String verificationTaskId;
+  private String sliId;
+  private Instant bucketStartTime;
+  private List<SLIState> sliStates;
+  private List<Integer> sliVersions;
+  private List<Long> runningGoodCounts;
+  private List<Long> runningBadCounts;
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(180).toInstant());
+
+  public static Instant getBucketStartTime(Instant timestamp) {
+    return timestamp.truncatedTo(ChronoUnit.HOURS);
+  }
+
+  public static SLIRecordBucket newBucket(String sliId, String verificationTaskId, Instant bucketStartTime) {
+    return SLIRecordBucket.builder()
+        .sliId(sliId)
+        .verificationTaskId(verificationTaskId)
+        .bucketStartTime(bucketStartTime)
+        .sliStates(new ArrayList<>(Collections.nCopies(MINUTES_PER_BUCKET, null)))
+        .sliVersions(new ArrayList<>(Collections.nCopies(MINUTES_PER_BUCKET, null)))
+        .runningGoodCounts(new ArrayList<>(Collections.nCopies(MINUTES_PER_BUCKET, null)))
+        .runningBadCounts(new ArrayList<>(Collections.nCopies(MINUTES_PER_BUCKET, null)))
+        .build();
+  }
+
+  public void setRecord(SLIRecord sliRecord) {
+    int minute = getMinuteIndex(sliRecord.getTimestamp());
+    sliStates.set(minute, sliRecord.getSliState());
+    sliVersions.set(minute, sliRecord.getSliVersion());
+    runningGoodCounts.set(minute, sliRecord.getRunningGoodCount());
+    runningBadCounts.set(minute, sliRecord.getRunningBadCount());
+  }
+
+  public SLIRecord getRecord(Instant timestamp) {
+    return getRecord(getMinuteIndex(timestamp));
+  }
+
+  public List<SLIRecord> getRecords() {
+    List<SLIRecord> sliRecords = new ArrayList<>();
+    for (int minute = 0; minute < sliStates.size(); minute++) {
+      SLIRecord sliRecord = getRecord(minute);
+      if (sliRecord != null) {
+        sliRecords.add(sliRecord);
+      }
+    }
+    return sliRecords;
+  }
+
+  private SLIRecord getRecord(int minute) {
+    if (sliStates.get(minute) == null) {
+      return null;
+    }
+    return SLIRecord.builder()
+        .verificationTaskId(verificationTaskId)
+        .sliId(sliId)
+        .timestamp(bucketStartTime.plus(minute, ChronoUnit.MINUTES))
+        .sliState(sliStates.get(minute))
+        .sliVersion(sliVersions.get(minute))
+        .runningGoodCount(runningGoodCounts.get(minute))
+        .runningBadCount(runningBadCounts.get(minute))
+        .build();
+  }
+
+  private int getMinuteIndex(Instant timestamp) {
+    long minute = Duration.between(bucketStartTime, timestamp).toMinutes();
+    if (minute < 0 || minute >= MINUTES_PER_BUCKET) {
+      throw new IllegalArgumentException(
+          String.format("Timestamp %s is outside of the bucket starting at %s", timestamp, bucketStartTime));
+    }
+    return (int) minute;
+  }
+}
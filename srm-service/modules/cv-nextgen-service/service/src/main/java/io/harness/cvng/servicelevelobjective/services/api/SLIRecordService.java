@@ -20,6 +20,7 @@ public interface SLIRecordService {
   List<SLIRecord> getSLIRecordsForLookBackDuration(String sliId, long lookBackDuration);
   double getErrorBudgetBurnRate(String sliId, long lookBackDuration, int totalErrorBudgetMinutes);
   List<SLIRecord> getSLIRecords(String sliId, Instant startTime, Instant endTime);
+  List<SLIRecord> getSLIRecords(String sliId, List<Instant> timestamps);
   List<SLIRecord> getSLIRecordsWithSLIVersion(String sliId, Instant startTime, Instant endTime, int sliVersion);
   SLIRecord getFirstSLIRecord(String sliId, Instant timestampInclusive);
   SLIRecord getLatestSLIRecord(String sliId);
@@ -19,6 +19,8 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
@@ -29,6 +31,8 @@ import io.harness.persistence.HPersistence;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.mongodb.DuplicateKeyException;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Sort;
 import java.time.Clock;
@@ -41,7 +45,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -55,6 +62,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
 
   @Inject private ServiceLevelIndicatorService serviceLevelIndicatorService;
 
+  @Inject @Named("enableSLIRecordBucketReads") private boolean sliRecordBucketReadsEnabled;
+
   @Override
   public void create(List<SLIRecordParam> sliRecordParamList, String sliId, String verificationTaskId, int sliVersion) {
     if (isEmpty(sliRecordParamList)) {
@@ -102,13 +111,15 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       sliRecordList.add(sliRecord);
     }
     hPersistence.save(sliRecordList);
+    saveSLIRecordBuckets(sliRecordList);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
   public void updateSLIRecords(List<SLIRecordParam> sliRecordParamList, String sliId, int sliVersion,
       SLIRecordParam firstSLIRecordParam, SLIRecordParam lastSLIRecordParam, long runningGoodCount,
       long runningBadCount, String verificationTaskId) {
-    List<SLIRecord> toBeUpdatedSLIRecords = getSLIRecords(
+    // Always read from the minute collection, records built from the buckets have no uuid and would be inserted again
+    List<SLIRecord> toBeUpdatedSLIRecords = getMinuteSLIRecords(
         sliId, firstSLIRecordParam.getTimeStamp(), lastSLIRecordParam.getTimeStamp().plus(1, ChronoUnit.MINUTES));
     Map<Instant, SLIRecord> sliRecordMap =
         toBeUpdatedSLIRecords.stream().collect(Collectors.toMap(SLIRecord::getTimestamp, Function.identity()));
@@ -140,6 +151,75 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       }
     }
     hPersistence.save(updateOrCreateSLIRecords);
+    saveSLIRecordBuckets(updateOrCreateSLIRecords);
+  }
+
+  /**
+   * Writes the given records into their hourly buckets as well. Records are always written to both collections, so
+   * once the older records are backfilled, reads can be switched to the buckets at any time without a gap. A bucket
+   * updated or created by another writer in between is read again on the retry, and the records are merged into it.
+   */
+  private void saveSLIRecordBuckets(List<SLIRecord> sliRecords) {
+    if (isEmpty(sliRecords)) {
+      return;
+    }
+    Map<Instant, List<SLIRecord>> sliRecordsByBucket = sliRecords.stream().collect(Collectors.groupingBy(
+        sliRecord -> SLIRecordBucket.getBucketStartTime(sliRecord.getTimestamp()), TreeMap::new, Collectors.toList()));
+    SLIRecord firstSLIRecord = sliRecords.get(0);
+    for (int retry = 0;; retry++) {
+      try {
+        saveSLIRecordBuckets(firstSLIRecord.getSliId(), firstSLIRecord.getVerificationTaskId(), sliRecordsByBucket);
+        return;
+      } catch (ConcurrentModificationException | DuplicateKeyException e) {
+        if (retry + 1 >= RETRY_COUNT) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void saveSLIRecordBuckets(
+      String sliId, String verificationTaskId, Map<Instant, List<SLIRecord>> sliRecordsByBucket) {
+    Map<Instant, SLIRecordBucket> existingBuckets =
+        hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+            .filter(SLIRecordBucketKeys.sliId, sliId)
+            .field(SLIRecordBucketKeys.bucketStartTime)
+            .in(sliRecordsByBucket.keySet())
+            .asList()
+            .stream()
+            .collect(Collectors.toMap(SLIRecordBucket::getBucketStartTime, Function.identity()));
+    List<SLIRecordBucket> sliRecordBuckets = new ArrayList<>();
+    sliRecordsByBucket.forEach((bucketStartTime, bucketSLIRecords) -> {
+      SLIRecordBucket sliRecordBucket = existingBuckets.get(bucketStartTime);
+      if (sliRecordBucket == null) {
+        sliRecordBucket = SLIRecordBucket.newBucket(sliId, verificationTaskId, bucketStartTime);
+      }
+      bucketSLIRecords.forEach(sliRecordBucket::setRecord);
+      sliRecordBuckets.add(sliRecordBucket);
+    });
+    hPersistence.save(sliRecordBuckets);
+  }
+
+  private List<SLIRecordBucket> getSLIRecordBuckets(String sliId, Instant startTime, Instant endTime) {
+    return hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+        .filter(SLIRecordBucketKeys.sliId, sliId)
+        .field(SLIRecordBucketKeys.bucketStartTime)
+        .greaterThanOrEq(SLIRecordBucket.getBucketStartTime(startTime))
+        .field(SLIRecordBucketKeys.bucketStartTime)
+        .lessThan(endTime)
+        .order(Sort.ascending(SLIRecordBucketKeys.bucketStartTime))
+        .asList();
+  }
+
+  private List<SLIRecord> getSLIRecordsFromBuckets(
+      String sliId, Instant startTime, Instant endTime, Predicate<SLIRecord> filter) {
+    return getSLIRecordBuckets(sliId, startTime, endTime)
+        .stream()
+        .flatMap(sliRecordBucket -> sliRecordBucket.getRecords().stream())
+        .filter(sliRecord -> !sliRecord.getTimestamp().isBefore(startTime))
+        .filter(sliRecord -> sliRecord.getTimestamp().isBefore(endTime))
+        .filter(filter)
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -157,10 +237,36 @@ public class SLIRecordServiceImpl implements SLIRecordService {
     List<Instant> minutes = new ArrayList<>();
     minutes.add(startTime);
     minutes.add(endTime);
+    return getSLIRecords(sliId, minutes);
+  }
+
+  @Override
+  public List<SLIRecord> getSLIRecords(String sliId, List<Instant> timestamps) {
+    if (sliRecordBucketReadsEnabled) {
+      Set<Instant> bucketStartTimes =
+          timestamps.stream().map(SLIRecordBucket::getBucketStartTime).collect(Collectors.toSet());
+      Map<Instant, SLIRecordBucket> sliRecordBuckets =
+          hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+              .filter(SLIRecordBucketKeys.sliId, sliId)
+              .field(SLIRecordBucketKeys.bucketStartTime)
+              .in(bucketStartTimes)
+              .asList()
+              .stream()
+              .collect(Collectors.toMap(SLIRecordBucket::getBucketStartTime, Function.identity()));
+      return timestamps.stream()
+          .distinct()
+          .sorted()
+          .map(timestamp -> {
+            SLIRecordBucket sliRecordBucket = sliRecordBuckets.get(SLIRecordBucket.getBucketStartTime(timestamp));
+            return sliRecordBucket == null ? null : sliRecordBucket.getRecord(timestamp);
+          })
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+    }
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
         .filter(SLIRecordKeys.sliId, sliId)
         .field(SLIRecordKeys.timestamp)
-        .in(minutes)
+        .in(timestamps)
         .order(Sort.ascending(SLIRecordKeys.timestamp))
         .asList();
   }
@@ -176,6 +282,13 @@ public class SLIRecordServiceImpl implements SLIRecordService {
 
   @Override
   public List<SLIRecord> getSLIRecords(String sliId, Instant startTimeStamp, Instant endTimeStamp) {
+    if (sliRecordBucketReadsEnabled) {
+      return getSLIRecordsFromBuckets(sliId, startTimeStamp, endTimeStamp, sliRecord -> true);
+    }
+    return getMinuteSLIRecords(sliId, startTimeStamp, endTimeStamp);
+  }
+
+  private List<SLIRecord> getMinuteSLIRecords(String sliId, Instant startTimeStamp, Instant endTimeStamp) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
         .filter(SLIRecordKeys.sliId, sliId)
         .field(SLIRecordKeys.timestamp)
@@ -189,6 +302,10 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   @Override
   public List<SLIRecord> getSLIRecordsWithSLIVersion(
       String sliId, Instant startTimeStamp, Instant endTimeStamp, int sliVersion) {
+    if (sliRecordBucketReadsEnabled) {
+      return getSLIRecordsFromBuckets(
+          sliId, startTimeStamp, endTimeStamp, sliRecord -> sliRecord.getSliVersion() == sliVersion);
+    }
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
         .filter(SLIRecordKeys.sliId, sliId)
         .field(SLIRecordKeys.timestamp)
@@ -203,6 +320,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   @Override
   public void delete(List<String> sliIds) {
     hPersistence.delete(hPersistence.createQuery(SLIRecord.class).field(SLIRecordKeys.sliId).in(sliIds));
+    hPersistence.delete(
+        hPersistence.createQuery(SLIRecordBucket.class).field(SLIRecordBucketKeys.sliId).in(sliIds));
   }
 
   public Pair<Map<ServiceLevelObjectivesDetail, List<SLIRecord>>, Map<ServiceLevelObjectivesDetail, SLIMissingDataType>>
@@ -22,6 +22,8 @@ import static io.harness.rule.TestUserProvider.testUserProvider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CvNextGenTestBase;
@@ -180,6 +182,8 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
                                                    .asList();
     assertThat(timeSeriesRecords.size()).isEqualTo(numOfMetrics);
     validateSavedRecords(numOfMetrics, numOfTxnx, numOfMins, timeSeriesRecords);
+    // the metric template is resolved once per call, not once per bucket
+    verify(timeSeriesAnalysisService, times(1)).getMetricTemplate(verificationTaskId);
 
     // save again the same records ans test idempotency
     timeSeriesRecordService.save(collectionRecords);
@@ -243,6 +247,8 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
                                                    .asList();
     assertThat(timeSeriesRecords.size()).isEqualTo(numOfMetrics);
     validateSavedRecords(numOfMetrics, numOfTxnx, numOfMins, timeSeriesRecords);
+    // the metric template is resolved once per call, not once per bucket
+    verify(timeSeriesAnalysisService, times(1)).getMetricTemplate(verificationTaskId);
 
     // save again the same records ans test idempotency
     timeSeriesRecordService.save(collectionRecords);
@@ -32,6 +32,8 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.persistence.HPersistence;
@@ -46,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -228,6 +231,61 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     assertThat(errorBudgetBurnRate).isCloseTo(3.333, offset(0.001));
   }
 
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testBucketReadsMatchMinuteRecordReads() throws IllegalAccessException {
+    Instant startTime = Instant.parse("2020-07-27T10:55:00Z");
+    List<SLIState> sliStates = Arrays.asList(BAD, GOOD, GOOD, NO_DATA, GOOD, GOOD, BAD, BAD, BAD, BAD);
+    createData(startTime, sliStates);
+    createData(startTime.plus(Duration.ofMinutes(5)), Arrays.asList(GOOD, GOOD, GOOD));
+    Instant endTime = startTime.plus(Duration.ofMinutes(10));
+    List<Instant> timestamps = Arrays.asList(startTime.plus(Duration.ofMinutes(7)), startTime, endTime);
+
+    List<SLIRecord> sliRecords = sliRecordService.getSLIRecords(sliId, startTime, endTime);
+    List<SLIRecord> sliRecordsWithVersion = sliRecordService.getSLIRecordsWithSLIVersion(sliId, startTime, endTime, 0);
+    List<SLIRecord> sliRecordsAtTimestamps = sliRecordService.getSLIRecords(sliId, timestamps);
+    FieldUtils.writeField(sliRecordService, "sliRecordBucketReadsEnabled", true, true);
+
+    assertThat(hPersistence.createQuery(SLIRecordBucket.class, excludeAuthority)
+                   .filter(SLIRecordBucketKeys.sliId, sliId)
+                   .count())
+        .isEqualTo(2);
+    assertThat(sliRecords).hasSize(10);
+    assertThat(sliRecordService.getSLIRecords(sliId, startTime, endTime))
+        .usingElementComparatorOnFields(SLIRecordKeys.timestamp, SLIRecordKeys.sliState,
+            SLIRecordKeys.runningGoodCount, SLIRecordKeys.runningBadCount, SLIRecordKeys.sliVersion)
+        .containsExactlyElementsOf(sliRecords);
+    assertThat(sliRecordService.getSLIRecordsWithSLIVersion(sliId, startTime, endTime, 0))
+        .usingElementComparatorOnFields(SLIRecordKeys.timestamp, SLIRecordKeys.runningBadCount)
+        .containsExactlyElementsOf(sliRecordsWithVersion);
+    assertThat(sliRecordService.getSLIRecords(sliId, timestamps))
+        .usingElementComparatorOnFields(SLIRecordKeys.timestamp, SLIRecordKeys.runningGoodCount)
+        .containsExactlyElementsOf(sliRecordsAtTimestamps);
+  }
+
+  @Test
+  @Owner(developers = KAMAL)
+  @Category(UnitTests.class)
+  public void testUpdate_withBucketReadsDoesNotDuplicateRecords() throws IllegalAccessException {
+    FieldUtils.writeField(sliRecordService, "sliRecordBucketReadsEnabled", true, true);
+    Instant startTime = Instant.parse("2020-07-27T10:50:00Z");
+    List<SLIState> sliStates = Arrays.asList(BAD, GOOD, GOOD, NO_DATA, GOOD, GOOD, BAD, BAD, BAD, BAD);
+    sliRecordService.create(getSLIRecordParam(startTime, sliStates), sliId, verificationTaskId, 0);
+    List<SLIState> updatedSliStates = Arrays.asList(GOOD, BAD, BAD, NO_DATA, GOOD, BAD, BAD, BAD, BAD, BAD);
+    sliRecordService.create(getSLIRecordParam(startTime, updatedSliStates), sliId, verificationTaskId, 1);
+
+    assertThat(hPersistence.createQuery(SLIRecord.class, excludeAuthority).filter(SLIRecordKeys.sliId, sliId).count())
+        .isEqualTo(10);
+    SLIRecord updatedLastRecord = getLastRecord(sliId);
+    assertThat(updatedLastRecord.getRunningBadCount()).isEqualTo(7);
+    assertThat(updatedLastRecord.getRunningGoodCount()).isEqualTo(2);
+    assertThat(updatedLastRecord.getSliVersion()).isEqualTo(1);
+    assertThat(sliRecordService.getSLIRecords(sliId, startTime, startTime.plus(Duration.ofMinutes(10))))
+        .extracting(SLIRecord::getSliVersion)
+        .containsOnly(1);
+  }
+
   private void createData(Instant startTime, List<SLIState> sliStates) {
     List<SLIRecordParam> sliRecordParams = getSLIRecordParam(startTime, sliStates);
     sliRecordService.create(sliRecordParams, serviceLevelIndicator.getUuid(), verificationTaskId, 0);